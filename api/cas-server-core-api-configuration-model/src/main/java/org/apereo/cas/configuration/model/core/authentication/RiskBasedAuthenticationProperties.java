@@ -2,6 +2,7 @@ package org.apereo.cas.configuration.model.core.authentication;
 
 import org.apereo.cas.configuration.model.support.email.EmailProperties;
 import org.apereo.cas.configuration.model.support.sms.SmsProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -63,6 +64,20 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      */
     private long daysInRecentHistory = 30;
 
+    /**
+     * How long the risk profile of a principal, built from its authentication history,
+     * is kept in memory. Profiles that are kept in memory are updated as authentication events
+     * are recorded, and are rebuilt from the authentication history once they expire.
+     * Set to {@code 0} or {@code NEVER} to rebuild the profile from the authentication history on every evaluation.
+     */
+    @DurationCapable
+    private String profileExpiration = "PT1H";
+
+    /**
+     * Maximum number of risk profiles kept in memory.
+     */
+    private long maximumProfiles = 10_000;
+
     @Getter
     @Setter
     @Accessors(chain = true)
@@ -66,5 +66,10 @@ public class EventsProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private RedisEventsProperties redis = new RedisEventsProperties();
-    
+
+    /**
+     * Track authentication events inside memory.
+     */
+    @NestedConfigurationProperty
+    private MemoryEventsProperties memory = new MemoryEventsProperties();
 }
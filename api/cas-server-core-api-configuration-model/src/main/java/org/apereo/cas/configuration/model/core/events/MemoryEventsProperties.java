@@ -0,0 +1,45 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link MemoryEventsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-support-events-memory")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("MemoryEventsProperties")
+public class MemoryEventsProperties implements Serializable {
+
+    private static final long serialVersionUID = 5823452047539124582L;
+
+    /**
+     * Duration for which events are retained in memory after they are recorded.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT2H";
+
+    /**
+     * Maximum number of events that are kept in memory.
+     * Once the limit is reached, the oldest events are evicted first.
+     */
+    private long maxEvents = 1_000_000;
+
+    /**
+     * Maximum number of recent events that are kept in memory for each principal.
+     * Once the limit is reached, the oldest events for the principal are evicted first.
+     */
+    private int maxEventsPerPrincipal = 1_000;
+}
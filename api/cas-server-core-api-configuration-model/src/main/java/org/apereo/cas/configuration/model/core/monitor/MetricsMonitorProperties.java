@@ -0,0 +1,80 @@
+package org.apereo.cas.configuration.model.core.monitor;
+
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link MetricsMonitorProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-support-metrics")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("MetricsMonitorProperties")
+public class MetricsMonitorProperties implements Serializable {
+
+    private static final long serialVersionUID = 2210395418937152463L;
+
+    /**
+     * Whether the instrumentation of CAS components with timers and counters
+     * should be turned on. When turned off, none of the other instrumentation settings take effect.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether instrumentation of authentication attempts, authentication handlers
+     * and the overall authentication manager should be turned on.
+     */
+    private boolean authentication = true;
+
+    /**
+     * Whether instrumentation of principal resolvers should be turned on.
+     */
+    private boolean principalResolution = true;
+
+    /**
+     * Whether instrumentation of service ticket validation attempts should be turned on.
+     */
+    private boolean validation = true;
+
+    /**
+     * Whether instrumentation of ticket registry operations should be turned on.
+     */
+    private boolean ticketRegistry = true;
+
+    /**
+     * Percentiles that should be computed and published by each timer
+     * client-side, expressed in the range of {@code [0, 1]}.
+     */
+    private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.95, 0.99));
+
+    /**
+     * Whether timers should publish percentile histograms, allowing the monitoring
+     * system to compute aggregable percentiles server-side.
+     */
+    private boolean percentileHistogram;
+
+    /**
+     * Scheduler settings to indicate how often meters are registered for, and removed from,
+     * statistics whose sources come and go at runtime, such as message batchers.
+     */
+    @NestedConfigurationProperty
+    private SchedulingProperties schedule = new SchedulingProperties();
+
+    public MetricsMonitorProperties() {
+        schedule.setRepeatInterval("PT1M");
+    }
+}
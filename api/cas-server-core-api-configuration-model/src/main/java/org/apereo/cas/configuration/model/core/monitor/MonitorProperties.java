@@ -89,4 +89,10 @@ public class MonitorProperties implements Serializable {
     @NestedConfigurationProperty
     private ActuatorEndpointsMonitorProperties endpoints = new ActuatorEndpointsMonitorProperties();
 
+    /**
+     * Options for instrumenting authentication, validation and ticketing operations with metrics.
+     */
+    @NestedConfigurationProperty
+    private MetricsMonitorProperties metrics = new MetricsMonitorProperties();
+
 }
@@ -0,0 +1,73 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link TicketRegistryLookupFilterProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryLookupFilterProperties")
+public class TicketRegistryLookupFilterProperties implements Serializable {
+
+    private static final long serialVersionUID = -3326510434717256633L;
+
+    /**
+     * Whether lookups of ticket ids should be checked against a node-local
+     * filter of ticket ids that were issued within the filter window. Lookups of ticket ids
+     * that were definitely never added to the filter are rejected without contacting the ticket registry.
+     * Registries that observe every ticket added by any node, such as the default in-memory registry
+     * and registries that replicate ticket additions to all nodes via messaging, reject lookups of any unknown ticket id.
+     * Other registries, such as those that share tickets through a remote store, only reject lookups of unknown ticket ids
+     * that carry the ticket id suffix of this node, which requires every node to be configured with a distinct host name.
+     */
+    private boolean enabled;
+
+    /**
+     * The period of time for which issued ticket ids are remembered by the filter.
+     * If left undefined, the window is the longest lifetime of ticket-granting tickets, including those issued
+     * via remember-me, proxy-granting tickets, service tickets and proxy tickets. If defined, it must be at least as long;
+     * otherwise, or if ticket-granting tickets have no upper bound on their lifetime, CAS fails to start.
+     * Ticket prefixes other than those must be covered by an explicit window that is longer than their lifetime.
+     */
+    @DurationCapable
+    private String window;
+
+    /**
+     * Number of partitions the filter window is divided into.
+     * Expired partitions are dropped as a whole as time passes.
+     */
+    private int partitions = 4;
+
+    /**
+     * Expected number of ticket ids to be added to a single partition.
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * Acceptable probability of a lookup of a ticket id that was never issued
+     * being passed on to the ticket registry.
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * Ticket prefixes whose lookups are checked against the filter.
+     * Lookups of tickets with other prefixes are always passed on to the ticket registry.
+     */
+    private List<String> prefixes = new ArrayList<>(List.of("ST", "TGT"));
+}
@@ -129,6 +129,12 @@ public class TicketRegistryProperties implements Serializable {
     @NestedConfigurationProperty
     private CouchDbTicketRegistryProperties couchDb = new CouchDbTicketRegistryProperties();
 
+    /**
+     * Settings for the filter of issued ticket ids, used to reject lookups of unknown tickets.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistryLookupFilterProperties lookupFilter = new TicketRegistryLookupFilterProperties();
+
     /**
      * Ticket registry cleaner settings.
      */
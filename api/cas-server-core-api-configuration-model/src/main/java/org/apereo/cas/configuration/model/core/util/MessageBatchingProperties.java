@@ -0,0 +1,41 @@
+package org.apereo.cas.configuration.model.core.util;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link MessageBatchingProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-core-util", automated = true)
+public class MessageBatchingProperties implements Serializable {
+
+    private static final long serialVersionUID = 1452398156780374213L;
+
+    /**
+     * Window during which outbound messages are collected and sent together as a single batch.
+     * Messages that refer to the same object within the window are coalesced, so that only
+     * the latest message is sent. A zero value, which is the default, sends every message immediately.
+     * Batches are sent in a format that older CAS versions cannot read, so batching should only be
+     * enabled once every node in the cluster is upgraded, i.e. {@code PT0.01S}.
+     */
+    @DurationCapable
+    private String window = "PT0S";
+
+    /**
+     * Maximum number of messages in a batch. A batch is sent as soon as it reaches this size,
+     * even if the window has not yet elapsed.
+     */
+    private int maximumBatchSize = 500;
+}
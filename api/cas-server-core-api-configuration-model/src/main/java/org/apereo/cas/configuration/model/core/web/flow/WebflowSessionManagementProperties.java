@@ -64,4 +64,35 @@ public class WebflowSessionManagementProperties implements Serializable {
      * Only relevant if session storage is done on the server.
      */
     private transient Resource hzLocation = new ClassPathResource("hazelcast.xml");
+
+    /**
+     * Controls how the serialized webflow state is compressed before it is encrypted,
+     * when sessions are managed on the client side. Accepted values are:
+     * <ul>
+     *     <li>{@code GZIP}: Compress the state using gzip.</li>
+     *     <li>{@code DEFLATE}: Compress the state using pooled deflaters that are primed with a dictionary
+     *     tuned to CAS flow state. Payloads compressed with gzip can still be decoded.</li>
+     *     <li>{@code NONE}: Do not compress the state.</li>
+     * </ul>
+     * Only relevant if session storage is done on the client.
+     */
+    private ClientStateCompressionTypes clientStateCompression = ClientStateCompressionTypes.GZIP;
+
+    /**
+     * Compression options for client-side webflow state.
+     */
+    public enum ClientStateCompressionTypes {
+        /**
+         * Compress using gzip.
+         */
+        GZIP,
+        /**
+         * Compress using pooled deflaters with a preset dictionary.
+         */
+        DEFLATE,
+        /**
+         * No compression.
+         */
+        NONE
+    }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.core.web.view;
 
 import org.apereo.cas.configuration.model.RestEndpointProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -19,4 +20,20 @@ import lombok.Setter;
 @JsonFilter("RestfulViewProperties")
 public class RestfulViewProperties extends RestEndpointProperties {
     private static final long serialVersionUID = -8102345678378393382L;
+
+    /**
+     * Duration for which templates fetched from the endpoint are considered fresh,
+     * per template, theme and locale. Stale templates are revalidated via {@code If-None-Match}
+     * or {@code If-Modified-Since}, if the endpoint produces {@code ETag} or {@code Last-Modified} headers.
+     * A zero duration disables caching.
+     */
+    @DurationCapable
+    private String cacheDuration = "PT0S";
+
+    /**
+     * Duration for which a stale template continues to be served while it is refreshed
+     * in the background, or while the endpoint is unavailable.
+     */
+    @DurationCapable
+    private String staleDuration = "PT1H";
 }
@@ -57,6 +57,14 @@ public class ViewProperties implements Serializable {
      */
     private List<String> templatePrefixes = new ArrayList<>(1);
 
+    /**
+     * When set to {@code true}, CAS2 and CAS3 service validation responses
+     * are written directly to the response stream instead of being rendered
+     * from the {@code cas2} and {@code cas3} view templates. The streamed responses
+     * match the default templates; customized validation templates are ignored.
+     */
+    private boolean streamingValidationResponses;
+
     /**
      * CAS1 views and locations.
      */
@@ -47,6 +47,30 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * Number of segments into which table scans are divided and executed in parallel,
+     * when tickets are enumerated or counted. Each segment is read page by page until exhausted.
+     */
+    private int scanSegments = 4;
+
+    /**
+     * Name of the global secondary index created on the ticket-granting tickets table
+     * that allows sessions to be counted per principal without scanning the table.
+     * The index is added at startup to tables that already exist, unless table creation is turned off,
+     * and DynamoDb backfills it in the background. Until the index becomes active, or if it is unavailable,
+     * sessions are counted by scanning the table. Ticket-granting tickets stored before the index was added
+     * are not counted per principal until they expire.
+     */
+    private String principalIndexName = "principalIndex";
+
+    /**
+     * When enabled, DynamoDb time-to-live is turned on for ticket tables, and items
+     * are given an expiration timestamp that allows DynamoDb to remove expired tickets natively.
+     * In this mode, the CAS ticket registry cleaner is turned off, and expired
+     * ticket-granting tickets are removed without processing single logout.
+     */
+    private boolean timeToLiveEnabled;
+
     /**
      * Crypto settings for the registry.
      */
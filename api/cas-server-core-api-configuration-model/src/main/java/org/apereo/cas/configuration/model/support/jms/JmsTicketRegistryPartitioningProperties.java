@@ -0,0 +1,74 @@
+package org.apereo.cas.configuration.model.support.jms;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link JmsTicketRegistryPartitioningProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiresModule(name = "cas-server-support-jms-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class JmsTicketRegistryPartitioningProperties implements Serializable {
+
+    private static final long serialVersionUID = 3384752390153411578L;
+
+    /**
+     * Whether tickets should be partitioned across CAS server nodes.
+     * When enabled, each ticket is assigned to a number of owner nodes
+     * using consistent hashing, and ticket operations are only sent to those nodes
+     * instead of being broadcasted to every node. Partitioning requires the
+     * JMS destination to be a topic, so that membership announcements reach every node.
+     */
+    private boolean enabled;
+
+    /**
+     * Number of nodes that keep a copy of each ticket,
+     * counting the primary owner and its backups.
+     */
+    private int replicationFactor = 2;
+
+    /**
+     * Number of positions each node occupies on the hash ring.
+     * Higher values spread tickets more evenly across nodes.
+     */
+    private int virtualNodes = 100;
+
+    /**
+     * How often this node announces itself to other nodes
+     * and checks for membership changes that require tickets to be rebalanced.
+     */
+    @DurationCapable
+    private String heartbeatInterval = "PT5S";
+
+    /**
+     * Nodes that have not announced themselves within this period
+     * are removed from the membership and their tickets are rebalanced.
+     */
+    @DurationCapable
+    private String memberTimeout = "PT20S";
+
+    /**
+     * How long to wait for an owner node to respond when
+     * a ticket that is not owned by this node is requested.
+     */
+    @DurationCapable
+    private String requestTimeout = "PT1S";
+
+    /**
+     * How long tickets that are not owned by this node are kept
+     * in memory once fetched from or sent to their owners.
+     */
+    @DurationCapable
+    private String remoteTicketCacheDuration = "PT2S";
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.jms;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.configuration.model.core.util.MessageBatchingProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -38,4 +39,24 @@ public class JmsTicketRegistryProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
+
+    /**
+     * Settings that partition tickets across CAS server nodes.
+     */
+    @NestedConfigurationProperty
+    private JmsTicketRegistryPartitioningProperties partitioning = new JmsTicketRegistryPartitioningProperties();
+
+    /**
+     * Settings that batch and coalesce ticket operations sent to other nodes.
+     */
+    @NestedConfigurationProperty
+    private MessageBatchingProperties batching = new MessageBatchingProperties();
+
+    /**
+     * Messages whose payload is larger than this size, in bytes, are compressed
+     * before they are sent to other nodes. A zero or negative value, which is the default, disables compression.
+     * Compressed messages cannot be read by older CAS versions, so compression should only be
+     * enabled once every node in the cluster is upgraded, i.e. {@code 4096}.
+     */
+    private int compressionThreshold;
 }
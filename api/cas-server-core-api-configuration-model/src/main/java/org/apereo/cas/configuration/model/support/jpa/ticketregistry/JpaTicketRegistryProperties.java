@@ -46,6 +46,14 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     @DurationCapable
     private String jpaLockingTimeout = DEFAULT_LOCK_TIMEOUT;
 
+    /**
+     * Whether serialized ticket bodies should be compressed before they are stored.
+     * Compressed and uncompressed bodies may coexist in the same table, and are
+     * always read back regardless of this setting, which allows existing deployments to switch
+     * this setting on or off without migrating existing records.
+     */
+    private boolean compressTickets;
+
     /**
      * Crypto settings for the registry.
      */
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.oidc;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.ExpressionLanguageCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
@@ -31,6 +32,13 @@ public class OidcJsonWebKeystoreProperties implements Serializable {
      */
     private int jwksCacheInMinutes = 60;
 
+    /**
+     * How long clients may cache the JWKS document served by CAS
+     * before asking for it again, via the {@code Cache-Control} header.
+     */
+    @DurationCapable
+    private String jwksCacheControlMaxAge = "PT5M";
+
     /**
      * Path to the JWKS file resource used to handle signing/encryption of authentication tokens.
      */
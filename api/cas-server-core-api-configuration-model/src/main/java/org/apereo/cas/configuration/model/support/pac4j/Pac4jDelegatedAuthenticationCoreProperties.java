@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.pac4j;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -41,6 +42,23 @@ public class Pac4jDelegatedAuthenticationCoreProperties implements Serializable
      */
     private boolean lazyInit = true;
 
+    /**
+     * When enabled, the identity providers presented on the login page are determined
+     * from a cached list of providers that are authorized for the service, and
+     * identity providers are only initialized once selected, at which point
+     * the redirect to the identity provider is constructed.
+     * This is useful when a large number of identity providers are registered
+     * with CAS, such as members of a SAML2 federation.
+     */
+    private boolean lazyRedirects;
+
+    /**
+     * Expiration of the cached list of identity providers
+     * that are authorized for a registered service, when lazy redirects are enabled.
+     */
+    @DurationCapable
+    private String authorizedProvidersCacheExpiration = "PT1M";
+
     /**
      * Indicates whether profiles and other session data,
      * collected as part of pac4j flows and requests
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.services.stream;
 
+import org.apereo.cas.configuration.model.core.util.MessageBatchingProperties;
 import org.apereo.cas.configuration.model.support.services.stream.hazelcast.StreamServicesHazelcastProperties;
 import org.apereo.cas.configuration.model.support.services.stream.hazelcast.StreamServicesKafkaProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
@@ -59,6 +60,13 @@ public class StreamingServiceRegistryProperties implements Serializable {
     @NestedConfigurationProperty
     private StreamServicesKafkaProperties kafka = new StreamServicesKafkaProperties();
 
+    /**
+     * Settings that batch and coalesce changes to service definitions
+     * before they are streamed to other nodes.
+     */
+    @NestedConfigurationProperty
+    private MessageBatchingProperties batching = new MessageBatchingProperties();
+
     public enum ReplicationModes {
 
         /**
@@ -152,6 +152,15 @@ public class X509Properties implements Serializable {
      */
     private long cacheTimeToLiveSeconds = TimeUnit.HOURS.toSeconds(4);
 
+    /**
+     * When CRLs are fetched from distribution points and cached, indicate how long
+     * before the next update of a cached CRL, or before it expires from the cache
+     * per {@link #cacheTimeToLiveSeconds}, whichever comes first, it should be refreshed in the background,
+     * so that revocation checks do not have to wait for the fetch.
+     * A negative value disables background refreshes.
+     */
+    private long cacheRefreshLeadTimeSeconds = TimeUnit.MINUTES.toSeconds(5);
+
     /**
      * If the CRL resource is unavailable, activate the this policy.
      * Activated if {@link #revocationChecker} is {@code RESOURCE}.
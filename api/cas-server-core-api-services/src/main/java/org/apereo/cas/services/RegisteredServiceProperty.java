@@ -228,6 +228,12 @@ public interface RegisteredServiceProperty extends Serializable {
         SKIP_REQUIRED_SERVICE_CHECK("skipRequiredServiceCheck", "false",
             RegisteredServicePropertyGroups.REGISTERED_SERVICES, RegisteredServicePropertyTypes.BOOLEAN,
             "Whether this service should skip qualification for required-service pattern checks."),
+        /**
+         * Duration for which responses of REST endpoints consulted on behalf of this service may be cached.
+         **/
+        HTTP_RESPONSE_CACHE_DURATION("httpResponseCacheDuration", StringUtils.EMPTY,
+            RegisteredServicePropertyGroups.REGISTERED_SERVICES, RegisteredServicePropertyTypes.STRING,
+            "Duration for which responses of REST endpoints consulted on behalf of this service may be cached."),
         /**
          * Whether CAS should inject cache control headers into the response when this service is in process.
          */
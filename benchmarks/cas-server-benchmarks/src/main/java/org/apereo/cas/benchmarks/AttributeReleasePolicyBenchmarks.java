@@ -0,0 +1,123 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicy;
+import org.apereo.cas.services.ReturnAllAttributeReleasePolicy;
+import org.apereo.cas.services.ReturnAllowedAttributeReleasePolicy;
+import org.apereo.cas.services.ReturnMappedAttributeReleasePolicy;
+import org.apereo.cas.services.support.RegisteredServiceMappedRegexAttributeFilter;
+import org.apereo.cas.services.support.RegisteredServiceMutantRegexAttributeFilter;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link AttributeReleasePolicyBenchmarks} that measures the most common
+ * attribute release policies against large principal attribute maps.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class AttributeReleasePolicyBenchmarks {
+    @Param({"20", "200", "1000"})
+    private int attributeCount;
+
+    private Principal principal;
+
+    private Service service;
+
+    private RegisteredService registeredService;
+
+    private RegisteredServiceAttributeReleasePolicy returnAllPolicy;
+
+    private RegisteredServiceAttributeReleasePolicy returnAllowedPolicy;
+
+    private RegisteredServiceAttributeReleasePolicy returnMappedPolicy;
+
+    private RegisteredServiceAttributeReleasePolicy returnMappedRegexFilterPolicy;
+
+    private RegisteredServiceAttributeReleasePolicy returnMutantRegexFilterPolicy;
+
+    @Setup
+    public void setup() {
+        principal = BenchmarkFixtures.principal(attributeCount);
+        service = BenchmarkFixtures.service("https://app0.example.org/cas/login");
+        registeredService = BenchmarkFixtures.registeredServices(1).get(0);
+
+        val released = IntStream.range(0, attributeCount)
+            .filter(i -> i % 2 == 0)
+            .mapToObj(i -> "attribute" + i)
+            .collect(Collectors.toList());
+
+        returnAllPolicy = new ReturnAllAttributeReleasePolicy();
+        returnAllowedPolicy = new ReturnAllowedAttributeReleasePolicy(released);
+
+        val mapped = new LinkedHashMap<String, Object>();
+        released.forEach(name -> mapped.put(name, List.of(name + "-mapped", "urn:oid:" + name)));
+        returnMappedPolicy = new ReturnMappedAttributeReleasePolicy(mapped);
+
+        val patterns = new LinkedHashMap<String, Object>();
+        released.forEach(name -> patterns.put(name, "^value-\\d+-[01]$"));
+        val filteredPolicy = new ReturnAllAttributeReleasePolicy();
+        filteredPolicy.setAttributeFilter(new RegisteredServiceMappedRegexAttributeFilter(patterns));
+        returnMappedRegexFilterPolicy = filteredPolicy;
+
+        val mutantPatterns = new LinkedHashMap<String, Object>();
+        released.forEach(name -> mutantPatterns.put(name, List.of("^value-(\\d+)-0$->even-$1", "^value-(\\d+)-1$->odd-$1")));
+        val mutantFilter = new RegisteredServiceMutantRegexAttributeFilter();
+        mutantFilter.setPatterns(mutantPatterns);
+        val mutantPolicy = new ReturnAllAttributeReleasePolicy();
+        mutantPolicy.setAttributeFilter(mutantFilter);
+        returnMutantRegexFilterPolicy = mutantPolicy;
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> returnAll() {
+        return returnAllPolicy.getAttributes(principal, service, registeredService);
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> returnAllowed() {
+        return returnAllowedPolicy.getAttributes(principal, service, registeredService);
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> returnMapped() {
+        return returnMappedPolicy.getAttributes(principal, service, registeredService);
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> returnAllWithMappedRegexFilter() {
+        return returnMappedRegexFilterPolicy.getAttributes(principal, service, registeredService);
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> returnAllWithMutantRegexFilter() {
+        return returnMutantRegexFilterPolicy.getAttributes(principal, service, registeredService);
+    }
+}
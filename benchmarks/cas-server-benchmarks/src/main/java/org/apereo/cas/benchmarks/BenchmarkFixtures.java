@@ -0,0 +1,148 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.AcceptUsersAuthenticationHandler;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.metadata.BasicCredentialMetaData;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link BenchmarkFixtures} that produces realistic, deterministic
+ * fixtures for benchmarks such as large ticket-granting tickets,
+ * large service registries and large attribute maps.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@UtilityClass
+public class BenchmarkFixtures {
+    private static final WebApplicationServiceFactory SERVICE_FACTORY = new WebApplicationServiceFactory();
+
+    /**
+     * Build an attribute map with the given number of attributes, each with the given number of values.
+     *
+     * @param count           the number of attributes
+     * @param valuesPerAttribute the values per attribute
+     * @return the map
+     */
+    public static Map<String, List<Object>> attributes(final int count, final int valuesPerAttribute) {
+        val attributes = new LinkedHashMap<String, List<Object>>(count);
+        IntStream.range(0, count).forEach(i -> attributes.put("attribute" + i,
+            IntStream.range(0, valuesPerAttribute)
+                .mapToObj(v -> (Object) ("value-" + i + '-' + v))
+                .collect(Collectors.toCollection(ArrayList::new))));
+        return attributes;
+    }
+
+    /**
+     * Build a principal with the given number of attributes.
+     *
+     * @param attributeCount the attribute count
+     * @return the principal
+     */
+    public static Principal principal(final int attributeCount) {
+        return PrincipalFactoryUtils.newPrincipalFactory().createPrincipal("casuser", attributes(attributeCount, 3));
+    }
+
+    /**
+     * Build an authentication whose principal and authentication attributes carry the given number of attributes.
+     *
+     * @param attributeCount the attribute count
+     * @return the authentication
+     */
+    public static Authentication authentication(final int attributeCount) {
+        val handler = new AcceptUsersAuthenticationHandler("BenchmarkAuthenticationHandler");
+        val meta = new BasicCredentialMetaData(new UsernamePasswordCredential("casuser", "Mellon"));
+        val principal = principal(attributeCount);
+        return new DefaultAuthenticationBuilder(principal)
+            .addCredential(meta)
+            .addSuccess(handler.getName(), new DefaultAuthenticationHandlerExecutionResult(handler, meta, principal, new ArrayList<>(0)))
+            .setAttributes(attributes(attributeCount, 1))
+            .build();
+    }
+
+    /**
+     * Build a service.
+     *
+     * @param id the id
+     * @return the web application service
+     */
+    public static WebApplicationService service(final String id) {
+        return SERVICE_FACTORY.createService(id);
+    }
+
+    /**
+     * Build a ticket-granting ticket that has accumulated the given number of
+     * service tickets and carries the given number of attributes.
+     *
+     * @param serviceCount   the service count
+     * @param attributeCount the attribute count
+     * @return the ticket granting ticket
+     */
+    public static TicketGrantingTicket ticketGrantingTicket(final int serviceCount, final int attributeCount) {
+        val idGenerator = new DefaultUniqueTicketIdGenerator();
+        val tgt = new TicketGrantingTicketImpl(idGenerator.getNewTicketId(TicketGrantingTicket.PREFIX),
+            authentication(attributeCount), NeverExpiresExpirationPolicy.INSTANCE);
+        IntStream.range(0, serviceCount).forEach(i -> tgt.grantServiceTicket(idGenerator.getNewTicketId("ST"),
+            service("https://app" + i + ".example.org/cas/login"), NeverExpiresExpirationPolicy.INSTANCE, false, false));
+        return tgt;
+    }
+
+    /**
+     * Build a serializable object graph that resembles the flow and conversation scopes
+     * captured by a webflow snapshot after a login attempt.
+     *
+     * @param attributeCount the attribute count
+     * @return the serializable state
+     */
+    public static LinkedHashMap<String, Object> webflowConversationState(final int attributeCount) {
+        val state = new LinkedHashMap<String, Object>();
+        state.put("credential", new UsernamePasswordCredential("casuser", "Mellon"));
+        state.put("service", service("https://app.example.org/cas/login"));
+        state.put("authentication", authentication(attributeCount));
+        state.put("ticketGrantingTicketId", new DefaultUniqueTicketIdGenerator().getNewTicketId(TicketGrantingTicket.PREFIX));
+        state.put("attributes", new LinkedHashMap<>(attributes(attributeCount, 2)));
+        return state;
+    }
+
+    /**
+     * Build a collection of regex registered services, sorted by evaluation order,
+     * each matching a distinct host.
+     *
+     * @param count the count
+     * @return the list
+     */
+    public static List<RegisteredService> registeredServices(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> {
+                val service = new RegexRegisteredService();
+                service.setId(i);
+                service.setName("Application" + i);
+                service.setServiceId("^https://app" + i + "\\.example\\.org(:\\d+)?/.*");
+                service.setEvaluationOrder(i);
+                return (RegisteredService) service;
+            })
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,121 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CipherExecutorBenchmarks} that measures binary cipher executors
+ * used for ticket and webflow state encryption across payload sizes.
+ * The raw cipher benchmarks compare obtaining and initializing a new cipher
+ * with a fixed initialization vector per call, with re-initializing a cipher
+ * prepared once per thread with a random message nonce.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class CipherExecutorBenchmarks {
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final SecureRandom RANDOM = RandomUtils.getNativeInstance();
+
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(CIPHER_ALGORITHM);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @Param({"256", "4096", "65536"})
+    private int payloadSize;
+
+    private CipherExecutor<byte[], byte[]> ticketCipherExecutor;
+
+    private CipherExecutor<byte[], byte[]> webflowCipherExecutor;
+
+    private byte[] payload;
+
+    private byte[] encodedTicketPayload;
+
+    private byte[] encodedWebflowPayload;
+
+    private SecretKeySpec encryptionKey;
+
+    @Setup
+    public void setup() {
+        ticketCipherExecutor = new DefaultTicketCipherExecutor(null, null, "AES", 512, 16, "benchmark");
+        webflowCipherExecutor = new WebflowConversationStateCipherExecutor(null, null, "AES", 512, 16);
+        payload = RandomStringUtils.randomAlphanumeric(payloadSize).getBytes(StandardCharsets.UTF_8);
+        encodedTicketPayload = ticketCipherExecutor.encode(payload);
+        encodedWebflowPayload = webflowCipherExecutor.encode(payload);
+        val key = new byte[16];
+        RANDOM.nextBytes(key);
+        encryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    @Benchmark
+    public byte[] encryptWithNewCipherPerCall() throws Exception {
+        val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new IvParameterSpec(new byte[16]));
+        return cipher.doFinal(payload);
+    }
+
+    @Benchmark
+    public byte[] encryptWithThreadLocalCipher() throws Exception {
+        val nonce = new byte[12];
+        RANDOM.nextBytes(nonce);
+        val cipher = CIPHERS.get();
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(128, nonce));
+        return cipher.doFinal(payload);
+    }
+
+    @Benchmark
+    public byte[] encodeTicket() {
+        return ticketCipherExecutor.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] decodeTicket() {
+        return ticketCipherExecutor.decode(encodedTicketPayload);
+    }
+
+    @Benchmark
+    public byte[] encodeWebflow() {
+        return webflowCipherExecutor.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] decodeWebflow() {
+        return webflowCipherExecutor.decode(encodedWebflowPayload);
+    }
+}
@@ -0,0 +1,72 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+import org.apereo.cas.web.flow.executor.DeflaterEncryptedTranscoder;
+import org.apereo.cas.web.flow.executor.EncryptedTranscoder;
+import org.apereo.cas.web.flow.executor.Transcoder;
+import org.apereo.cas.web.flow.executor.WebflowCipherBean;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link EncryptedTranscoderBenchmarks} that measures the encoding and decoding
+ * of webflow conversation state, using gzip, pooled deflaters with a preset dictionary or no compression.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class EncryptedTranscoderBenchmarks {
+    @Param({"10", "100"})
+    private int attributeCount;
+
+    @Param({"GZIP", "DEFLATE", "NONE"})
+    private String compression;
+
+    private Transcoder transcoder;
+
+    private Serializable state;
+
+    private byte[] encodedState;
+
+    @Setup
+    public void setup() throws IOException {
+        val cipher = new WebflowConversationStateCipherExecutor(null, null, "AES", 512, 16);
+        val cipherBean = new WebflowCipherBean(cipher);
+        transcoder = "DEFLATE".equals(compression)
+            ? new DeflaterEncryptedTranscoder(cipherBean)
+            : new EncryptedTranscoder(cipherBean, "GZIP".equals(compression));
+        state = BenchmarkFixtures.webflowConversationState(attributeCount);
+        encodedState = transcoder.encode(state);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return transcoder.encode(state);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return transcoder.decode(encodedState);
+    }
+}
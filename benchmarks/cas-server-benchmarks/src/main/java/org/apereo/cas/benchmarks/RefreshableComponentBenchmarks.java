@@ -0,0 +1,119 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.cipher.ProtocolTicketCipherExecutor;
+import org.apereo.cas.util.cipher.RefreshableCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link RefreshableComponentBenchmarks} that measures the cost of reaching
+ * a cipher executor directly, through a refresh-scoped proxy, and through a refreshable
+ * component that is swapped on refresh. Cheap calls expose the overhead of the indirection itself,
+ * while encoding a ticket id shows its share of a typical call on the login path.
+ * Running with several threads, i.e. {@code -PjmhArgs="-t 8"}, also shows contention
+ * on the lock that the refresh scope takes on every call.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class RefreshableComponentBenchmarks {
+    private static final String TICKET_ID = "ST-1-Hx8tcFS0sNVrtXQVcEhQ5ZTw-cas.example.org";
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private CipherExecutor<Serializable, String> directCipherExecutor;
+
+    private CipherExecutor<Serializable, String> refreshScopedCipherExecutor;
+
+    private CipherExecutor<Serializable, String> refreshableCipherExecutor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        applicationContext = new AnnotationConfigApplicationContext(RefreshableComponentBenchmarkConfiguration.class);
+        directCipherExecutor = new ProtocolTicketCipherExecutor();
+        refreshScopedCipherExecutor = applicationContext.getBean("refreshScopedCipherExecutor", CipherExecutor.class);
+        refreshableCipherExecutor = applicationContext.getBean("refreshableCipherExecutor", CipherExecutor.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public boolean isEnabledDirect() {
+        return directCipherExecutor.isEnabled();
+    }
+
+    @Benchmark
+    public boolean isEnabledThroughRefreshScope() {
+        return refreshScopedCipherExecutor.isEnabled();
+    }
+
+    @Benchmark
+    public boolean isEnabledThroughRefreshableComponent() {
+        return refreshableCipherExecutor.isEnabled();
+    }
+
+    @Benchmark
+    public String encodeDirect() {
+        return directCipherExecutor.encode(TICKET_ID);
+    }
+
+    @Benchmark
+    public String encodeThroughRefreshScope() {
+        return refreshScopedCipherExecutor.encode(TICKET_ID);
+    }
+
+    @Benchmark
+    public String encodeThroughRefreshableComponent() {
+        return refreshableCipherExecutor.encode(TICKET_ID);
+    }
+
+    /**
+     * Declares the same cipher executor in the refresh scope and as a refreshable component.
+     */
+    @Configuration(value = "refreshableComponentBenchmarkConfiguration", proxyBeanMethods = false)
+    public static class RefreshableComponentBenchmarkConfiguration {
+        @Bean
+        public static RefreshScope refreshScope() {
+            return new RefreshScope();
+        }
+
+        @Bean
+        @org.springframework.cloud.context.config.annotation.RefreshScope
+        public CipherExecutor<Serializable, String> refreshScopedCipherExecutor() {
+            return new ProtocolTicketCipherExecutor();
+        }
+
+        @Bean
+        public CipherExecutor<Serializable, String> refreshableCipherExecutor() {
+            return new RefreshableCipherExecutor<>("refreshableCipherExecutor", ProtocolTicketCipherExecutor::new);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.DefaultServicesManagerRegisteredServiceLocator;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceLocator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link RegisteredServiceLocatorBenchmarks} that measures regex-based service matching
+ * against large registries, locating the first, middle and last services as well as
+ * services that are not registered at all.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class RegisteredServiceLocatorBenchmarks {
+    @Param({"100", "1000", "5000"})
+    private int registeredServiceCount;
+
+    private ServicesManagerRegisteredServiceLocator locator;
+
+    private List<RegisteredService> registeredServices;
+
+    private Service firstService;
+
+    private Service middleService;
+
+    private Service lastService;
+
+    private Service unknownService;
+
+    @Setup
+    public void setup() {
+        locator = new DefaultServicesManagerRegisteredServiceLocator();
+        registeredServices = BenchmarkFixtures.registeredServices(registeredServiceCount);
+        firstService = BenchmarkFixtures.service("https://app0.example.org/cas/login");
+        middleService = BenchmarkFixtures.service("https://app" + registeredServiceCount / 2 + ".example.org/cas/login");
+        lastService = BenchmarkFixtures.service("https://app" + (registeredServiceCount - 1) + ".example.org/cas/login");
+        unknownService = BenchmarkFixtures.service("https://unknown.example.net/cas/login");
+    }
+
+    @Benchmark
+    public RegisteredService locateFirst() {
+        return locator.locate(registeredServices, firstService);
+    }
+
+    @Benchmark
+    public RegisteredService locateMiddle() {
+        return locator.locate(registeredServices, middleService);
+    }
+
+    @Benchmark
+    public RegisteredService locateLast() {
+        return locator.locate(registeredServices, lastService);
+    }
+
+    @Benchmark
+    public RegisteredService locateUnknown() {
+        return locator.locate(registeredServices, unknownService);
+    }
+}
@@ -0,0 +1,53 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketIdGeneratorBenchmarks}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class TicketIdGeneratorBenchmarks {
+    private UniqueTicketIdGenerator defaultGenerator;
+
+    private UniqueTicketIdGenerator hostNameGenerator;
+
+    @Setup
+    public void setup() {
+        defaultGenerator = new DefaultUniqueTicketIdGenerator();
+        hostNameGenerator = new TicketGrantingTicketIdGenerator(64, "benchmark");
+    }
+
+    @Benchmark
+    public String defaultTicketId() {
+        return defaultGenerator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+
+    @Benchmark
+    public String hostNameBasedTicketId() {
+        return hostNameGenerator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+}
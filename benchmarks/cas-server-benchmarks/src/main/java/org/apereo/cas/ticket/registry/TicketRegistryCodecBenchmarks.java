@@ -0,0 +1,72 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.benchmarks.BenchmarkFixtures;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketRegistryCodecBenchmarks} that measures the cost of
+ * encoding and decoding tickets and ticket ids in {@link AbstractTicketRegistry},
+ * which is paid by every registry that has crypto operations turned on.
+ * The benchmark lives in the registry package to reach the protected codec operations.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class TicketRegistryCodecBenchmarks {
+    @Param({"1", "50", "500"})
+    private int serviceCount;
+
+    @Param({"10", "200"})
+    private int attributeCount;
+
+    private AbstractTicketRegistry registry;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    private Ticket encodedTicket;
+
+    @Setup
+    public void setup() {
+        registry = new DefaultTicketRegistry(new DefaultTicketCipherExecutor(null, null,
+            "AES", 512, 16, "benchmark"));
+        ticketGrantingTicket = BenchmarkFixtures.ticketGrantingTicket(serviceCount, attributeCount);
+        encodedTicket = registry.encodeTicket(ticketGrantingTicket);
+    }
+
+    @Benchmark
+    public Ticket encodeTicket() {
+        return registry.encodeTicket(ticketGrantingTicket);
+    }
+
+    @Benchmark
+    public Ticket decodeTicket() {
+        return registry.decodeTicket(encodedTicket);
+    }
+
+    @Benchmark
+    public String encodeTicketId() {
+        return registry.encodeTicketId(ticketGrantingTicket.getId());
+    }
+}
@@ -8,15 +8,20 @@ import org.apereo.cas.util.scripting.ScriptingUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import javax.persistence.Transient;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +31,8 @@ import java.util.TreeMap;
 /**
  * Return a collection of allowed attributes for the principal, but additionally,
  * offers the ability to rename attributes on a per-service level.
+ * The allowed attribute definitions are compiled once into a release plan
+ * that records how each mapped name is to be resolved, and is rebuilt when the allowed attributes change.
  *
  * @author Misagh Moayyed
  * @since 4.1.0
@@ -42,28 +49,54 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
 
     private Map<String, Object> allowedAttributes = new TreeMap<>();
 
+    @JsonIgnore
+    @Transient
+    @org.springframework.data.annotation.Transient
+    @ToString.Exclude
+    private transient volatile List<MappedAttributeDefinition> releasePlan;
+
     @JsonCreator
     public ReturnMappedAttributeReleasePolicy(@JsonProperty("allowedAttributes") final Map<String, Object> attributes) {
         this.allowedAttributes = attributes;
     }
 
-    private static void mapSingleAttributeDefinition(final String attributeName,
-                                                     final String mappedAttributeName,
+    private static List<MappedAttributeDefinition> compileReleasePlan(final Map<String, Object> allowedAttributes) {
+        val plan = new ArrayList<MappedAttributeDefinition>(allowedAttributes.size());
+        allowedAttributes.forEach((attributeName, value) -> CollectionUtils.wrap(value).forEach(mapped -> {
+            val mappedAttributeName = mapped.toString();
+            val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(mappedAttributeName);
+            if (matcherInline.find()) {
+                plan.add(new MappedAttributeDefinition(attributeName, mappedAttributeName, MappedAttributeTypes.INLINE_GROOVY, matcherInline.group(1)));
+            } else {
+                val matcherFile = ScriptingUtils.getMatcherForExternalGroovyScript(mappedAttributeName);
+                if (matcherFile.find()) {
+                    plan.add(new MappedAttributeDefinition(attributeName, mappedAttributeName, MappedAttributeTypes.EXTERNAL_GROOVY, matcherFile.group()));
+                } else {
+                    plan.add(new MappedAttributeDefinition(attributeName, mappedAttributeName, MappedAttributeTypes.ATTRIBUTE, mappedAttributeName));
+                }
+            }
+        }));
+        LOGGER.trace("Compiled attribute release plan [{}]", plan);
+        return plan;
+    }
+
+    private static void mapSingleAttributeDefinition(final MappedAttributeDefinition definition,
                                                      final Object attributeValue,
                                                      final Map<String, List<Object>> resolvedAttributes,
                                                      final Map<String, List<Object>> attributesToRelease) {
-        val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(mappedAttributeName);
-        val matcherFile = ScriptingUtils.getMatcherForExternalGroovyScript(mappedAttributeName);
-
-        if (matcherInline.find()) {
-            val inlineGroovy = matcherInline.group(1);
-            fetchAttributeValueAsInlineGroovyScript(attributeName, resolvedAttributes, attributesToRelease, inlineGroovy);
-        } else if (matcherFile.find()) {
-            val file = matcherFile.group();
-            fetchAttributeValueFromExternalGroovyScript(attributeName, resolvedAttributes, attributesToRelease, file);
-        } else {
-            mapSimpleSingleAttributeDefinition(attributeName, mappedAttributeName,
-                attributeValue, attributesToRelease, resolvedAttributes);
+        val attributeName = definition.getAttributeName();
+        switch (definition.getType()) {
+            case INLINE_GROOVY:
+                fetchAttributeValueAsInlineGroovyScript(attributeName, resolvedAttributes, attributesToRelease, definition.getSource());
+                break;
+            case EXTERNAL_GROOVY:
+                fetchAttributeValueFromExternalGroovyScript(attributeName, resolvedAttributes, attributesToRelease, definition.getSource());
+                break;
+            case ATTRIBUTE:
+            default:
+                mapSimpleSingleAttributeDefinition(attributeName, definition.getMappedAttributeName(),
+                    attributeValue, attributesToRelease, resolvedAttributes);
+                break;
         }
     }
 
@@ -144,6 +177,31 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
         return new TreeMap<>(this.allowedAttributes);
     }
 
+    /**
+     * Sets the allowed attributes, and discards the release plan compiled for the previous definitions.
+     *
+     * @param allowedAttributes the allowed attributes
+     */
+    public void setAllowedAttributes(final Map<String, Object> allowedAttributes) {
+        this.allowedAttributes = allowedAttributes;
+        this.releasePlan = null;
+    }
+
+    /**
+     * Gets the release plan compiled from the allowed attributes,
+     * compiling it when first requested.
+     *
+     * @return the release plan
+     */
+    protected List<MappedAttributeDefinition> getReleasePlan() {
+        var plan = this.releasePlan;
+        if (plan == null) {
+            plan = compileReleasePlan(getAllowedAttributes());
+            this.releasePlan = plan;
+        }
+        return plan;
+    }
+
     @Override
     public Map<String, List<Object>> getAttributesInternal(final Principal principal,
                                                            final Map<String, List<Object>> attrs,
@@ -176,18 +234,48 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
         val resolvedAttributes = new TreeMap<String, List<Object>>(String.CASE_INSENSITIVE_ORDER);
         resolvedAttributes.putAll(attrs);
         val attributesToRelease = new HashMap<String, List<Object>>();
-        getAllowedAttributes().forEach((attributeName, value) -> {
-            val mappedAttributes = CollectionUtils.wrap(value);
-            LOGGER.trace("Attempting to map allowed attribute name [{}]", attributeName);
-            val attributeValue = resolvedAttributes.get(attributeName);
-            mappedAttributes.forEach(mapped -> {
-                val mappedAttributeName = mapped.toString();
-                LOGGER.debug("Mapping attribute [{}] to [{}] with value [{}]",
-                    attributeName, mappedAttributeName, attributeValue);
-                mapSingleAttributeDefinition(attributeName, mappedAttributeName,
-                    attributeValue, resolvedAttributes, attributesToRelease);
-            });
+        getReleasePlan().forEach(definition -> {
+            val attributeValue = resolvedAttributes.get(definition.getAttributeName());
+            LOGGER.debug("Mapping attribute [{}] to [{}] with value [{}]",
+                definition.getAttributeName(), definition.getMappedAttributeName(), attributeValue);
+            mapSingleAttributeDefinition(definition, attributeValue, resolvedAttributes, attributesToRelease);
         });
         return attributesToRelease;
     }
+
+    /**
+     * The types of mapped attribute definitions.
+     */
+    public enum MappedAttributeTypes {
+        /**
+         * Attribute is released under the mapped name.
+         */
+        ATTRIBUTE,
+        /**
+         * Attribute value is produced by an inline groovy script.
+         */
+        INLINE_GROOVY,
+        /**
+         * Attribute value is produced by an external groovy script.
+         */
+        EXTERNAL_GROOVY
+    }
+
+    /**
+     * A single entry of the compiled release plan.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    @ToString
+    public static class MappedAttributeDefinition implements Serializable {
+        private static final long serialVersionUID = 4381947519322416213L;
+
+        private final String attributeName;
+
+        private final String mappedAttributeName;
+
+        private final MappedAttributeTypes type;
+
+        private final String source;
+    }
 }
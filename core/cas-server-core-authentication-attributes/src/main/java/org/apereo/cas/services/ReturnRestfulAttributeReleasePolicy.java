@@ -5,13 +5,13 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,21 +19,19 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.hjson.JsonValue;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
 import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Return a collection of allowed attributes for the principal based on an external REST endpoint.
+ * Responses of the endpoint may be cached for the specified duration, via {@link HttpResponseCache}.
  *
  * @author Misagh Moayyed
  * @since 4.1.0
@@ -44,7 +42,6 @@ import java.util.Map;
 @Setter
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class ReturnRestfulAttributeReleasePolicy extends AbstractRegisteredServiceAttributeReleasePolicy {
 
@@ -55,10 +52,19 @@ public class ReturnRestfulAttributeReleasePolicy extends AbstractRegisteredServi
 
     private String endpoint;
 
+    /**
+     * Duration for which responses of the endpoint may be cached, i.e. {@code PT5M}.
+     * Responses are not cached by default.
+     */
+    private String cacheDuration;
+
+    public ReturnRestfulAttributeReleasePolicy(final String endpoint) {
+        this.endpoint = endpoint;
+    }
+
     @Override
     public Map<String, List<Object>> getAttributesInternal(final Principal principal, final Map<String, List<Object>> attributes,
                                                            final RegisteredService registeredService, final Service selectedService) {
-        HttpResponse response = null;
         try (val writer = new StringWriter()) {
             MAPPER.writer(new MinimalPrettyPrinter()).writeValue(writer, attributes);
 
@@ -70,17 +76,15 @@ public class ReturnRestfulAttributeReleasePolicy extends AbstractRegisteredServi
                 .entity(writer.toString())
                 .headers(CollectionUtils.wrap("Content-Type", MediaType.APPLICATION_JSON_VALUE))
                 .build();
-            response = HttpUtils.execute(exec);
-            if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+            val response = HttpResponseCache.getInstance().execute(exec, HttpResponseCache.toDuration(cacheDuration));
+            if (response != null && response.getStatus() == HttpStatus.SC_OK) {
+                val result = response.getBody();
                 LOGGER.debug("Policy response received: [{}]", result);
                 return MAPPER.readValue(JsonValue.readHjson(result).toString(), new TypeReference<>() {
                 });
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
-        } finally {
-            HttpUtils.close(response);
         }
         return new HashMap<>(0);
     }
@@ -382,4 +382,25 @@ public class ReturnMappedAttributeReleasePolicyTests {
             }));
         service.awaitTermination(5, TimeUnit.SECONDS);
     }
+
+    @Test
+    @Order(13)
+    public void verifyReleasePlanIsReplaced() {
+        val allowed = new TreeMap<String, Object>();
+        allowed.put("uid", "username");
+        val policy = new ReturnMappedAttributeReleasePolicy(allowed);
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", CollectionUtils.wrap("uid", List.of("casuser")));
+        val registeredService = CoreAttributesTestUtils.getRegisteredService();
+        var attributes = policy.getAttributes(principal, CoreAttributesTestUtils.getService(), registeredService);
+        assertTrue(attributes.containsKey("username"));
+        assertEquals(1, policy.getReleasePlan().size());
+
+        allowed.put("uid", List.of("userId", "groovy { return attributes['uid'][0] + '-mapped' }"));
+        policy.setAllowedAttributes(allowed);
+        attributes = policy.getAttributes(principal, CoreAttributesTestUtils.getService(), registeredService);
+        assertFalse(attributes.containsKey("username"));
+        assertTrue(attributes.containsKey("userId"));
+        assertEquals(List.of("casuser-mapped"), attributes.get("uid"));
+        assertEquals(ReturnMappedAttributeReleasePolicy.MappedAttributeTypes.INLINE_GROOVY, policy.getReleasePlan().get(1).getType());
+    }
 }
@@ -39,6 +39,7 @@ public class MultifactorAuthenticationProviderBean<T extends MultifactorAuthenti
             beanFactory.destroySingleton(name);
             beanFactory.registerSingleton(name, providerFactory.createProvider(p));
         });
+        MultifactorAuthenticationProviderRegistry.clear();
     }
 
     /**
@@ -62,6 +63,7 @@ public class MultifactorAuthenticationProviderBean<T extends MultifactorAuthenti
     @EventListener
     public void onRefreshScopeRefreshed(final RefreshScopeRefreshedEvent event) {
         LOGGER.trace("Refreshing MFA Providers...");
+        MultifactorAuthenticationProviderRegistry.clear();
     }
 
 
@@ -0,0 +1,126 @@
+package org.apereo.cas.authentication;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link MultifactorAuthenticationProviderRegistry} that keeps a snapshot of
+ * the multifactor authentication providers found in the application context, indexed by bean name and provider id.
+ * The snapshot is reused for as long as the names of provider beans in the application context remain the same,
+ * which the bean factory keeps track of once its configuration is frozen, and is rebuilt otherwise.
+ * Components that replace provider beans under the same name are expected to {@link #clear()} the snapshot.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MultifactorAuthenticationProviderRegistry {
+    private static volatile MultifactorAuthenticationProviderRegistry INSTANCE;
+
+    @Getter(AccessLevel.NONE)
+    private final ApplicationContext applicationContext;
+
+    @Getter(AccessLevel.NONE)
+    private final List<String> beanNames;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, MultifactorAuthenticationProvider> providers;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, MultifactorAuthenticationProvider> providersById;
+
+    /**
+     * Gets the registry of providers available in the application context.
+     *
+     * @param applicationContext the application context
+     * @return the registry
+     */
+    public static MultifactorAuthenticationProviderRegistry getInstance(final ApplicationContext applicationContext) {
+        val beanNames = Arrays.asList(applicationContext.getBeanNamesForType(MultifactorAuthenticationProvider.class, false, true));
+        val current = INSTANCE;
+        if (current != null && current.applicationContext == applicationContext && current.beanNames.equals(beanNames)) {
+            return current;
+        }
+        val providers = new LinkedHashMap<String, MultifactorAuthenticationProvider>(beanNames.size());
+        val providersById = new LinkedHashMap<String, MultifactorAuthenticationProvider>(beanNames.size());
+        var complete = true;
+        for (val name : beanNames) {
+            try {
+                val provider = applicationContext.getBean(name, MultifactorAuthenticationProvider.class);
+                providers.put(name, provider);
+                if (StringUtils.isNotBlank(provider.getId())) {
+                    providersById.putIfAbsent(provider.getId(), provider);
+                }
+            } catch (final BeanCurrentlyInCreationException e) {
+                LOGGER.trace("Skipping provider [{}] that is currently in creation", name);
+                complete = false;
+            }
+        }
+        LOGGER.trace("Registered multifactor authentication providers [{}]", providers.keySet());
+        val registry = new MultifactorAuthenticationProviderRegistry(applicationContext, beanNames,
+            providers, providersById);
+        if (complete) {
+            INSTANCE = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * Gets a copy of the providers keyed by bean name.
+     * The snapshot held by the registry is never handed out, so callers are free to modify the copy.
+     *
+     * @return the providers
+     */
+    public Map<String, MultifactorAuthenticationProvider> getProviders() {
+        return new LinkedHashMap<>(providers);
+    }
+
+    /**
+     * Discard the snapshot of providers, forcing it to be rebuilt on the next lookup.
+     */
+    public static void clear() {
+        INSTANCE = null;
+    }
+
+    /**
+     * Find the provider that matches the given identifier.
+     * Providers are looked up by their id first, and are otherwise asked to match the identifier.
+     *
+     * @param providerId the provider id
+     * @return the provider
+     */
+    public Optional<MultifactorAuthenticationProvider> findProvider(final String providerId) {
+        if (StringUtils.isBlank(providerId)) {
+            return Optional.empty();
+        }
+        val provider = providersById.get(providerId);
+        if (provider != null) {
+            return Optional.of(provider);
+        }
+        return providers.values().stream().filter(p -> p.matches(providerId)).findFirst();
+    }
+
+    /**
+     * Whether a provider matches the given identifier.
+     *
+     * @param providerId the provider id
+     * @return true/false
+     */
+    public boolean matches(final String providerId) {
+        return findProvider(providerId).isPresent();
+    }
+}
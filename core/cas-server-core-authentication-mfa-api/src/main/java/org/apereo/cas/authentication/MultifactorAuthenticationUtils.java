@@ -227,9 +227,7 @@ public class MultifactorAuthenticationUtils {
     public static Optional<MultifactorAuthenticationProvider> getMultifactorAuthenticationProviderFromApplicationContext(final String providerId,
                                                                                                                          final ApplicationContext applicationContext) {
         LOGGER.trace("Locating bean definition for [{}]", providerId);
-        return getAvailableMultifactorAuthenticationProviders(applicationContext).values().stream()
-            .filter(p -> p.matches(providerId))
-            .findFirst();
+        return getMultifactorAuthenticationProviderById(providerId, applicationContext);
     }
 
     /**
@@ -259,20 +257,29 @@ public class MultifactorAuthenticationUtils {
 
     /**
      * Gets all multifactor authentication providers from application context.
+     * Providers are looked up via {@link MultifactorAuthenticationProviderRegistry}, and the result is a copy
+     * that callers are free to modify without affecting the registry.
      *
      * @param applicationContext the application context
      * @return the all multifactor authentication providers from application context
      */
     public static Map<String, MultifactorAuthenticationProvider> getAvailableMultifactorAuthenticationProviders(
+        final ApplicationContext applicationContext) {
+        return getMultifactorAuthenticationProviderRegistry(applicationContext)
+            .map(MultifactorAuthenticationProviderRegistry::getProviders)
+            .orElseGet(() -> new HashMap<>(0));
+    }
+
+    private static Optional<MultifactorAuthenticationProviderRegistry> getMultifactorAuthenticationProviderRegistry(
         final ApplicationContext applicationContext) {
         try {
-            return applicationContext.getBeansOfType(MultifactorAuthenticationProvider.class, false, true);
+            return Optional.of(MultifactorAuthenticationProviderRegistry.getInstance(applicationContext));
         } catch (final Exception e) {
             LOGGER.trace("No beans of type [{}] are available in the application context. "
                     + "CAS may not be configured to handle multifactor authentication requests in absence of a provider",
                 MultifactorAuthenticationProvider.class);
         }
-        return new HashMap<>(0);
+        return Optional.empty();
     }
 
     /**
@@ -285,10 +292,7 @@ public class MultifactorAuthenticationUtils {
      */
     public static Optional<MultifactorAuthenticationProvider> getMultifactorAuthenticationProviderById(final String providerId,
                                                                                                        final ApplicationContext context) {
-        return getAvailableMultifactorAuthenticationProviders(context)
-            .values()
-            .stream()
-            .filter(p -> p.matches(providerId))
-            .findFirst();
+        return getMultifactorAuthenticationProviderRegistry(context)
+            .flatMap(registry -> registry.findProvider(providerId));
     }
 }
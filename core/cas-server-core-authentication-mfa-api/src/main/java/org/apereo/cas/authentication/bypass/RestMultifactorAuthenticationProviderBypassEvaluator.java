@@ -7,6 +7,7 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -56,10 +57,11 @@ public class RestMultifactorAuthenticationProviderBypassEvaluator extends BaseMu
                 .basicAuthUsername(rest.getBasicAuthUsername())
                 .method(HttpMethod.valueOf(rest.getMethod().toUpperCase().trim()))
                 .url(rest.getUrl())
+                .parameters(parameters)
                 .build();
 
-            val response = HttpUtils.execute(exec);
-            return response != null && response.getStatusLine().getStatusCode() == HttpStatus.ACCEPTED.value();
+            val response = HttpResponseCache.getInstance().execute(exec, HttpResponseCache.toDuration(registeredService));
+            return response != null && response.getStatus() == HttpStatus.ACCEPTED.value();
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
             return true;
@@ -11,6 +11,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,9 +23,7 @@ import lombok.SneakyThrows;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpResponse;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpMethod;
@@ -32,7 +31,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import javax.servlet.http.HttpServletRequest;
-import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -79,7 +77,7 @@ public class RestEndpointMultifactorAuthenticationTrigger implements Multifactor
         }
 
         LOGGER.debug("Contacting [{}] to inquire about [{}]", restEndpoint, principal.getId());
-        val results = callRestEndpointForMultifactor(principal, service);
+        val results = callRestEndpointForMultifactor(principal, service, registeredService);
         if (StringUtils.isNotBlank(results)) {
             return MultifactorAuthenticationUtils.getMultifactorAuthenticationProviderById(results, applicationContext);
         }
@@ -103,36 +101,31 @@ public class RestEndpointMultifactorAuthenticationTrigger implements Multifactor
     /**
      * Call rest endpoint for multifactor.
      *
-     * @param principal       the principal
-     * @param resolvedService the resolved service
+     * @param principal         the principal
+     * @param resolvedService   the resolved service
+     * @param registeredService the registered service
      * @return return the rest response, typically the mfa id.
      */
     @SneakyThrows
-    protected String callRestEndpointForMultifactor(final Principal principal, final Service resolvedService) {
-        HttpResponse response = null;
-        try {
-            val rest = casProperties.getAuthn().getMfa().getTriggers().getRest();
-            val entity = new RestEndpointEntity(principal.getId(), resolvedService.getId());
-
-            val headers = CollectionUtils.<String, Object>wrap("Content-Type", MediaType.APPLICATION_JSON_VALUE);
-            headers.putAll(rest.getHeaders());
-
-            val exec = HttpUtils.HttpExecutionRequest.builder()
-                .basicAuthPassword(rest.getBasicAuthPassword())
-                .basicAuthUsername(rest.getBasicAuthUsername())
-                .method(HttpMethod.valueOf(rest.getMethod().toUpperCase().trim()))
-                .url(rest.getUrl())
-                .headers(headers)
-                .entity(MAPPER.writeValueAsString(entity))
-                .build();
-            response = HttpUtils.execute(exec);
-            val status = HttpStatus.valueOf(response.getStatusLine().getStatusCode());
-            if (status.is2xxSuccessful()) {
-                val content = response.getEntity().getContent();
-                return IOUtils.toString(content, StandardCharsets.UTF_8);
-            }
-        } finally {
-            HttpUtils.close(response);
+    protected String callRestEndpointForMultifactor(final Principal principal, final Service resolvedService,
+                                                    final RegisteredService registeredService) {
+        val rest = casProperties.getAuthn().getMfa().getTriggers().getRest();
+        val entity = new RestEndpointEntity(principal.getId(), resolvedService.getId());
+
+        val headers = CollectionUtils.<String, Object>wrap("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+        headers.putAll(rest.getHeaders());
+
+        val exec = HttpUtils.HttpExecutionRequest.builder()
+            .basicAuthPassword(rest.getBasicAuthPassword())
+            .basicAuthUsername(rest.getBasicAuthUsername())
+            .method(HttpMethod.valueOf(rest.getMethod().toUpperCase().trim()))
+            .url(rest.getUrl())
+            .headers(headers)
+            .entity(MAPPER.writeValueAsString(entity))
+            .build();
+        val response = HttpResponseCache.getInstance().execute(exec, HttpResponseCache.toDuration(registeredService));
+        if (response != null && HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) {
+            return response.getBody();
         }
         return null;
     }
@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.mfa.DefaultChainingMultifactorAuthenticatio
 import org.apereo.cas.authentication.mfa.DefaultMultifactorAuthenticationContextValidatorTests;
 import org.apereo.cas.authentication.mfa.DefaultRequestedAuthenticationContextValidatorTests;
 import org.apereo.cas.authentication.mfa.MultifactorAuthenticationProviderBypassTests;
+import org.apereo.cas.authentication.mfa.MultifactorAuthenticationProviderRegistryTests;
 import org.apereo.cas.authentication.mfa.MultifactorAuthenticationUtilsTests;
 import org.apereo.cas.authentication.mfa.bypass.DefaultChainingMultifactorAuthenticationBypassProviderTests;
 import org.apereo.cas.authentication.mfa.bypass.audit.MultifactorAuthenticationProviderBypassAuditResourceResolverTests;
@@ -56,7 +57,8 @@ import org.junit.platform.suite.api.Suite;
     GroovyScriptMultifactorAuthenticationTriggerTests.class,
     PrincipalAttributeMultifactorAuthenticationTriggerTests.class,
     DefaultChainingMultifactorAuthenticationBypassProviderTests.class,
-    DefaultChainingMultifactorAuthenticationProviderTests.class
+    DefaultChainingMultifactorAuthenticationProviderTests.class,
+    MultifactorAuthenticationProviderRegistryTests.class
 })
 @Suite
 public class MultifactorAuthenticationTestsSuite {
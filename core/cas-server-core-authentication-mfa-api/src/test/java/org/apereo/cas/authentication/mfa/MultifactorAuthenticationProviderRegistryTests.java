@@ -0,0 +1,72 @@
+package org.apereo.cas.authentication.mfa;
+
+import org.apereo.cas.authentication.MultifactorAuthenticationProviderRegistry;
+
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MultifactorAuthenticationProviderRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("MFA")
+public class MultifactorAuthenticationProviderRegistryTests {
+
+    @AfterEach
+    public void afterEach() {
+        MultifactorAuthenticationProviderRegistry.clear();
+    }
+
+    @Test
+    public void verifySnapshotIsReused() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext);
+
+        val registry = MultifactorAuthenticationProviderRegistry.getInstance(applicationContext);
+        assertEquals(1, registry.getProviders().size());
+        assertSame(registry, MultifactorAuthenticationProviderRegistry.getInstance(applicationContext));
+
+        MultifactorAuthenticationProviderRegistry.clear();
+        assertNotSame(registry, MultifactorAuthenticationProviderRegistry.getInstance(applicationContext));
+    }
+
+    @Test
+    public void verifySnapshotIsRebuilt() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext);
+        val registry = MultifactorAuthenticationProviderRegistry.getInstance(applicationContext);
+        assertEquals(1, registry.getProviders().size());
+
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext,
+            new TestMultifactorAuthenticationProvider("mfa-other"));
+        val rebuilt = MultifactorAuthenticationProviderRegistry.getInstance(applicationContext);
+        assertNotSame(registry, rebuilt);
+        assertEquals(2, rebuilt.getProviders().size());
+
+        val otherContext = new StaticApplicationContext();
+        otherContext.refresh();
+        assertTrue(MultifactorAuthenticationProviderRegistry.getInstance(otherContext).getProviders().isEmpty());
+    }
+
+    @Test
+    public void verifyFindProvider() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext);
+
+        val registry = MultifactorAuthenticationProviderRegistry.getInstance(applicationContext);
+        assertTrue(registry.findProvider(TestMultifactorAuthenticationProvider.ID).isPresent());
+        assertTrue(registry.matches(TestMultifactorAuthenticationProvider.ID));
+        assertFalse(registry.matches("unknown"));
+        assertFalse(registry.findProvider(null).isPresent());
+    }
+}
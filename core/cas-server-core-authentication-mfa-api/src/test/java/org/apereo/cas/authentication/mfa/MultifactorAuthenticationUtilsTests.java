@@ -1,6 +1,7 @@
 package org.apereo.cas.authentication.mfa;
 
 import org.apereo.cas.authentication.AuthenticationException;
+import org.apereo.cas.authentication.MultifactorAuthenticationProviderRegistry;
 import org.apereo.cas.authentication.MultifactorAuthenticationUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
@@ -78,6 +79,29 @@ public class MultifactorAuthenticationUtilsTests {
         assertNotNull(MultifactorAuthenticationUtils.getAvailableMultifactorAuthenticationProviders(appCtx));
     }
 
+    @Test
+    public void verifyAvailableProvidersCanBeFiltered() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext);
+        TestMultifactorAuthenticationProvider.registerProviderIntoApplicationContext(applicationContext,
+            new TestMultifactorAuthenticationProvider("mfa-other"));
+        try {
+            val providers = MultifactorAuthenticationUtils.getAvailableMultifactorAuthenticationProviders(applicationContext);
+            assertEquals(2, providers.size());
+            val providerValues = providers.values();
+            assertDoesNotThrow(() -> providerValues.removeIf(p -> !p.matches(TestMultifactorAuthenticationProvider.ID)));
+            assertEquals(1, providerValues.size());
+
+            val registry = MultifactorAuthenticationProviderRegistry.getInstance(applicationContext);
+            assertEquals(2, registry.getProviders().size());
+            assertTrue(registry.matches("mfa-other"));
+            assertEquals(2, MultifactorAuthenticationUtils.getAvailableMultifactorAuthenticationProviders(applicationContext).size());
+        } finally {
+            MultifactorAuthenticationProviderRegistry.clear();
+        }
+    }
+
     @Test
     public void verifyProviders() {
         val applicationContext = new StaticApplicationContext();
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.DefaultMultifactorAuthenticationFailureMode
 import org.apereo.cas.authentication.DefaultRequestedAuthenticationContextValidator;
 import org.apereo.cas.authentication.MultifactorAuthenticationContextValidator;
 import org.apereo.cas.authentication.MultifactorAuthenticationFailureModeEvaluator;
+import org.apereo.cas.authentication.MultifactorAuthenticationProviderRegistry;
 import org.apereo.cas.authentication.MultifactorAuthenticationTriggerSelectionStrategy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
@@ -17,9 +18,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 
 /**
  * This is {@link CasCoreMultifactorAuthenticationConfiguration}.
@@ -69,4 +72,15 @@ public class CasCoreMultifactorAuthenticationConfiguration {
     public MultifactorAuthenticationFailureModeEvaluator failureModeEvaluator() {
         return new DefaultMultifactorAuthenticationFailureModeEvaluator(casProperties);
     }
+
+    /**
+     * Discard the snapshot of multifactor authentication providers once refreshable beans are refreshed,
+     * so providers are looked up again with their refreshed settings.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void refreshMultifactorAuthenticationProviders(final RefreshScopeRefreshedEvent event) {
+        MultifactorAuthenticationProviderRegistry.clear();
+    }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.web.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
+import org.apereo.cas.util.cipher.RefreshableCipherExecutor;
 import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
@@ -52,9 +53,12 @@ public class CasCookieConfiguration {
     }
 
     @ConditionalOnMissingBean(name = "cookieCipherExecutor")
-    @RefreshScope
     @Bean
     public CipherExecutor cookieCipherExecutor() {
+        return new RefreshableCipherExecutor<>("cookieCipherExecutor", this::buildCookieCipherExecutor);
+    }
+
+    private CipherExecutor buildCookieCipherExecutor() {
         val crypto = casProperties.getTgc().getCrypto();
         var enabled = crypto.isEnabled();
         if (!enabled && StringUtils.isNotBlank(crypto.getEncryption().getKey()) && StringUtils.isNotBlank(crypto.getSigning().getKey())) {
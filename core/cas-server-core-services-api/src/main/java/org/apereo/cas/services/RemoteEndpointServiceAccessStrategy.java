@@ -2,6 +2,7 @@ package org.apereo.cas.services;
 
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.EqualsAndHashCode;
@@ -19,7 +20,8 @@ import java.util.Map;
  * This is {@link RemoteEndpointServiceAccessStrategy} that reaches out
  * to a remote endpoint, passing the CAS principal id to determine if access is allowed.
  * If the status code returned in the final response is not accepted by the policy here,
- * access shall be denied.
+ * access shall be denied. Responses of the endpoint may be cached for the specified duration,
+ * via {@link HttpResponseCache}.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -38,6 +40,8 @@ public class RemoteEndpointServiceAccessStrategy extends DefaultRegisteredServic
 
     private String acceptableResponseCodes;
 
+    private String cacheDuration;
+
     @Override
     public boolean doPrincipalAttributesAllowServiceAccess(final String principal, final Map<String, Object> principalAttributes) {
         if (super.doPrincipalAttributesAllowServiceAccess(principal, principalAttributes)) {
@@ -48,9 +52,9 @@ public class RemoteEndpointServiceAccessStrategy extends DefaultRegisteredServic
                 .parameters(CollectionUtils.wrap("username", principal))
                 .build();
 
-            val response = HttpUtils.execute(exec);
+            val response = HttpResponseCache.getInstance().execute(exec, HttpResponseCache.toDuration(cacheDuration));
             val currentCodes = StringUtils.commaDelimitedListToSet(this.acceptableResponseCodes);
-            return response != null && currentCodes.contains(String.valueOf(response.getStatusLine().getStatusCode()));
+            return response != null && currentCodes.contains(String.valueOf(response.getStatus()));
         }
         return false;
     }
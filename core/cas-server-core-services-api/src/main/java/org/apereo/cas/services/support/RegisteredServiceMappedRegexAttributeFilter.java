@@ -4,7 +4,9 @@ import org.apereo.cas.services.RegisteredServiceAttributeFilter;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,12 +14,14 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import javax.persistence.Transient;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -26,6 +30,8 @@ import java.util.stream.Collectors;
  * A filtering policy that selectively applies patterns to attributes mapped in the config.
  * If an attribute is mapped, it's only allowed to be released if it matches the linked pattern.
  * If an attribute is not mapped, it may optionally be excluded from the released set of attributes.
+ * Patterns are compiled once per attribute and reused until the pattern definitions or
+ * the case sensitivity of the filter are changed.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -50,11 +56,37 @@ public class RegisteredServiceMappedRegexAttributeFilter implements RegisteredSe
 
     private int order;
 
+    @JsonIgnore
+    @Transient
+    @org.springframework.data.annotation.Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Map<String, Collection<Pattern>> compiledPatterns = new ConcurrentHashMap<>();
 
     public RegisteredServiceMappedRegexAttributeFilter(final Map<String, Object> patterns) {
         this.patterns = patterns;
     }
 
+    /**
+     * Sets patterns, and discards patterns compiled for the previous definitions.
+     *
+     * @param patterns the patterns
+     */
+    public void setPatterns(final Map<String, Object> patterns) {
+        this.patterns = patterns;
+        clearCompiledPatterns();
+    }
+
+    /**
+     * Sets case insensitive, and discards patterns compiled for the previous setting.
+     *
+     * @param caseInsensitive the case insensitive
+     */
+    public void setCaseInsensitive(final boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        clearCompiledPatterns();
+    }
+
     @Override
     public Map<String, List<Object>> filter(final Map<String, List<Object>> givenAttributes) {
         val attributesToRelease = new HashMap<String, List<Object>>();
@@ -63,7 +95,7 @@ public class RegisteredServiceMappedRegexAttributeFilter implements RegisteredSe
             if (patterns.containsKey(attributeName)) {
                 val attributeValues = CollectionUtils.toCollection(entry.getValue());
                 LOGGER.debug("Found attribute [{}] in pattern definitions with value(s) [{}]", attributeName, attributeValues);
-                val attributePatterns = createPatternForMappedAttribute(attributeName);
+                val attributePatterns = getCompiledPatternsForMappedAttribute(attributeName);
                 attributePatterns.forEach(pattern -> {
                     LOGGER.debug("Found attribute [{}] in the pattern definitions. Processing pattern [{}]", attributeName, pattern.pattern());
                     val filteredValues = filterAttributeValuesByPattern(attributeValues, pattern);
@@ -99,6 +131,29 @@ public class RegisteredServiceMappedRegexAttributeFilter implements RegisteredSe
         }
     }
 
+    /**
+     * Discard compiled patterns, so that patterns are compiled again from their definitions when next used.
+     */
+    protected void clearCompiledPatterns() {
+        if (compiledPatterns != null) {
+            compiledPatterns.clear();
+        }
+    }
+
+    /**
+     * Gets compiled patterns for mapped attribute,
+     * compiling them from their definitions when first requested.
+     *
+     * @param attributeName the attribute name
+     * @return the patterns
+     */
+    protected Collection<Pattern> getCompiledPatternsForMappedAttribute(final String attributeName) {
+        if (compiledPatterns == null) {
+            compiledPatterns = new ConcurrentHashMap<>();
+        }
+        return compiledPatterns.computeIfAbsent(attributeName, this::createPatternForMappedAttribute);
+    }
+
     /**
      * Create pattern for mapped attribute pattern.
      *
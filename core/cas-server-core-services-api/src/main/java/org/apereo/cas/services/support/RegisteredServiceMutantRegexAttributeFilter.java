@@ -3,6 +3,7 @@ package org.apereo.cas.services.support;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,17 +11,21 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import javax.persistence.Transient;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link RegisteredServiceMutantRegexAttributeFilter}.
+ * Patterns and their return value templates are parsed once per attribute and reused
+ * until the pattern definitions or the case sensitivity of the filter are changed.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
@@ -32,6 +37,11 @@ public class RegisteredServiceMutantRegexAttributeFilter extends RegisteredServi
 
     private static final long serialVersionUID = 543145306984660628L;
 
+    @JsonIgnore
+    @Transient
+    @org.springframework.data.annotation.Transient
+    private transient Map<String, Collection<Pair<Pattern, String>>> compiledPatternsAndReturnValues = new ConcurrentHashMap<>();
+
     @Override
     public Map<String, List<Object>> filter(final Map<String, List<Object>> givenAttributes) {
         val attributesToRelease = new HashMap<String, List<Object>>();
@@ -40,7 +50,7 @@ public class RegisteredServiceMutantRegexAttributeFilter extends RegisteredServi
             if (getPatterns().containsKey(attributeName)) {
                 val attributeValues = CollectionUtils.toCollection(entry.getValue());
                 LOGGER.trace("Found attribute [{}] in pattern definitions with value(s) [{}]", attributeName, attributeValues);
-                val patterns = createPatternsAndReturnValue(attributeName);
+                val patterns = getCompiledPatternsAndReturnValues(attributeName);
                 var finalValues = patterns
                     .stream()
                     .map(patternDefinition -> {
@@ -65,6 +75,21 @@ public class RegisteredServiceMutantRegexAttributeFilter extends RegisteredServi
         return attributesToRelease;
     }
 
+    @Override
+    protected void clearCompiledPatterns() {
+        super.clearCompiledPatterns();
+        if (compiledPatternsAndReturnValues != null) {
+            compiledPatternsAndReturnValues.clear();
+        }
+    }
+
+    private Collection<Pair<Pattern, String>> getCompiledPatternsAndReturnValues(final String attributeName) {
+        if (compiledPatternsAndReturnValues == null) {
+            compiledPatternsAndReturnValues = new ConcurrentHashMap<>();
+        }
+        return compiledPatternsAndReturnValues.computeIfAbsent(attributeName, this::createPatternsAndReturnValue);
+    }
+
     private Collection<Pair<Pattern, String>> createPatternsAndReturnValue(final String attributeName) {
         val patternDef = getPatterns().get(attributeName);
         val patternAndReturnVal = new ArrayList<>(CollectionUtils.toCollection(patternDef));
@@ -82,6 +82,19 @@ public class RegisteredServiceMappedRegexAttributeFilterTests {
         assertEquals(2, CollectionUtils.toCollection(attrs.get("memberOf")).size());
     }
 
+    @Test
+    public void verifyCompiledPatternsAreReplaced() {
+        this.filter.setPatterns(Collections.singletonMap("memberOf", "^m"));
+        assertEquals(2, CollectionUtils.toCollection(this.filter.filter(givenAttributesMap).get("memberOf")).size());
+        this.filter.setPatterns(Collections.singletonMap("memberOf", "^s"));
+        assertEquals(1, CollectionUtils.toCollection(this.filter.filter(givenAttributesMap).get("memberOf")).size());
+        this.filter.setPatterns(Collections.singletonMap("memberOf", "^MATH$"));
+        this.filter.setCompleteMatch(true);
+        assertEquals(1, CollectionUtils.toCollection(this.filter.filter(givenAttributesMap).get("memberOf")).size());
+        this.filter.setCaseInsensitive(false);
+        assertFalse(this.filter.filter(givenAttributesMap).containsKey("memberOf"));
+    }
+
     @Test
     public void verifyPattern() {
         this.filter = new RegisteredServiceMappedRegexAttributeFilter(Collections.singletonMap("memberOf", "^m"));
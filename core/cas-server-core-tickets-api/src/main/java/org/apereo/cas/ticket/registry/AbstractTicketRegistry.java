@@ -45,15 +45,25 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected CipherExecutor cipherExecutor;
 
+    /**
+     * Optional filter of issued ticket ids, used to reject lookups of unknown tickets.
+     */
+    protected TimePartitionedTicketIdFilter ticketIdFilter;
+
     @Override
     public void addTicket(final Ticket ticket) {
         if (ticket != null && !ticket.isExpired()) {
+            recordIssuedTicketId(ticket);
             addTicketInternal(ticket);
         }
     }
 
     @Override
     public Ticket getTicket(final String ticketId) {
+        if (ticketIdFilter != null && !ticketIdFilter.mightContain(ticketId)) {
+            LOGGER.debug("Ticket [{}] was never issued and cannot be found in the registry", ticketId);
+            return null;
+        }
         return getTicket(ticketId, ticket -> {
             if (ticket != null && ticket.isExpired()) {
                 LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", ticket.getId());
@@ -161,6 +171,31 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected abstract void addTicketInternal(Ticket ticket);
 
+    /**
+     * Whether this registry observes every ticket that is added by any CAS node, allowing a filter
+     * of issued ticket ids to reject lookups of any unknown ticket. Registries that only see tickets added
+     * on the local node, such as those that share tickets through a remote store, may only reject lookups
+     * of unknown tickets issued by the local node.
+     *
+     * @return true/false
+     */
+    public boolean isObservingAllTicketAdditions() {
+        return false;
+    }
+
+    /**
+     * Record the ticket id in the filter of issued ticket ids, if any.
+     * Registry implementations that add tickets without going through {@link #addTicket(Ticket)}
+     * must call this method for every added ticket.
+     *
+     * @param ticket the ticket
+     */
+    protected void recordIssuedTicketId(final Ticket ticket) {
+        if (ticketIdFilter != null) {
+            ticketIdFilter.put(ticket.getId());
+        }
+    }
+
     /**
      * Delete tickets.
      *
@@ -35,4 +35,9 @@ public class DefaultTicketRegistry extends AbstractMapBasedTicketRegistry {
         super(cipherExecutor);
         this.mapInstance = storageMap;
     }
+
+    @Override
+    public boolean isObservingAllTicketAdditions() {
+        return true;
+    }
 }
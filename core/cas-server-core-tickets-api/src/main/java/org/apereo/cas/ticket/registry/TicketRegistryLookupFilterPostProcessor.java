@@ -0,0 +1,165 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.util.TicketProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.InetAddressUtils;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link TicketRegistryLookupFilterPostProcessor} that attaches a {@link TimePartitionedTicketIdFilter}
+ * to ticket registries. Registries that observe every ticket added by any CAS node are given a filter that judges
+ * all ticket ids; once the application context is refreshed, the filter is populated in the background
+ * with the ticket ids that are already present in its ticket registry, after which the filter is marked as ready.
+ * Other registries are given a filter that only judges ticket ids issued by this node, which becomes ready once
+ * it has recorded the ticket ids issued by this node for a full window, since tickets issued before this node started
+ * may still be present in the registry.
+ * <p>
+ * The filter window is derived from the longest ticket lifetime when it is not configured, and CAS
+ * fails to start if the configured window is shorter or if the ticket lifetime has no upper bound.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryLookupFilterPostProcessor implements BeanPostProcessor, ApplicationListener<ContextRefreshedEvent> {
+    private final Supplier<CasConfigurationProperties> casProperties;
+
+    private final Map<AbstractTicketRegistry, TimePartitionedTicketIdFilter> pendingFilters = new HashMap<>();
+
+    private boolean refreshed;
+
+    /**
+     * Gets the longest lifetime of ticket-granting tickets, including those issued via remember-me,
+     * proxy-granting tickets, service tickets and proxy tickets, following the rules by which their
+     * expiration policies are built.
+     *
+     * @param ticket the ticket properties
+     * @return the lifetime, or empty if ticket-granting tickets have no upper bound on their lifetime
+     */
+    public static Optional<Duration> getLongestTicketLifetime(final TicketProperties ticket) {
+        val tgt = ticket.getTgt();
+        val primary = tgt.getPrimary();
+        if (primary.getMaxTimeToLiveInSeconds() <= 0 && primary.getTimeToKillInSeconds() <= 0) {
+            return Optional.empty();
+        }
+        if (tgt.getTimeout().getMaxTimeToLiveInSeconds() > 0) {
+            return Optional.empty();
+        }
+        val throttled = tgt.getThrottledTimeout();
+        if (throttled.getTimeInBetweenUsesInSeconds() > 0 && throttled.getTimeToKillInSeconds() > 0) {
+            return Optional.empty();
+        }
+        var lifetime = 0L;
+        if (tgt.getHardTimeout().getTimeToKillInSeconds() > 0) {
+            lifetime = tgt.getHardTimeout().getTimeToKillInSeconds();
+        } else if (primary.getMaxTimeToLiveInSeconds() > 0 && primary.getTimeToKillInSeconds() > 0) {
+            lifetime = primary.getMaxTimeToLiveInSeconds();
+        }
+        if (tgt.getRememberMe().isEnabled()) {
+            lifetime = Math.max(lifetime, tgt.getRememberMe().getTimeToKillInSeconds());
+        }
+        val longest = Math.max(lifetime, Math.max(ticket.getSt().getTimeToKillInSeconds(), ticket.getPt().getTimeToKillInSeconds()));
+        return Optional.of(Duration.ofSeconds(longest));
+    }
+
+    private static Duration getWindow(final TicketProperties ticket, final String beanName) {
+        val lifetime = getLongestTicketLifetime(ticket).orElseThrow(() -> new BeanCreationException(beanName,
+            "Ticket lookup filter cannot be used since ticket-granting tickets have no upper bound on their lifetime"));
+        val configured = ticket.getRegistry().getLookupFilter().getWindow();
+        if (StringUtils.isBlank(configured)) {
+            LOGGER.debug("Ticket lookup filter window is set to the longest ticket lifetime [{}]", lifetime);
+            return lifetime;
+        }
+        val window = Beans.newDuration(configured);
+        if (window.compareTo(lifetime) < 0) {
+            throw new BeanCreationException(beanName, "Ticket lookup filter window " + window
+                + " is shorter than the longest ticket lifetime " + lifetime + " and would reject lookups of valid tickets");
+        }
+        return window;
+    }
+
+    private static void populate(final AbstractTicketRegistry registry, final TimePartitionedTicketIdFilter filter) {
+        CompletableFuture.runAsync(() -> {
+            try (val tickets = registry.stream()) {
+                val count = new LongAdder();
+                tickets
+                    .filter(Objects::nonNull)
+                    .map(Ticket::getId)
+                    .forEach(id -> {
+                        filter.put(id);
+                        count.increment();
+                    });
+                filter.markReady();
+                LOGGER.info("Populated ticket id filter of [{}] with [{}] ticket(s)", registry.getClass().getSimpleName(), count.sum());
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to populate ticket id filter of [{}]; lookups will not be filtered", registry.getClass().getSimpleName());
+                LoggingUtils.warn(LOGGER, e);
+            }
+        });
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof AbstractTicketRegistry) {
+            val registry = (AbstractTicketRegistry) bean;
+            val properties = casProperties.get();
+            val window = getWindow(properties.getTicket(), beanName);
+            val props = properties.getTicket().getRegistry().getLookupFilter();
+            if (registry.isObservingAllTicketAdditions()) {
+                val filter = new TimePartitionedTicketIdFilter(window, props.getPartitions(), props.getExpectedInsertions(),
+                    props.getFalsePositiveProbability(), props.getPrefixes());
+                registry.setTicketIdFilter(filter);
+                LOGGER.debug("Attached ticket id filter to ticket registry [{}]", beanName);
+                populateWhenRefreshed(registry, filter);
+            } else {
+                val issuer = StringUtils.defaultIfBlank(properties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+                val filter = new TimePartitionedTicketIdFilter(window, props.getPartitions(), props.getExpectedInsertions(),
+                    props.getFalsePositiveProbability(), props.getPrefixes(), issuer, Clock.systemUTC());
+                filter.markReadyAfter(window);
+                registry.setTicketIdFilter(filter);
+                LOGGER.info("Ticket registry [{}] does not observe tickets added by other CAS nodes; after [{}], its ticket id filter "
+                    + "will reject lookups of unknown ticket ids with suffix [{}] only", registry.getClass().getSimpleName(), window, issuer);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(final ContextRefreshedEvent event) {
+        if (!refreshed) {
+            refreshed = true;
+            pendingFilters.forEach(TicketRegistryLookupFilterPostProcessor::populate);
+            pendingFilters.clear();
+        }
+    }
+
+    private synchronized void populateWhenRefreshed(final AbstractTicketRegistry registry, final TimePartitionedTicketIdFilter filter) {
+        if (refreshed) {
+            populate(registry, filter);
+        } else {
+            pendingFilters.put(registry, filter);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package org.apereo.cas.ticket.registry;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This is {@link TimePartitionedTicketIdFilter}, a node-local filter of ticket ids
+ * that were issued within a time window. The window is divided into partitions, each backed by a
+ * bloom filter; ticket ids are added to the current partition, and partitions are dropped as a whole once
+ * all ticket ids they hold were issued before the window. The filter may report that a ticket id was issued
+ * when it was not, but never the opposite, as long as the ticket id was added to the filter within the window.
+ * <p>
+ * A filter that is given the ticket id suffix of this node only judges ticket ids that carry the suffix,
+ * i.e. ticket ids issued by this node, and reports all other ticket ids as issued. This allows the filter to be
+ * used with ticket registries that do not observe tickets added by other nodes.
+ * <p>
+ * The filter is not authoritative until it is marked as ready, typically once it is populated
+ * with the ticket ids that are already present in the ticket registry, or once it has recorded
+ * issued ticket ids for a full window.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@Getter
+public class TimePartitionedTicketIdFilter {
+    private static final char PREFIX_SEPARATOR = '-';
+
+    private final Duration window;
+
+    private final Duration partitionDuration;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private final Set<String> prefixes;
+
+    private final String issuerSuffix;
+
+    private final Clock clock;
+
+    @Getter(AccessLevel.NONE)
+    private volatile List<Partition> activePartitions;
+
+    @Getter(AccessLevel.NONE)
+    private volatile long readyAt = Long.MAX_VALUE;
+
+    public TimePartitionedTicketIdFilter(final Duration window, final int partitions,
+                                         final long expectedInsertions, final double falsePositiveProbability,
+                                         final Collection<String> prefixes) {
+        this(window, partitions, expectedInsertions, falsePositiveProbability, prefixes, Clock.systemUTC());
+    }
+
+    public TimePartitionedTicketIdFilter(final Duration window, final int partitions,
+                                         final long expectedInsertions, final double falsePositiveProbability,
+                                         final Collection<String> prefixes, final Clock clock) {
+        this(window, partitions, expectedInsertions, falsePositiveProbability, prefixes, null, clock);
+    }
+
+    public TimePartitionedTicketIdFilter(final Duration window, final int partitions,
+                                         final long expectedInsertions, final double falsePositiveProbability,
+                                         final Collection<String> prefixes, final String issuerSuffix, final Clock clock) {
+        this.window = window;
+        this.partitionDuration = window.dividedBy(Math.max(partitions, 1));
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.prefixes = new HashSet<>(prefixes);
+        this.issuerSuffix = StringUtils.defaultIfBlank(issuerSuffix, null);
+        this.clock = clock;
+        this.activePartitions = List.of(newPartition(clock.millis()));
+    }
+
+    /**
+     * Record the ticket id as issued.
+     *
+     * @param ticketId the ticket id
+     */
+    public void put(final String ticketId) {
+        if (StringUtils.isNotBlank(ticketId)) {
+            getCurrentPartition().getFilter().put(ticketId);
+        }
+    }
+
+    /**
+     * Whether the ticket id might have been issued within the window.
+     * Ticket ids whose prefix is not filtered, or that were issued by other nodes if the filter
+     * is limited to ticket ids issued by this node, are always reported as issued,
+     * as are all ticket ids until the filter is ready.
+     *
+     * @param ticketId the ticket id
+     * @return false if the ticket id was definitely not issued within the window.
+     */
+    public boolean mightContain(final String ticketId) {
+        if (!isReady() || StringUtils.isBlank(ticketId) || !isFiltered(ticketId)) {
+            return true;
+        }
+        getCurrentPartition();
+        for (val partition : activePartitions) {
+            if (partition.getFilter().mightContain(ticketId)) {
+                return true;
+            }
+        }
+        LOGGER.trace("Ticket id [{}] was not issued within [{}]", ticketId, window);
+        return false;
+    }
+
+    /**
+     * Mark the filter as ready, allowing it to reject ticket ids.
+     */
+    public void markReady() {
+        this.readyAt = Long.MIN_VALUE;
+    }
+
+    /**
+     * Mark the filter as ready once the given period of time has passed, typically
+     * once it has recorded all ticket ids that may still be valid.
+     *
+     * @param delay the delay
+     */
+    public void markReadyAfter(final Duration delay) {
+        this.readyAt = clock.millis() + delay.toMillis();
+    }
+
+    /**
+     * Whether the filter is ready to reject ticket ids.
+     *
+     * @return true/false
+     */
+    public boolean isReady() {
+        return clock.millis() >= readyAt;
+    }
+
+    /**
+     * Gets the number of active partitions.
+     *
+     * @return the number of active partitions
+     */
+    public int getPartitionCount() {
+        return activePartitions.size();
+    }
+
+    private boolean isFiltered(final String ticketId) {
+        val index = ticketId.indexOf(PREFIX_SEPARATOR);
+        return index > 0 && prefixes.contains(ticketId.substring(0, index)) && isIssuedByThisNode(ticketId);
+    }
+
+    private boolean isIssuedByThisNode(final String ticketId) {
+        if (issuerSuffix == null) {
+            return true;
+        }
+        val index = ticketId.length() - issuerSuffix.length() - 1;
+        return index > 0 && ticketId.charAt(index) == PREFIX_SEPARATOR && ticketId.endsWith(issuerSuffix);
+    }
+
+    private Partition getCurrentPartition() {
+        val current = activePartitions.get(0);
+        if (clock.millis() - current.getCreated() < partitionDuration.toMillis()) {
+            return current;
+        }
+        return rotate();
+    }
+
+    private synchronized Partition rotate() {
+        val now = clock.millis();
+        val partitions = this.activePartitions;
+        val current = partitions.get(0);
+        if (now - current.getCreated() < partitionDuration.toMillis()) {
+            return current;
+        }
+        val next = newPartition(now);
+        val rotated = new ArrayList<Partition>(partitions.size() + 1);
+        rotated.add(next);
+        val oldest = now - window.toMillis() - partitionDuration.toMillis();
+        partitions.stream()
+            .filter(partition -> partition.getCreated() > oldest)
+            .forEach(rotated::add);
+        LOGGER.trace("Rotated ticket id filter partitions; [{}] partition(s) are active", rotated.size());
+        this.activePartitions = List.copyOf(rotated);
+        return next;
+    }
+
+    private Partition newPartition(final long created) {
+        return new Partition(created, BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+            expectedInsertions, falsePositiveProbability));
+    }
+
+    @Getter
+    @SuppressWarnings("UnstableApiUsage")
+    private static class Partition {
+        private final long created;
+
+        private final BloomFilter<CharSequence> filter;
+
+        Partition(final long created, final BloomFilter<CharSequence> filter) {
+            this.created = created;
+            this.filter = filter;
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
 import org.apereo.cas.ticket.registry.NoOpLockingStrategy;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryLookupFilterPostProcessor;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -47,6 +48,7 @@ import org.apereo.cas.util.ProxyTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
 import org.apereo.cas.util.cipher.ProtocolTicketCipherExecutor;
+import org.apereo.cas.util.cipher.RefreshableCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.http.HttpClient;
 
@@ -62,6 +64,7 @@ import org.jasig.cas.client.validation.json.Cas30JsonServiceTicketValidator;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -318,6 +321,13 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
         return new DefaultTicketRegistry(storageMap, cipher);
     }
 
+    @ConditionalOnMissingBean(name = "ticketRegistryLookupFilterPostProcessor")
+    @Bean
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.lookup-filter", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor ticketRegistryLookupFilterPostProcessor(final ObjectProvider<CasConfigurationProperties> casProperties) {
+        return new TicketRegistryLookupFilterPostProcessor(casProperties::getObject);
+    }
+
     @ConditionalOnMissingBean(name = "defaultTicketRegistrySupport")
     @Bean
     public TicketRegistrySupport defaultTicketRegistrySupport() {
@@ -364,16 +374,10 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
         return new PseudoPlatformTransactionManager();
     }
 
-    @RefreshScope
     @Bean
     @ConditionalOnMissingBean(name = "protocolTicketCipherExecutor")
     public CipherExecutor protocolTicketCipherExecutor() {
-        val crypto = casProperties.getTicket().getCrypto();
-        if (crypto.isEnabled()) {
-            return CipherExecutorUtils.newStringCipherExecutor(crypto, ProtocolTicketCipherExecutor.class);
-        }
-        LOGGER.trace("Protocol tickets generated by CAS are not signed/encrypted.");
-        return CipherExecutor.noOp();
+        return new RefreshableCipherExecutor<>("protocolTicketCipherExecutor", this::buildProtocolTicketCipherExecutor);
     }
 
     @Override
@@ -419,4 +423,13 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
         }
         return new Cas30ServiceTicketValidator(prefix);
     }
+
+    private CipherExecutor buildProtocolTicketCipherExecutor() {
+        val crypto = casProperties.getTicket().getCrypto();
+        if (crypto.isEnabled()) {
+            return CipherExecutorUtils.newStringCipherExecutor(crypto, ProtocolTicketCipherExecutor.class);
+        }
+        LOGGER.trace("Protocol tickets generated by CAS are not signed/encrypted.");
+        return CipherExecutor.noOp();
+    }
 }
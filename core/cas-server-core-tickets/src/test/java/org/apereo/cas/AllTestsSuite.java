@@ -33,6 +33,7 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleanerTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupportTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryTests;
 import org.apereo.cas.ticket.registry.DistributedTicketRegistryTests;
+import org.apereo.cas.ticket.registry.TimePartitionedTicketIdFilterTests;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManagerTests;
 import org.apereo.cas.util.DefaultUniqueTicketIdGeneratorTests;
 import org.apereo.cas.util.GroovyUniqueTicketIdGeneratorTests;
@@ -63,6 +64,7 @@ import org.junit.platform.suite.api.Suite;
     TicketGrantingTicketExpirationPolicyTests.class,
     TimeoutExpirationPolicyTests.class,
     DefaultTicketRegistryTests.class,
+    TimePartitionedTicketIdFilterTests.class,
     CachingTicketRegistryTests.class,
     DistributedTicketRegistryTests.class,
     Cas10ProxyHandlerTests.class,
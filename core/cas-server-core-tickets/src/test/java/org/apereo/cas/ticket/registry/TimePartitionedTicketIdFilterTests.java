@@ -0,0 +1,160 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link TimePartitionedTicketIdFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Tickets")
+public class TimePartitionedTicketIdFilterTests {
+
+    @Test
+    public void verifyFilterIsNotAuthoritativeUntilReady() {
+        val filter = new TimePartitionedTicketIdFilter(Duration.ofHours(1), 4, 1000, 0.01, List.of("ST", "TGT"));
+        assertTrue(filter.mightContain("ST-1-unknown"));
+        filter.markReady();
+        assertFalse(filter.mightContain("ST-1-unknown"));
+        filter.put("ST-1-known");
+        assertTrue(filter.mightContain("ST-1-known"));
+        assertTrue(filter.mightContain("OC-1-unfiltered"));
+        assertTrue(filter.mightContain("unknown"));
+    }
+
+    @Test
+    public void verifyPartitionsExpire() {
+        val clock = new MutableClock();
+        val filter = new TimePartitionedTicketIdFilter(Duration.ofMinutes(60), 4, 1000, 0.01, List.of("TGT"), clock);
+        filter.markReady();
+        filter.put("TGT-1-first");
+        clock.advance(Duration.ofMinutes(30));
+        filter.put("TGT-2-second");
+        assertTrue(filter.mightContain("TGT-1-first"));
+        clock.advance(Duration.ofMinutes(45));
+        assertTrue(filter.mightContain("TGT-2-second"));
+        assertFalse(filter.mightContain("TGT-1-first"));
+        clock.advance(Duration.ofMinutes(61));
+        assertFalse(filter.mightContain("TGT-2-second"));
+        assertTrue(filter.getPartitionCount() <= 6);
+    }
+
+    @Test
+    public void verifyRegistryRejectsUnknownTickets() {
+        val registry = new DefaultTicketRegistry(new ConcurrentHashMap<>(), CipherExecutor.noOp());
+        val filter = new TimePartitionedTicketIdFilter(Duration.ofHours(8), 4, 1000, 0.01, List.of("ST", "TGT"));
+        registry.setTicketIdFilter(filter);
+
+        val tgt = new MockTicketGrantingTicket(UUID.randomUUID().toString());
+        registry.addTicket(tgt);
+        filter.markReady();
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt);
+        registry.addTicket(st);
+
+        assertNotNull(registry.getTicket(tgt.getId()));
+        assertNotNull(registry.getTicket(st.getId()));
+        assertNull(registry.getTicket("ST-987654"));
+        assertEquals(0, registry.deleteTicket("TGT-987654"));
+    }
+
+    @Test
+    public void verifyFilterOnlyJudgesTicketsOfIssuer() {
+        val clock = new MutableClock();
+        val filter = new TimePartitionedTicketIdFilter(Duration.ofHours(1), 4, 1000, 0.01, List.of("ST", "TGT"), "cas01", clock);
+        filter.markReadyAfter(Duration.ofHours(1));
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("ST-1-unknown-cas01"));
+        clock.advance(Duration.ofHours(1));
+        assertTrue(filter.isReady());
+        assertFalse(filter.mightContain("ST-1-unknown-cas01"));
+        assertTrue(filter.mightContain("ST-1-unknown-cas02"));
+        assertTrue(filter.mightContain("ST-1-unknown-xcas01"));
+        filter.put("TGT-1-known-cas01");
+        assertTrue(filter.mightContain("TGT-1-known-cas01"));
+    }
+
+    @Test
+    public void verifyFilterIsScopedToRegistries() {
+        val properties = new CasConfigurationProperties();
+        properties.getHost().setName("cas01");
+        val postProcessor = new TicketRegistryLookupFilterPostProcessor(() -> properties);
+        val registry = new DefaultTicketRegistry(new ConcurrentHashMap<>(), CipherExecutor.noOp());
+        postProcessor.postProcessAfterInitialization(registry, "ticketRegistry");
+        assertNotNull(registry.ticketIdFilter);
+        assertNull(registry.ticketIdFilter.getIssuerSuffix());
+        assertEquals(Duration.ofHours(8), registry.ticketIdFilter.getWindow());
+
+        val remote = mock(AbstractTicketRegistry.class);
+        postProcessor.postProcessAfterInitialization(remote, "ticketRegistry");
+        verify(remote).setTicketIdFilter(argThat(filter -> "cas01".equals(filter.getIssuerSuffix()) && !filter.isReady()));
+    }
+
+    @Test
+    public void verifyFilterWindowCoversTicketLifetime() {
+        val properties = new CasConfigurationProperties();
+        val postProcessor = new TicketRegistryLookupFilterPostProcessor(() -> properties);
+        properties.getTicket().getTgt().getRememberMe().setEnabled(true);
+        val registry = new DefaultTicketRegistry(new ConcurrentHashMap<>(), CipherExecutor.noOp());
+        postProcessor.postProcessAfterInitialization(registry, "ticketRegistry");
+        assertEquals(Duration.ofDays(14), registry.ticketIdFilter.getWindow());
+
+        properties.getTicket().getRegistry().getLookupFilter().setWindow("PT8H");
+        assertThrows(BeanCreationException.class, () -> postProcessor.postProcessAfterInitialization(registry, "ticketRegistry"));
+
+        properties.getTicket().getTgt().getRememberMe().setEnabled(false);
+        properties.getTicket().getTgt().getTimeout().setMaxTimeToLiveInSeconds(600);
+        assertTrue(TicketRegistryLookupFilterPostProcessor.getLongestTicketLifetime(properties.getTicket()).isEmpty());
+        assertThrows(BeanCreationException.class, () -> postProcessor.postProcessAfterInitialization(registry, "ticketRegistry"));
+    }
+
+    private static class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+
+        void advance(final Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -17,9 +19,12 @@ import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -29,11 +34,21 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This is {@link HttpUtils}.
+ * Requests are executed by a single, shared HTTP client whose connection pool
+ * keeps connections alive and limits the number of connections per host, so that
+ * connections to the same endpoint are reused across requests. Callers are expected to
+ * {@link #close(HttpResponse)} responses once they are processed, to return connections to the pool.
+ * Execution statistics are recorded per endpoint, and are available via {@link #getEndpointStatistics()}.
+ * Statistics are kept for a bounded number of endpoints, and those of the least recently used endpoints are dropped first.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -53,7 +68,25 @@ public class HttpUtils {
 
     private static final int SOCKET_TIMEOUT_IN_MILLISECONDS = 10 * 1000;
 
-    @SuperBuilder
+    private static final long KEEP_ALIVE_IN_MILLISECONDS = 30 * 1000;
+
+    private static final long MAX_IDLE_TIME_IN_SECONDS = 30;
+
+    private static final int HTTP_SERVER_ERROR = 500;
+
+    private static final int MAX_ENDPOINT_STATISTICS = 500;
+
+    private static final RequestConfig REQUEST_CONFIG = RequestConfig.custom()
+        .setConnectTimeout(CONNECT_TIMEOUT_IN_MILLISECONDS)
+        .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_IN_MILLISECONDS)
+        .setSocketTimeout(SOCKET_TIMEOUT_IN_MILLISECONDS)
+        .build();
+
+    private static final Cache<String, HttpEndpointStatistics> ENDPOINT_STATISTICS = Caffeine.newBuilder()
+        .maximumSize(MAX_ENDPOINT_STATISTICS)
+        .build();
+
+    @SuperBuilder(toBuilder = true)
     @Getter
     public static class HttpExecutionRequest {
         @NonNull
@@ -104,25 +137,40 @@ public class HttpUtils {
      * @return the http response
      */
     public static HttpResponse execute(final HttpExecutionRequest execution) {
+        var statistics = (HttpEndpointStatistics) null;
+        val startTime = System.nanoTime();
         try {
             val uri = buildHttpUri(execution.getUrl().trim(), execution.getParameters());
+            statistics = ENDPOINT_STATISTICS.get(getEndpoint(uri), k -> new HttpEndpointStatistics());
             val request = getHttpRequestByMethod(execution.getMethod().name().toLowerCase().trim(), execution.getEntity(), uri);
             execution.getHeaders().forEach((k, v) -> request.addHeader(k, v.toString()));
             prepareHttpRequest(request, execution);
-            val builder = getHttpClientBuilder();
             if (StringUtils.isNotBlank(execution.getProxyUrl())) {
                 val proxyEndpoint = new URL(execution.getProxyUrl());
                 val proxy = new HttpHost(proxyEndpoint.getHost(), proxyEndpoint.getPort(), proxyEndpoint.getProtocol());
-                builder.setProxy(proxy);
+                request.setConfig(RequestConfig.copy(REQUEST_CONFIG).setProxy(proxy).build());
             }
-            val client = builder.build();
-            return client.execute(request);
+            val response = HttpClientHolder.INSTANCE.execute(request);
+            statistics.record(System.nanoTime() - startTime, response.getStatusLine().getStatusCode() >= HTTP_SERVER_ERROR);
+            return response;
         } catch (final Exception e) {
+            if (statistics != null) {
+                statistics.record(System.nanoTime() - startTime, true);
+            }
             LoggingUtils.error(LOGGER, e);
         }
         return null;
     }
 
+    /**
+     * Gets execution statistics, keyed by endpoint scheme, host and port.
+     *
+     * @return the endpoint statistics
+     */
+    public static Map<String, HttpEndpointStatistics> getEndpointStatistics() {
+        return Map.copyOf(ENDPOINT_STATISTICS.asMap());
+    }
+
     /**
      * Close the response.
      *
@@ -172,8 +220,12 @@ public class HttpUtils {
         return acceptHeaders;
     }
 
+    private static String getEndpoint(final URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : StringUtils.EMPTY);
+    }
+
     @SneakyThrows
-    private static HttpUriRequest getHttpRequestByMethod(final String method, final String entity, final URI uri) {
+    private static HttpRequestBase getHttpRequestByMethod(final String method, final String entity, final URI uri) {
         if ("post".equalsIgnoreCase(method)) {
             val request = new HttpPost(uri);
             if (StringUtils.isNotBlank(entity)) {
@@ -214,17 +266,89 @@ public class HttpUtils {
         return uriBuilder.build();
     }
 
-    private HttpClientBuilder getHttpClientBuilder() {
-        val requestConfig = RequestConfig.custom();
-        requestConfig.setConnectTimeout(CONNECT_TIMEOUT_IN_MILLISECONDS);
-        requestConfig.setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_IN_MILLISECONDS);
-        requestConfig.setSocketTimeout(SOCKET_TIMEOUT_IN_MILLISECONDS);
-
+    /**
+     * Build the shared http client. Cookie management and authentication caching are disabled,
+     * as the client is shared by requests on behalf of unrelated users and endpoints.
+     *
+     * @return the http client
+     */
+    private static CloseableHttpClient buildHttpClient() {
         return HttpClientBuilder
             .create()
             .useSystemProperties()
             .setMaxConnTotal(MAX_CONNECTIONS)
             .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
-            .setDefaultRequestConfig(requestConfig.build());
+            .setDefaultRequestConfig(REQUEST_CONFIG)
+            .setKeepAliveStrategy((response, context) -> {
+                val keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return keepAlive > 0 ? Math.min(keepAlive, KEEP_ALIVE_IN_MILLISECONDS) : KEEP_ALIVE_IN_MILLISECONDS;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(MAX_IDLE_TIME_IN_SECONDS, TimeUnit.SECONDS)
+            .disableCookieManagement()
+            .disableAuthCaching()
+            .build();
+    }
+
+    private static class HttpClientHolder {
+        private static final CloseableHttpClient INSTANCE = buildHttpClient();
+    }
+
+    /**
+     * Execution statistics of an http endpoint.
+     */
+    public static class HttpEndpointStatistics {
+        private final LongAdder executionCount = new LongAdder();
+
+        private final LongAdder errorCount = new LongAdder();
+
+        private final LongAdder executionTime = new LongAdder();
+
+        private final LongAccumulator maxExecutionTime = new LongAccumulator(Long::max, 0);
+
+        private void record(final long elapsed, final boolean error) {
+            executionCount.increment();
+            executionTime.add(elapsed);
+            maxExecutionTime.accumulate(elapsed);
+            if (error) {
+                errorCount.increment();
+            }
+        }
+
+        /**
+         * Gets the number of requests executed against the endpoint.
+         *
+         * @return the execution count
+         */
+        public long getExecutionCount() {
+            return executionCount.sum();
+        }
+
+        /**
+         * Gets the number of requests that failed or produced a server error.
+         *
+         * @return the error count
+         */
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+
+        /**
+         * Gets the total time spent executing requests.
+         *
+         * @return the total execution time
+         */
+        public Duration getTotalExecutionTime() {
+            return Duration.ofNanos(executionTime.sum());
+        }
+
+        /**
+         * Gets the longest time spent executing a request.
+         *
+         * @return the max execution time
+         */
+        public Duration getMaxExecutionTime() {
+            return Duration.ofNanos(maxExecutionTime.get());
+        }
     }
 }
@@ -0,0 +1,294 @@
+package org.apereo.cas.util.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link MessageBatcher} that collects messages published within a short window
+ * and hands them over to a consumer as a single batch. Messages are keyed, and a message replaces
+ * any pending message with the same key, so a batch carries only the latest message per key.
+ * Messages without a key are never replaced. Batches are handed over one at a time, in order,
+ * so messages with the same key are always delivered in the order they were submitted.
+ * If the consumer fails to accept a batch, its messages are put back ahead of messages submitted since,
+ * unless a newer message with the same key is already pending, and are retried with the next batch.
+ * Messages that no longer fit within the maximum batch size are dropped. Failed batches and dropped
+ * messages are counted, so that the loss is visible in reported statistics.
+ * Batchers that are in use, i.e. not yet destroyed, are available via {@link #getInstances()}
+ * so that their statistics may be reported.
+ *
+ * @author Misagh Moayyed
+ * @param <K> the type of message keys
+ * @param <M> the type of messages
+ * @since 6.4.0
+ */
+@Slf4j
+public class MessageBatcher<K, M> implements DisposableBean {
+    private static final Set<MessageBatcher<?, ?>> INSTANCES = ConcurrentHashMap.newKeySet();
+
+    @Getter
+    private final String name;
+
+    private final Duration window;
+
+    private final int maximumBatchSize;
+
+    private final Consumer<List<M>> consumer;
+
+    private final Object flushLock = new Object();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder batchCount = new LongAdder();
+
+    private final LongAdder messageCount = new LongAdder();
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    private final LongAdder batchLatency = new LongAdder();
+
+    private final LongAdder failedBatchCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Long::max, 0);
+
+    private final LongAccumulator maxBatchLatency = new LongAccumulator(Long::max, 0);
+
+    private Map<Object, M> pending = new LinkedHashMap<>();
+
+    private long pendingSince;
+
+    public MessageBatcher(final String name, final Duration window, final int maximumBatchSize, final Consumer<List<M>> consumer) {
+        this.name = name;
+        this.window = window;
+        this.maximumBatchSize = Math.max(1, maximumBatchSize);
+        this.consumer = consumer;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            val thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        INSTANCES.add(this);
+    }
+
+    /**
+     * Gets the batchers that are in use.
+     *
+     * @return the batchers
+     */
+    public static Collection<MessageBatcher<?, ?>> getInstances() {
+        return new ArrayList<>(INSTANCES);
+    }
+
+    /**
+     * Submit a message for the next batch.
+     *
+     * @param key     the key that identifies what the message refers to, or null
+     * @param message the message
+     */
+    public void submit(final K key, final M message) {
+        messageCount.increment();
+        var flushNow = false;
+        var scheduleFlush = false;
+        synchronized (this) {
+            val previous = pending.put(key == null ? new UnkeyedMessage(sequence.incrementAndGet()) : key, message);
+            if (previous != null) {
+                coalescedCount.increment();
+            }
+            if (pending.size() == 1 && previous == null) {
+                pendingSince = System.nanoTime();
+                scheduleFlush = true;
+            }
+            flushNow = pending.size() >= maximumBatchSize;
+        }
+        if (flushNow) {
+            flush();
+        } else if (scheduleFlush) {
+            executor.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Discard all pending messages.
+     */
+    public synchronized void clear() {
+        coalescedCount.add(pending.size());
+        pending.clear();
+    }
+
+    /**
+     * Hand the pending messages over to the consumer as a batch.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            val drained = drain();
+            if (drained == null) {
+                return;
+            }
+            val batch = new ArrayList<M>(drained.getLeft().values());
+            try {
+                consumer.accept(batch);
+            } catch (final Exception e) {
+                failedBatchCount.increment();
+                val dropped = requeue(drained.getLeft());
+                droppedCount.add(dropped);
+                LOGGER.error("Unable to publish batch of [{}] message(s) from [{}]; [{}] message(s) are dropped and the rest are retried: [{}]",
+                    batch.size(), name, dropped, e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            } finally {
+                val latency = System.nanoTime() - drained.getRight();
+                batchCount.increment();
+                batchLatency.add(latency);
+                maxBatchLatency.accumulate(latency);
+                maxBatchSize.accumulate(batch.size());
+                LOGGER.debug("Published batch of [{}] message(s) from [{}] in [{}] ms", batch.size(), name,
+                    TimeUnit.NANOSECONDS.toMillis(latency));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of batches the consumer failed to accept.
+     *
+     * @return the failed batch count
+     */
+    public long getFailedBatchCount() {
+        return failedBatchCount.sum();
+    }
+
+    /**
+     * Gets the number of messages dropped after the consumer failed to accept them.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void destroy() {
+        INSTANCES.remove(this);
+        executor.shutdown();
+        flush();
+    }
+
+    /**
+     * Gets the number of batches handed over to the consumer.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Gets the number of submitted messages.
+     *
+     * @return the message count
+     */
+    public long getMessageCount() {
+        return messageCount.sum();
+    }
+
+    /**
+     * Gets the number of messages that were replaced or discarded before they were handed over.
+     *
+     * @return the coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Gets the size of the largest batch.
+     *
+     * @return the max batch size
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Gets the average time between the first message of a batch being submitted and the batch being handed over.
+     *
+     * @return the average batch latency
+     */
+    public Duration getAverageBatchLatency() {
+        val count = batchCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(batchLatency.sum() / count);
+    }
+
+    /**
+     * Gets the longest time between the first message of a batch being submitted and the batch being handed over.
+     *
+     * @return the max batch latency
+     */
+    public Duration getMaxBatchLatency() {
+        return Duration.ofNanos(maxBatchLatency.get());
+    }
+
+    private synchronized Pair<Map<Object, M>, Long> drain() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        val drained = Pair.of(pending, pendingSince);
+        pending = new LinkedHashMap<>();
+        return drained;
+    }
+
+    private synchronized long requeue(final Map<Object, M> failed) {
+        if (executor.isShutdown()) {
+            return failed.size();
+        }
+        val requeued = new LinkedHashMap<Object, M>();
+        var dropped = 0L;
+        for (val entry : failed.entrySet()) {
+            if (pending.containsKey(entry.getKey())) {
+                coalescedCount.increment();
+            } else if (requeued.size() + pending.size() >= maximumBatchSize) {
+                dropped++;
+            } else {
+                requeued.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!requeued.isEmpty()) {
+            val scheduleFlush = pending.isEmpty();
+            requeued.putAll(pending);
+            pending = requeued;
+            if (scheduleFlush) {
+                pendingSince = System.nanoTime();
+                executor.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        return dropped;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class UnkeyedMessage {
+        private final long sequence;
+    }
+}
@@ -51,6 +51,13 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
 
     private Key signingKey;
 
+    /**
+     * Key used to verify signatures, derived once from the signing key.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Key verificationKey;
+
     private Map<String, Object> customHeaders = new LinkedHashMap<>(MAP_SIZE);
 
     /**
@@ -85,6 +92,16 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
         return factory.getObject();
     }
 
+    /**
+     * Sets signing key, and resets the verification key derived from it.
+     *
+     * @param signingKey the signing key
+     */
+    public void setSigningKey(final Key signingKey) {
+        this.signingKey = signingKey;
+        this.verificationKey = null;
+    }
+
     @Override
     public boolean isEnabled() {
         return this.signingKey != null;
@@ -157,18 +174,33 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
             return value;
         }
         try {
-            if (this.signingKey instanceof RSAPrivateKey) {
-                val privKey = RSAPrivateKey.class.cast(this.signingKey);
-                val keySpec = new RSAPublicKeySpec(privKey.getModulus(), RSA_PUBLIC_KEY_EXPONENT);
-                val pubKey = KeyFactory.getInstance("RSA").generatePublic(keySpec);
-                return EncodingUtils.verifyJwsSignature(pubKey, value);
+            var key = this.verificationKey;
+            if (key == null) {
+                key = getVerificationKeyFor(this.signingKey);
+                this.verificationKey = key;
             }
-            return EncodingUtils.verifyJwsSignature(this.signingKey, value);
+            return EncodingUtils.verifyJwsSignature(key, value);
         } catch (final Exception e) {
             throw new IllegalArgumentException(e);
         }
     }
 
+    /**
+     * Gets the key used to verify signatures produced by the signing key.
+     *
+     * @param signingKey the signing key
+     * @return the verification key
+     * @throws Exception the exception
+     */
+    protected Key getVerificationKeyFor(final Key signingKey) throws Exception {
+        if (signingKey instanceof RSAPrivateKey) {
+            val privKey = RSAPrivateKey.class.cast(signingKey);
+            val keySpec = new RSAPublicKeySpec(privKey.getModulus(), RSA_PUBLIC_KEY_EXPONENT);
+            return KeyFactory.getInstance("RSA").generatePublic(keySpec);
+        }
+        return signingKey;
+    }
+
     /**
      * Gets signing algorithm for.
      *
@@ -1,6 +1,7 @@
 package org.apereo.cas.util.cipher;
 
 import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.crypto.DecryptionException;
 import org.apereo.cas.util.gen.Base64RandomStringGenerator;
 
@@ -14,10 +15,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.OctJwkGenerator;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
 
 /**
  * This is {@link BaseBinaryCipherExecutor}.
@@ -25,6 +30,10 @@ import java.nio.charset.StandardCharsets;
  * A implementation that is based on algorithms
  * provided by the default platform's JCE. By default AES encryption is
  * used.
+ * <p>
+ * Values are encrypted using AES/GCM with a random nonce per message that is prepended to the encrypted value.
+ * Cipher instances are prepared once per thread and are re-initialized for every message. Values that were
+ * encrypted with the fixed initialization vector used by previous versions can still be decoded.
  *
  * @author Misagh Moayyed
  * @since 4.2
@@ -39,6 +48,14 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
 
     private static final IvParameterSpec IV_SPEC = new IvParameterSpec(new byte[IV_SPEC_LENGTH]);
 
+    private static final int GCM_NONCE_LENGTH = 12;
+
+    private static final int GCM_TAG_LENGTH_BITS = 128;
+
+    private static final SecureRandom RANDOM = RandomUtils.getNativeInstance();
+
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(BaseBinaryCipherExecutor::newCipher);
+
     /**
      * Name of the cipher/component whose keys are generated here.
      */
@@ -65,19 +82,31 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
     @Override
     @SneakyThrows
     public byte[] encode(final byte[] value, final Object[] parameters) {
-        val aesCipher = Cipher.getInstance(CIPHER_ALGORITHM);
-        aesCipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey, IV_SPEC);
-        val result = aesCipher.doFinal(value);
-        return sign(result);
+        val nonce = new byte[GCM_NONCE_LENGTH];
+        RANDOM.nextBytes(nonce);
+        val aesCipher = CIPHERS.get();
+        aesCipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, nonce));
+        val result = new byte[GCM_NONCE_LENGTH + aesCipher.getOutputSize(value.length)];
+        System.arraycopy(nonce, 0, result, 0, GCM_NONCE_LENGTH);
+        val length = aesCipher.doFinal(value, 0, value.length, result, GCM_NONCE_LENGTH);
+        return sign(length + GCM_NONCE_LENGTH == result.length ? result : Arrays.copyOf(result, length + GCM_NONCE_LENGTH));
     }
 
     @Override
     public byte[] decode(final byte[] value, final Object[] parameters) {
         try {
             val verifiedValue = verifySignature(value);
-            val aesCipher = Cipher.getInstance(CIPHER_ALGORITHM);
-            aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey, IV_SPEC);
-            return aesCipher.doFinal(verifiedValue);
+            if (verifiedValue.length > GCM_NONCE_LENGTH) {
+                try {
+                    val aesCipher = CIPHERS.get();
+                    aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey,
+                        new GCMParameterSpec(GCM_TAG_LENGTH_BITS, verifiedValue, 0, GCM_NONCE_LENGTH));
+                    return aesCipher.doFinal(verifiedValue, GCM_NONCE_LENGTH, verifiedValue.length - GCM_NONCE_LENGTH);
+                } catch (final AEADBadTagException e) {
+                    LOGGER.trace("Unable to decrypt value with a message nonce; attempting legacy decryption");
+                }
+            }
+            return decodeLegacy(verifiedValue);
         } catch (final Exception e) {
             if (LOGGER.isTraceEnabled()) {
                 throw new DecryptionException(e);
@@ -86,6 +115,11 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
         }
     }
 
+    @SneakyThrows
+    private static Cipher newCipher() {
+        return Cipher.getInstance(CIPHER_ALGORITHM);
+    }
+
     private static String generateOctetJsonWebKeyOfSize(final int size) {
         val octetKey = OctJwkGenerator.generateJwk(size);
         val params = octetKey.toParams(JsonWebKey.OutputControlLevel.INCLUDE_SYMMETRIC);
@@ -132,6 +166,20 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
         configureSigningKey(signingKeyToUse);
     }
 
+    /**
+     * Decrypt a value that was encrypted with the fixed initialization vector
+     * used by previous versions.
+     *
+     * @param value the value
+     * @return the decrypted value
+     * @throws Exception the exception
+     */
+    private byte[] decodeLegacy(final byte[] value) throws Exception {
+        val aesCipher = newCipher();
+        aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey, IV_SPEC);
+        return aesCipher.doFinal(value);
+    }
+
     /**
      * Gets encryption key setting.
      *
@@ -0,0 +1,65 @@
+package org.apereo.cas.util.cipher;
+
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.spring.RefreshableComponent;
+
+import java.security.Key;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link RefreshableCipherExecutor} that delegates to a cipher executor
+ * built from CAS settings, which is rebuilt once refreshable beans are refreshed.
+ * Cipher executors sit on the path of every login and ticket validation, and this
+ * avoids the per-call overhead of reaching them through refresh-scoped proxies.
+ *
+ * @author Misagh Moayyed
+ * @param <I> the input type
+ * @param <O> the output type
+ * @since 6.4.0
+ */
+public class RefreshableCipherExecutor<I, O> extends RefreshableComponent<CipherExecutor<I, O>> implements CipherExecutor<I, O> {
+    public RefreshableCipherExecutor(final String componentName, final Supplier<CipherExecutor<I, O>> factory) {
+        super(componentName, factory);
+    }
+
+    @Override
+    public O encode(final I value, final Object[] parameters) {
+        return get().encode(value, parameters);
+    }
+
+    @Override
+    public O encode(final I value) {
+        return get().encode(value);
+    }
+
+    @Override
+    public O decode(final I value, final Object[] parameters) {
+        return get().decode(value, parameters);
+    }
+
+    @Override
+    public O decode(final I value) {
+        return get().decode(value);
+    }
+
+    @Override
+    public Map<String, Object> decode(final Map<String, Object> properties, final Object[] parameters) {
+        return get().decode(properties, parameters);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return get().isEnabled();
+    }
+
+    @Override
+    public String getName() {
+        return get().getName();
+    }
+
+    @Override
+    public Key getSigningKey() {
+        return get().getSigningKey();
+    }
+}
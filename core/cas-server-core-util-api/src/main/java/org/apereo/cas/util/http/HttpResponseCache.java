@@ -0,0 +1,410 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceProperty.RegisteredServiceProperties;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.LoggingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link HttpResponseCache} that executes http requests on behalf of REST-backed policies,
+ * and caches their responses for a limited duration. Responses are keyed by the request method, url,
+ * parameters, headers and body, which typically carry the principal and the service in question.
+ * REST-backed triggers, bypass evaluators, interrupt inquirers and theme resolvers cache responses
+ * for as long as the registered service allows via {@link RegisteredServiceProperties#HTTP_RESPONSE_CACHE_DURATION}.
+ * <p>
+ * The duration requested by the caller is the upper bound for how long a response stays fresh;
+ * a {@code max-age} directive in the response may shorten it, {@code no-cache} requires revalidation
+ * on every use and {@code no-store} prevents caching altogether. Once a response goes stale, it is
+ * revalidated via {@code If-None-Match} and {@code If-Modified-Since} when the response carried an
+ * {@code ETag} or {@code Last-Modified} header. Responses that carry a {@code stale-while-revalidate}
+ * directive continue to be served for that long after they go stale, while they are revalidated in the background;
+ * callers may also allow a minimum stale window of their own. A stale response continues to be served if its revalidation
+ * fails. Concurrent requests for the same entry share a single execution. Background revalidations run
+ * on a dedicated, bounded pool of threads; once that is saturated, stale responses are served without revalidation
+ * until a later request finds room.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class HttpResponseCache {
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final int DEFAULT_REVALIDATION_THREADS = 4;
+
+    private static final int DEFAULT_REVALIDATION_QUEUE_SIZE = 1_000;
+
+    private static final HttpResponseCache INSTANCE = new HttpResponseCache(DEFAULT_MAXIMUM_SIZE, Clock.systemUTC());
+
+    private final Cache<String, CachedHttpResponse> cache;
+
+    private final Map<String, CompletableFuture<CachedHttpResponse>> executions = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+
+    private final ExecutorService revalidationExecutor;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder staleHitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder revalidationCount = new LongAdder();
+
+    public HttpResponseCache(final long maximumSize, final Clock clock) {
+        this(maximumSize, clock, newRevalidationExecutor(DEFAULT_REVALIDATION_THREADS, DEFAULT_REVALIDATION_QUEUE_SIZE));
+    }
+
+    public HttpResponseCache(final long maximumSize, final Clock clock, final ExecutorService revalidationExecutor) {
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.clock = clock;
+        this.revalidationExecutor = revalidationExecutor;
+    }
+
+    /**
+     * Gets the shared instance.
+     *
+     * @return the instance
+     */
+    public static HttpResponseCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Parse the duration for which responses may be cached,
+     * as specified by a policy or a registered service property.
+     *
+     * @param duration the duration, i.e. {@code PT5M}
+     * @return the duration, or zero if blank or invalid.
+     */
+    public static Duration toDuration(final String duration) {
+        try {
+            return StringUtils.isBlank(duration) ? Duration.ZERO : Duration.parse(duration.trim());
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to parse response cache duration [{}]", duration);
+            return Duration.ZERO;
+        }
+    }
+
+    /**
+     * Gets the duration for which responses may be cached on behalf of the registered service,
+     * via {@link RegisteredServiceProperties#HTTP_RESPONSE_CACHE_DURATION}.
+     *
+     * @param registeredService the registered service
+     * @return the duration, or zero if the service does not allow caching.
+     */
+    public static Duration toDuration(final RegisteredService registeredService) {
+        val property = RegisteredServiceProperties.HTTP_RESPONSE_CACHE_DURATION.getPropertyValue(registeredService);
+        return property != null ? toDuration(property.getValue()) : Duration.ZERO;
+    }
+
+    /**
+     * Build the executor that revalidates stale responses in the background.
+     * Threads are named after the cache, and are not kept alive once idle.
+     * Revalidations that do not fit the queue are rejected.
+     *
+     * @param threads   the maximum number of threads
+     * @param queueSize the maximum number of pending revalidations
+     * @return the executor
+     */
+    public static ExecutorService newRevalidationExecutor(final int threads, final int queueSize) {
+        val count = new AtomicInteger();
+        val executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(queueSize), runnable -> {
+            val thread = new Thread(runnable, "HttpResponseCacheRevalidation-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static String getCacheKey(final HttpUtils.HttpExecutionRequest request) {
+        val key = new StringBuilder()
+            .append(request.getMethod()).append(' ')
+            .append(request.getUrl().trim()).append('|')
+            .append(new TreeMap<>(request.getParameters())).append('|')
+            .append(new TreeMap<>(request.getHeaders())).append('|')
+            .append(StringUtils.defaultString(request.getBasicAuthUsername())).append('|')
+            .append(StringUtils.defaultString(request.getEntity()));
+        return DigestUtils.sha256(key.toString());
+    }
+
+    private static long getDirective(final String cacheControl, final String directive) {
+        for (val value : StringUtils.split(cacheControl.toLowerCase(Locale.ENGLISH), ',')) {
+            val token = value.trim();
+            if (token.startsWith(directive + '=')) {
+                try {
+                    return Long.parseLong(StringUtils.remove(token.substring(directive.length() + 1), '"'));
+                } catch (final NumberFormatException e) {
+                    LOGGER.trace("Unable to parse cache control directive [{}]", token);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasDirective(final String cacheControl, final String directive) {
+        for (val value : StringUtils.split(cacheControl.toLowerCase(Locale.ENGLISH), ',')) {
+            if (value.trim().equals(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getHeader(final HttpResponse response, final String name) {
+        val header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    private static Duration getFreshness(final String cacheControl, final Duration duration) {
+        if (hasDirective(cacheControl, "no-cache")) {
+            return Duration.ZERO;
+        }
+        val maxAge = getDirective(cacheControl, "max-age");
+        return maxAge >= 0 && Duration.ofSeconds(maxAge).compareTo(duration) < 0 ? Duration.ofSeconds(maxAge) : duration;
+    }
+
+    private static Duration getStaleness(final String cacheControl, final Duration staleDuration) {
+        val staleness = getDirective(cacheControl, "stale-while-revalidate");
+        return staleness > 0 && Duration.ofSeconds(staleness).compareTo(staleDuration) > 0 ? Duration.ofSeconds(staleness) : staleDuration;
+    }
+
+    /**
+     * Execute the request, or produce a cached response if one is available.
+     * A zero or negative duration executes the request without caching the response.
+     *
+     * @param request  the request
+     * @param duration the duration for which the response may be cached
+     * @return the response, or null if the request could not be executed.
+     */
+    public CachedHttpResponse execute(final HttpUtils.HttpExecutionRequest request, final Duration duration) {
+        return execute(getCacheKey(request), request, duration, Duration.ZERO);
+    }
+
+    /**
+     * Execute the request, or produce the response cached under the given key if one is available.
+     * A zero or negative duration executes the request without caching the response.
+     *
+     * @param key           the cache key, which must identify the response of the request
+     * @param request       the request
+     * @param duration      the duration for which the response may be cached
+     * @param staleDuration the duration for which a stale response may be served, while it is revalidated
+     * @return the response, or null if the request could not be executed.
+     */
+    public CachedHttpResponse execute(final String key, final HttpUtils.HttpExecutionRequest request,
+                                      final Duration duration, final Duration staleDuration) {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            return fetch(request, null, Duration.ZERO, Duration.ZERO);
+        }
+        val cached = cache.getIfPresent(key);
+        val now = clock.instant();
+        if (cached != null && now.isBefore(cached.getExpirationTime())) {
+            hitCount.increment();
+            return cached;
+        }
+        if (cached != null && now.isBefore(cached.getStaleExpirationTime())) {
+            staleHitCount.increment();
+            revalidate(key, request, cached, duration, staleDuration, true);
+            return cached;
+        }
+        missCount.increment();
+        return revalidate(key, request, cached, duration, staleDuration, false).join();
+    }
+
+    /**
+     * Gets the number of requests answered by a fresh cached response.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of requests answered by a stale cached response, while revalidating.
+     *
+     * @return the stale hit count
+     */
+    public long getStaleHitCount() {
+        return staleHitCount.sum();
+    }
+
+    /**
+     * Gets the number of requests that had to wait for a response to be fetched or revalidated.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the number of cached responses confirmed as unmodified by the endpoint.
+     *
+     * @return the revalidation count
+     */
+    public long getRevalidationCount() {
+        return revalidationCount.sum();
+    }
+
+    /**
+     * Gets the approximate number of cached responses.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private CompletableFuture<CachedHttpResponse> revalidate(final String key, final HttpUtils.HttpExecutionRequest request,
+                                                             final CachedHttpResponse cached, final Duration duration,
+                                                             final Duration staleDuration, final boolean background) {
+        val future = new CompletableFuture<CachedHttpResponse>();
+        val existing = executions.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        val execution = (Runnable) () -> {
+            try {
+                val response = fetch(request, cached, duration, staleDuration);
+                if ((response == null || response.getStatus() >= HttpStatus.SC_INTERNAL_SERVER_ERROR)
+                    && cached != null && clock.instant().isBefore(cached.getStaleExpirationTime())) {
+                    LOGGER.debug("Unable to revalidate cached response for [{}]; the stale response is kept", request.getUrl());
+                    future.complete(cached);
+                    return;
+                }
+                if (response != null && response.isCacheable()) {
+                    cache.put(key, response);
+                }
+                future.complete(response);
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+                future.complete(null);
+            } finally {
+                executions.remove(key, future);
+            }
+        };
+        if (background) {
+            try {
+                revalidationExecutor.execute(execution);
+            } catch (final RejectedExecutionException e) {
+                LOGGER.debug("Revalidation of cached response for [{}] is skipped; too many revalidations are pending", request.getUrl());
+                executions.remove(key, future);
+                future.complete(cached);
+            }
+        } else {
+            execution.run();
+        }
+        return future;
+    }
+
+    private CachedHttpResponse fetch(final HttpUtils.HttpExecutionRequest request, final CachedHttpResponse cached,
+                                     final Duration duration, final Duration staleDuration) {
+        var execution = request;
+        if (cached != null && (cached.getEtag() != null || cached.getLastModified() != null)) {
+            val headers = new LinkedHashMap<>(request.getHeaders());
+            if (cached.getEtag() != null) {
+                headers.put(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                headers.put(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+            execution = request.toBuilder().headers(headers).build();
+        }
+        HttpResponse response = null;
+        try {
+            response = HttpUtils.execute(execution);
+            if (response == null) {
+                return null;
+            }
+            val status = response.getStatusLine().getStatusCode();
+            val cacheControl = StringUtils.defaultString(getHeader(response, HttpHeaders.CACHE_CONTROL));
+            if (status == HttpStatus.SC_NOT_MODIFIED && cached != null) {
+                LOGGER.trace("Cached response for [{}] is not modified", request.getUrl());
+                revalidationCount.increment();
+                return cached.renew(getFreshness(cacheControl, duration), getStaleness(cacheControl, staleDuration), clock.instant());
+            }
+            val body = response.getEntity() != null
+                ? IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)
+                : null;
+            val cacheable = !duration.isZero() && status != HttpStatus.SC_NOT_MODIFIED
+                && status < HttpStatus.SC_INTERNAL_SERVER_ERROR && !hasDirective(cacheControl, "no-store");
+            return new CachedHttpResponse(status, body, getHeader(response, HttpHeaders.ETAG),
+                getHeader(response, HttpHeaders.LAST_MODIFIED), cacheable, Instant.EPOCH, Instant.EPOCH)
+                .renew(getFreshness(cacheControl, duration), getStaleness(cacheControl, staleDuration), clock.instant());
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            HttpUtils.close(response);
+        }
+        return null;
+    }
+
+    /**
+     * The cached response.
+     */
+    @Getter
+    @ToString(exclude = "body")
+    @RequiredArgsConstructor
+    public static class CachedHttpResponse {
+        private final int status;
+
+        private final String body;
+
+        private final String etag;
+
+        private final String lastModified;
+
+        private final boolean cacheable;
+
+        private final Instant expirationTime;
+
+        private final Instant staleExpirationTime;
+
+        private CachedHttpResponse renew(final Duration freshness, final Duration staleness, final Instant now) {
+            val expiration = now.plus(freshness);
+            return new CachedHttpResponse(status, body, etag, lastModified, cacheable, expiration, expiration.plus(staleness));
+        }
+    }
+}
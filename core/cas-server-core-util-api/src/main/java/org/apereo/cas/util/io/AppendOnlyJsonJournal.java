@@ -0,0 +1,103 @@
+package org.apereo.cas.util.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link AppendOnlyJsonJournal} that records changes to a file-backed store
+ * as one JSON document per line, so that a change can be persisted by appending
+ * to the journal rather than rewriting the entire store. Owners of the journal are expected
+ * to replay its entries on top of the store when loaded, and to periodically compact
+ * the journal by rewriting the store and resetting the journal.
+ * <p>
+ * An incomplete trailing entry, typically left behind by an interrupted write, is ignored when the journal is read.
+ *
+ * @param <T> the type of journal entries
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AppendOnlyJsonJournal<T> {
+    @Getter
+    private final File file;
+
+    private final ObjectMapper objectMapper;
+
+    private final Class<T> entryType;
+
+    @Getter
+    private long entryCount;
+
+    /**
+     * Locate the journal file that accompanies the given file.
+     *
+     * @param file the file
+     * @return the journal file
+     */
+    public static File getJournalFileFor(final File file) {
+        return new File(file.getParentFile(), file.getName() + ".journal");
+    }
+
+    /**
+     * Append the entry to the journal.
+     *
+     * @param entry the entry
+     * @throws IOException the io exception
+     */
+    public synchronized void append(final T entry) throws IOException {
+        val line = objectMapper.writeValueAsString(entry) + System.lineSeparator();
+        Files.writeString(file.toPath(), line, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        entryCount++;
+    }
+
+    /**
+     * Read all entries recorded in the journal.
+     *
+     * @return the entries
+     * @throws IOException the io exception
+     */
+    public synchronized List<T> read() throws IOException {
+        val entries = new ArrayList<T>();
+        if (file.exists()) {
+            val lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            for (val line : lines) {
+                if (StringUtils.isNotBlank(line)) {
+                    try {
+                        entries.add(objectMapper.readValue(line, entryType));
+                    } catch (final IOException e) {
+                        LOGGER.warn("Unable to read journal entry from [{}]; skipping the remainder of the journal", file);
+                        LOGGER.debug(e.getMessage(), e);
+                        break;
+                    }
+                }
+            }
+        }
+        entryCount = entries.size();
+        LOGGER.trace("Read [{}] entries from journal [{}]", entryCount, file);
+        return entries;
+    }
+
+    /**
+     * Reset the journal, typically once its entries are compacted into the store.
+     *
+     * @throws IOException the io exception
+     */
+    public synchronized void reset() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        entryCount = 0;
+    }
+}
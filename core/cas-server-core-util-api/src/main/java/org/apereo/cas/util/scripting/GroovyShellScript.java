@@ -1,28 +1,57 @@
 package org.apereo.cas.util.scripting;
 
 import groovy.lang.Script;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This is {@link GroovyShellScript}.
+ * The script is compiled once into a script class, and every execution runs a new
+ * instance of that class with its own binding. Variables provided via {@link #setBinding(Map)}
+ * are kept per thread until the next execution, so a single instance may be shared and executed
+ * concurrently without synchronization.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Getter
+@Slf4j
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
-    private final transient Script groovyScript;
+    private final transient Class<? extends Script> groovyScriptClass;
+
     private final String script;
 
-    @SneakyThrows
+    private final boolean staticCompilation;
+
+    @Getter(AccessLevel.NONE)
+    private final transient ThreadLocal<Map<String, Object>> bindings = new ThreadLocal<>();
+
+    @Getter(AccessLevel.NONE)
+    private final transient LongAdder executionCount = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final transient LongAdder executionTime = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final transient LongAccumulator maxExecutionTime = new LongAccumulator(Long::max, 0);
+
     public GroovyShellScript(final String script) {
+        this(script, false);
+    }
+
+    public GroovyShellScript(final String script, final boolean staticCompilation) {
         this.script = script;
-        this.groovyScript = ScriptingUtils.parseGroovyShellScript(script);
+        this.staticCompilation = staticCompilation;
+        this.groovyScriptClass = ScriptingUtils.parseGroovyShellScriptClass(script, staticCompilation);
     }
 
     /**
@@ -59,8 +88,19 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
      */
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyShellScript(this.groovyScript, clazz);
+        val variables = bindings.get();
+        bindings.remove();
+        if (this.groovyScriptClass != null) {
+            val startTime = System.nanoTime();
+            try {
+                return ScriptingUtils.executeGroovyShellScript(this.groovyScriptClass, variables, clazz);
+            } finally {
+                val elapsed = System.nanoTime() - startTime;
+                executionCount.increment();
+                executionTime.add(elapsed);
+                maxExecutionTime.accumulate(elapsed);
+                LOGGER.trace("Executed groovy script [{}] in [{}] ns", script, elapsed);
+            }
         }
         return null;
     }
@@ -73,15 +113,48 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     @Override
     public void setBinding(final Map<String, Object> variables) {
         if (variables != null && !variables.isEmpty()) {
-            val binding = this.groovyScript.getBinding();
-            variables.forEach(binding::setVariable);
+            var current = bindings.get();
+            if (current == null) {
+                current = new HashMap<>(variables.size());
+                bindings.set(current);
+            }
+            current.putAll(variables);
         }
     }
-    
+
+    /**
+     * Gets the number of times the script has been executed.
+     *
+     * @return the execution count
+     */
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * Gets the total time spent executing the script.
+     *
+     * @return the total execution time
+     */
+    public Duration getTotalExecutionTime() {
+        return Duration.ofNanos(executionTime.sum());
+    }
+
+    /**
+     * Gets the longest time spent executing the script.
+     *
+     * @return the max execution time
+     */
+    public Duration getMaxExecutionTime() {
+        return Duration.ofNanos(maxExecutionTime.get());
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
             .append("script", script)
+            .append("staticCompilation", staticCompilation)
+            .append("executionCount", getExecutionCount())
             .toString();
     }
 }
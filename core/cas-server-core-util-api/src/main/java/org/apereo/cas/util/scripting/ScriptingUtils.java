@@ -4,10 +4,11 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 
+import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import groovy.transform.CompileStatic;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 
@@ -117,6 +120,9 @@ public class ScriptingUtils {
 
     /**
      * Execute groovy shell script t.
+     * The script is not modified; a new instance of the script class is created
+     * with its own binding, carrying the variables of the given script along with the provided variables,
+     * so that the given script may be shared between concurrent callers.
      *
      * @param <T>       the type parameter
      * @param script    the script
@@ -128,16 +134,44 @@ public class ScriptingUtils {
                                                  final Map<String, Object> variables,
                                                  final Class<T> clazz) {
         try {
+            val allVariables = new HashMap<String, Object>();
             val binding = script.getBinding();
-            if (!binding.hasVariable("logger")) {
-                binding.setVariable("logger", LOGGER);
+            if (binding != null) {
+                allVariables.putAll(binding.getVariables());
             }
+            if (variables != null) {
+                allVariables.putAll(variables);
+            }
+            return executeGroovyShellScript(script.getClass(), allVariables, clazz);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Execute groovy shell script t, by creating a new instance of the compiled
+     * script class that is bound to the given variables. Compiled script classes
+     * are safe to share between threads, and creating an instance is cheap compared to
+     * parsing and compiling the script.
+     *
+     * @param <T>         the type parameter
+     * @param scriptClass the script class
+     * @param variables   the variables
+     * @param clazz       the clazz
+     * @return the t
+     */
+    public static <T> T executeGroovyShellScript(final Class<? extends Script> scriptClass,
+                                                 final Map<String, Object> variables,
+                                                 final Class<T> clazz) {
+        try {
+            val binding = new Binding();
+            binding.setVariable("logger", LOGGER);
             if (variables != null && !variables.isEmpty()) {
                 variables.forEach(binding::setVariable);
             }
-            script.setBinding(binding);
+            val script = InvokerHelper.createScript(scriptClass, binding);
             LOGGER.debug("Executing groovy script [{}] with variables [{}]", script, binding.getVariables());
-
             val result = script.run();
             return getGroovyScriptExecutionResultOrThrow(clazz, result);
         } catch (final Exception e) {
@@ -286,9 +320,32 @@ public class ScriptingUtils {
      */
     public static Script parseGroovyShellScript(final String script) {
         try {
-            val shell = new GroovyShell();
-            LOGGER.debug("Parsing groovy script [{}]", script);
-            return shell.parse(script);
+            val scriptClass = parseGroovyShellScriptClass(script, false);
+            return scriptClass != null ? InvokerHelper.createScript(scriptClass, new Binding()) : null;
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Parse and compile groovy shell script into a script class.
+     * Static compilation type-checks the script at compile time and avoids dynamic dispatch
+     * when the script runs, and is only suitable for scripts that declare the types of the variables they use.
+     *
+     * @param script            the script
+     * @param staticCompilation the static compilation
+     * @return the script class
+     */
+    public static Class<? extends Script> parseGroovyShellScriptClass(final String script, final boolean staticCompilation) {
+        try {
+            val configuration = new CompilerConfiguration();
+            if (staticCompilation) {
+                configuration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+            }
+            val loader = new GroovyClassLoader(ScriptingUtils.class.getClassLoader(), configuration);
+            LOGGER.debug("Parsing groovy script [{}] with static compilation [{}]", script, staticCompilation);
+            return (Class<? extends Script>) loader.parseClass(script);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -0,0 +1,117 @@
+package org.apereo.cas.util.spring;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link RefreshableComponent} that holds a component built from CAS settings,
+ * and swaps it atomically for a newly built component once refreshable beans are refreshed.
+ * The event is published once the environment has changed and configuration properties
+ * are rebound, so the factory always observes the refreshed settings.
+ * <p>
+ * Unlike beans in the refresh scope that are reached through a scoped proxy,
+ * which looks up the target bean on every call, callers of this holder
+ * reach the component with a single volatile read.
+ * If the component cannot be rebuilt, the current component is kept.
+ *
+ * @author Misagh Moayyed
+ * @param <T> the type of component
+ * @since 6.4.0
+ */
+@Slf4j
+public class RefreshableComponent<T> implements Supplier<T>, ApplicationListener<RefreshScopeRefreshedEvent>, DisposableBean {
+    @Getter
+    private final String componentName;
+
+    private final Supplier<T> factory;
+
+    private final LongAdder refreshCount = new LongAdder();
+
+    private volatile T component;
+
+    public RefreshableComponent(final String componentName, final Supplier<T> factory) {
+        this.componentName = componentName;
+        this.factory = factory;
+        this.component = factory.get();
+    }
+
+    @Override
+    public T get() {
+        return this.component;
+    }
+
+    /**
+     * Rebuild the component and swap it for the current one.
+     *
+     * @return true if the component was rebuilt
+     */
+    public boolean refresh() {
+        val swapped = rebuildComponent();
+        if (swapped == null) {
+            return false;
+        }
+        refreshCount.increment();
+        LOGGER.debug("Refreshed [{}]", componentName);
+        if (swapped.getLeft() != swapped.getRight()) {
+            destroyComponent(swapped.getLeft());
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of times the component was rebuilt.
+     *
+     * @return the refresh count
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * Build a new component and swap it for the current one,
+     * so that concurrent refreshes are applied one after another.
+     *
+     * @return the previous and the rebuilt component, or null if the component could not be rebuilt
+     */
+    private synchronized Pair<T, T> rebuildComponent() {
+        try {
+            val refreshed = factory.get();
+            val previous = this.component;
+            this.component = refreshed;
+            return Pair.of(previous, refreshed);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to refresh [{}]; the current instance remains in use: [{}]", componentName, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(final RefreshScopeRefreshedEvent event) {
+        refresh();
+    }
+
+    @Override
+    public void destroy() {
+        destroyComponent(this.component);
+    }
+
+    private void destroyComponent(final T instance) {
+        try {
+            if (instance instanceof DisposableBean) {
+                ((DisposableBean) instance).destroy();
+            } else if (instance instanceof AutoCloseable) {
+                ((AutoCloseable) instance).close();
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to destroy previous instance of [{}]: [{}]", componentName, e.getMessage());
+        }
+    }
+}
@@ -8,12 +8,15 @@ import org.apereo.cas.util.LoggingUtilsTests;
 import org.apereo.cas.util.SocketUtilsTests;
 import org.apereo.cas.util.cache.DistributedCacheManagerTests;
 import org.apereo.cas.util.cache.DistributedCacheObjectTests;
+import org.apereo.cas.util.cache.MessageBatcherTests;
 import org.apereo.cas.util.crypto.CertUtilsTests;
 import org.apereo.cas.util.crypto.GlibcCryptPasswordEncoderTests;
 import org.apereo.cas.util.crypto.PrivateKeyFactoryBeanTests;
 import org.apereo.cas.util.crypto.PublicKeyFactoryBeanTests;
 import org.apereo.cas.util.function.FunctionUtilsTests;
+import org.apereo.cas.util.http.HttpResponseCacheTests;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBeanTests;
+import org.apereo.cas.util.io.AppendOnlyJsonJournalTests;
 import org.apereo.cas.util.io.FileWatcherServiceTests;
 import org.apereo.cas.util.io.PathWatcherServiceTests;
 import org.apereo.cas.util.io.TemporaryFileSystemResourceTests;
@@ -23,6 +26,7 @@ import org.apereo.cas.util.scripting.WatchableGroovyScriptResourceTests;
 import org.apereo.cas.util.serialization.MessageSanitizationUtilsTests;
 import org.apereo.cas.util.serialization.SerializationUtilsTests;
 import org.apereo.cas.util.spring.ConvertersTests;
+import org.apereo.cas.util.spring.RefreshableComponentTests;
 import org.apereo.cas.util.spring.SpringAwareMessageMessageInterpolatorTests;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolverTests;
 import org.apereo.cas.util.spring.boot.BeanDefinitionStoreFailureAnalyzerTests;
@@ -54,13 +58,16 @@ import org.junit.platform.suite.api.Suite;
     DistributedCacheManagerTests.class,
     DigestUtilsTests.class,
     DistributedCacheObjectTests.class,
+    MessageBatcherTests.class,
     SerializationUtilsTests.class,
     SpringAwareMessageMessageInterpolatorTests.class,
     HttpUtilsTests.class,
     ConvertersTests.class,
+    RefreshableComponentTests.class,
     BeanDefinitionStoreFailureAnalyzerTests.class,
     ConditionalOnMatchingHostnameTests.class,
     SimpleHttpClientFactoryBeanTests.class,
+    HttpResponseCacheTests.class,
     GroovyScriptResourceCacheManagerTests.class,
     LoggingUtilsTests.class,
     SocketUtilsTests.class,
@@ -73,6 +80,7 @@ import org.junit.platform.suite.api.Suite;
     TemporaryFileSystemResourceTests.class,
     PathWatcherServiceTests.class,
     FileWatcherServiceTests.class,
+    AppendOnlyJsonJournalTests.class,
     RegexPrincipalNameTransformerTests.class,
     GroovyPrincipalNameTransformerTests.class
 })
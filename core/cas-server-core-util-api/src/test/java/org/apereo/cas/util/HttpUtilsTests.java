@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 
 import java.util.UUID;
 
@@ -48,6 +49,41 @@ public class HttpUtilsTests {
         assertNull(HttpUtils.execute(exec));
     }
 
+    @Test
+    public void verifyEndpointStatistics() {
+        try (val webServer = new MockWebServer(9341, HttpStatus.OK)) {
+            webServer.start();
+            val exec = HttpUtils.HttpExecutionRequest.builder()
+                .method(HttpMethod.GET)
+                .url("http://localhost:9341")
+                .build();
+            for (var i = 0; i < 3; i++) {
+                val response = HttpUtils.execute(exec);
+                assertNotNull(response);
+                assertEquals(HttpStatus.OK.value(), response.getStatusLine().getStatusCode());
+                HttpUtils.close(response);
+            }
+            val statistics = HttpUtils.getEndpointStatistics().get("http://localhost:9341");
+            assertNotNull(statistics);
+            assertEquals(3, statistics.getExecutionCount());
+            assertEquals(0, statistics.getErrorCount());
+            assertFalse(statistics.getTotalExecutionTime().isNegative());
+            assertTrue(statistics.getTotalExecutionTime().compareTo(statistics.getMaxExecutionTime()) >= 0);
+        }
+    }
+
+    @Test
+    public void verifyEndpointErrors() {
+        val exec = HttpUtils.HttpExecutionRequest.builder()
+            .method(HttpMethod.GET)
+            .url("http://localhost:9342")
+            .build();
+        assertNull(HttpUtils.execute(exec));
+        val statistics = HttpUtils.getEndpointStatistics().get("http://localhost:9342");
+        assertNotNull(statistics);
+        assertEquals(1, statistics.getErrorCount());
+    }
+
     @Test
     public void verifyClose() {
         assertDoesNotThrow(new Executable() {
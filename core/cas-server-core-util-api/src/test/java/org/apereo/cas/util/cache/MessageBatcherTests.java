@@ -0,0 +1,137 @@
+package org.apereo.cas.util.cache;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MessageBatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Simple")
+public class MessageBatcherTests {
+
+    @Test
+    public void verifyMessagesAreCoalesced() {
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofHours(1), 100, batches::add);
+        batcher.submit("A", "A1");
+        batcher.submit("B", "B1");
+        batcher.submit("A", "A2");
+        batcher.submit(null, "X");
+        batcher.submit(null, "Y");
+        assertTrue(batches.isEmpty());
+
+        batcher.flush();
+        assertEquals(List.of(List.of("A2", "B1", "X", "Y")), batches);
+        assertEquals(5, batcher.getMessageCount());
+        assertEquals(1, batcher.getCoalescedCount());
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(4, batcher.getMaxBatchSize());
+        assertFalse(batcher.getMaxBatchLatency().isNegative());
+
+        batcher.flush();
+        assertEquals(1, batches.size());
+        batcher.destroy();
+    }
+
+    @Test
+    public void verifyBatchIsHandedOverOnceFull() {
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofHours(1), 2, batches::add);
+        batcher.submit("A", "A1");
+        batcher.submit("A", "A2");
+        assertTrue(batches.isEmpty());
+        batcher.submit("B", "B1");
+        assertEquals(List.of(List.of("A2", "B1")), batches);
+        batcher.destroy();
+    }
+
+    @Test
+    public void verifyClearAndDestroy() {
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofHours(1), 100, batches::add);
+        batcher.submit("A", "A1");
+        batcher.clear();
+        batcher.submit("B", "B1");
+        assertTrue(MessageBatcher.getInstances().contains(batcher));
+        batcher.destroy();
+        assertFalse(MessageBatcher.getInstances().contains(batcher));
+        assertEquals(List.of(List.of("B1")), batches);
+        assertEquals(1, batcher.getCoalescedCount());
+    }
+
+    @Test
+    public void verifyBatchIsHandedOverAfterWindow() throws Exception {
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofMillis(10), 100, batches::add);
+        batcher.submit("A", "A1");
+        Thread.sleep(500);
+        assertEquals(List.of(List.of("A1")), batches);
+        batcher.destroy();
+    }
+
+    @Test
+    public void verifyConsumerFailure() {
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofHours(1), 100, batch -> {
+            throw new IllegalArgumentException("failed");
+        });
+        batcher.submit("A", "A1");
+        batcher.submit("B", "B1");
+        assertDoesNotThrow(batcher::flush);
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(1, batcher.getFailedBatchCount());
+        assertEquals(0, batcher.getDroppedCount());
+        batcher.destroy();
+        assertEquals(2, batcher.getFailedBatchCount());
+        assertEquals(2, batcher.getDroppedCount());
+    }
+
+    @Test
+    public void verifyFailedBatchIsRetried() {
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val attempts = new AtomicInteger();
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofHours(1), 100, batch -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalArgumentException("failed");
+            }
+            batches.add(batch);
+        });
+        batcher.submit("A", "A1");
+        batcher.submit("B", "B1");
+        batcher.flush();
+        assertTrue(batches.isEmpty());
+        batcher.submit("A", "A2");
+        batcher.flush();
+        assertEquals(List.of(List.of("A2", "B1")), batches);
+        assertEquals(1, batcher.getFailedBatchCount());
+        assertEquals(0, batcher.getDroppedCount());
+        batcher.destroy();
+    }
+
+    @Test
+    public void verifyMessagesAreDroppedBeyondBatchSize() {
+        val batcher = new MessageBatcher<String, String>("test", Duration.ofHours(1), 2, batch -> {
+            throw new IllegalArgumentException("failed");
+        });
+        batcher.submit("A", "A1");
+        batcher.submit("B", "B1");
+        assertEquals(1, batcher.getFailedBatchCount());
+        assertEquals(0, batcher.getDroppedCount());
+        batcher.submit("C", "C1");
+        assertEquals(2, batcher.getFailedBatchCount());
+        assertEquals(1, batcher.getDroppedCount());
+        batcher.destroy();
+        assertEquals(3, batcher.getFailedBatchCount());
+        assertEquals(3, batcher.getDroppedCount());
+    }
+}
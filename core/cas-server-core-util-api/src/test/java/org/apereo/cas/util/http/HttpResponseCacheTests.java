@@ -0,0 +1,137 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.MockWebServer;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HttpResponseCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Utility")
+public class HttpResponseCacheTests {
+
+    private static HttpUtils.HttpExecutionRequest getRequest(final int port, final String principal) {
+        return HttpUtils.HttpExecutionRequest.builder()
+            .method(HttpMethod.GET)
+            .url("http://localhost:" + port)
+            .parameters(Map.of("principal", principal))
+            .build();
+    }
+
+    @Test
+    public void verifyCachedResponse() {
+        val cache = new HttpResponseCache(100, Clock.systemUTC());
+        try (val webServer = new MockWebServer(9351, Map.of("theme", "example"),
+            Map.of(HttpHeaders.ETAG, "\"v1\""), HttpStatus.OK)) {
+            webServer.start();
+            val first = cache.execute(getRequest(9351, "casuser"), Duration.ofMinutes(1));
+            assertNotNull(first);
+            assertEquals(HttpStatus.OK.value(), first.getStatus());
+            assertEquals("\"v1\"", first.getEtag());
+            val second = cache.execute(getRequest(9351, "casuser"), Duration.ofMinutes(1));
+            assertSame(first, second);
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+
+            assertNotNull(cache.execute(getRequest(9351, "other"), Duration.ofMinutes(1)));
+            assertEquals(2, cache.getMissCount());
+        }
+    }
+
+    @Test
+    public void verifyNoStore() {
+        val cache = new HttpResponseCache(100, Clock.systemUTC());
+        try (val webServer = new MockWebServer(9352, Map.of("theme", "example"),
+            Map.of(HttpHeaders.CACHE_CONTROL, "no-store"), HttpStatus.OK)) {
+            webServer.start();
+            assertNotNull(cache.execute(getRequest(9352, "casuser"), Duration.ofMinutes(1)));
+            assertNotNull(cache.execute(getRequest(9352, "casuser"), Duration.ofMinutes(1)));
+            assertEquals(0, cache.getHitCount());
+            assertEquals(2, cache.getMissCount());
+        }
+    }
+
+    @Test
+    public void verifyStaleWhileRevalidate() {
+        val cache = new HttpResponseCache(100, Clock.systemUTC());
+        try (val webServer = new MockWebServer(9353, Map.of("theme", "example"),
+            Map.of(HttpHeaders.CACHE_CONTROL, "max-age=0, stale-while-revalidate=60"), HttpStatus.OK)) {
+            webServer.start();
+            val first = cache.execute(getRequest(9353, "casuser"), Duration.ofMinutes(1));
+            assertNotNull(first);
+            assertSame(first, cache.execute(getRequest(9353, "casuser"), Duration.ofMinutes(1)));
+            assertEquals(1, cache.getStaleHitCount());
+            assertEquals(0, cache.getHitCount());
+        }
+    }
+
+    @Test
+    public void verifyStaleWhenUnavailable() throws Exception {
+        val cache = new HttpResponseCache(100, Clock.systemUTC());
+        val request = getRequest(9354, "casuser");
+        val duration = Duration.ofMillis(50);
+        var first = (HttpResponseCache.CachedHttpResponse) null;
+        try (val webServer = new MockWebServer(9354, HttpStatus.OK)) {
+            webServer.start();
+            first = cache.execute("template", request, duration, Duration.ofMinutes(1));
+            assertNotNull(first);
+        }
+        Thread.sleep(duration.toMillis() * 2);
+        assertSame(first, cache.execute("template", request, duration, Duration.ofMinutes(1)));
+        assertEquals(1, cache.getStaleHitCount());
+    }
+
+    @Test
+    public void verifyStaleWhenRevalidationRejected() {
+        val executor = HttpResponseCache.newRevalidationExecutor(1, 1);
+        executor.shutdown();
+        val cache = new HttpResponseCache(100, Clock.systemUTC(), executor);
+        try (val webServer = new MockWebServer(9355, Map.of("theme", "example"),
+            Map.of(HttpHeaders.CACHE_CONTROL, "max-age=0, stale-while-revalidate=60"), HttpStatus.OK)) {
+            webServer.start();
+            val first = cache.execute(getRequest(9355, "casuser"), Duration.ofMinutes(1));
+            assertNotNull(first);
+            assertSame(first, cache.execute(getRequest(9355, "casuser"), Duration.ofMinutes(1)));
+            assertSame(first, cache.execute(getRequest(9355, "casuser"), Duration.ofMinutes(1)));
+            assertEquals(2, cache.getStaleHitCount());
+        }
+    }
+
+    @Test
+    public void verifyNoCaching() {
+        val cache = new HttpResponseCache(100, Clock.systemUTC());
+        try (val webServer = new MockWebServer(9350, HttpStatus.OK)) {
+            webServer.start();
+            assertNotNull(cache.execute(getRequest(9350, "casuser"), Duration.ZERO));
+            assertNotNull(cache.execute(getRequest(9350, "casuser"), null));
+            assertEquals(0, cache.getHitCount());
+            assertEquals(0, cache.getMissCount());
+        }
+        assertNull(cache.execute(getRequest(9350, "casuser"), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    public void verifyDuration() {
+        assertEquals(Duration.ofMinutes(5), HttpResponseCache.toDuration("PT5M"));
+        assertEquals(Duration.ZERO, HttpResponseCache.toDuration("invalid"));
+        assertEquals(Duration.ZERO, HttpResponseCache.toDuration(StringUtils.EMPTY));
+        assertEquals(Duration.ZERO, HttpResponseCache.toDuration((RegisteredService) null));
+    }
+}
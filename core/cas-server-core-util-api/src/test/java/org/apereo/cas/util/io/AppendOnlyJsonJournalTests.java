@@ -0,0 +1,43 @@
+package org.apereo.cas.util.io;
+
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AppendOnlyJsonJournalTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("FileSystem")
+public class AppendOnlyJsonJournalTests {
+    @Test
+    public void verifyOperation() throws Exception {
+        val file = AppendOnlyJsonJournal.getJournalFileFor(File.createTempFile("store", ".json"));
+        val mapper = JacksonObjectMapperFactory.builder().defaultTypingEnabled(false).build().toObjectMapper();
+        val journal = new AppendOnlyJsonJournal<>(file, mapper, Map.class);
+        journal.append(Map.of("key", "value1"));
+        journal.append(Map.of("key", "value2"));
+        assertEquals(2, journal.getEntryCount());
+
+        FileUtils.writeStringToFile(file, "{\"key\":", StandardCharsets.UTF_8, true);
+        val reopened = new AppendOnlyJsonJournal<>(file, mapper, Map.class);
+        assertEquals(List.of(Map.of("key", "value1"), Map.of("key", "value2")), reopened.read());
+        assertEquals(2, reopened.getEntryCount());
+
+        reopened.reset();
+        assertFalse(file.exists());
+        assertTrue(reopened.read().isEmpty());
+    }
+}
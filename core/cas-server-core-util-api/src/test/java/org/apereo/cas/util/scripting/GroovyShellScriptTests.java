@@ -6,6 +6,13 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -20,7 +27,7 @@ public class GroovyShellScriptTests {
     @Test
     public void verifyExec() {
         val shell = new GroovyShellScript("println 'test'");
-        assertNotNull(shell.getGroovyScript());
+        assertNotNull(shell.getGroovyScriptClass());
         assertNotNull(shell.getScript());
         
         assertDoesNotThrow(new Executable() {
@@ -43,4 +50,43 @@ public class GroovyShellScriptTests {
             }
         });
     }
+
+    @Test
+    public void verifyConcurrentExecution() throws Exception {
+        val shell = new GroovyShellScript("return name");
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = IntStream.range(0, 500)
+                .mapToObj(i -> (Callable<Boolean>) () -> {
+                    val name = "user-" + i;
+                    shell.setBinding(Map.of("name", name));
+                    return name.equals(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+                })
+                .collect(Collectors.toList());
+            for (val result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(500, shell.getExecutionCount());
+        assertFalse(shell.getTotalExecutionTime().isNegative());
+        assertTrue(shell.getMaxExecutionTime().compareTo(shell.getTotalExecutionTime()) <= 0);
+    }
+
+    @Test
+    public void verifyBindingIsNotRetained() {
+        val shell = new GroovyShellScript("return binding.hasVariable('name')");
+        shell.setBinding(Map.of("name", "casuser"));
+        assertTrue(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, Boolean.class));
+        assertFalse(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, Boolean.class));
+    }
+
+    @Test
+    public void verifyStaticCompilation() {
+        val shell = new GroovyShellScript("int total = 0; for (int i = 1; i <= 10; i++) { total += i }; return total", true);
+        assertTrue(shell.isStaticCompilation());
+        assertEquals(55, shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, Integer.class).intValue());
+    }
 }
@@ -0,0 +1,61 @@
+package org.apereo.cas.util.spring;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RefreshableComponentTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Simple")
+public class RefreshableComponentTests {
+    @Test
+    public void verifyComponentIsBuiltOnce() {
+        val count = new AtomicInteger();
+        val holder = new RefreshableComponent<>("component", count::incrementAndGet);
+        assertEquals(1, holder.get());
+        assertEquals(1, holder.get());
+        assertEquals(1, count.get());
+        assertEquals("component", holder.getComponentName());
+    }
+
+    @Test
+    public void verifyComponentIsSwappedOnRefresh() throws Exception {
+        val previous = mock(DisposableBean.class);
+        val refreshed = mock(DisposableBean.class);
+        val count = new AtomicInteger();
+        val holder = new RefreshableComponent<>("component", () -> count.getAndIncrement() == 0 ? previous : refreshed);
+        assertSame(previous, holder.get());
+        holder.onApplicationEvent(new RefreshScopeRefreshedEvent());
+        assertSame(refreshed, holder.get());
+        assertEquals(1, holder.getRefreshCount());
+        verify(previous).destroy();
+        verify(refreshed, never()).destroy();
+        holder.destroy();
+        verify(refreshed).destroy();
+    }
+
+    @Test
+    public void verifyComponentIsKeptIfRefreshFails() {
+        val count = new AtomicInteger();
+        val holder = new RefreshableComponent<>("component", () -> {
+            if (count.incrementAndGet() > 1) {
+                throw new IllegalArgumentException("Bad settings");
+            }
+            return "current";
+        });
+        assertFalse(holder.refresh());
+        assertEquals("current", holder.get());
+        assertEquals(0, holder.getRefreshCount());
+    }
+}
@@ -14,6 +14,7 @@ import org.apereo.cas.util.cipher.BinaryCipherExecutorTests;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutorTests;
 import org.apereo.cas.util.cipher.JsonWebKeySetStringCipherExecutorTests;
 import org.apereo.cas.util.cipher.ProtocolTicketCipherExecutorTests;
+import org.apereo.cas.util.cipher.RefreshableCipherExecutorTests;
 import org.apereo.cas.util.cipher.RsaKeyPairCipherExecutorTests;
 import org.apereo.cas.util.cipher.StringCipherExecutorTests;
 import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutorTests;
@@ -38,6 +39,7 @@ import org.junit.platform.suite.api.Suite;
 @SelectClasses({
     JsonWebKeySetStringCipherExecutorTests.class,
     ProtocolTicketCipherExecutorTests.class,
+    RefreshableCipherExecutorTests.class,
     TicketGrantingCookieCipherExecutorTests.class,
     WebflowConversationStateCipherExecutorTests.class,
     RsaKeyPairCipherExecutorTests.class,
@@ -8,8 +8,16 @@ import org.jose4j.lang.JoseException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.apereo.cas.util.junit.Assertions.assertThrowsWithRootCause;
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,7 +47,7 @@ public class BinaryCipherExecutorTests {
     public void checkEncodingDecodingBadKeys() {
         val cc = new TestBinaryCipherExecutor("0000", "1234", 512, 16) {
         };
-        assertThrows(InvalidAlgorithmParameterException.class,
+        assertThrows(InvalidKeyException.class,
             () -> cc.encode(TEST_VALUE.getBytes(StandardCharsets.UTF_8), ArrayUtils.EMPTY_OBJECT_ARRAY));
     }
 
@@ -62,6 +70,54 @@ public class BinaryCipherExecutorTests {
         assertEquals(TEST_VALUE, new String(decoded, StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void checkEncodingUsesMessageNonce() {
+        val cc = new TestBinaryCipherExecutor("MTIzNDU2Nzg5MDEyMzQ1Ng==", null, 512, 16);
+        val value = TEST_VALUE.getBytes(StandardCharsets.UTF_8);
+        val first = cc.encode(value, ArrayUtils.EMPTY_OBJECT_ARRAY);
+        val second = cc.encode(value, ArrayUtils.EMPTY_OBJECT_ARRAY);
+        assertFalse(Arrays.equals(first, second));
+        assertEquals(TEST_VALUE, new String(cc.decode(first, ArrayUtils.EMPTY_OBJECT_ARRAY), StandardCharsets.UTF_8));
+        assertEquals(TEST_VALUE, new String(cc.decode(second, ArrayUtils.EMPTY_OBJECT_ARRAY), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void checkDecodingLegacyValues() throws Exception {
+        val cc = new TestBinaryCipherExecutor("MTIzNDU2Nzg5MDEyMzQ1Ng==",
+            "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w",
+            512,
+            16);
+        val legacyCipher = Cipher.getInstance("AES/GCM/NoPadding");
+        legacyCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(cc.getEncryptionSecretKey(), "AES"), new IvParameterSpec(new byte[16]));
+        val legacyValue = cc.sign(legacyCipher.doFinal(TEST_VALUE.getBytes(StandardCharsets.UTF_8)));
+        val decoded = cc.decode(legacyValue, ArrayUtils.EMPTY_OBJECT_ARRAY);
+        assertEquals(TEST_VALUE, new String(decoded, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void checkConcurrentEncodingDecoding() throws Exception {
+        val cc = new TestBinaryCipherExecutor("MTIzNDU2Nzg5MDEyMzQ1Ng==",
+            "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w",
+            512,
+            16);
+        val executor = Executors.newFixedThreadPool(8);
+        val matches = new AtomicInteger();
+        try {
+            IntStream.range(0, 200).forEach(i -> executor.submit(() -> {
+                val value = TEST_VALUE + i;
+                val encoded = cc.encode(value.getBytes(StandardCharsets.UTF_8), ArrayUtils.EMPTY_OBJECT_ARRAY);
+                val decoded = cc.decode(encoded, ArrayUtils.EMPTY_OBJECT_ARRAY);
+                if (value.equals(new String(decoded, StandardCharsets.UTF_8))) {
+                    matches.incrementAndGet();
+                }
+            }));
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(200, matches.get());
+    }
+
     private static class TestBinaryCipherExecutor extends BaseBinaryCipherExecutor {
         TestBinaryCipherExecutor(final String encKey, final String signingKey, final int sKey, final int eKey) {
             super(encKey, signingKey, sKey, eKey, "Test");
@@ -0,0 +1,37 @@
+package org.apereo.cas.util.cipher;
+
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RefreshableCipherExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Cipher")
+public class RefreshableCipherExecutorTests {
+    @Test
+    public void verifyOperation() {
+        val enabled = new AtomicBoolean(true);
+        val cipher = new RefreshableCipherExecutor<Serializable, String>("protocolTicketCipherExecutor",
+            () -> enabled.get() ? new ProtocolTicketCipherExecutor() : CipherExecutor.noOpOfSerializableToString());
+        assertTrue(cipher.isEnabled());
+        assertEquals("CAS Protocol Tickets", cipher.getName());
+        val encoded = cipher.encode("ST-1234567890");
+        assertEquals("ST-1234567890", cipher.decode(encoded));
+
+        enabled.set(false);
+        assertTrue(cipher.refresh());
+        assertFalse(cipher.isEnabled());
+        assertEquals("ST-1234567890", cipher.encode("ST-1234567890"));
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas.validation;
 
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.RegisteredService;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -49,4 +50,16 @@ public class ImmutableAssertion implements Assertion, Serializable {
      * The service we are asserting this ticket for.
      */
     private final @NonNull WebApplicationService service;
+
+    /**
+     * The registered service located for the service upon validation.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final RegisteredService registeredService;
+
+    public ImmutableAssertion(final Authentication primaryAuthentication, final List<Authentication> chainedAuthentications,
+                              final boolean fromNewLogin, final WebApplicationService service) {
+        this(primaryAuthentication, chainedAuthentications, fromNewLogin, service, null);
+    }
 }
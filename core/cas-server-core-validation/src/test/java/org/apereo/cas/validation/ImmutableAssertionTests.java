@@ -97,4 +97,18 @@ public class ImmutableAssertionTests {
 
         assertEquals(service, assertion.getService());
     }
+
+    @Test
+    public void verifyGetRegisteredService() {
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService("test");
+        val assertion = new DefaultAssertionBuilder(CoreAuthenticationTestUtils.getAuthentication())
+            .with(RegisteredServiceTestUtils.getService())
+            .with(registeredService)
+            .build();
+        assertEquals(registeredService, assertion.getRegisteredService());
+        assertNull(new DefaultAssertionBuilder(CoreAuthenticationTestUtils.getAuthentication())
+            .with(RegisteredServiceTestUtils.getService())
+            .build()
+            .getRegisteredService());
+    }
 }
@@ -0,0 +1,247 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.cryptacular.bean.CipherBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * This is {@link DeflaterEncryptedTranscoder} that compresses the serialized webflow
+ * conversation state using pooled {@link Deflater} and {@link Inflater} instances primed with
+ * a preset dictionary of class and field names that commonly appear in CAS flow state.
+ * <p>
+ * Encoded payloads carry a one-byte format version header. Payloads produced by
+ * {@link EncryptedTranscoder}, with or without gzip compression, can still be decoded
+ * so that flow executions that are in progress survive an upgrade.
+ * <p>
+ * Named transcoders are available via {@link #getInstances()} so their compression
+ * statistics can be reported; a transcoder replaces any earlier one created with the same name.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class DeflaterEncryptedTranscoder extends EncryptedTranscoder {
+    /**
+     * Format version header of payloads produced by this transcoder.
+     */
+    public static final byte FORMAT_VERSION = 0x01;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int BYTE_SIZE = 8;
+
+    private static final Map<String, DeflaterEncryptedTranscoder> INSTANCES = new ConcurrentHashMap<>();
+
+    private static final byte[] DICTIONARY = String.join(";",
+        "java.time.ZonedDateTime",
+        "java.util.ArrayList",
+        "java.util.LinkedHashMap",
+        "java.util.LinkedList",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.execution.FlowExecutionKey",
+        "org.springframework.webflow.execution.FlowExecutionOutcome",
+        "authentication", "credential", "registeredService", "service", "originalUrl", "artifactId",
+        "attributes", "principal", "username", "password", "source", "format", "id",
+        "flowId", "stateId", "conversationScope", "execution", "flashMap", "scope",
+        "java.util.HashMap", "java.lang.String").getBytes(StandardCharsets.UTF_8);
+
+    private final BlockingQueue<Deflater> deflaters;
+
+    private final BlockingQueue<Inflater> inflaters;
+
+    private final int compressionLevel;
+
+    private final LongAdder encodedCount = new LongAdder();
+
+    private final LongAdder serializedBytes = new LongAdder();
+
+    private final LongAdder compressedBytes = new LongAdder();
+
+    public DeflaterEncryptedTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, null);
+    }
+
+    public DeflaterEncryptedTranscoder(final CipherBean cipherBean, final String name) {
+        this(cipherBean, Deflater.BEST_SPEED, Runtime.getRuntime().availableProcessors() * 2, name);
+    }
+
+    public DeflaterEncryptedTranscoder(final CipherBean cipherBean, final int compressionLevel, final int poolSize) {
+        this(cipherBean, compressionLevel, poolSize, null);
+    }
+
+    public DeflaterEncryptedTranscoder(final CipherBean cipherBean, final int compressionLevel,
+                                       final int poolSize, final String name) {
+        super(cipherBean, false);
+        this.compressionLevel = compressionLevel;
+        this.deflaters = new ArrayBlockingQueue<>(poolSize);
+        this.inflaters = new ArrayBlockingQueue<>(poolSize);
+        if (StringUtils.isNotBlank(name)) {
+            INSTANCES.put(name, this);
+        }
+    }
+
+    /**
+     * Gets the named transcoders, keyed by name.
+     *
+     * @return the instances
+     */
+    public static Map<String, DeflaterEncryptedTranscoder> getInstances() {
+        return new HashMap<>(INSTANCES);
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val serialized = new ByteArrayOutputStream(BUFFER_SIZE);
+        try (val out = new ObjectOutputStream(serialized)) {
+            writeObjectToOutputStream(o, out);
+        } catch (final NotSerializableException e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+        val data = serialized.toByteArray();
+        val compressed = deflate(data);
+        encodedCount.increment();
+        serializedBytes.add(data.length);
+        compressedBytes.add(compressed.size());
+        LOGGER.trace("Compressed serialized webflow state from [{}] to [{}] bytes", data.length, compressed.size());
+        return encrypt(compressed);
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        try (val in = new ObjectInputStream(getDecompressedInputStream(data))) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Gets the number of objects encoded by this transcoder.
+     *
+     * @return the encoded count
+     */
+    public long getEncodedCount() {
+        return encodedCount.sum();
+    }
+
+    /**
+     * Gets the total number of serialized bytes, before compression.
+     *
+     * @return the serialized bytes
+     */
+    public long getSerializedBytes() {
+        return serializedBytes.sum();
+    }
+
+    /**
+     * Gets the total number of compressed bytes, before encryption.
+     *
+     * @return the compressed bytes
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    private InputStream getDecompressedInputStream(final byte[] data) throws IOException, DataFormatException {
+        if (data.length > 0 && data[0] == FORMAT_VERSION) {
+            return new ByteArrayInputStream(inflate(data));
+        }
+        if (data.length > 1 && (data[0] & BYTE_MASK) == (GZIPInputStream.GZIP_MAGIC & BYTE_MASK)
+            && (data[1] & BYTE_MASK) == (GZIPInputStream.GZIP_MAGIC >> BYTE_SIZE)) {
+            LOGGER.trace("Decoding webflow state compressed with gzip");
+            return new GZIPInputStream(new ByteArrayInputStream(data));
+        }
+        return new ByteArrayInputStream(data);
+    }
+
+    private ByteArrayOutputStream deflate(final byte[] data) {
+        val deflater = Optional.ofNullable(deflaters.poll()).orElseGet(() -> new Deflater(compressionLevel));
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(data);
+            deflater.finish();
+            val out = new ByteArrayOutputStream(data.length / 2 + 1);
+            out.write(FORMAT_VERSION);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                val count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out;
+        } finally {
+            deflater.reset();
+            if (!deflaters.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    private byte[] inflate(final byte[] data) throws DataFormatException {
+        val inflater = Optional.ofNullable(inflaters.poll()).orElseGet(Inflater::new);
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            val out = new ByteArrayOutputStream(data.length * 4);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count > 0) {
+                    out.write(buffer, 0, count);
+                } else if (inflater.needsDictionary()) {
+                    inflater.setDictionary(DICTIONARY);
+                } else if (inflater.needsInput()) {
+                    throw new DataFormatException("Compressed webflow state is truncated");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.reset();
+            if (!inflaters.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -76,6 +76,15 @@ public class WebflowExecutorFactory {
     @SneakyThrows
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        switch (webflowProperties.getSession().getClientStateCompression()) {
+            case DEFLATE:
+                return new DeflaterEncryptedTranscoder(cipherBean,
+                    String.join(",", flowDefinitionRegistry.getFlowDefinitionIds()));
+            case NONE:
+                return new EncryptedTranscoder(cipherBean, false);
+            case GZIP:
+            default:
+                return new EncryptedTranscoder(cipherBean);
+        }
     }
 }
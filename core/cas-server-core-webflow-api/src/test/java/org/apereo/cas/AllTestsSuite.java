@@ -6,6 +6,7 @@ import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilderTests;
 import org.apereo.cas.web.flow.decorator.GroovyLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.decorator.RestfulLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.executor.ClientFlowExecutionRepositoryTests;
+import org.apereo.cas.web.flow.executor.DeflaterEncryptedTranscoderTests;
 import org.apereo.cas.web.flow.executor.EncryptedTranscoderTests;
 import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfoTests;
 
@@ -26,7 +27,8 @@ import org.junit.platform.suite.api.Suite;
     DynamicFlowModelBuilderTests.class,
     ConsumerExecutionActionTests.class,
     StaticEventExecutionActionTests.class,
-    EncryptedTranscoderTests.class
+    EncryptedTranscoderTests.class,
+    DeflaterEncryptedTranscoderTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,88 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.cryptacular.bean.BufferedBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.BufferedBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DeflaterEncryptedTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Webflow")
+public class DeflaterEncryptedTranscoderTests {
+    private CipherBean cipherBean;
+
+    private static LinkedHashMap<String, Object> getState() {
+        val state = new LinkedHashMap<String, Object>();
+        state.put("service", "https://app.example.org/cas/login?param=" + UUID.randomUUID());
+        IntStream.range(0, 50).forEach(i -> state.put("attribute" + i, "value-" + i));
+        return state;
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val bean = new BufferedBlockCipherBean();
+        bean.setBlockCipherSpec(new BufferedBlockCipherSpec("AES", "CBC", "PKCS7"));
+        bean.setKeyStore(ksFactory.newInstance());
+        bean.setKeyAlias("aes128");
+        bean.setKeyPassword("changeit");
+        bean.setNonce(new org.cryptacular.generator.sp80038a.RBGNonce());
+        cipherBean = bean;
+    }
+
+    @Test
+    public void verifyEncodeDecode() throws Exception {
+        val transcoder = new DeflaterEncryptedTranscoder(cipherBean, 1, 1);
+        val state = getState();
+        for (var i = 0; i < 5; i++) {
+            assertEquals(state, transcoder.decode(transcoder.encode(state)));
+        }
+        assertEquals(5, transcoder.getEncodedCount());
+        assertTrue(transcoder.getCompressedBytes() < transcoder.getSerializedBytes());
+    }
+
+    @Test
+    public void verifyLegacyPayloads() throws Exception {
+        val transcoder = new DeflaterEncryptedTranscoder(cipherBean);
+        val state = getState();
+        assertEquals(state, transcoder.decode(new EncryptedTranscoder(cipherBean).encode(state)));
+        assertEquals(state, transcoder.decode(new EncryptedTranscoder(cipherBean, false).encode(state)));
+    }
+
+    @Test
+    public void verifyEmpty() throws Exception {
+        val transcoder = new DeflaterEncryptedTranscoder(cipherBean);
+        assertEquals(0, transcoder.encode(null).length);
+        assertEquals(0, transcoder.getEncodedCount());
+    }
+
+    @Test
+    public void verifyCorruptPayload() {
+        val bean = mock(CipherBean.class);
+        when(bean.decrypt(any())).thenReturn(new byte[]{DeflaterEncryptedTranscoder.FORMAT_VERSION, 0x10, 0x20});
+        val transcoder = new DeflaterEncryptedTranscoder(bean);
+        assertThrows(IOException.class, () -> transcoder.decode(new byte[]{1}));
+    }
+}
@@ -23,6 +23,7 @@ import org.apereo.cas.services.UnauthorizedServiceForPrincipalException;
 import org.apereo.cas.ticket.UnsatisfiedAuthenticationPolicyException;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.util.cipher.RefreshableCipherExecutor;
 import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
@@ -175,8 +176,11 @@ public class CasCoreWebflowConfiguration {
     }
 
     @Bean
-    @RefreshScope
     public CipherExecutor webflowCipherExecutor() {
+        return new RefreshableCipherExecutor<>("webflowCipherExecutor", this::buildWebflowCipherExecutor);
+    }
+
+    private CipherExecutor buildWebflowCipherExecutor() {
         val webflow = casProperties.getWebflow();
         val crypto = webflow.getCrypto();
 
@@ -299,6 +299,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
             val assertion = new DefaultAssertionBuilder(finalAuthentication)
                 .with(selectedService)
+                .with(registeredService)
                 .with(serviceTicket.getTicketGrantingTicket().getChainedAuthentications())
                 .with(serviceTicket.isFromNewLogin())
                 .build();
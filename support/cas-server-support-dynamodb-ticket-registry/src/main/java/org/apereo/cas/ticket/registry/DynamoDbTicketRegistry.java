@@ -1,6 +1,8 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -70,6 +72,42 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return ticket;
     }
 
+    @Override
+    public long sessionCount() {
+        try {
+            return this.dbTableService.countTickets(TicketGrantingTicket.PREFIX);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return super.sessionCount();
+        }
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        try {
+            return this.dbTableService.countTickets(ServiceTicket.PREFIX);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return super.serviceTicketCount();
+        }
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (!this.dbTableService.isPrincipalIndexAvailable()) {
+            LOGGER.trace("Principal index is unavailable; counting sessions for [{}] by scanning the table", principalId);
+            return super.countSessionsFor(principalId);
+        }
+        try {
+            return this.dbTableService.countSessionsFor(principalId);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to count sessions for [{}] using the principal index; falling back to a table scan: [{}]",
+                principalId, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            return super.countSessionsFor(principalId);
+        }
+    }
+
     @Override
     public boolean deleteSingleTicket(final String ticketIdToDelete) {
         val ticketId = encodeTicketId(ticketIdToDelete);
@@ -1,12 +1,17 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.support.dynamodb.AbstractDynamoDbProperties;
 import org.apereo.cas.configuration.model.support.dynamodb.DynamoDbTicketRegistryProperties;
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,28 +23,57 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CreateGlobalSecondaryIndexAction;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexUpdate;
+import software.amazon.awssdk.services.dynamodb.model.IndexStatus;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTimeToLiveRequest;
 
 import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistryFacilitator}.
+ * Tables are enumerated and counted using parallel segmented scans that follow
+ * every page of results. Ticket-granting tickets carry a digest of the principal id
+ * that is indexed by a global secondary index, so sessions can be counted per principal
+ * without scanning the table. Tables that predate the index have it added once at startup,
+ * and are counted by scanning the table until the index becomes active.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -48,12 +82,25 @@ import java.util.stream.Collectors;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbTicketRegistryFacilitator {
+    /**
+     * Attribute holding the digest of the principal id for ticket-granting tickets.
+     */
+    public static final String PRINCIPAL_ATTRIBUTE_NAME = "principal";
+
+    /**
+     * Attribute holding the expiration timestamp of the ticket in epoch seconds, used as the time-to-live attribute.
+     */
+    public static final String EXPIRE_AT_ATTRIBUTE_NAME = "expireAt";
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
 
     private final DynamoDbClient amazonDynamoDBClient;
 
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<IndexStatus> principalIndexStatus = new AtomicReference<>();
+
     /**
      * Delete.
      *
@@ -80,15 +127,12 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the int
      */
     public int deleteAll() {
-        val count = new AtomicInteger();
-        val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Submitting scan request [{}] to table [{}]", scan, r.getProperties().getStorageName());
-            count.addAndGet(this.amazonDynamoDBClient.scan(scan).count());
-        });
+        val count = this.ticketCatalog.findAll()
+            .stream()
+            .mapToLong(r -> countItems(r.getProperties().getStorageName()))
+            .sum();
         createTicketTables(true);
-        return count.get();
+        return (int) count;
     }
 
     /**
@@ -99,17 +143,84 @@ public class DynamoDbTicketRegistryFacilitator {
     public Collection<Ticket> getAll() {
         val metadata = this.ticketCatalog.findAll();
         val tickets = new ArrayList<Ticket>(metadata.size());
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.items().stream()
-                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket).collect(Collectors.toList()));
-        });
+        metadata.forEach(r -> tickets.addAll(scanItems(r.getProperties().getStorageName())
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList())));
         return tickets;
     }
 
+    /**
+     * Count tickets whose type is identified by the given prefix.
+     *
+     * @param prefix the ticket prefix
+     * @return the count
+     */
+    public long countTickets(final String prefix) {
+        val metadata = this.ticketCatalog.find(prefix);
+        if (metadata == null) {
+            return 0;
+        }
+        return countItems(metadata.getProperties().getStorageName());
+    }
+
+    /**
+     * Count ticket-granting tickets issued to the principal,
+     * by querying the principal index.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    public long countSessionsFor(final String principalId) {
+        val metadata = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
+        val request = QueryRequest.builder()
+            .tableName(metadata.getProperties().getStorageName())
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keyConditionExpression("#principal = :principal")
+            .filterExpression("attribute_not_exists(#expireAt) OR #expireAt > :now")
+            .expressionAttributeNames(Map.of("#principal", PRINCIPAL_ATTRIBUTE_NAME, "#expireAt", EXPIRE_AT_ATTRIBUTE_NAME))
+            .expressionAttributeValues(Map.of(
+                ":principal", AttributeValue.builder().s(digestPrincipal(principalId)).build(),
+                ":now", AttributeValue.builder().n(Long.toString(Instant.now().getEpochSecond())).build()))
+            .select(Select.COUNT)
+            .build();
+        LOGGER.debug("Submitting query request [{}] to count sessions for [{}]", request, principalId);
+        return amazonDynamoDBClient.queryPaginator(request).stream().mapToLong(QueryResponse::count).sum();
+    }
+
+    /**
+     * Whether the principal index can be queried to count sessions.
+     * An index that is still being built is described again on each call until it becomes active.
+     *
+     * @return true/false
+     */
+    public boolean isPrincipalIndexAvailable() {
+        val status = principalIndexStatus.get();
+        if (status == IndexStatus.CREATING || status == IndexStatus.UPDATING) {
+            try {
+                principalIndexStatus.compareAndSet(status, findPrincipalIndexStatus(describeTicketGrantingTicketsTable()));
+            } catch (final Exception e) {
+                LOGGER.debug("Unable to describe principal index [{}]: [{}]", dynamoDbProperties.getPrincipalIndexName(), e.getMessage());
+            }
+        }
+        return principalIndexStatus.get() == IndexStatus.ACTIVE;
+    }
+
+    /**
+     * Verify that the principal index exists on the ticket-granting tickets table,
+     * without attempting to create it. The outcome is logged once.
+     */
+    public void verifyPrincipalIndex() {
+        try {
+            initializePrincipalIndex(describeTicketGrantingTicketsTable(), null);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to verify principal index [{}]; sessions per principal are counted by scanning the table: [{}]",
+                dynamoDbProperties.getPrincipalIndexName(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            principalIndexStatus.set(null);
+        }
+    }
+
     /**
      * Get ticket.
      *
@@ -154,7 +265,6 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, encodedTicket.getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
-        getAll();
     }
 
     /**
@@ -170,13 +280,18 @@ public class DynamoDbTicketRegistryFacilitator {
             .build();
 
         metadata.forEach(Unchecked.consumer(r -> {
-            val request = CreateTableRequest.builder()
-                .attributeDefinitions(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build())
+            val attributeDefinitions = new ArrayList<AttributeDefinition>();
+            attributeDefinitions.add(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build());
+            val builder = CreateTableRequest.builder()
                 .keySchema(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build())
                 .provisionedThroughput(throughput)
                 .billingMode(BillingMode.fromValue(dynamoDbProperties.getBillingMode().name()))
-                .tableName(r.getProperties().getStorageName())
-                .build();
+                .tableName(r.getProperties().getStorageName());
+            if (isTicketGrantingTicketDefinition(r)) {
+                attributeDefinitions.add(AttributeDefinition.builder().attributeName(PRINCIPAL_ATTRIBUTE_NAME).attributeType(ScalarAttributeType.S).build());
+                builder.globalSecondaryIndexes(buildPrincipalIndex(throughput));
+            }
+            val request = builder.attributeDefinitions(attributeDefinitions).build();
             if (deleteTables) {
                 val delete = DeleteTableRequest.builder().tableName(r.getProperties().getStorageName()).build();
                 LOGGER.debug("Sending delete request [{}] to remove table if necessary", delete);
@@ -190,6 +305,12 @@ public class DynamoDbTicketRegistryFacilitator {
             LOGGER.debug("Sending request [{}] to obtain table description...", describeTableRequest);
             val tableDescription = amazonDynamoDBClient.describeTable(describeTableRequest).table();
             LOGGER.debug("Located newly created table with description: [{}]", tableDescription);
+            if (isTicketGrantingTicketDefinition(r)) {
+                initializePrincipalIndex(tableDescription, throughput);
+            }
+            if (dynamoDbProperties.isTimeToLiveEnabled()) {
+                enableTimeToLive(request.tableName());
+            }
         }));
     }
 
@@ -216,10 +337,157 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(Long.toString(ticket.getExpirationPolicy().getTimeToIdle())).build());
         values.put(ColumnNames.ENCODED.getColumnName(),
             AttributeValue.builder().b(SdkBytes.fromByteBuffer(ByteBuffer.wrap(SerializationUtils.serialize(encTicket)))).build());
+        if (ticket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                values.put(PRINCIPAL_ATTRIBUTE_NAME, AttributeValue.builder().s(digestPrincipal(authentication.getPrincipal().getId())).build());
+            }
+        }
+        if (dynamoDbProperties.isTimeToLiveEnabled()) {
+            val timeToLive = ticket.getExpirationPolicy().getTimeToLive();
+            if (timeToLive != null && timeToLive > 0 && timeToLive < Integer.MAX_VALUE) {
+                val expireAt = ticket.getCreationTime().toEpochSecond() + timeToLive;
+                values.put(EXPIRE_AT_ATTRIBUTE_NAME, AttributeValue.builder().n(Long.toString(expireAt)).build());
+            }
+        }
         LOGGER.debug("Created attribute values [{}] based on provided ticket [{}]", values, encTicket.getId());
         return values;
     }
 
+    private static String digestPrincipal(final String principalId) {
+        return DigestUtils.sha256(principalId.toLowerCase(Locale.ENGLISH));
+    }
+
+    private static boolean isTicketGrantingTicketDefinition(final TicketDefinition definition) {
+        return TicketGrantingTicket.PREFIX.equals(definition.getPrefix());
+    }
+
+    private static KeySchemaElement buildPrincipalIndexKeySchema() {
+        return KeySchemaElement.builder().attributeName(PRINCIPAL_ATTRIBUTE_NAME).keyType(KeyType.HASH).build();
+    }
+
+    private static Projection buildPrincipalIndexProjection() {
+        return Projection.builder().projectionType(ProjectionType.INCLUDE).nonKeyAttributes(List.of(EXPIRE_AT_ATTRIBUTE_NAME)).build();
+    }
+
+    private boolean isProvisionedBillingMode() {
+        return dynamoDbProperties.getBillingMode() != AbstractDynamoDbProperties.BillingMode.PAY_PER_REQUEST;
+    }
+
+    private GlobalSecondaryIndex buildPrincipalIndex(final ProvisionedThroughput throughput) {
+        val index = GlobalSecondaryIndex.builder()
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keySchema(buildPrincipalIndexKeySchema())
+            .projection(buildPrincipalIndexProjection());
+        if (isProvisionedBillingMode()) {
+            index.provisionedThroughput(throughput);
+        }
+        return index.build();
+    }
+
+    private TableDescription describeTicketGrantingTicketsTable() {
+        val metadata = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
+        val request = DescribeTableRequest.builder().tableName(metadata.getProperties().getStorageName()).build();
+        return amazonDynamoDBClient.describeTable(request).table();
+    }
+
+    private IndexStatus findPrincipalIndexStatus(final TableDescription table) {
+        return table.globalSecondaryIndexes()
+            .stream()
+            .filter(index -> dynamoDbProperties.getPrincipalIndexName().equals(index.indexName()))
+            .map(GlobalSecondaryIndexDescription::indexStatus)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Track the status of the principal index, adding the index to tables that predate it
+     * when the provisioned throughput is given. Ticket-granting tickets stored before the index
+     * was added carry no principal digest and are not counted until they expire.
+     */
+    private void initializePrincipalIndex(final TableDescription table, final ProvisionedThroughput throughput) {
+        val status = findPrincipalIndexStatus(table);
+        if (status != null) {
+            LOGGER.debug("Principal index [{}] on table [{}] is [{}]", dynamoDbProperties.getPrincipalIndexName(), table.tableName(), status);
+            principalIndexStatus.set(status);
+            return;
+        }
+        if (throughput == null) {
+            LOGGER.warn("Table [{}] has no principal index [{}]; sessions per principal are counted by scanning the table",
+                table.tableName(), dynamoDbProperties.getPrincipalIndexName());
+            principalIndexStatus.set(null);
+            return;
+        }
+        try {
+            val action = CreateGlobalSecondaryIndexAction.builder()
+                .indexName(dynamoDbProperties.getPrincipalIndexName())
+                .keySchema(buildPrincipalIndexKeySchema())
+                .projection(buildPrincipalIndexProjection());
+            if (isProvisionedBillingMode()) {
+                action.provisionedThroughput(throughput);
+            }
+            val request = UpdateTableRequest.builder()
+                .tableName(table.tableName())
+                .attributeDefinitions(AttributeDefinition.builder().attributeName(PRINCIPAL_ATTRIBUTE_NAME).attributeType(ScalarAttributeType.S).build())
+                .globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder().create(action.build()).build())
+                .build();
+            LOGGER.info("Adding principal index [{}] to table [{}]. Ticket-granting tickets issued before the index "
+                + "are not counted per principal until they expire", dynamoDbProperties.getPrincipalIndexName(), table.tableName());
+            val result = amazonDynamoDBClient.updateTable(request).tableDescription();
+            principalIndexStatus.set(Optional.ofNullable(findPrincipalIndexStatus(result)).orElse(IndexStatus.CREATING));
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to add principal index [{}] to table [{}]; sessions per principal are counted by scanning the table: [{}]",
+                dynamoDbProperties.getPrincipalIndexName(), table.tableName(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            principalIndexStatus.set(null);
+        }
+    }
+
+    private void enableTimeToLive(final String tableName) {
+        val description = amazonDynamoDBClient.describeTimeToLive(DescribeTimeToLiveRequest.builder().tableName(tableName).build())
+            .timeToLiveDescription();
+        val status = description != null ? description.timeToLiveStatus() : null;
+        if (status == TimeToLiveStatus.ENABLED || status == TimeToLiveStatus.ENABLING) {
+            LOGGER.debug("Time-to-live is already enabled for table [{}]", tableName);
+            return;
+        }
+        val request = UpdateTimeToLiveRequest.builder()
+            .tableName(tableName)
+            .timeToLiveSpecification(TimeToLiveSpecification.builder().attributeName(EXPIRE_AT_ATTRIBUTE_NAME).enabled(Boolean.TRUE).build())
+            .build();
+        LOGGER.debug("Enabling time-to-live for table [{}] on attribute [{}]", tableName, EXPIRE_AT_ATTRIBUTE_NAME);
+        amazonDynamoDBClient.updateTimeToLive(request);
+    }
+
+    private int getScanSegments() {
+        return Math.max(1, dynamoDbProperties.getScanSegments());
+    }
+
+    private Stream<Map<String, AttributeValue>> scanItems(final String tableName) {
+        val segments = getScanSegments();
+        return IntStream.range(0, segments)
+            .parallel()
+            .mapToObj(segment -> {
+                val request = ScanRequest.builder().tableName(tableName).segment(segment).totalSegments(segments).build();
+                LOGGER.debug("Scanning table with request [{}]", request);
+                return amazonDynamoDBClient.scanPaginator(request).items().stream().collect(Collectors.toList());
+            })
+            .flatMap(List::stream);
+    }
+
+    private long countItems(final String tableName) {
+        val segments = getScanSegments();
+        return IntStream.range(0, segments)
+            .parallel()
+            .mapToLong(segment -> {
+                val request = ScanRequest.builder().tableName(tableName).select(Select.COUNT)
+                    .segment(segment).totalSegments(segments).build();
+                LOGGER.debug("Counting items in table with request [{}]", request);
+                return amazonDynamoDBClient.scanPaginator(request).stream().mapToLong(ScanResponse::count).sum();
+            })
+            .sum();
+    }
+
     private static Ticket deserializeTicket(final Map<String, AttributeValue> returnItem) {
         val bb = returnItem.get(ColumnNames.ENCODED.getColumnName()).b();
         LOGGER.debug("Located binary encoding of ticket item [{}]. Transforming item into ticket object", returnItem);
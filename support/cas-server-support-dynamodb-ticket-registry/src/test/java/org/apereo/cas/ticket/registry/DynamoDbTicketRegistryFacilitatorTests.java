@@ -1,7 +1,9 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.junit.EnabledIfPortOpen;
 
@@ -10,9 +12,18 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.TestPropertySource;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
 
 import java.util.Arrays;
 
@@ -57,6 +68,29 @@ public class DynamoDbTicketRegistryFacilitatorTests {
             assertTrue(dynamoDbTicketRegistryFacilitator.deleteAll() > 0);
 
         }
+
+        @Test
+        public void verifyPrincipalIndexAddedToExistingTable() throws Exception {
+            val client = dynamoDbTicketRegistryFacilitator.getAmazonDynamoDBClient();
+            val tableName = dynamoDbTicketRegistryFacilitator.getTicketCatalog().find(TicketGrantingTicket.PREFIX).getProperties().getStorageName();
+            val idColumn = DynamoDbTicketRegistryFacilitator.ColumnNames.ID.getColumnName();
+            DynamoDbTableUtils.deleteTableIfExists(client, DeleteTableRequest.builder().tableName(tableName).build());
+            DynamoDbTableUtils.createTableIfNotExists(client, CreateTableRequest.builder()
+                .tableName(tableName)
+                .keySchema(KeySchemaElement.builder().attributeName(idColumn).keyType(KeyType.HASH).build())
+                .attributeDefinitions(AttributeDefinition.builder().attributeName(idColumn).attributeType(ScalarAttributeType.S).build())
+                .provisionedThroughput(ProvisionedThroughput.builder().readCapacityUnits(10L).writeCapacityUnits(10L).build())
+                .build());
+            DynamoDbTableUtils.waitUntilActive(client, tableName);
+
+            dynamoDbTicketRegistryFacilitator.verifyPrincipalIndex();
+            assertFalse(dynamoDbTicketRegistryFacilitator.isPrincipalIndexAvailable());
+
+            dynamoDbTicketRegistryFacilitator.createTicketTables(false);
+            val indexes = client.describeTable(DescribeTableRequest.builder().tableName(tableName).build()).table().globalSecondaryIndexes();
+            assertTrue(indexes.stream().anyMatch(index -> index.indexName()
+                .equals(dynamoDbTicketRegistryFacilitator.getDynamoDbProperties().getPrincipalIndexName())));
+        }
     }
 
     @Nested
@@ -78,4 +112,28 @@ public class DynamoDbTicketRegistryFacilitatorTests {
         }
     }
 
+    @Nested
+    @EnabledIfPortOpen(port = 8000)
+    @TestPropertySource(properties = "cas.ticket.registry.dynamo-db.time-to-live-enabled=true")
+    @SuppressWarnings("ClassCanBeStatic")
+    public class DynamoDbTicketRegistryFacilitatorTimeToLiveTests extends BaseDynamoDbTicketRegistryFacilitatorTests {
+        @Test
+        public void verifyCountsAndTimeToLive() {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val client = dynamoDbTicketRegistryFacilitator.getAmazonDynamoDBClient();
+            val tableName = dynamoDbTicketRegistryFacilitator.getTicketCatalog().find(TicketGrantingTicket.PREFIX).getProperties().getStorageName();
+            val ttl = client.describeTimeToLive(DescribeTimeToLiveRequest.builder().tableName(tableName).build()).timeToLiveDescription();
+            assertEquals(TimeToLiveStatus.ENABLED, ttl.timeToLiveStatus());
+
+            for (var i = 0; i < 5; i++) {
+                val ticket = new MockTicketGrantingTicket(i % 2 == 0 ? "casuser" : "other");
+                dynamoDbTicketRegistryFacilitator.put(ticket, ticket);
+            }
+            assertEquals(5, dynamoDbTicketRegistryFacilitator.getAll().size());
+            assertEquals(5, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.PREFIX));
+            assertEquals(3, dynamoDbTicketRegistryFacilitator.countSessionsFor("CASUSER"));
+            assertEquals(2, dynamoDbTicketRegistryFacilitator.countSessionsFor("other"));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countSessionsFor("unknown"));
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that summarizes the recent authentication
+ * history of a principal as frequency histograms of client ip addresses, user agents,
+ * geolocations and hours of the day. Profiles are built incrementally as events are recorded,
+ * so that risk calculators can score a request without scanning the raw event history.
+ * <p>
+ * Instances may be kept in memory and shared by concurrent risk evaluations
+ * while new events are recorded, and are therefore thread-safe.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+public class AuthenticationRiskProfile {
+    private static final int HOURS_IN_DAY = 24;
+
+    private final Map<String, Long> ipAddresses = new HashMap<>();
+
+    private final Map<String, Long> userAgents = new HashMap<>();
+
+    private final Map<GeoLocationRequest, Long> geoLocations = new HashMap<>();
+
+    private final long[] hoursOfDay = new long[HOURS_IN_DAY];
+
+    private long eventCount;
+
+    /**
+     * Build a profile from the given events.
+     *
+     * @param events the events
+     * @return the authentication risk profile
+     */
+    public static AuthenticationRiskProfile from(final Collection<? extends CasEvent> events) {
+        val profile = new AuthenticationRiskProfile();
+        events.forEach(profile::record);
+        return profile;
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isNotBlank(value) ? value.toLowerCase(Locale.ENGLISH) : null;
+    }
+
+    private static GeoLocationRequest toGeoLocationKey(final GeoLocationRequest location) {
+        val key = new GeoLocationRequest();
+        key.setLatitude(location.getLatitude());
+        key.setLongitude(location.getLongitude());
+        return key;
+    }
+
+    /**
+     * Record the event into the profile.
+     *
+     * @param event the event
+     */
+    public synchronized void record(final CasEvent event) {
+        eventCount++;
+        val ipAddress = normalize(event.getClientIpAddress());
+        if (ipAddress != null) {
+            ipAddresses.merge(ipAddress, 1L, Long::sum);
+        }
+        val agent = normalize(event.getAgent());
+        if (agent != null) {
+            userAgents.merge(agent, 1L, Long::sum);
+        }
+        val location = event.getGeoLocation();
+        if (StringUtils.isNotBlank(location.getLatitude()) && StringUtils.isNotBlank(location.getLongitude())) {
+            geoLocations.merge(toGeoLocationKey(location), 1L, Long::sum);
+        }
+        if (StringUtils.isNotBlank(event.getCreationTime())) {
+            val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+            val hour = ZonedDateTime.ofInstant(creationTime.toInstant(), ZoneOffset.UTC).getHour();
+            hoursOfDay[hour]++;
+        }
+    }
+
+    /**
+     * Gets the number of recorded events.
+     *
+     * @return the event count
+     */
+    public synchronized long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Does the profile contain any recorded events?
+     *
+     * @return true/false
+     */
+    public synchronized boolean isEmpty() {
+        return eventCount == 0;
+    }
+
+    /**
+     * Count events recorded from the given client ip address.
+     *
+     * @param ipAddress the ip address
+     * @return the count
+     */
+    public synchronized long countIpAddress(final String ipAddress) {
+        val key = normalize(ipAddress);
+        return key != null ? ipAddresses.getOrDefault(key, 0L) : 0;
+    }
+
+    /**
+     * Count events recorded with the given user agent.
+     *
+     * @param agent the agent
+     * @return the count
+     */
+    public synchronized long countUserAgent(final String agent) {
+        val key = normalize(agent);
+        return key != null ? userAgents.getOrDefault(key, 0L) : 0;
+    }
+
+    /**
+     * Count events recorded at the given geolocation.
+     *
+     * @param location the location
+     * @return the count
+     */
+    public synchronized long countGeoLocation(final GeoLocationRequest location) {
+        return geoLocations.getOrDefault(toGeoLocationKey(location), 0L);
+    }
+
+    /**
+     * Count events recorded between the given hours of the day, inclusive.
+     * The window wraps around midnight if the starting hour is after the ending hour.
+     *
+     * @param fromHour the from hour
+     * @param toHour   the to hour
+     * @return the count
+     */
+    public synchronized long countHoursOfDay(final int fromHour, final int toHour) {
+        var count = 0L;
+        for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+            val inWindow = fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour;
+            if (inWindow) {
+                count += hoursOfDay[hour];
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+            .append("eventCount", eventCount)
+            .append("ipAddresses", ipAddresses)
+            .append("userAgents", userAgents)
+            .append("geoLocations", geoLocations)
+            .append("hoursOfDay", hoursOfDay)
+            .toString();
+    }
+}
@@ -0,0 +1,32 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileResolver} that locates the
+ * {@link AuthenticationRiskProfile} of the authenticated principal.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@FunctionalInterface
+public interface AuthenticationRiskProfileResolver {
+
+    /**
+     * Resolve the risk profile of the authenticated principal.
+     *
+     * @param authentication the authentication
+     * @return the authentication risk profile
+     */
+    AuthenticationRiskProfile resolve(Authentication authentication);
+
+    /**
+     * Record an event that is saved to the event repository
+     * into the risk profile of its principal, if the resolver keeps profiles around.
+     *
+     * @param event the event
+     */
+    default void record(final CasEvent event) {
+    }
+}
@@ -5,17 +5,21 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileResolver;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.engine.CachingAuthenticationRiskProfileResolver;
 import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluator;
 import org.apereo.cas.impl.engine.DefaultAuthenticationRiskMitigator;
+import org.apereo.cas.impl.engine.DefaultAuthenticationRiskProfileResolver;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifier;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
@@ -23,6 +27,8 @@ import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -31,15 +37,18 @@ import org.apereo.inspektr.audit.spi.support.DefaultAuditActionResolver;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.HashSet;
+import java.util.Objects;
 
 /**
  * This is {@link ElectronicFenceConfiguration}.
@@ -121,31 +130,61 @@ public class ElectronicFenceConfiguration {
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator() {
-        return new IpAddressAuthenticationRequestRiskCalculator(casEventRepository.getObject(), casProperties);
+        return new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileResolver(), casProperties);
     }
 
     @ConditionalOnMissingBean(name = "userAgentAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator() {
-        return new UserAgentAuthenticationRequestRiskCalculator(casEventRepository.getObject(), casProperties);
+        return new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileResolver(), casProperties);
     }
 
     @ConditionalOnMissingBean(name = "dateTimeAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator() {
-        return new DateTimeAuthenticationRequestRiskCalculator(casEventRepository.getObject(), casProperties);
+        return new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileResolver(), casProperties);
     }
 
     @ConditionalOnMissingBean(name = "geoLocationAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator geoLocationAuthenticationRequestRiskCalculator() {
-        return new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository.getObject(),
+        return new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileResolver(),
             casProperties, geoLocationService.getIfAvailable());
     }
 
+    @ConditionalOnMissingBean(name = "authenticationRiskProfileResolver")
+    @Bean
+    @RefreshScope
+    public AuthenticationRiskProfileResolver authenticationRiskProfileResolver() {
+        val risk = casProperties.getAuthn().getAdaptive().getRisk();
+        val resolver = new DefaultAuthenticationRiskProfileResolver(casEventRepository.getObject(), casProperties);
+        val expiration = Beans.newDuration(risk.getProfileExpiration());
+        if (expiration.isNegative() || expiration.isZero()) {
+            return resolver;
+        }
+        return new CachingAuthenticationRiskProfileResolver(resolver, expiration, risk.getMaximumProfiles());
+    }
+
+    /**
+     * Record events into the risk profiles as they are saved to the event repository,
+     * which announces them as audit events with the same type, principal and properties.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleAuditApplicationEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        val casEvent = new CasEvent();
+        casEvent.setType(auditEvent.getType());
+        casEvent.setPrincipalId(auditEvent.getPrincipal());
+        casEvent.setCreationTime(DateTimeUtils.zonedDateTimeOf(auditEvent.getTimestamp()).toString());
+        auditEvent.getData().forEach((key, value) -> casEvent.put(key, Objects.toString(value, null)));
+        authenticationRiskProfileResolver().record(casEvent);
+    }
+
     @ConditionalOnMissingBean(name = "authenticationRiskEvaluator")
     @Bean
     @RefreshScope
@@ -170,7 +209,7 @@ public class ElectronicFenceConfiguration {
             LOGGER.warn("No risk calculators are defined to examine authentication requests");
         }
 
-        return new DefaultAuthenticationRiskEvaluator(calculators);
+        return new DefaultAuthenticationRiskEvaluator(calculators, authenticationRiskProfileResolver());
     }
 
     @Bean
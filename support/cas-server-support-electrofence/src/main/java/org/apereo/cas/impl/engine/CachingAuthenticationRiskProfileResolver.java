@@ -0,0 +1,61 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileResolver;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * This is {@link CachingAuthenticationRiskProfileResolver} that keeps the risk profiles of principals in memory
+ * once they are built from the authentication history by the given resolver. Profiles that are kept in memory are
+ * updated incrementally as ticket-granting ticket creation events are recorded,
+ * and are rebuilt from the authentication history once they expire. Events that are recorded for
+ * principals whose profiles are not kept in memory are ignored, since they are picked up from the
+ * authentication history once the profile is built.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class CachingAuthenticationRiskProfileResolver implements AuthenticationRiskProfileResolver {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final AuthenticationRiskProfileResolver delegate;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public CachingAuthenticationRiskProfileResolver(final AuthenticationRiskProfileResolver delegate,
+                                                    final Duration expiration,
+                                                    final long maximumProfiles) {
+        this.delegate = delegate;
+        this.profiles = Caffeine.newBuilder()
+            .expireAfterWrite(expiration)
+            .maximumSize(maximumProfiles)
+            .build();
+    }
+
+    @Override
+    public AuthenticationRiskProfile resolve(final Authentication authentication) {
+        return profiles.get(authentication.getPrincipal().getId(), principal -> delegate.resolve(authentication));
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (EVENT_TYPE.equals(event.getType()) && StringUtils.isNotBlank(event.getPrincipalId())) {
+            val profile = profiles.getIfPresent(event.getPrincipalId());
+            if (profile != null) {
+                LOGGER.trace("Recording event [{}] into the risk profile of [{}]", event.getEventId(), event.getPrincipalId());
+                profile.record(event);
+            }
+        }
+    }
+}
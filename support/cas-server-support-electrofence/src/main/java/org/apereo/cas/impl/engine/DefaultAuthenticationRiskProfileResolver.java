@@ -0,0 +1,44 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileResolver;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileResolver} that builds the risk profile
+ * from the ticket-granting ticket creation events recorded for the principal in recent history.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultAuthenticationRiskProfileResolver implements AuthenticationRiskProfileResolver {
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    @Override
+    public AuthenticationRiskProfile resolve(final Authentication authentication) {
+        val principal = authentication.getPrincipal().getId();
+        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
+        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
+
+        val date = ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
+        val events = casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
+        val profile = AuthenticationRiskProfile.from(events);
+        LOGGER.trace("Built authentication risk profile for [{}] as [{}]", principal, profile);
+        return profile;
+    }
+}
@@ -1,9 +1,12 @@
 package org.apereo.cas;
 
+import org.apereo.cas.api.AuthenticationRiskProfileTests;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.engine.CachingAuthenticationRiskProfileResolverTests;
+import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluatorTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifierTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifierTests;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlanTests;
@@ -28,7 +31,10 @@ import org.junit.platform.suite.api.Suite;
     AuthenticationRiskEmailNotifierTests.class,
     MultifactorAuthenticationContingencyPlanTests.class,
     RiskAwareAuthenticationWebflowEventResolverTests.class,
-    AuthenticationRiskSmsNotifierTests.class
+    AuthenticationRiskSmsNotifierTests.class,
+    AuthenticationRiskProfileTests.class,
+    DefaultAuthenticationRiskEvaluatorTests.class,
+    CachingAuthenticationRiskProfileResolverTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,70 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Authentication")
+public class AuthenticationRiskProfileTests {
+
+    private static CasEvent getEvent(final String ipAddress, final String agent, final int hour) {
+        val event = new CasEvent();
+        event.putClientIpAddress(ipAddress);
+        event.putAgent(agent);
+        event.setCreationTime(ZonedDateTime.of(2021, 1, 1, hour, 30, 0, 0, ZoneOffset.UTC).toString());
+        val location = new GeoLocationRequest(40.71, -74.005);
+        location.setAccuracy("50");
+        event.putGeoLocation(location);
+        return event;
+    }
+
+    @Test
+    public void verifyHistograms() {
+        val profile = AuthenticationRiskProfile.from(List.of(
+            getEvent("107.181.69.221", "Firefox", 1),
+            getEvent("107.181.69.221", "FIREFOX", 23),
+            getEvent("85.90.227.224", "Chrome", 12)));
+        assertFalse(profile.isEmpty());
+        assertEquals(3, profile.getEventCount());
+        assertEquals(2, profile.countIpAddress("107.181.69.221"));
+        assertEquals(0, profile.countIpAddress(null));
+        assertEquals(2, profile.countUserAgent("firefox"));
+        assertEquals(0, profile.countUserAgent("Safari"));
+        assertEquals(3, profile.countGeoLocation(new GeoLocationRequest(40.71, -74.005)));
+        assertEquals(0, profile.countGeoLocation(new GeoLocationRequest(48.85, 2.35)));
+    }
+
+    @Test
+    public void verifyHoursOfDayWindow() {
+        val profile = AuthenticationRiskProfile.from(List.of(
+            getEvent("107.181.69.221", "Firefox", 1),
+            getEvent("107.181.69.221", "Firefox", 23),
+            getEvent("107.181.69.221", "Firefox", 12)));
+        assertEquals(1, profile.countHoursOfDay(10, 14));
+        assertEquals(2, profile.countHoursOfDay(22, 2));
+        assertEquals(0, profile.countHoursOfDay(3, 8));
+    }
+
+    @Test
+    public void verifyEmpty() {
+        val profile = AuthenticationRiskProfile.from(List.of());
+        assertTrue(profile.isEmpty());
+        profile.record(new CasEvent());
+        assertEquals(1, profile.getEventCount());
+    }
+}
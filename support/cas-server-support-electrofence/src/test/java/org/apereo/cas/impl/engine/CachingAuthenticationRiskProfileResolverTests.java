@@ -0,0 +1,71 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingAuthenticationRiskProfileResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Authentication")
+public class CachingAuthenticationRiskProfileResolverTests {
+
+    @Test
+    public void verifyProfileIsUpdatedAsEventsAreRecorded() {
+        val repository = mock(CasEventRepository.class);
+        val events = new ArrayList<CasEvent>();
+        IntStream.range(0, 5).forEach(i -> events.add(MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", i, repository)));
+        doReturn(events).when(repository).getEventsOfTypeForPrincipal(anyString(), anyString(), any());
+
+        val resolver = new CachingAuthenticationRiskProfileResolver(
+            new DefaultAuthenticationRiskProfileResolver(repository, new CasConfigurationProperties()), Duration.ofHours(1), 100);
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val profile = resolver.resolve(authentication);
+        assertEquals(5, profile.getEventCount());
+
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", 5, repository);
+        resolver.record(event);
+        resolver.record(MockTicketGrantingTicketCreatedEventProducer.createEvent("unknown", 6, repository));
+
+        val updated = resolver.resolve(authentication);
+        assertSame(profile, updated);
+        assertEquals(6, updated.getEventCount());
+        assertTrue(updated.countIpAddress(event.getClientIpAddress()) >= 1);
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void verifyOtherEventsAreIgnored() {
+        val repository = mock(CasEventRepository.class);
+        doReturn(new ArrayList<CasEvent>()).when(repository).getEventsOfTypeForPrincipal(anyString(), anyString(), any());
+
+        val resolver = new CachingAuthenticationRiskProfileResolver(
+            new DefaultAuthenticationRiskProfileResolver(repository, new CasConfigurationProperties()), Duration.ofHours(1), 100);
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        assertTrue(resolver.resolve(authentication).isEmpty());
+
+        val event = new CasEvent();
+        event.setType("AnotherEvent");
+        event.setPrincipalId("casuser");
+        event.putClientIpAddress("127.0.0.1");
+        resolver.record(event);
+        assertTrue(resolver.resolve(authentication).isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskEvaluatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Authentication")
+public class DefaultAuthenticationRiskEvaluatorTests {
+
+    @Test
+    public void verifyEventHistoryQueriedOnce() {
+        val repository = mock(CasEventRepository.class);
+        val events = new ArrayList<CasEvent>();
+        IntStream.range(0, 10).forEach(i -> events.add(MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", i, repository)));
+        doReturn(events).when(repository).getEventsOfTypeForPrincipal(anyString(), anyString(), any());
+
+        val casProperties = new CasConfigurationProperties();
+        val resolver = new DefaultAuthenticationRiskProfileResolver(repository, casProperties);
+        val evaluator = new DefaultAuthenticationRiskEvaluator(
+            Set.of(new IpAddressAuthenticationRequestRiskCalculator(resolver, casProperties),
+                new UserAgentAuthenticationRequestRiskCalculator(resolver, casProperties)),
+            resolver);
+
+        val request = new MockHttpServletRequest();
+        val score = evaluator.eval(CoreAuthenticationTestUtils.getAuthentication("casuser"),
+            RegisteredServiceTestUtils.getRegisteredService("test"), request);
+        assertNotNull(score);
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), anyString(), any());
+    }
+}
@@ -2,45 +2,194 @@ package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
- * This is {@link InMemoryCasEventRepository}.
+ * This is {@link InMemoryCasEventRepository} that keeps events in insertion order
+ * along with secondary indexes by principal and event type, so that lookups only visit the events
+ * of interest. Each principal is allocated a bounded buffer of its most recent events and the
+ * repository as a whole is bounded by the number of events it retains and by the time events are allowed
+ * to stay in memory, evicting the oldest events first.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
+@Slf4j
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Deque<StoredCasEvent> timeline = new ArrayDeque<>();
+
+    private final Map<String, Deque<StoredCasEvent>> principals = new HashMap<>();
+
+    private final Map<String, Deque<StoredCasEvent>> types = new HashMap<>();
+
+    private final long maxEvents;
+
+    private final int maxEventsPerPrincipal;
+
+    private final Duration expireAfterWrite;
+
+    private final Clock clock;
+
+    private long evictedEvents;
 
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                      final LoadingCache<String, CasEvent> cache) {
+                                      final long maxEvents,
+                                      final int maxEventsPerPrincipal,
+                                      final Duration expireAfterWrite,
+                                      final Clock clock) {
         super(eventRepositoryFilter);
-        this.cache = cache;
+        this.maxEvents = maxEvents;
+        this.maxEventsPerPrincipal = maxEventsPerPrincipal;
+        this.expireAfterWrite = expireAfterWrite;
+        this.clock = clock;
+    }
+
+    private static String principalKey(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String typeKey(final String type) {
+        return StringUtils.defaultString(type);
+    }
+
+    private static void removeFromIndex(final Map<String, Deque<StoredCasEvent>> index, final String key, final StoredCasEvent stored) {
+        val events = index.get(key);
+        if (events != null) {
+            if (events.peekFirst() == stored) {
+                events.pollFirst();
+            }
+            if (events.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 
     @Override
     public Collection<? extends CasEvent> load() {
-        return cache.asMap().values();
+        return find(() -> timeline, event -> true);
     }
 
     @Override
     public Collection<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id))
-            .collect(Collectors.toSet());
+        return find(() -> principals.get(principalKey(id)), event -> true);
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return find(() -> principals.get(principalKey(principal)), event -> typeKey(type).equals(typeKey(event.getType())));
+    }
+
+    @Override
+    public Collection<? extends CasEvent> getEventsOfType(final String type) {
+        return find(() -> types.get(typeKey(type)), event -> true);
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        cache.put(UUID.randomUUID().toString(), event);
+        val now = clock.millis();
+        val stored = new StoredCasEvent(event, now);
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            timeline.addLast(stored);
+            types.computeIfAbsent(typeKey(event.getType()), key -> new ArrayDeque<>()).addLast(stored);
+            val principalEvents = principals.computeIfAbsent(principalKey(event.getPrincipalId()), key -> new ArrayDeque<>());
+            principalEvents.addLast(stored);
+            while (principalEvents.size() > maxEventsPerPrincipal) {
+                val oldest = principalEvents.pollFirst();
+                oldest.setEvicted(true);
+                evictedEvents++;
+                LOGGER.trace("Evicted event [{}] from the bounded history of principal [{}]", oldest.getEvent().getEventId(), event.getPrincipalId());
+            }
+            evict(now);
+        } finally {
+            writeLock.unlock();
+        }
         return event;
     }
+
+    /**
+     * Remove events that have expired, or exceed the repository capacity.
+     * Events are removed from the head of the timeline, which is always the head of
+     * the corresponding type index and, unless already evicted, the principal index.
+     * Events evicted from the bounded history of a principal do not count towards the capacity,
+     * and are removed from the timeline and the type index once they make up half of the timeline.
+     *
+     * @param now the current time in milliseconds
+     */
+    private void evict(final long now) {
+        val expiration = now - expireAfterWrite.toMillis();
+        while (!timeline.isEmpty()) {
+            val oldest = timeline.peekFirst();
+            if (oldest.isEvicted()) {
+                timeline.pollFirst();
+                removeFromIndex(types, typeKey(oldest.getEvent().getType()), oldest);
+                evictedEvents--;
+            } else if (timeline.size() - evictedEvents > maxEvents || oldest.getStoredAt() <= expiration) {
+                timeline.pollFirst();
+                removeFromIndex(types, typeKey(oldest.getEvent().getType()), oldest);
+                removeFromIndex(principals, principalKey(oldest.getEvent().getPrincipalId()), oldest);
+            } else {
+                break;
+            }
+        }
+        if (evictedEvents > 0 && evictedEvents * 2 >= timeline.size()) {
+            LOGGER.trace("Removing [{}] evicted event(s) from the timeline", evictedEvents);
+            timeline.removeIf(StoredCasEvent::isEvicted);
+            types.values().forEach(events -> events.removeIf(StoredCasEvent::isEvicted));
+            types.values().removeIf(Deque::isEmpty);
+            evictedEvents = 0;
+        }
+    }
+
+    private Collection<CasEvent> find(final Supplier<Deque<StoredCasEvent>> locator, final Predicate<CasEvent> filter) {
+        val readLock = lock.readLock();
+        readLock.lock();
+        try {
+            val results = new ArrayList<CasEvent>();
+            val events = locator.get();
+            if (events != null) {
+                val expiration = clock.millis() - expireAfterWrite.toMillis();
+                events.stream()
+                    .filter(stored -> !stored.isEvicted() && stored.getStoredAt() > expiration)
+                    .map(StoredCasEvent::getEvent)
+                    .filter(filter)
+                    .forEach(results::add);
+            }
+            return results;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @Setter
+    private static class StoredCasEvent {
+        private final CasEvent event;
+
+        private final long storedAt;
+
+        private boolean evicted;
+    }
 }
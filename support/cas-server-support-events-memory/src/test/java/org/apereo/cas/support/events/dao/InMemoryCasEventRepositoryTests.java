@@ -2,15 +2,26 @@ package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.config.CasEventsInMemoryRepositoryConfiguration;
 
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
 /**
  * This is {@link InMemoryCasEventRepositoryTests}.
  *
@@ -27,4 +38,81 @@ public class InMemoryCasEventRepositoryTests extends AbstractCasEventRepositoryT
     @Autowired
     @Qualifier("casEventRepository")
     private CasEventRepository eventRepository;
+
+    private static CasEvent getEvent(final String principal, final String type) {
+        val event = new CasEvent();
+        event.setPrincipalId(principal);
+        event.setType(type);
+        event.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).toString());
+        return event;
+    }
+
+    @Test
+    public void verifyIndexedLookups() {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), 100, 10, Duration.ofHours(1), Clock.systemUTC());
+        repository.save(getEvent("casuser", "login"));
+        repository.save(getEvent("CASUSER", "logout"));
+        repository.save(getEvent("other", "login"));
+        assertEquals(3, repository.load().size());
+        assertEquals(2, repository.getEventsForPrincipal("CasUser").size());
+        assertEquals(1, repository.getEventsOfTypeForPrincipal("login", "casuser").size());
+        assertEquals(2, repository.getEventsOfType("login").size());
+        assertTrue(repository.getEventsOfType("unknown").isEmpty());
+        assertTrue(repository.getEventsForPrincipal("unknown").isEmpty());
+    }
+
+    @Test
+    public void verifyBoundedEviction() {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), 5, 2, Duration.ofHours(1), Clock.systemUTC());
+        for (var i = 0; i < 4; i++) {
+            repository.save(getEvent("casuser", "login"));
+        }
+        assertEquals(2, repository.getEventsForPrincipal("casuser").size());
+        assertEquals(2, repository.getEventsOfType("login").size());
+
+        for (var i = 0; i < 5; i++) {
+            repository.save(getEvent("user" + i, "logout"));
+        }
+        assertTrue(repository.getEventsForPrincipal("casuser").isEmpty());
+        assertEquals(5, repository.load().size());
+        assertTrue(repository.getEventsOfType("login").isEmpty());
+    }
+
+    @Test
+    public void verifyNoisyPrincipalDoesNotEvictOthers() {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), 10, 3, Duration.ofHours(1), Clock.systemUTC());
+        for (var i = 0; i < 3; i++) {
+            repository.save(getEvent("casuser", "login"));
+        }
+        for (var i = 0; i < 1000; i++) {
+            repository.save(getEvent("bot", "login"));
+        }
+        assertEquals(3, repository.getEventsForPrincipal("casuser").size());
+        assertEquals(3, repository.getEventsForPrincipal("bot").size());
+        assertEquals(6, repository.getEventsOfType("login").size());
+        assertEquals(6, repository.load().size());
+
+        for (var i = 0; i < 4; i++) {
+            repository.save(getEvent("user" + i, "logout"));
+        }
+        assertEquals(3, repository.getEventsForPrincipal("casuser").size());
+        assertEquals(10, repository.load().size());
+        repository.save(getEvent("user5", "logout"));
+        assertEquals(2, repository.getEventsForPrincipal("casuser").size());
+    }
+
+    @Test
+    public void verifyExpiration() {
+        val clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), 100, 10, Duration.ofMinutes(1), clock);
+        repository.save(getEvent("casuser", "login"));
+        assertEquals(1, repository.getEventsForPrincipal("casuser").size());
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(2).toMillis());
+        assertTrue(repository.getEventsForPrincipal("casuser").isEmpty());
+        repository.save(getEvent("other", "login"));
+        assertEquals(1, repository.load().size());
+        assertEquals(1, repository.getEventsOfType("login").size());
+    }
 }
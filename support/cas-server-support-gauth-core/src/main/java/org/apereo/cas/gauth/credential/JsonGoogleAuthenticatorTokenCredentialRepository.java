@@ -2,52 +2,96 @@ package org.apereo.cas.gauth.credential;
 
 import org.apereo.cas.authentication.OneTimeTokenAccount;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.io.AppendOnlyJsonJournal;
+import org.apereo.cas.util.io.FileWatcherService;
 import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
-import org.apereo.cas.util.serialization.StringSerializer;
 
 import com.warrenstrange.googleauth.IGoogleAuthenticator;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.Getter;
-import lombok.SneakyThrows;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonGoogleAuthenticatorTokenCredentialRepository}.
+ * Accounts are kept in memory, indexed by username and id, and are reloaded
+ * when the JSON resource is modified externally. Changes are recorded in an append-only journal
+ * next to the JSON resource, which is compacted into the JSON resource once it grows past a threshold.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
-@Getter
 @Slf4j
-public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository {
+public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository implements DisposableBean {
+    /**
+     * Default number of journal entries after which the journal is compacted.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1_000;
+
+    @Getter
     private final Resource location;
 
-    private final StringSerializer<Map<String, List<OneTimeTokenAccount>>> serializer = new OneTimeAccountSerializer();
+    @Getter
+    private final AbstractJacksonBackedStringSerializer<Map<String, List<OneTimeTokenAccount>>> serializer = new OneTimeAccountSerializer();
+
+    private final int compactionThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, List<OneTimeTokenAccount>> accounts = new HashMap<>();
+
+    private final Map<Long, OneTimeTokenAccount> accountsById = new HashMap<>();
+
+    private AppendOnlyJsonJournal<JournalEntry> journal;
+
+    private FileWatcherService watcherService;
+
+    private volatile boolean loaded;
+
+    private long lastCompacted;
 
     public JsonGoogleAuthenticatorTokenCredentialRepository(final Resource location, final IGoogleAuthenticator googleAuthenticator,
                                                             final CipherExecutor<String, String> tokenCredentialCipher) {
+        this(location, googleAuthenticator, tokenCredentialCipher, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JsonGoogleAuthenticatorTokenCredentialRepository(final Resource location, final IGoogleAuthenticator googleAuthenticator,
+                                                            final CipherExecutor<String, String> tokenCredentialCipher,
+                                                            final int compactionThreshold) {
         super(tokenCredentialCipher, googleAuthenticator);
         this.location = location;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    private static String getUsernameKey(final String username) {
+        return username.trim().toLowerCase();
     }
 
     @Override
     public OneTimeTokenAccount get(final long id) {
-        val accounts = readAccountsFromJsonRepository();
-        return accounts.values()
-            .stream()
-            .flatMap(List::stream)
-            .filter(ac -> ac.getId() == id)
-            .findFirst()
-            .orElse(null);
+        return read(() -> {
+            val account = accountsById.get(id);
+            return account != null ? account.clone() : null;
+        });
     }
 
     @Override
@@ -58,25 +102,8 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public Collection<? extends OneTimeTokenAccount> get(final String username) {
         try {
-            if (!location.getFile().exists()) {
-                LOGGER.warn("JSON account repository file [{}] is not found.", location.getFile());
-                return new ArrayList<>(0);
-            }
-
-            if (location.getFile().length() <= 0) {
-                LOGGER.warn("JSON account repository file location [{}] is empty.", location.getFile());
-                return new ArrayList<>(0);
-            }
-            val map = this.serializer.from(location.getFile());
-            if (map == null) {
-                LOGGER.debug("JSON account repository file [{}] is empty.", location.getFile());
-                return new ArrayList<>(0);
-            }
-
-            val account = map.get(username.trim().toLowerCase());
-            if (account != null) {
-                return decode(account);
-            }
+            val records = read(() -> new ArrayList<>(accounts.getOrDefault(getUsernameKey(username), List.of())));
+            return decode(records);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -86,8 +113,10 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public Collection<? extends OneTimeTokenAccount> load() {
         try {
-            return readAccountsFromJsonRepository().values()
-                .stream().flatMap(List::stream).collect(Collectors.toList());
+            return read(() -> accountsById.values()
+                .stream()
+                .map(OneTimeTokenAccount::clone)
+                .collect(Collectors.toList()));
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -98,14 +127,8 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     public OneTimeTokenAccount save(final OneTimeTokenAccount account) {
         try {
             LOGGER.debug("Storing google authenticator account for [{}]", account.getUsername());
-            val accounts = readAccountsFromJsonRepository();
-            LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]",
-                accounts.size(), account.getUsername());
             val encoded = encode(account);
-            val records = accounts.getOrDefault(account.getUsername().trim().toLowerCase(), new ArrayList<>());
-            records.add(encoded);
-            accounts.put(account.getUsername().trim().toLowerCase(), records);
-            writeAccountsToJsonRepository(accounts);
+            write(new JournalEntry(JournalOperation.SAVE, encoded.getUsername(), encoded.getId(), encoded.clone()));
             return encoded;
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -116,21 +139,14 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public OneTimeTokenAccount update(final OneTimeTokenAccount account) {
         try {
-            val accounts = readAccountsFromJsonRepository();
-            if (accounts.containsKey(account.getUsername().trim().toLowerCase())) {
-                val records = accounts.get(account.getUsername().trim().toLowerCase());
-                return records.stream()
-                    .filter(rec -> rec.getId() == account.getId())
-                    .findFirst()
-                    .map(act -> {
-                        val encoded = encode(account);
-                        act.setSecretKey(encoded.getSecretKey());
-                        act.setScratchCodes(encoded.getScratchCodes());
-                        act.setValidationCode(encoded.getValidationCode());
-                        writeAccountsToJsonRepository(accounts);
-                        return encoded;
-                    })
-                    .orElse(null);
+            val username = getUsernameKey(account.getUsername());
+            val exists = read(() -> accounts.getOrDefault(username, List.of())
+                .stream()
+                .anyMatch(rec -> rec.getId() == account.getId()));
+            if (exists) {
+                val encoded = encode(account);
+                write(new JournalEntry(JournalOperation.UPDATE, username, encoded.getId(), encoded.clone()));
+                return encoded;
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -140,66 +156,242 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public void deleteAll() {
-        writeAccountsToJsonRepository(new HashMap<>(0));
+        write(new JournalEntry(JournalOperation.DELETE_ALL, null, 0, null));
     }
 
     @Override
     public void delete(final String username) {
-        val accounts = readAccountsFromJsonRepository();
-        accounts.remove(username.trim().toLowerCase());
-        writeAccountsToJsonRepository(accounts);
+        write(new JournalEntry(JournalOperation.DELETE_USERNAME, getUsernameKey(username), 0, null));
     }
 
     @Override
     public void delete(final long id) {
-        val accounts = readAccountsFromJsonRepository();
-        accounts.forEach((key, value) -> value.removeIf(d -> d.getId() == id));
-        writeAccountsToJsonRepository(accounts);
+        write(new JournalEntry(JournalOperation.DELETE_ID, null, id, null));
     }
 
     @Override
     public long count() {
-        val accounts = readAccountsFromJsonRepository();
-        return accounts.size();
+        return read(accounts::size);
     }
 
     @Override
     public long count(final String username) {
-        val accounts = readAccountsFromJsonRepository();
-        return accounts.containsKey(username.trim().toLowerCase()) ? accounts.get(username.trim().toLowerCase()).size() : 0;
+        return read(() -> accounts.getOrDefault(getUsernameKey(username), List.of()).size());
     }
 
-    private static class OneTimeAccountSerializer extends AbstractJacksonBackedStringSerializer<Map<String, List<OneTimeTokenAccount>>> {
-        private static final long serialVersionUID = 1466569521275630254L;
+    @Override
+    public void destroy() {
+        IOUtils.closeQuietly(watcherService);
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (journal != null && journal.getEntryCount() > 0) {
+                compact();
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
 
-        @Override
-        public Class getTypeToSerialize() {
-            return HashMap.class;
+    private <T> T read(final Supplier<T> supplier) {
+        ensureLoaded();
+        val readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            readLock.unlock();
         }
     }
 
-    @SneakyThrows
-    private void writeAccountsToJsonRepository(final Map<String, List<OneTimeTokenAccount>> accounts) {
-        LOGGER.debug("Saving [{}] google authenticator accounts to JSON file at [{}]", accounts.size(), location.getFile());
-        if (location.getFile() != null) {
-            serializer.to(location.getFile(), accounts);
+    private void write(final JournalEntry entry) {
+        ensureLoaded();
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            apply(entry);
+            if (journal != null) {
+                journal.append(entry);
+                if (journal.getEntryCount() >= compactionThreshold) {
+                    compact();
+                }
+            }
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            writeLock.unlock();
         }
     }
 
-    @SneakyThrows
-    private Map<String, List<OneTimeTokenAccount>> readAccountsFromJsonRepository() {
-        val file = location.getFile();
-        LOGGER.debug("Ensuring JSON repository file exists at [{}]", file);
-        val result = file != null && file.createNewFile();
-        if (result) {
-            LOGGER.debug("Created JSON repository file at [{}]", file);
+    private void apply(final JournalEntry entry) {
+        switch (entry.getOperation()) {
+            case SAVE:
+            case UPDATE:
+                val account = entry.getAccount();
+                removeAccountById(account.getId());
+                accounts.computeIfAbsent(getUsernameKey(account.getUsername()), key -> new ArrayList<>()).add(account);
+                accountsById.put(account.getId(), account);
+                break;
+            case DELETE_USERNAME:
+                val removed = accounts.remove(entry.getUsername());
+                if (removed != null) {
+                    removed.forEach(acct -> accountsById.remove(acct.getId()));
+                }
+                break;
+            case DELETE_ID:
+                removeAccountById(entry.getId());
+                break;
+            case DELETE_ALL:
+            default:
+                accounts.clear();
+                accountsById.clear();
+                break;
         }
-        if (file != null && file.length() > 0) {
-            LOGGER.debug("Reading JSON repository file at [{}]", file);
-            val accounts = this.serializer.from(file);
-            LOGGER.debug("Read [{}] accounts from JSON repository file at [{}]", accounts.size(), file);
-            return accounts;
+    }
+
+    private void removeAccountById(final long id) {
+        val existing = accountsById.remove(id);
+        if (existing != null) {
+            val key = getUsernameKey(existing.getUsername());
+            val records = accounts.get(key);
+            if (records != null) {
+                records.removeIf(acct -> acct.getId() == id);
+                if (records.isEmpty()) {
+                    accounts.remove(key);
+                }
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            val writeLock = lock.writeLock();
+            writeLock.lock();
+            try {
+                if (!loaded) {
+                    readAccountsFromJsonRepository();
+                    startWatchingJsonRepository();
+                    loaded = true;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void startWatchingJsonRepository() {
+        try {
+            if (ResourceUtils.isFile(location)) {
+                watcherService = new FileWatcherService(location.getFile(), this::reloadAccountsFromJsonRepository);
+                watcherService.start(getClass().getSimpleName());
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+    }
+
+    private void reloadAccountsFromJsonRepository(final File file) {
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (file.lastModified() != lastCompacted) {
+                LOGGER.debug("JSON repository file [{}] is modified externally and will be reloaded", file);
+                readAccountsFromJsonRepository();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void readAccountsFromJsonRepository() {
+        accounts.clear();
+        accountsById.clear();
+        try {
+            val file = location.getFile();
+            if (file == null) {
+                return;
+            }
+            if (file.createNewFile()) {
+                LOGGER.debug("Created JSON repository file at [{}]", file);
+            }
+            if (file.length() > 0) {
+                LOGGER.debug("Reading JSON repository file at [{}]", file);
+                val stored = serializer.from(file);
+                if (stored != null) {
+                    stored.values().stream().flatMap(List::stream)
+                        .forEach(account -> apply(new JournalEntry(JournalOperation.SAVE, account.getUsername(), account.getId(), account)));
+                }
+            }
+            journal = new AppendOnlyJsonJournal<>(AppendOnlyJsonJournal.getJournalFileFor(file),
+                serializer.getObjectMapper(), JournalEntry.class);
+            journal.read().forEach(this::apply);
+            LOGGER.debug("Loaded [{}] account(s) from JSON repository file at [{}] and its journal", accountsById.size(), file);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to read JSON account repository at [{}]: [{}]", location, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    private void compact() throws IOException {
+        val file = location.getFile();
+        LOGGER.debug("Compacting [{}] journal entries into JSON file at [{}]", journal.getEntryCount(), file);
+        serializer.to(file, new HashMap<>(accounts));
+        lastCompacted = file.lastModified();
+        journal.reset();
+    }
+
+    /**
+     * The journal operations.
+     */
+    public enum JournalOperation {
+        /**
+         * Save account.
+         */
+        SAVE,
+        /**
+         * Update account.
+         */
+        UPDATE,
+        /**
+         * Delete accounts by username.
+         */
+        DELETE_USERNAME,
+        /**
+         * Delete account by id.
+         */
+        DELETE_ID,
+        /**
+         * Delete all accounts.
+         */
+        DELETE_ALL
+    }
+
+    /**
+     * The journal entry.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntry implements Serializable {
+        private static final long serialVersionUID = 3254212348709478163L;
+
+        private JournalOperation operation;
+
+        private String username;
+
+        private long id;
+
+        private OneTimeTokenAccount account;
+    }
+
+    private static class OneTimeAccountSerializer extends AbstractJacksonBackedStringSerializer<Map<String, List<OneTimeTokenAccount>>> {
+        private static final long serialVersionUID = 1466569521275630254L;
+
+        @Override
+        public Class getTypeToSerialize() {
+            return HashMap.class;
         }
-        return new HashMap<>(0);
     }
 }
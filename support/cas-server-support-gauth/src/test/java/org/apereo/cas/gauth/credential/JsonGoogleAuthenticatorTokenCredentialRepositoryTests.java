@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.OneTimeTokenAccount;
 import org.apereo.cas.gauth.BaseGoogleAuthenticatorTests;
 import org.apereo.cas.otp.repository.credentials.OneTimeTokenCredentialRepository;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.io.AppendOnlyJsonJournal;
 
 import com.warrenstrange.googleauth.IGoogleAuthenticator;
 import lombok.Getter;
@@ -93,6 +94,36 @@ public class JsonGoogleAuthenticatorTokenCredentialRepositoryTests extends BaseO
         assertTrue(repo.load().isEmpty());
     }
 
+    @Test
+    public void verifyJournalCompaction() throws Exception {
+        val file = File.createTempFile("account", ".json");
+        val journal = AppendOnlyJsonJournal.getJournalFileFor(file);
+        val repo = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), 2);
+        val account1 = repo.save(repo.create("casuser1"));
+        assertNotNull(account1);
+        assertTrue(journal.exists());
+        assertEquals(0, file.length());
+
+        val reloaded = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), 2);
+        assertNotNull(reloaded.get(account1.getId()));
+        reloaded.destroy();
+
+        val account2 = repo.create("casuser2");
+        account2.setId(account1.getId() + 1);
+        assertNotNull(repo.save(account2));
+        assertFalse(journal.exists());
+        assertTrue(file.length() > 0);
+        repo.destroy();
+
+        val compacted = new JsonGoogleAuthenticatorTokenCredentialRepository(new FileSystemResource(file),
+            googleAuthenticatorInstance, CipherExecutor.noOpOfStringToString(), 2);
+        assertEquals(2, compacted.count());
+        assertEquals(1, compacted.get("CASUSER2").size());
+        compacted.destroy();
+    }
+
     @Test
     public void verifyBadResource() throws Exception {
         val repo = new JsonGoogleAuthenticatorTokenCredentialRepository(new UrlResource(new URL("https://httpbin.org/get")),
@@ -8,6 +8,7 @@ import org.apereo.cas.configuration.model.support.interrupt.RestfulInterruptProp
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.web.support.WebUtils;
 
@@ -15,15 +16,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpResponse;
 import org.hjson.JsonValue;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.webflow.execution.RequestContext;
 
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 /**
@@ -47,7 +45,6 @@ public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
                                              final Service service,
                                              final Credential credential,
                                              final RequestContext requestContext) {
-        HttpResponse response = null;
         try {
             val parameters = new HashMap<String, Object>();
             parameters.put("username", authentication.getPrincipal().getId());
@@ -76,16 +73,12 @@ public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
                 .parameters(parameters)
                 .headers(headers)
                 .build();
-            response = HttpUtils.execute(exec);
-            if (response != null && response.getEntity() != null) {
-                val content = response.getEntity().getContent();
-                val result = IOUtils.toString(content, StandardCharsets.UTF_8);
-                return MAPPER.readValue(JsonValue.readHjson(result).toString(), InterruptResponse.class);
+            val response = HttpResponseCache.getInstance().execute(exec, HttpResponseCache.toDuration(registeredService));
+            if (response != null && response.getBody() != null) {
+                return MAPPER.readValue(JsonValue.readHjson(response.getBody()).toString(), InterruptResponse.class);
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
-        } finally {
-            HttpUtils.close(response);
         }
         return InterruptResponse.none();
     }
@@ -1,8 +1,14 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.JmsTicketRegistry;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryBatchingPublisher;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryCompressingMessageConverter;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryDefaultPublisher;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitionScheduler;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryPublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryReceiver;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -20,6 +26,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -35,6 +42,9 @@ import org.springframework.jms.support.converter.MessageType;
 
 import javax.jms.ConnectionFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * This is {@link JmsTicketRegistryConfiguration}.
  *
@@ -46,6 +56,8 @@ import javax.jms.ConnectionFactory;
 @EnableJms
 @Slf4j
 public class JmsTicketRegistryConfiguration {
+    private static final String TYPE_ID_PROPERTY_NAME = "@class";
+
     @Autowired
     private CasConfigurationProperties casProperties;
 
@@ -58,6 +70,17 @@ public class JmsTicketRegistryConfiguration {
     @Autowired
     private ObjectProvider<ConnectionFactory> jmsConnectionFactory;
 
+    @Autowired
+    private ObjectProvider<JmsTicketRegistryPartitioner> messageQueueTicketRegistryPartitioner;
+
+    /**
+     * Tickets kept by this node, shared by the ticket registry and the receiver
+     * so that inbound commands apply to the same tickets the registry serves.
+     */
+    private final Map<String, Ticket> ticketRegistryStorage = new ConcurrentHashMap<>();
+
+    private JmsTicketRegistry inboundTicketRegistry;
+
     @ConditionalOnMissingBean(name = "messageQueueTicketRegistryIdentifier")
     @Bean
     public PublisherIdentifier messageQueueTicketRegistryIdentifier() {
@@ -72,8 +95,50 @@ public class JmsTicketRegistryConfiguration {
     @Bean
     public JmsTicketRegistryReceiver messageQueueTicketRegistryReceiver() {
         return new JmsTicketRegistryReceiver(
-            getJmsTicketRegistryWithPublisher(JmsTicketRegistryPublisher.noOp()),
-            messageQueueTicketRegistryIdentifier());
+            getInboundTicketRegistry(),
+            messageQueueTicketRegistryIdentifier(),
+            messageQueueTicketRegistryPartitioner.getIfAvailable());
+    }
+
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.jms.partitioning", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean(name = "messageQueueTicketRegistryPartitioner")
+    @Bean
+    public JmsTicketRegistryPartitioner messageQueueTicketRegistryPartitioner() {
+        val partitioning = casProperties.getTicket().getRegistry().getJms().getPartitioning();
+        return new JmsTicketRegistryPartitioner(messageQueueTicketRegistryIdentifier().getId(),
+            partitioning.getReplicationFactor(), partitioning.getVirtualNodes(),
+            Beans.newDuration(partitioning.getMemberTimeout()),
+            Beans.newDuration(partitioning.getRemoteTicketCacheDuration()));
+    }
+
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.jms.partitioning", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean(name = "messageQueueTicketRegistryPartitionScheduler")
+    @Bean
+    public JmsTicketRegistryPartitionScheduler messageQueueTicketRegistryPartitionScheduler() {
+        return new JmsTicketRegistryPartitionScheduler(messageQueueTicketRegistryPublisher(),
+            messageQueueTicketRegistryIdentifier(),
+            messageQueueTicketRegistryPartitioner.getObject(),
+            getInboundTicketRegistry());
+    }
+
+    @ConditionalOnMissingBean(name = "messageQueueTicketRegistryPublisher")
+    @Bean
+    public JmsTicketRegistryPublisher messageQueueTicketRegistryPublisher() {
+        val template = this.jmsTemplate.getObject();
+        template.setMessageConverter(jacksonJmsMessageConverter());
+        val jms = casProperties.getTicket().getRegistry().getJms();
+        val partitioning = jms.getPartitioning();
+        if (partitioning.isEnabled()) {
+            template.setReceiveTimeout(Beans.newDuration(partitioning.getRequestTimeout()).toMillis());
+        }
+        val publisher = new JmsTicketRegistryDefaultPublisher(template);
+        val batching = jms.getBatching();
+        val window = Beans.newDuration(batching.getWindow());
+        if (window.isZero() || window.isNegative()) {
+            return publisher;
+        }
+        return new JmsTicketRegistryBatchingPublisher(publisher, messageQueueTicketRegistryIdentifier(),
+            window, batching.getMaximumBatchSize());
     }
 
     @Bean
@@ -88,16 +153,21 @@ public class JmsTicketRegistryConfiguration {
         mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
         converter.setObjectMapper(mapper);
         converter.setTargetType(MessageType.TEXT);
-        converter.setTypeIdPropertyName("@class");
-        return converter;
+        converter.setTypeIdPropertyName(TYPE_ID_PROPERTY_NAME);
+
+        val threshold = casProperties.getTicket().getRegistry().getJms().getCompressionThreshold();
+        if (threshold <= 0) {
+            return converter;
+        }
+        return new JmsTicketRegistryCompressingMessageConverter(converter, mapper, TYPE_ID_PROPERTY_NAME, threshold);
     }
 
     @Bean
     @RefreshScope
     public TicketRegistry ticketRegistry() {
-        val template = this.jmsTemplate.getObject();
-        template.setMessageConverter(jacksonJmsMessageConverter());
-        return getJmsTicketRegistryWithPublisher(new JmsTicketRegistryDefaultPublisher(template));
+        return getJmsTicketRegistryWithPublisher(messageQueueTicketRegistryPublisher(),
+            messageQueueTicketRegistryPartitioner.getIfAvailable())
+            .withInboundTicketRegistry(getInboundTicketRegistry());
     }
 
     @ConditionalOnMissingBean(name = "messageQueueTicketRegistryFactory")
@@ -109,11 +179,25 @@ public class JmsTicketRegistryConfiguration {
         return factory;
     }
 
-    private TicketRegistry getJmsTicketRegistryWithPublisher(final JmsTicketRegistryPublisher publisher) {
+    /**
+     * Gets the registry that applies commands received from other nodes to the tickets kept by this node.
+     * It does not publish commands of its own, and shares the ticket id filter of the ticket registry.
+     *
+     * @return the inbound ticket registry
+     */
+    private synchronized JmsTicketRegistry getInboundTicketRegistry() {
+        if (inboundTicketRegistry == null) {
+            inboundTicketRegistry = getJmsTicketRegistryWithPublisher(JmsTicketRegistryPublisher.noOp(), null);
+        }
+        return inboundTicketRegistry;
+    }
+
+    private JmsTicketRegistry getJmsTicketRegistryWithPublisher(final JmsTicketRegistryPublisher publisher,
+                                                                final JmsTicketRegistryPartitioner partitioner) {
         val jms = casProperties.getTicket().getRegistry().getJms();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(jms.getCrypto(), "jms");
         val messageQueueTicketRegistryIdentifier = messageQueueTicketRegistryIdentifier();
         LOGGER.debug("Configuring JMS ticket registry with identifier [{}]", messageQueueTicketRegistryIdentifier);
-        return new JmsTicketRegistry(publisher, messageQueueTicketRegistryIdentifier, cipher);
+        return new JmsTicketRegistry(publisher, messageQueueTicketRegistryIdentifier, cipher, ticketRegistryStorage, partitioner);
     }
 }
@@ -2,8 +2,11 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.CountSessionsMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.FetchTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -11,9 +14,26 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * This is {@link JmsTicketRegistry}.
+ * By default, every ticket operation is broadcasted to all nodes, each of which keeps a full copy of all tickets.
+ * When a {@link JmsTicketRegistryPartitioner} is provided, tickets are only stored by and sent to the nodes
+ * that own them; tickets owned by other nodes are fetched from their owners on demand and kept in memory briefly.
+ * Deletions are always broadcasted so that no node keeps serving a removed ticket from memory.
+ * Session counts of partitioned registries are gathered from all nodes on the ring, each of which
+ * counts the ticket-granting tickets it is the primary owner of. Other bulk operations such as
+ * {@link #stream()}, {@link #getTickets()} and {@link #serviceTicketCount()} only cover the tickets stored
+ * by this node, which is what the registry cleaner and the partition scheduler expect.
+ * Commands received from other nodes are applied by a separate registry instance that shares the same tickets
+ * and ticket id filter, and does not publish commands of its own.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -25,23 +45,94 @@ public class JmsTicketRegistry extends DefaultTicketRegistry {
 
     private final PublisherIdentifier id;
 
+    private final JmsTicketRegistryPartitioner partitioner;
+
+    private volatile AbstractTicketRegistry inboundTicketRegistry;
+
     public JmsTicketRegistry(final JmsTicketRegistryPublisher publisher, final PublisherIdentifier id,
                              final CipherExecutor cipherExecutor) {
-        super(cipherExecutor);
+        this(publisher, id, cipherExecutor, new ConcurrentHashMap<>(), null);
+    }
+
+    public JmsTicketRegistry(final JmsTicketRegistryPublisher publisher, final PublisherIdentifier id,
+                             final CipherExecutor cipherExecutor, final Map<String, Ticket> storageMap,
+                             final JmsTicketRegistryPartitioner partitioner) {
+        super(storageMap, cipherExecutor);
         this.ticketPublisher = publisher;
         this.id = id;
+        this.partitioner = partitioner;
+    }
+
+    /**
+     * Share the ticket id filter of this registry with the registry that applies commands
+     * received from other nodes to the same tickets, so that tickets added by other nodes are
+     * recorded by the filter that serves lookups on this node. The registry replaces any
+     * registry that was given before.
+     *
+     * @param registry the registry that applies inbound commands
+     * @return this registry
+     */
+    public JmsTicketRegistry withInboundTicketRegistry(final AbstractTicketRegistry registry) {
+        registry.setTicketIdFilter(this.ticketIdFilter);
+        this.inboundTicketRegistry = registry;
+        return this;
+    }
+
+    /**
+     * Partitioned registries do not observe tickets added to partitions owned by other nodes,
+     * and may only reject lookups of unknown tickets issued by this node.
+     *
+     * @return true if tickets are not partitioned
+     */
+    @Override
+    public boolean isObservingAllTicketAdditions() {
+        return partitioner == null;
+    }
+
+    @Override
+    public void setTicketIdFilter(final TimePartitionedTicketIdFilter ticketIdFilter) {
+        super.setTicketIdFilter(ticketIdFilter);
+        if (inboundTicketRegistry != null) {
+            inboundTicketRegistry.setTicketIdFilter(ticketIdFilter);
+        }
     }
 
     @Override
     public void addTicketInternal(final @NonNull Ticket ticket) {
-        super.addTicketInternal(ticket);
-        LOGGER.trace("Publishing add command for id [{}] and ticket [{}]", id, ticket.getId());
-        ticketPublisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, ticket));
+        if (partitioner == null) {
+            super.addTicketInternal(ticket);
+            LOGGER.trace("Publishing add command for id [{}] and ticket [{}]", id, ticket.getId());
+            ticketPublisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, ticket));
+        } else {
+            val owners = storeTicket(ticket);
+            LOGGER.trace("Publishing add command for id [{}] and ticket [{}] to [{}]", id, ticket.getId(), owners);
+            publishToOwners(new AddTicketMessageQueueCommand(id, ticket), owners);
+        }
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        val ticket = super.getTicket(ticketId, predicate);
+        if (ticket != null || partitioner == null || StringUtils.isBlank(ticketId) || partitioner.isOwner(ticketId)) {
+            return ticket;
+        }
+        val remoteTicket = partitioner.getRemoteTicket(ticketId).or(() -> {
+            val cmd = new FetchTicketMessageQueueCommand(id, ticketId);
+            cmd.setTargets(new LinkedHashSet<>(partitioner.getOwners(ticketId)));
+            LOGGER.trace("Requesting ticket [{}] from [{}]", ticketId, cmd.getTargets());
+            val result = ticketPublisher.requestTicket(cmd);
+            result.ifPresent(partitioner::cacheRemoteTicket);
+            return result;
+        });
+        return remoteTicket.filter(predicate).orElse(null);
     }
 
     @Override
     public boolean deleteSingleTicket(final String ticketId) {
-        val result = super.deleteSingleTicket(ticketId);
+        var result = super.deleteSingleTicket(ticketId);
+        if (partitioner != null) {
+            result = partitioner.evictRemoteTicket(ticketId) || result;
+        }
         LOGGER.trace("Publishing delete command for id [{}] and ticket [{}]", id, ticketId);
         ticketPublisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, ticketId));
         return result;
@@ -50,15 +141,78 @@ public class JmsTicketRegistry extends DefaultTicketRegistry {
     @Override
     public long deleteAll() {
         val result = super.deleteAll();
+        if (partitioner != null) {
+            partitioner.evictRemoteTickets();
+        }
         ticketPublisher.publishMessageToQueue(new DeleteTicketsMessageQueueCommand(id));
         return result;
     }
 
     @Override
     public Ticket updateTicket(final Ticket ticket) {
-        val result = super.updateTicket(ticket);
-        LOGGER.trace("Publishing update command for id [{}] and ticket [{}]", id, ticket.getId());
-        ticketPublisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, ticket));
-        return result;
+        if (partitioner == null) {
+            super.addTicketInternal(ticket);
+            LOGGER.trace("Publishing update command for id [{}] and ticket [{}]", id, ticket.getId());
+            ticketPublisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, ticket));
+        } else {
+            val owners = storeTicket(ticket);
+            LOGGER.trace("Publishing update command for id [{}] and ticket [{}] to [{}]", id, ticket.getId(), owners);
+            publishToOwners(new UpdateTicketMessageQueueCommand(id, ticket), owners);
+        }
+        return ticket;
+    }
+
+    @Override
+    public long sessionCount() {
+        if (partitioner == null) {
+            return super.sessionCount();
+        }
+        return countPartitionedSessions(null);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (partitioner == null) {
+            return super.countSessionsFor(principalId);
+        }
+        return countPartitionedSessions(principalId);
+    }
+
+    private long countPartitionedSessions(final String principalId) {
+        return partitioner.getRing().getMembers()
+            .stream()
+            .mapToLong(member -> {
+                if (member.equals(id.getId())) {
+                    return partitioner.countOwnedSessions(this, principalId);
+                }
+                val cmd = new CountSessionsMessageQueueCommand(id, principalId);
+                cmd.setTargets(new LinkedHashSet<>(List.of(member)));
+                LOGGER.trace("Requesting session count of [{}] from [{}]", principalId, member);
+                return ticketPublisher.requestSessionCount(cmd).orElseGet(() -> {
+                    LOGGER.warn("Sessions owned by [{}] are left out of the session count since it did not reply", member);
+                    return 0L;
+                });
+            })
+            .sum();
+    }
+
+    private List<String> storeTicket(final Ticket ticket) {
+        val owners = partitioner.getOwners(ticket.getId());
+        if (owners.contains(id.getId())) {
+            super.addTicketInternal(ticket);
+        } else {
+            super.deleteSingleTicket(ticket.getId());
+            partitioner.cacheRemoteTicket(ticket);
+        }
+        return owners;
+    }
+
+    private void publishToOwners(final BaseMessageQueueCommand cmd, final List<String> owners) {
+        val targets = new LinkedHashSet<>(owners);
+        targets.remove(id.getId());
+        if (!targets.isEmpty()) {
+            cmd.setTargets(targets);
+            ticketPublisher.publishMessageToQueue(cmd);
+        }
     }
 }
@@ -0,0 +1,86 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.FetchTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.cache.MessageBatcher;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This is {@link JmsTicketRegistryBatchingPublisher} that collects commands published
+ * within a short window and sends them to other nodes as a single batch. Commands that refer
+ * to the same ticket are coalesced, so that a batch only carries the latest command for each ticket;
+ * removing all tickets discards every pending command. Requests for tickets are sent right away.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class JmsTicketRegistryBatchingPublisher implements JmsTicketRegistryPublisher, DisposableBean {
+    private final JmsTicketRegistryPublisher delegate;
+
+    private final PublisherIdentifier id;
+
+    @Getter
+    private final MessageBatcher<String, BaseMessageQueueCommand> batcher;
+
+    public JmsTicketRegistryBatchingPublisher(final JmsTicketRegistryPublisher delegate, final PublisherIdentifier id,
+                                              final Duration window, final int maximumBatchSize) {
+        this.delegate = delegate;
+        this.id = id;
+        this.batcher = new MessageBatcher<>(getClass().getSimpleName(), window, maximumBatchSize, this::publishBatch);
+    }
+
+    private static String getTicketId(final BaseMessageQueueCommand cmd) {
+        if (cmd instanceof AddTicketMessageQueueCommand) {
+            return Optional.ofNullable(((AddTicketMessageQueueCommand) cmd).getTicket()).map(Ticket::getId).orElse(null);
+        }
+        if (cmd instanceof UpdateTicketMessageQueueCommand) {
+            return Optional.ofNullable(((UpdateTicketMessageQueueCommand) cmd).getTicket()).map(Ticket::getId).orElse(null);
+        }
+        if (cmd instanceof DeleteTicketMessageQueueCommand) {
+            return ((DeleteTicketMessageQueueCommand) cmd).getTicketId();
+        }
+        return null;
+    }
+
+    @Override
+    public void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
+        if (cmd instanceof DeleteTicketsMessageQueueCommand) {
+            batcher.clear();
+        }
+        batcher.submit(getTicketId(cmd), cmd);
+    }
+
+    @Override
+    public Optional<Ticket> requestTicket(final FetchTicketMessageQueueCommand cmd) {
+        return delegate.requestTicket(cmd);
+    }
+
+    @Override
+    public void destroy() {
+        batcher.destroy();
+    }
+
+    private void publishBatch(final List<BaseMessageQueueCommand> commands) {
+        if (commands.size() == 1) {
+            delegate.publishMessageToQueue(commands.get(0));
+        } else {
+            LOGGER.trace("Publishing batch of [{}] command(s) for id [{}]", commands.size(), id);
+            delegate.publishMessageToQueue(new BatchMessageQueueCommand(id, commands));
+        }
+    }
+}
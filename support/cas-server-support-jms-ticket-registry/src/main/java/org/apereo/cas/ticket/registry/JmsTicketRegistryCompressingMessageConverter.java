@@ -0,0 +1,100 @@
+package org.apereo.cas.ticket.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.util.ClassUtils;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This is {@link JmsTicketRegistryCompressingMessageConverter} that compresses messages
+ * whose payload is larger than a given threshold. Smaller messages are left as they are,
+ * so that nodes keep exchanging the same text messages as before; larger messages are
+ * sent as gzip-compressed bytes messages that carry the same properties.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiredArgsConstructor
+public class JmsTicketRegistryCompressingMessageConverter implements MessageConverter {
+    /**
+     * Message property that marks compressed messages.
+     */
+    public static final String COMPRESSED_PROPERTY = "casTicketRegistryCompressed";
+
+    private final MessageConverter delegate;
+
+    private final ObjectMapper objectMapper;
+
+    private final String typeIdPropertyName;
+
+    private final int compressionThreshold;
+
+    private static byte[] compress(final String text) throws IOException {
+        val output = new ByteArrayOutputStream();
+        try (val gzip = new GZIPOutputStream(output)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+
+    private static String decompress(final byte[] bytes) throws IOException {
+        try (val gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public Message toMessage(final Object object, final Session session) throws JMSException {
+        val message = delegate.toMessage(object, session);
+        if (compressionThreshold <= 0 || !(message instanceof TextMessage)) {
+            return message;
+        }
+        val text = ((TextMessage) message).getText();
+        if (text == null || text.length() < compressionThreshold) {
+            return message;
+        }
+        try {
+            val compressed = session.createBytesMessage();
+            compressed.writeBytes(compress(text));
+            for (val name : Collections.list(message.getPropertyNames())) {
+                compressed.setObjectProperty(name.toString(), message.getObjectProperty(name.toString()));
+            }
+            compressed.setBooleanProperty(COMPRESSED_PROPERTY, true);
+            return compressed;
+        } catch (final IOException e) {
+            throw new MessageConversionException("Unable to compress message", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(final Message message) throws JMSException {
+        if (!(message instanceof BytesMessage) || !message.getBooleanProperty(COMPRESSED_PROPERTY)) {
+            return delegate.fromMessage(message);
+        }
+        val bytesMessage = (BytesMessage) message;
+        val bytes = new byte[(int) bytesMessage.getBodyLength()];
+        bytesMessage.readBytes(bytes);
+        try {
+            val type = ClassUtils.forName(message.getStringProperty(typeIdPropertyName), getClass().getClassLoader());
+            return objectMapper.readValue(decompress(bytes), type);
+        } catch (final Exception e) {
+            throw new MessageConversionException("Unable to read compressed message", e);
+        }
+    }
+}
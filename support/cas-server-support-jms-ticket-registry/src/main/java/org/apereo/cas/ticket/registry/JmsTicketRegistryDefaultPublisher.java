@@ -1,12 +1,22 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.CountSessionsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.FetchTicketMessageQueueCommand;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.jms.core.JmsTemplate;
 
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import java.util.Optional;
+
 /**
  * This is {@link JmsTicketRegistryDefaultPublisher}.
  *
@@ -19,12 +29,50 @@ import org.springframework.jms.core.JmsTemplate;
 public class JmsTicketRegistryDefaultPublisher implements JmsTicketRegistryPublisher {
     private final JmsTemplate jmsTemplate;
 
+    private static Message addressMessage(final Message message, final BaseMessageQueueCommand cmd) throws JMSException {
+        if (cmd.getTargets() != null && !cmd.getTargets().isEmpty()) {
+            message.setStringProperty(TARGETS_PROPERTY, ',' + String.join(",", cmd.getTargets()) + ',');
+        }
+        return message;
+    }
+
     @Override
     public void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
         jmsTemplate.convertAndSend(QUEUE_DESTINATION, cmd,
             message -> {
                 LOGGER.trace("Sending message [{}] from ticket registry id [{}]", message, cmd.getId());
-                return message;
+                return addressMessage(message, cmd);
             });
     }
+
+    @Override
+    public Optional<Ticket> requestTicket(final FetchTicketMessageQueueCommand cmd) {
+        return sendAndReceive(cmd)
+            .filter(AddTicketMessageQueueCommand.class::isInstance)
+            .map(result -> ((AddTicketMessageQueueCommand) result).getTicket());
+    }
+
+    @Override
+    public Optional<Long> requestSessionCount(final CountSessionsMessageQueueCommand cmd) {
+        return sendAndReceive(cmd)
+            .filter(CountSessionsMessageQueueCommand.class::isInstance)
+            .map(result -> ((CountSessionsMessageQueueCommand) result).getCount());
+    }
+
+    private Optional<Object> sendAndReceive(final BaseMessageQueueCommand cmd) {
+        val converter = jmsTemplate.getMessageConverter();
+        val reply = jmsTemplate.sendAndReceive(QUEUE_DESTINATION,
+            session -> addressMessage(converter.toMessage(cmd, session), cmd));
+        if (reply == null) {
+            LOGGER.debug("No reply was received from ticket registries [{}] for [{}]", cmd.getTargets(), cmd.getClass().getSimpleName());
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(converter.fromMessage(reply));
+        } catch (final JMSException e) {
+            LOGGER.warn("Unable to read reply from ticket registries [{}] for [{}]: [{}]",
+                cmd.getTargets(), cmd.getClass().getSimpleName(), e.getMessage());
+        }
+        return Optional.empty();
+    }
 }
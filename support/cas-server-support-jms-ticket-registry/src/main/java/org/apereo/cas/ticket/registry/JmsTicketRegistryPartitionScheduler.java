@@ -0,0 +1,84 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.MembershipMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.LinkedHashSet;
+
+/**
+ * This is {@link JmsTicketRegistryPartitionScheduler} that periodically announces this node
+ * to other nodes, removes nodes that are no longer alive and rebalances tickets once membership changes.
+ * When rebalancing, the first previous owner of a ticket that is still alive sends the ticket
+ * to its new owners, and nodes that no longer own a ticket drop their copy.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JmsTicketRegistryPartitionScheduler implements Runnable, DisposableBean {
+    private final JmsTicketRegistryPublisher publisher;
+
+    private final PublisherIdentifier id;
+
+    private final JmsTicketRegistryPartitioner partitioner;
+
+    private final JmsTicketRegistry localTicketRegistry;
+
+    private JmsTicketRegistryPartitioner.Ring ring;
+
+    @Scheduled(initialDelayString = "${cas.ticket.registry.jms.partitioning.heartbeat-interval:PT5S}",
+        fixedDelayString = "${cas.ticket.registry.jms.partitioning.heartbeat-interval:PT5S}")
+    @Override
+    public void run() {
+        publisher.publishMessageToQueue(new MembershipMessageQueueCommand(id, false));
+        partitioner.evictExpiredMembers();
+        val current = partitioner.getRing();
+        if (ring != null && !ring.equals(current)) {
+            rebalance(ring, current);
+        }
+        ring = current;
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            publisher.publishMessageToQueue(new MembershipMessageQueueCommand(id, true));
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to announce that [{}] is leaving the ticket registry ring: [{}]", id, e.getMessage());
+        }
+    }
+
+    private void rebalance(final JmsTicketRegistryPartitioner.Ring previous, final JmsTicketRegistryPartitioner.Ring current) {
+        val localMember = partitioner.getLocalMember();
+        val replicationFactor = partitioner.getReplicationFactor();
+        LOGGER.debug("Rebalancing tickets from ring members [{}] to [{}]", previous.getMembers(), current.getMembers());
+        localTicketRegistry.getTickets().forEach(ticket -> {
+            val previousOwners = previous.getOwners(ticket.getId(), replicationFactor);
+            val currentOwners = current.getOwners(ticket.getId(), replicationFactor);
+            val handoff = previousOwners.stream().filter(current.getMembers()::contains).findFirst();
+            if (handoff.isPresent() && handoff.get().equals(localMember)) {
+                val targets = new LinkedHashSet<>(currentOwners);
+                targets.removeAll(previousOwners);
+                targets.remove(localMember);
+                if (!targets.isEmpty()) {
+                    LOGGER.trace("Handing off ticket [{}] to [{}]", ticket.getId(), targets);
+                    val cmd = new AddTicketMessageQueueCommand(id, ticket);
+                    cmd.setTargets(targets);
+                    publisher.publishMessageToQueue(cmd);
+                }
+            }
+            if (!currentOwners.contains(localMember)) {
+                LOGGER.trace("Dropping ticket [{}] that is now owned by [{}]", ticket.getId(), currentOwners);
+                localTicketRegistry.deleteSingleTicket(ticket.getId());
+            }
+        });
+    }
+}
@@ -0,0 +1,277 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.digest.MurmurHash3;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link JmsTicketRegistryPartitioner} that assigns tickets to CAS server nodes
+ * using consistent hashing. Each node announces itself periodically; the partitioner tracks
+ * the nodes that are alive and maintains a hash ring on which every node occupies a number
+ * of virtual positions. The owners of a ticket are the first distinct nodes found on the ring
+ * starting from the position of the ticket id, so that a membership change only moves the tickets
+ * whose owners have changed. Tickets that are not owned by this node are kept briefly in memory
+ * once fetched from or sent to their owners.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class JmsTicketRegistryPartitioner {
+    @Getter
+    private final String localMember;
+
+    @Getter
+    private final int replicationFactor;
+
+    private final int virtualNodes;
+
+    private final Duration memberTimeout;
+
+    private final Clock clock;
+
+    private final Map<String, Instant> members = new ConcurrentHashMap<>();
+
+    private final Cache<String, Ticket> remoteTickets;
+
+    @Getter
+    private volatile Ring ring;
+
+    public JmsTicketRegistryPartitioner(final String localMember, final int replicationFactor,
+                                        final int virtualNodes, final Duration memberTimeout,
+                                        final Duration remoteTicketCacheDuration) {
+        this(localMember, replicationFactor, virtualNodes, memberTimeout, remoteTicketCacheDuration, Clock.systemUTC());
+    }
+
+    public JmsTicketRegistryPartitioner(final String localMember, final int replicationFactor,
+                                        final int virtualNodes, final Duration memberTimeout,
+                                        final Duration remoteTicketCacheDuration, final Clock clock) {
+        this.localMember = localMember;
+        this.replicationFactor = Math.max(1, replicationFactor);
+        this.virtualNodes = Math.max(1, virtualNodes);
+        this.memberTimeout = memberTimeout;
+        this.clock = clock;
+        this.remoteTickets = Caffeine.newBuilder()
+            .expireAfterWrite(remoteTicketCacheDuration)
+            .build();
+        this.ring = new Ring(Set.of(localMember), this.virtualNodes);
+    }
+
+    private static long hash(final String value) {
+        return MurmurHash3.hash128x64(value.getBytes(StandardCharsets.UTF_8))[0];
+    }
+
+    /**
+     * Record a heartbeat from the given member.
+     *
+     * @param member the member
+     * @return true if the member has joined the ring
+     */
+    public boolean heartbeat(final String member) {
+        if (localMember.equals(member)) {
+            return false;
+        }
+        val joined = members.put(member, clock.instant()) == null;
+        if (joined) {
+            LOGGER.info("Member [{}] has joined the ticket registry ring", member);
+            rebuildRing();
+        }
+        return joined;
+    }
+
+    /**
+     * Remove the given member from the ring.
+     *
+     * @param member the member
+     * @return true if the member has left the ring
+     */
+    public boolean leave(final String member) {
+        val left = members.remove(member) != null;
+        if (left) {
+            LOGGER.info("Member [{}] has left the ticket registry ring", member);
+            rebuildRing();
+        }
+        return left;
+    }
+
+    /**
+     * Remove members that have not announced themselves within the member timeout.
+     *
+     * @return true if any member was removed
+     */
+    public boolean evictExpiredMembers() {
+        val threshold = clock.instant().minus(memberTimeout);
+        val expired = members.entrySet().removeIf(entry -> entry.getValue().isBefore(threshold));
+        if (expired) {
+            LOGGER.info("Expired members are removed from the ticket registry ring");
+            rebuildRing();
+        }
+        return expired;
+    }
+
+    /**
+     * Gets the nodes that own the given ticket, primary owner first.
+     *
+     * @param ticketId the ticket id
+     * @return the owners
+     */
+    public List<String> getOwners(final String ticketId) {
+        return ring.getOwners(ticketId, replicationFactor);
+    }
+
+    /**
+     * Whether this node owns the given ticket.
+     *
+     * @param ticketId the ticket id
+     * @return true/false
+     */
+    public boolean isOwner(final String ticketId) {
+        return getOwners(ticketId).contains(localMember);
+    }
+
+    /**
+     * Whether this node is the first, primary owner of the given ticket.
+     *
+     * @param ticketId the ticket id
+     * @return true/false
+     */
+    public boolean isPrimaryOwner(final String ticketId) {
+        return getOwners(ticketId).stream().findFirst().filter(localMember::equals).isPresent();
+    }
+
+    /**
+     * Count the ticket-granting tickets stored by the given registry that this node is the primary owner of,
+     * so that tickets replicated to several nodes are only counted by one of them.
+     *
+     * @param registry    the registry that stores the tickets of this node
+     * @param principalId the principal whose tickets are counted, or null to count all tickets
+     * @return the count
+     */
+    public long countOwnedSessions(final TicketRegistry registry, final String principalId) {
+        try (val tickets = registry.stream()) {
+            return tickets
+                .filter(TicketGrantingTicket.class::isInstance)
+                .map(TicketGrantingTicket.class::cast)
+                .filter(ticket -> principalId == null
+                    || ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId))
+                .filter(ticket -> isPrimaryOwner(ticket.getId()))
+                .count();
+        }
+    }
+
+    /**
+     * Keep a ticket owned by other nodes in memory for a short while.
+     *
+     * @param ticket the ticket
+     */
+    public void cacheRemoteTicket(final Ticket ticket) {
+        remoteTickets.put(ticket.getId(), ticket);
+    }
+
+    /**
+     * Gets a ticket owned by other nodes, if it is still kept in memory.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket
+     */
+    public Optional<Ticket> getRemoteTicket(final String ticketId) {
+        return Optional.ofNullable(remoteTickets.getIfPresent(ticketId));
+    }
+
+    /**
+     * Discard a ticket owned by other nodes from memory.
+     *
+     * @param ticketId the ticket id
+     * @return true if the ticket was kept in memory
+     */
+    public boolean evictRemoteTicket(final String ticketId) {
+        return remoteTickets.asMap().remove(ticketId) != null;
+    }
+
+    /**
+     * Discard all tickets owned by other nodes from memory.
+     */
+    public void evictRemoteTickets() {
+        remoteTickets.invalidateAll();
+    }
+
+    private synchronized void rebuildRing() {
+        val current = new TreeSet<>(members.keySet());
+        current.add(localMember);
+        if (!current.equals(ring.getMembers())) {
+            ring = new Ring(current, virtualNodes);
+            LOGGER.debug("Ticket registry ring is rebuilt with members [{}]", current);
+        }
+    }
+
+    /**
+     * An immutable hash ring of members.
+     */
+    @EqualsAndHashCode(of = "members")
+    public static class Ring {
+        @Getter
+        private final Set<String> members;
+
+        private final NavigableMap<Long, String> positions = new TreeMap<>();
+
+        Ring(final Set<String> members, final int virtualNodes) {
+            this.members = new TreeSet<>(members);
+            this.members.forEach(member -> {
+                for (var i = 0; i < virtualNodes; i++) {
+                    positions.put(hash(member + '#' + i), member);
+                }
+            });
+        }
+
+        /**
+         * Gets the distinct members that follow the position of the given key on the ring.
+         *
+         * @param key   the key
+         * @param count the number of members
+         * @return the members
+         */
+        public List<String> getOwners(final String key, final int count) {
+            val limit = Math.min(count, members.size());
+            val owners = new ArrayList<String>(limit);
+            val position = hash(key);
+            for (val member : positions.tailMap(position, true).values()) {
+                if (owners.size() == limit) {
+                    return owners;
+                }
+                if (!owners.contains(member)) {
+                    owners.add(member);
+                }
+            }
+            for (val member : positions.headMap(position, false).values()) {
+                if (owners.size() == limit) {
+                    return owners;
+                }
+                if (!owners.contains(member)) {
+                    owners.add(member);
+                }
+            }
+            return owners;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.CountSessionsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.FetchTicketMessageQueueCommand;
+
+import java.util.Optional;
 
 /**
  * This is {@link JmsTicketRegistryPublisher}.
@@ -15,6 +20,19 @@ public interface JmsTicketRegistryPublisher {
      */
     String QUEUE_DESTINATION = "CasJmsTicketRegistry";
 
+    /**
+     * Message property that lists the identifiers of the ticket registries
+     * a message is addressed to, as a comma-delimited list with leading and trailing commas.
+     * Messages without this property are addressed to all ticket registries.
+     */
+    String TARGETS_PROPERTY = "casTicketRegistryTargets";
+
+    /**
+     * Message selector that only accepts messages addressed to this ticket registry.
+     */
+    String MESSAGE_SELECTOR = TARGETS_PROPERTY + " IS NULL OR "
+        + TARGETS_PROPERTY + " LIKE '%,#{@messageQueueTicketRegistryIdentifier.id},%'";
+
     /**
      * No Op jms ticket registry publisher.
      *
@@ -31,4 +49,26 @@ public interface JmsTicketRegistryPublisher {
      * @param cmd the cmd
      */
     void publishMessageToQueue(BaseMessageQueueCommand cmd);
+
+    /**
+     * Ask the ticket registries the command is addressed to for the current state of a ticket,
+     * and wait for the first reply.
+     *
+     * @param cmd the cmd
+     * @return the ticket, if any
+     */
+    default Optional<Ticket> requestTicket(final FetchTicketMessageQueueCommand cmd) {
+        return Optional.empty();
+    }
+
+    /**
+     * Ask the ticket registry the command is addressed to for the number of sessions it owns,
+     * and wait for its reply.
+     *
+     * @param cmd the cmd
+     * @return the count, if a reply was received
+     */
+    default Optional<Long> requestSessionCount(final CountSessionsMessageQueueCommand cmd) {
+        return Optional.empty();
+    }
 }
@@ -1,6 +1,9 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.CountSessionsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.FetchTicketMessageQueueCommand;
 import org.apereo.cas.util.PublisherIdentifier;
 
 import lombok.RequiredArgsConstructor;
@@ -20,19 +23,53 @@ public class JmsTicketRegistryReceiver {
 
     private final PublisherIdentifier ticketRegistryId;
 
+    private final JmsTicketRegistryPartitioner partitioner;
+
+    public JmsTicketRegistryReceiver(final TicketRegistry ticketRegistry, final PublisherIdentifier ticketRegistryId) {
+        this(ticketRegistry, ticketRegistryId, null);
+    }
+
     /**
      * Receive.
      *
      * @param command command to execute.
+     * @return the reply to send back to the sender, if any
      */
-    @JmsListener(destination = JmsTicketRegistryPublisher.QUEUE_DESTINATION, containerFactory = "messageQueueTicketRegistryFactory")
-    public void receive(final BaseMessageQueueCommand command) {
-        if (!command.getId().equals(this.ticketRegistryId)) {
-            LOGGER.debug("Received message from ticket registry id [{}]. Executing command [{}]",
-                command.getId(), command.getClass().getSimpleName());
-            command.execute(this.ticketRegistry);
-        } else {
+    @JmsListener(destination = JmsTicketRegistryPublisher.QUEUE_DESTINATION,
+        containerFactory = "messageQueueTicketRegistryFactory",
+        selector = JmsTicketRegistryPublisher.MESSAGE_SELECTOR)
+    public Object receive(final BaseMessageQueueCommand command) {
+        if (command.getId().equals(this.ticketRegistryId)) {
             LOGGER.trace("Ignoring inbound command on ticket registry with id [{}]", this.ticketRegistryId);
+            return null;
+        }
+        if (!command.isAddressedTo(this.ticketRegistryId)) {
+            LOGGER.trace("Ignoring inbound command addressed to [{}] on ticket registry with id [{}]", command.getTargets(), this.ticketRegistryId);
+            return null;
+        }
+        LOGGER.debug("Received message from ticket registry id [{}]. Executing command [{}]",
+            command.getId(), command.getClass().getSimpleName());
+        if (command instanceof FetchTicketMessageQueueCommand) {
+            return ((FetchTicketMessageQueueCommand) command).fetch(this.ticketRegistry, this.ticketRegistryId);
+        }
+        if (command instanceof CountSessionsMessageQueueCommand) {
+            return ((CountSessionsMessageQueueCommand) command).count(this.ticketRegistry, this.partitioner, this.ticketRegistryId);
+        }
+        if (command instanceof BatchMessageQueueCommand) {
+            ((BatchMessageQueueCommand) command).getCommands()
+                .stream()
+                .filter(cmd -> cmd.isAddressedTo(this.ticketRegistryId))
+                .forEach(this::execute);
+        } else {
+            execute(command);
+        }
+        return null;
+    }
+
+    private void execute(final BaseMessageQueueCommand command) {
+        if (this.partitioner != null) {
+            command.execute(this.partitioner);
         }
+        command.execute(this.ticketRegistry);
     }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry.queue;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.PublisherIdentifier;
 
@@ -36,4 +37,11 @@ public class AddTicketMessageQueueCommand extends BaseMessageQueueCommand {
         LOGGER.debug("Executing queue command on ticket registry id [{}] to add ticket [{}]", getId().getId(), ticket);
         registry.addTicket(ticket);
     }
+
+    @Override
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+        if (ticket != null) {
+            partitioner.evictRemoteTicket(ticket.getId());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry.queue;
 
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.PublisherIdentifier;
 
@@ -11,6 +12,8 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * This is {@link BaseMessageQueueCommand}.
@@ -29,6 +32,12 @@ public abstract class BaseMessageQueueCommand implements Serializable {
 
     private final PublisherIdentifier id;
 
+    /**
+     * Identifiers of the ticket registries this command is addressed to.
+     * Commands with no targets are addressed to all ticket registries.
+     */
+    private Set<String> targets = new LinkedHashSet<>();
+
     /**
      * Execute.
      *
@@ -36,4 +45,23 @@ public abstract class BaseMessageQueueCommand implements Serializable {
      */
     public void execute(final TicketRegistry registry) {
     }
+
+    /**
+     * Execute the command against the partitioner that tracks ring membership
+     * and tickets owned by other nodes.
+     *
+     * @param partitioner the partitioner
+     */
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+    }
+
+    /**
+     * Whether this command is addressed to the given ticket registry.
+     *
+     * @param registryId the registry id
+     * @return true/false
+     */
+    public boolean isAddressedTo(final PublisherIdentifier registryId) {
+        return targets == null || targets.isEmpty() || targets.contains(registryId.getId());
+    }
 }
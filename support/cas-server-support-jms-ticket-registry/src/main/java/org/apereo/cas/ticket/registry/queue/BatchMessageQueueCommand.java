@@ -0,0 +1,54 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link BatchMessageQueueCommand} that carries a batch of commands
+ * published by the same ticket registry. The batch is addressed to every ticket registry
+ * that any of its commands is addressed to, and receivers only execute
+ * the commands that are addressed to them, in the order they were published.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class BatchMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 5806310453985121476L;
+
+    @JsonProperty
+    private List<BaseMessageQueueCommand> commands;
+
+    @JsonCreator
+    public BatchMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id,
+                                    @JsonProperty("commands") final List<BaseMessageQueueCommand> commands) {
+        super(id);
+        this.commands = new ArrayList<>(commands);
+        if (this.commands.stream().allMatch(cmd -> cmd.getTargets() != null && !cmd.getTargets().isEmpty())) {
+            this.commands.forEach(cmd -> getTargets().addAll(cmd.getTargets()));
+        }
+    }
+
+    @Override
+    public void execute(final TicketRegistry registry) {
+        LOGGER.debug("Executing batch of [{}] queue command(s) on ticket registry id [{}]", commands.size(), getId().getId());
+        commands.forEach(cmd -> cmd.execute(registry));
+    }
+
+    @Override
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+        commands.forEach(cmd -> cmd.execute(partitioner));
+    }
+}
@@ -0,0 +1,66 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * This is {@link CountSessionsMessageQueueCommand} that asks a member of a partitioned
+ * ticket registry for the number of ticket-granting tickets it is the primary owner of,
+ * optionally limited to those of a given principal. Members reply with the same command
+ * whose count is filled in, so that summing the replies of all members counts every
+ * ticket-granting ticket once, regardless of how many nodes store a copy.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class CountSessionsMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 2916870538722047195L;
+
+    @JsonProperty
+    private String principalId;
+
+    @JsonProperty
+    private long count;
+
+    public CountSessionsMessageQueueCommand(final PublisherIdentifier id, final String principalId) {
+        this(id, principalId, 0);
+    }
+
+    @JsonCreator
+    public CountSessionsMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id,
+                                            @JsonProperty("principalId") final String principalId,
+                                            @JsonProperty("count") final long count) {
+        super(id);
+        this.principalId = principalId;
+        this.count = count;
+    }
+
+    /**
+     * Count the sessions owned by the given registry and build the reply.
+     *
+     * @param registry    the registry
+     * @param partitioner the partitioner, if tickets are partitioned
+     * @param registryId  the identifier of the replying registry
+     * @return the reply
+     */
+    public CountSessionsMessageQueueCommand count(final TicketRegistry registry, final JmsTicketRegistryPartitioner partitioner,
+                                                  final PublisherIdentifier registryId) {
+        LOGGER.debug("Executing queue command on ticket registry id [{}] to count sessions of [{}]", getId().getId(), principalId);
+        if (partitioner != null) {
+            return new CountSessionsMessageQueueCommand(registryId, principalId, partitioner.countOwnedSessions(registry, principalId));
+        }
+        val result = principalId == null ? registry.sessionCount() : registry.countSessionsFor(principalId);
+        return new CountSessionsMessageQueueCommand(registryId, principalId, result);
+    }
+}
@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry.queue;
 
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.PublisherIdentifier;
 
@@ -36,4 +37,9 @@ public class DeleteTicketMessageQueueCommand extends BaseMessageQueueCommand {
         LOGGER.debug("Executing queue command on ticket registry id [{}] to delete ticket [{}]", getId().getId(), ticketId);
         registry.deleteTicket(this.ticketId);
     }
+
+    @Override
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+        partitioner.evictRemoteTicket(ticketId);
+    }
 }
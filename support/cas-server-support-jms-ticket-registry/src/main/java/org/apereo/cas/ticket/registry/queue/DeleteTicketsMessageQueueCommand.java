@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry.queue;
 
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.PublisherIdentifier;
 
@@ -30,4 +31,9 @@ public class DeleteTicketsMessageQueueCommand extends BaseMessageQueueCommand {
         LOGGER.debug("Executing queue command on ticket registry id [{}] to delete tickets", getId().getId());
         registry.deleteAll();
     }
+
+    @Override
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+        partitioner.evictRemoteTickets();
+    }
 }
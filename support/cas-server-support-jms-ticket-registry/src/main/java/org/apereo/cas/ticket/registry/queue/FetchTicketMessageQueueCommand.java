@@ -0,0 +1,46 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This is {@link FetchTicketMessageQueueCommand} that asks the owners
+ * of a ticket for its current state. Owners reply with an {@link AddTicketMessageQueueCommand}
+ * whose ticket is left empty if the ticket cannot be found.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class FetchTicketMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = -3315092880726014716L;
+
+    @JsonProperty
+    private String ticketId;
+
+    @JsonCreator
+    public FetchTicketMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id, @JsonProperty("ticketId") final String ticketId) {
+        super(id);
+        this.ticketId = ticketId;
+    }
+
+    /**
+     * Look up the ticket in the given registry and build the reply.
+     *
+     * @param registry   the registry
+     * @param registryId the identifier of the replying registry
+     * @return the reply
+     */
+    public AddTicketMessageQueueCommand fetch(final TicketRegistry registry, final PublisherIdentifier registryId) {
+        LOGGER.debug("Executing queue command on ticket registry id [{}] to fetch ticket [{}]", getId().getId(), ticketId);
+        return new AddTicketMessageQueueCommand(registryId, registry.getTicket(ticketId));
+    }
+}
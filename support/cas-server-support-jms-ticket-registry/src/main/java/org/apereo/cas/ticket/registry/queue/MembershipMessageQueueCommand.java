@@ -0,0 +1,43 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This is {@link MembershipMessageQueueCommand} that announces
+ * a ticket registry node joining or leaving the partitioned ring.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class MembershipMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 2871409367402187243L;
+
+    @JsonProperty
+    private boolean leaving;
+
+    @JsonCreator
+    public MembershipMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id, @JsonProperty("leaving") final boolean leaving) {
+        super(id);
+        this.leaving = leaving;
+    }
+
+    @Override
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+        LOGGER.trace("Executing queue command on ticket registry id [{}] to update membership; leaving [{}]", getId().getId(), leaving);
+        if (leaving) {
+            partitioner.leave(getId().getId());
+        } else {
+            partitioner.heartbeat(getId().getId());
+        }
+    }
+}
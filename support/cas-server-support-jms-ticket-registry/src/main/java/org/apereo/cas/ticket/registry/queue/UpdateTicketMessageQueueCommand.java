@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry.queue;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.PublisherIdentifier;
 
@@ -36,4 +37,9 @@ public class UpdateTicketMessageQueueCommand extends BaseMessageQueueCommand {
         LOGGER.debug("Executing queue command on ticket registry id [{}] to update ticket [{}]", getId().getId(), ticket);
         registry.updateTicket(ticket);
     }
+
+    @Override
+    public void execute(final JmsTicketRegistryPartitioner partitioner) {
+        partitioner.evictRemoteTicket(ticket.getId());
+    }
 }
@@ -1,6 +1,12 @@
 package org.apereo.cas;
 
+import org.apereo.cas.ticket.registry.JmsTicketRegistryBatchingPublisherTests;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryCompressingMessageConverterTests;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryLookupFilterTests;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitionerTests;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryPartitioningTests;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryTests;
+import org.apereo.cas.ticket.registry.PartitionedJmsTicketRegistryTests;
 import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommandTests;
@@ -20,7 +26,13 @@ import org.junit.platform.suite.api.Suite;
     DeleteTicketsMessageQueueCommandTests.class,
     DeleteTicketMessageQueueCommandTests.class,
     UpdateTicketMessageQueueCommandTests.class,
-    JmsTicketRegistryTests.class
+    JmsTicketRegistryTests.class,
+    JmsTicketRegistryPartitionerTests.class,
+    JmsTicketRegistryPartitioningTests.class,
+    JmsTicketRegistryBatchingPublisherTests.class,
+    JmsTicketRegistryCompressingMessageConverterTests.class,
+    JmsTicketRegistryLookupFilterTests.class,
+    PartitionedJmsTicketRegistryTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,129 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.MembershipMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JmsTicketRegistryBatchingPublisherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Tickets")
+public class JmsTicketRegistryBatchingPublisherTests {
+    private static final PublisherIdentifier ID = new PublisherIdentifier();
+
+    private static Ticket getTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    @Test
+    public void verifyCommandsAreBatchedAndCoalesced() {
+        val published = new CopyOnWriteArrayList<BaseMessageQueueCommand>();
+        val publisher = new JmsTicketRegistryBatchingPublisher(published::add, ID, Duration.ofHours(1), 100);
+        val first = getTicket("TGT-1");
+        publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(ID, first));
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(ID, first));
+        val latest = new UpdateTicketMessageQueueCommand(ID, first);
+        publisher.publishMessageToQueue(latest);
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(ID, getTicket("TGT-2")));
+        publisher.publishMessageToQueue(new MembershipMessageQueueCommand(ID, false));
+        assertTrue(published.isEmpty());
+
+        publisher.getBatcher().flush();
+        assertEquals(1, published.size());
+        val batch = (BatchMessageQueueCommand) published.get(0);
+        assertEquals(ID, batch.getId());
+        assertEquals(3, batch.getCommands().size());
+        assertSame(latest, batch.getCommands().get(0));
+        assertTrue(batch.getTargets().isEmpty());
+        assertEquals(5, publisher.getBatcher().getMessageCount());
+        assertEquals(2, publisher.getBatcher().getCoalescedCount());
+        publisher.destroy();
+    }
+
+    @Test
+    public void verifyDeleteAllDiscardsPendingCommands() {
+        val published = new CopyOnWriteArrayList<BaseMessageQueueCommand>();
+        val publisher = new JmsTicketRegistryBatchingPublisher(published::add, ID, Duration.ofHours(1), 100);
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(ID, getTicket("TGT-1")));
+        publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(ID, "TGT-2"));
+        publisher.publishMessageToQueue(new DeleteTicketsMessageQueueCommand(ID));
+        publisher.destroy();
+        assertEquals(1, published.size());
+        assertTrue(published.get(0) instanceof DeleteTicketsMessageQueueCommand);
+    }
+
+    @Test
+    public void verifyBatchIsPublishedOnceFull() {
+        val published = new CopyOnWriteArrayList<BaseMessageQueueCommand>();
+        val publisher = new JmsTicketRegistryBatchingPublisher(published::add, ID, Duration.ofHours(1), 2);
+        publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(ID, "TGT-1"));
+        publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(ID, "TGT-2"));
+        assertEquals(1, published.size());
+        assertEquals(2, ((BatchMessageQueueCommand) published.get(0)).getCommands().size());
+        publisher.destroy();
+    }
+
+    @Test
+    public void verifyCommandsAreFlushed() throws Exception {
+        val published = new CopyOnWriteArrayList<BaseMessageQueueCommand>();
+        val publisher = new JmsTicketRegistryBatchingPublisher(published::add, ID, Duration.ofMillis(10), 100);
+        publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(ID, getTicket("TGT-1")));
+        Thread.sleep(500);
+        assertEquals(1, published.size());
+        assertEquals("TGT-1", ((UpdateTicketMessageQueueCommand) published.get(0)).getTicket().getId());
+        publisher.destroy();
+    }
+
+    @Test
+    public void verifyReceiverExecutesAddressedCommands() {
+        val receiverId = new PublisherIdentifier("receiver");
+        val registry = new JmsTicketRegistry(JmsTicketRegistryPublisher.noOp(), receiverId, CipherExecutor.noOp());
+        val receiver = new JmsTicketRegistryReceiver(registry, receiverId);
+
+        val addressedElsewhere = new AddTicketMessageQueueCommand(ID, getTicket("TGT-1"));
+        addressedElsewhere.setTargets(Set.of("other"));
+        val broadcast = new AddTicketMessageQueueCommand(ID, getTicket("TGT-2"));
+        val addressed = new AddTicketMessageQueueCommand(ID, getTicket("TGT-3"));
+        addressed.setTargets(Set.of(receiverId.getId()));
+        receiver.receive(new BatchMessageQueueCommand(ID, List.of(addressedElsewhere, broadcast, addressed)));
+
+        assertNull(registry.getTicket("TGT-1"));
+        assertNotNull(registry.getTicket("TGT-2"));
+        assertNotNull(registry.getTicket("TGT-3"));
+    }
+
+    @Test
+    public void verifyBatchTargets() {
+        val first = new DeleteTicketMessageQueueCommand(ID, "TGT-1");
+        first.setTargets(Set.of("node-1"));
+        val second = new DeleteTicketMessageQueueCommand(ID, "TGT-2");
+        second.setTargets(Set.of("node-2"));
+        assertEquals(Set.of("node-1", "node-2"), new BatchMessageQueueCommand(ID, List.of(first, second)).getTargets());
+        assertTrue(new BatchMessageQueueCommand(ID, List.of(first, new DeleteTicketMessageQueueCommand(ID, "TGT-3")))
+            .getTargets().isEmpty());
+    }
+}
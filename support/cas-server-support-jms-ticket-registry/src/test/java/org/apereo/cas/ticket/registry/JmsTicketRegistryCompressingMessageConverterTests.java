@@ -0,0 +1,84 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.val;
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+
+import javax.jms.BytesMessage;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link JmsTicketRegistryCompressingMessageConverterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Tickets")
+public class JmsTicketRegistryCompressingMessageConverterTests {
+    private JmsTicketRegistryCompressingMessageConverter converter;
+
+    private Session session;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        val mapper = new ObjectMapper().findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        val delegate = new MappingJackson2MessageConverter();
+        delegate.setObjectMapper(mapper);
+        delegate.setTargetType(MessageType.TEXT);
+        delegate.setTypeIdPropertyName("@class");
+        converter = new JmsTicketRegistryCompressingMessageConverter(delegate, mapper, "@class", 1024);
+
+        session = mock(Session.class);
+        when(session.createTextMessage(anyString())).thenAnswer(args -> {
+            val message = new ActiveMQTextMessage();
+            message.setText(args.getArgument(0));
+            return message;
+        });
+        when(session.createBytesMessage()).thenAnswer(args -> new ActiveMQBytesMessage());
+    }
+
+    @Test
+    public void verifySmallMessageIsNotCompressed() throws Exception {
+        val cmd = new DeleteTicketMessageQueueCommand(new PublisherIdentifier("node"), "TGT-1");
+        val message = converter.toMessage(cmd, session);
+        assertTrue(message instanceof TextMessage);
+        val result = (DeleteTicketMessageQueueCommand) converter.fromMessage(message);
+        assertEquals("TGT-1", result.getTicketId());
+    }
+
+    @Test
+    public void verifyLargeMessageIsCompressed() throws Exception {
+        val ticketId = "TGT-" + RandomStringUtils.randomAlphanumeric(4096);
+        val cmd = new DeleteTicketMessageQueueCommand(new PublisherIdentifier("node"), ticketId);
+        val message = converter.toMessage(cmd, session);
+        assertTrue(message instanceof BytesMessage);
+        assertTrue(message.getBooleanProperty(JmsTicketRegistryCompressingMessageConverter.COMPRESSED_PROPERTY));
+        assertEquals(DeleteTicketMessageQueueCommand.class.getName(), message.getStringProperty("@class"));
+
+        val bytesMessage = (ActiveMQBytesMessage) message;
+        bytesMessage.reset();
+        assertTrue(bytesMessage.getBodyLength() < ticketId.length());
+        val result = (DeleteTicketMessageQueueCommand) converter.fromMessage(bytesMessage);
+        assertEquals(ticketId, result.getTicketId());
+        assertEquals("node", result.getId().getId());
+    }
+}
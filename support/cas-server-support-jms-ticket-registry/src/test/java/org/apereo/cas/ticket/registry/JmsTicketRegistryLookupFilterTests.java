@@ -0,0 +1,125 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JmsTicketRegistryLookupFilterTests} that runs two ticket registries
+ * with ticket id filters against an in-memory message bus.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Tickets")
+public class JmsTicketRegistryLookupFilterTests {
+
+    private static Ticket getTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    private static TimePartitionedTicketIdFilter getFilter() {
+        val filter = new TimePartitionedTicketIdFilter(Duration.ofHours(8), 4, 1000, 0.01, List.of("ST", "TGT"));
+        filter.markReady();
+        return filter;
+    }
+
+    @Test
+    public void verifyTicketsAddedByOtherNodesAreFound() {
+        val bus = new MessageBus();
+        val first = bus.join();
+        val second = bus.join();
+        first.registry.setTicketIdFilter(getFilter());
+        second.registry.setTicketIdFilter(getFilter());
+
+        val ticket = getTicket("TGT-1");
+        first.registry.addTicket(ticket);
+        assertNotNull(first.registry.getTicket(ticket.getId()));
+        assertNotNull(second.registry.getTicket(ticket.getId()));
+        assertNull(second.registry.getTicket("TGT-unknown"));
+
+        val other = getTicket("TGT-2");
+        second.registry.addTicket(other);
+        assertNotNull(first.registry.getTicket(other.getId()));
+    }
+
+    @Test
+    public void verifyFilterIsSharedWhenAttachedLater() {
+        val bus = new MessageBus();
+        val first = bus.join();
+        val second = bus.join();
+        val filter = getFilter();
+        second.registry.setTicketIdFilter(filter);
+        assertSame(filter, second.inboundRegistry.ticketIdFilter);
+
+        val refreshed = getFilter();
+        second.registry.setTicketIdFilter(refreshed);
+        assertSame(refreshed, second.inboundRegistry.ticketIdFilter);
+
+        first.registry.addTicket(getTicket("TGT-3"));
+        assertTrue(refreshed.mightContain("TGT-3"));
+        assertNotNull(second.registry.getTicket("TGT-3"));
+    }
+
+    @Test
+    public void verifyFilterIsAttachedByPostProcessor() {
+        val bus = new MessageBus();
+        val node = bus.join();
+        val postProcessor = new TicketRegistryLookupFilterPostProcessor(CasConfigurationProperties::new);
+        postProcessor.postProcessAfterInitialization(node.registry, "ticketRegistry");
+        assertNotNull(node.registry.ticketIdFilter);
+        assertNull(node.registry.ticketIdFilter.getIssuerSuffix());
+        assertSame(node.registry.ticketIdFilter, node.inboundRegistry.ticketIdFilter);
+    }
+
+    private static class Node {
+        private final PublisherIdentifier id = new PublisherIdentifier();
+
+        private final Map<String, Ticket> storage = new ConcurrentHashMap<>();
+
+        private final JmsTicketRegistry registry;
+
+        private final JmsTicketRegistry inboundRegistry;
+
+        private final JmsTicketRegistryReceiver receiver;
+
+        Node(final JmsTicketRegistryPublisher publisher) {
+            this.inboundRegistry = new JmsTicketRegistry(JmsTicketRegistryPublisher.noOp(), id, CipherExecutor.noOp(), storage, null);
+            this.registry = new JmsTicketRegistry(publisher, id, CipherExecutor.noOp(), storage, null)
+                .withInboundTicketRegistry(inboundRegistry);
+            this.receiver = new JmsTicketRegistryReceiver(inboundRegistry, id);
+        }
+    }
+
+    private static class MessageBus implements JmsTicketRegistryPublisher {
+        private final List<Node> nodes = new ArrayList<>();
+
+        Node join() {
+            val node = new Node(this);
+            nodes.add(node);
+            return node;
+        }
+
+        @Override
+        public void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
+            nodes.forEach(node -> node.receiver.receive(cmd));
+        }
+    }
+}
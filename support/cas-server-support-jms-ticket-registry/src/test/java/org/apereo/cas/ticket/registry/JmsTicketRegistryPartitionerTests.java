@@ -0,0 +1,140 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JmsTicketRegistryPartitionerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Tickets")
+public class JmsTicketRegistryPartitionerTests {
+
+    private static JmsTicketRegistryPartitioner getPartitioner(final String member, final Clock clock) {
+        return new JmsTicketRegistryPartitioner(member, 2, 100,
+            Duration.ofSeconds(30), Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    public void verifySingleMember() {
+        val partitioner = getPartitioner("node-1", Clock.systemUTC());
+        assertEquals(1, partitioner.getOwners("TGT-1").size());
+        assertTrue(partitioner.isOwner("TGT-1"));
+        assertFalse(partitioner.heartbeat("node-1"));
+    }
+
+    @Test
+    public void verifyOwners() {
+        val partitioner = getPartitioner("node-1", Clock.systemUTC());
+        assertTrue(partitioner.heartbeat("node-2"));
+        assertFalse(partitioner.heartbeat("node-2"));
+        assertTrue(partitioner.heartbeat("node-3"));
+
+        val owners = partitioner.getOwners("TGT-1");
+        assertEquals(2, owners.size());
+        assertEquals(2, new HashSet<>(owners).size());
+        assertEquals(owners, partitioner.getOwners("TGT-1"));
+
+        val other = getPartitioner("node-3", Clock.systemUTC());
+        other.heartbeat("node-2");
+        other.heartbeat("node-1");
+        assertEquals(owners, other.getOwners("TGT-1"));
+        assertEquals(partitioner.getRing(), other.getRing());
+    }
+
+    @Test
+    public void verifyMembershipChangeMovesFewTickets() {
+        val partitioner = getPartitioner("node-1", Clock.systemUTC());
+        partitioner.heartbeat("node-2");
+        partitioner.heartbeat("node-3");
+        val previous = partitioner.getRing();
+        partitioner.heartbeat("node-4");
+        val current = partitioner.getRing();
+        assertNotEquals(previous, current);
+
+        var moved = 0;
+        for (var i = 0; i < 1000; i++) {
+            val ticketId = "TGT-" + UUID.randomUUID();
+            if (!previous.getOwners(ticketId, 1).equals(current.getOwners(ticketId, 1))) {
+                moved++;
+            }
+        }
+        assertTrue(moved > 0);
+        assertTrue(moved < 500);
+    }
+
+    @Test
+    public void verifyExpiredMembers() {
+        val clock = new MutableClock();
+        val partitioner = getPartitioner("node-1", clock);
+        partitioner.heartbeat("node-2");
+        assertFalse(partitioner.evictExpiredMembers());
+        clock.advance(Duration.ofMinutes(1));
+        assertTrue(partitioner.evictExpiredMembers());
+        assertEquals(1, partitioner.getRing().getMembers().size());
+
+        partitioner.heartbeat("node-2");
+        assertTrue(partitioner.leave("node-2"));
+        assertFalse(partitioner.leave("node-2"));
+    }
+
+    @Test
+    public void verifyRemoteTickets() {
+        val partitioner = getPartitioner("node-1", Clock.systemUTC());
+        val ticket = new TicketGrantingTicketImpl("TGT-1", CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        partitioner.cacheRemoteTicket(ticket);
+        assertTrue(partitioner.getRemoteTicket(ticket.getId()).isPresent());
+        assertTrue(partitioner.evictRemoteTicket(ticket.getId()));
+        assertFalse(partitioner.getRemoteTicket(ticket.getId()).isPresent());
+        partitioner.cacheRemoteTicket(ticket);
+        partitioner.evictRemoteTickets();
+        assertFalse(partitioner.getRemoteTicket(ticket.getId()).isPresent());
+    }
+
+    private static class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+
+        void advance(final Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.CountSessionsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.FetchTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JmsTicketRegistryPartitioningTests} that runs several partitioned
+ * ticket registries against an in-memory message bus.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Tickets")
+public class JmsTicketRegistryPartitioningTests {
+
+    private static Ticket getTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    private static void runSchedulers(final MessageBus bus) {
+        bus.nodes.forEach(node -> node.scheduler.run());
+    }
+
+    private static List<Node> getOwners(final MessageBus bus, final String ticketId) {
+        return bus.nodes.stream()
+            .filter(node -> node.storage.containsKey(ticketId))
+            .collect(Collectors.toList());
+    }
+
+    private static MessageBus getCluster(final int size) {
+        val bus = new MessageBus();
+        for (var i = 0; i < size; i++) {
+            bus.join();
+        }
+        runSchedulers(bus);
+        runSchedulers(bus);
+        return bus;
+    }
+
+    @Test
+    public void verifyTicketsAreStoredByOwners() {
+        val bus = getCluster(4);
+        for (var i = 0; i < 20; i++) {
+            val ticket = getTicket("TGT-" + i);
+            val origin = bus.nodes.get(i % bus.nodes.size());
+            origin.registry.addTicket(ticket);
+
+            val owners = getOwners(bus, ticket.getId());
+            assertEquals(2, owners.size());
+            owners.forEach(owner -> assertTrue(owner.partitioner.isOwner(ticket.getId())));
+            bus.nodes.forEach(node -> assertNotNull(node.registry.getTicket(ticket.getId())));
+        }
+        assertTrue(bus.published.stream().noneMatch(cmd -> cmd instanceof AddTicketMessageQueueCommand && cmd.getTargets().isEmpty()));
+    }
+
+    @Test
+    public void verifyTicketIsFetchedFromOwners() {
+        val bus = getCluster(3);
+        val ticket = getTicket("TGT-1");
+        val owner = bus.nodes.stream().filter(node -> node.partitioner.isOwner(ticket.getId())).findFirst().orElseThrow();
+        owner.registry.addTicket(ticket);
+        val other = bus.nodes.stream().filter(node -> !node.partitioner.isOwner(ticket.getId())).findFirst().orElseThrow();
+        assertFalse(other.partitioner.getRemoteTicket(ticket.getId()).isPresent());
+        assertNotNull(other.registry.getTicket(ticket.getId()));
+        assertTrue(other.partitioner.getRemoteTicket(ticket.getId()).isPresent());
+        assertNull(other.registry.getTicket("TGT-unknown"));
+    }
+
+    @Test
+    public void verifySessionsAreCountedAcrossNodes() {
+        val bus = getCluster(4);
+        for (var i = 0; i < 20; i++) {
+            bus.nodes.get(i % bus.nodes.size()).registry.addTicket(getTicket("TGT-" + i));
+        }
+        val principalId = CoreAuthenticationTestUtils.getAuthentication().getPrincipal().getId();
+        bus.nodes.forEach(node -> {
+            assertTrue(node.storage.size() < 20);
+            assertEquals(20, node.registry.sessionCount());
+            assertEquals(20, node.registry.countSessionsFor(principalId));
+            assertEquals(0, node.registry.countSessionsFor("unknown"));
+        });
+
+        val silent = bus.nodes.get(1);
+        val silentCount = silent.partitioner.countOwnedSessions(silent.registry, null);
+        bus.nodes.remove(silent);
+        assertEquals(20 - silentCount, bus.nodes.get(0).registry.sessionCount());
+    }
+
+    @Test
+    public void verifyDeleteIsBroadcasted() {
+        val bus = getCluster(3);
+        val ticket = getTicket("TGT-1");
+        bus.nodes.get(0).registry.addTicket(ticket);
+        bus.nodes.forEach(node -> assertNotNull(node.registry.getTicket(ticket.getId())));
+        bus.nodes.get(1).registry.deleteTicket(ticket.getId());
+        bus.nodes.forEach(node -> {
+            assertFalse(node.storage.containsKey(ticket.getId()));
+            assertFalse(node.partitioner.getRemoteTicket(ticket.getId()).isPresent());
+            assertNull(node.registry.getTicket(ticket.getId()));
+        });
+    }
+
+    @Test
+    public void verifyTicketsAreRebalanced() {
+        val bus = getCluster(3);
+        val ticketIds = new ArrayList<String>();
+        for (var i = 0; i < 50; i++) {
+            val ticket = getTicket("TGT-" + i);
+            bus.nodes.get(0).registry.addTicket(ticket);
+            ticketIds.add(ticket.getId());
+        }
+        val joined = bus.join();
+        joined.scheduler.run();
+        runSchedulers(bus);
+
+        ticketIds.forEach(ticketId -> {
+            val expected = joined.partitioner.getOwners(ticketId);
+            val actual = getOwners(bus, ticketId).stream().map(node -> node.id.getId()).collect(Collectors.toList());
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        });
+        assertFalse(joined.storage.isEmpty());
+
+        val leaving = bus.nodes.get(1);
+        leaving.scheduler.destroy();
+        bus.nodes.remove(leaving);
+        runSchedulers(bus);
+        ticketIds.forEach(ticketId -> assertEquals(2, getOwners(bus, ticketId).size()));
+    }
+
+    @Test
+    public void verifyLookupFilterOnlyRejectsTicketsOfThisNode() {
+        val bus = getCluster(3);
+        val postProcessor = new TicketRegistryLookupFilterPostProcessor(CasConfigurationProperties::new);
+        bus.nodes.forEach(node -> {
+            assertFalse(node.registry.isObservingAllTicketAdditions());
+            postProcessor.postProcessAfterInitialization(node.registry, "ticketRegistry");
+            assertNotNull(node.registry.ticketIdFilter.getIssuerSuffix());
+            assertFalse(node.registry.ticketIdFilter.isReady());
+        });
+        for (var i = 0; i < bus.nodes.size(); i++) {
+            val filter = new TimePartitionedTicketIdFilter(Duration.ofHours(8), 4, 1000, 0.01, List.of("TGT"), "node" + i, Clock.systemUTC());
+            filter.markReady();
+            bus.nodes.get(i).registry.setTicketIdFilter(filter);
+        }
+        val ticket = getTicket("TGT-1-issued-node0");
+        bus.nodes.get(0).registry.addTicket(ticket);
+        bus.nodes.forEach(node -> assertNotNull(node.registry.getTicket(ticket.getId())));
+        assertNull(bus.nodes.get(0).registry.getTicket("TGT-2-unknown-node0"));
+        assertNull(bus.nodes.get(1).registry.getTicket("TGT-2-unknown-node0"));
+    }
+
+    private static class Node {
+        private final PublisherIdentifier id = new PublisherIdentifier();
+
+        private final Map<String, Ticket> storage = new ConcurrentHashMap<>();
+
+        private final JmsTicketRegistryPartitioner partitioner;
+
+        private final JmsTicketRegistry registry;
+
+        private final JmsTicketRegistryReceiver receiver;
+
+        private final JmsTicketRegistryPartitionScheduler scheduler;
+
+        Node(final JmsTicketRegistryPublisher publisher) {
+            this.partitioner = new JmsTicketRegistryPartitioner(id.getId(), 2, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+            this.registry = new JmsTicketRegistry(publisher, id, CipherExecutor.noOp(), storage, partitioner);
+            val localRegistry = new JmsTicketRegistry(JmsTicketRegistryPublisher.noOp(), id, CipherExecutor.noOp(), storage, null);
+            this.receiver = new JmsTicketRegistryReceiver(localRegistry, id, partitioner);
+            this.scheduler = new JmsTicketRegistryPartitionScheduler(publisher, id, partitioner, localRegistry);
+        }
+    }
+
+    private static class MessageBus implements JmsTicketRegistryPublisher {
+        private final List<Node> nodes = new ArrayList<>();
+
+        private final List<BaseMessageQueueCommand> published = new ArrayList<>();
+
+        Node join() {
+            val node = new Node(this);
+            nodes.add(node);
+            return node;
+        }
+
+        @Override
+        public void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
+            published.add(cmd);
+            new ArrayList<>(nodes).forEach(node -> node.receiver.receive(cmd));
+        }
+
+        @Override
+        public Optional<Ticket> requestTicket(final FetchTicketMessageQueueCommand cmd) {
+            return nodes.stream()
+                .map(node -> node.receiver.receive(cmd))
+                .filter(Objects::nonNull)
+                .map(reply -> ((AddTicketMessageQueueCommand) reply).getTicket())
+                .filter(Objects::nonNull)
+                .findFirst();
+        }
+
+        @Override
+        public Optional<Long> requestSessionCount(final CountSessionsMessageQueueCommand cmd) {
+            return nodes.stream()
+                .map(node -> node.receiver.receive(cmd))
+                .filter(Objects::nonNull)
+                .map(reply -> ((CountSessionsMessageQueueCommand) reply).getCount())
+                .findFirst();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.config.JmsTicketRegistryConfiguration;
+
+import lombok.Getter;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jms.annotation.EnableJms;
+
+/**
+ * This is {@link PartitionedJmsTicketRegistryTests} that runs
+ * the partitioned registry against an embedded broker.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@SpringBootTest(classes = {
+    ActiveMQAutoConfiguration.class,
+    JmsAutoConfiguration.class,
+    JmsTicketRegistryConfiguration.class,
+    BaseTicketRegistryTests.SharedTestConfiguration.class
+},
+    properties = {
+        "spring.activemq.broker-url=vm://localhost?broker.persistent=false",
+        "spring.activemq.pool.enabled=false",
+        "spring.activemq.packages.trust-all=true",
+        "spring.jms.pub-sub-domain=true",
+        "cas.ticket.registry.jms.partitioning.enabled=true"
+    })
+@EnableJms
+@Tag("JMS")
+@Getter
+public class PartitionedJmsTicketRegistryTests extends BaseTicketRegistryTests {
+    @Autowired
+    @Qualifier("ticketRegistry")
+    private TicketRegistry newTicketRegistry;
+}
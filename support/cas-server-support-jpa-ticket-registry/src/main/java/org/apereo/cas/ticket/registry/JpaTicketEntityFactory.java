@@ -6,28 +6,53 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.generic.JpaTicketEntity;
 import org.apereo.cas.ticket.registry.mysql.MySQLJpaTicketEntity;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
+import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * This is {@link JpaTicketEntityFactory}.
+ * Ticket bodies may optionally be stored compressed, in which case the body is
+ * marked with {@link #COMPRESSED_BODY_PREFIX}. Bodies are always read back based on
+ * the presence of the marker, so compressed and plain bodies may coexist.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
  */
 @Slf4j
 public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<JpaTicketEntity> {
+    /**
+     * Marker that identifies compressed ticket bodies.
+     */
+    public static final String COMPRESSED_BODY_PREFIX = "gzip:";
+
     private static TicketSerializationManager TICKET_SERIALIZATION_MANAGER;
 
+    @Getter
+    private final boolean compressTickets;
+
     public JpaTicketEntityFactory(final String dialect) {
+        this(dialect, false);
+    }
+
+    public JpaTicketEntityFactory(final String dialect, final boolean compressTickets) {
         super(dialect);
+        this.compressTickets = compressTickets;
     }
 
     /**
@@ -63,7 +88,7 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<JpaTicketEn
         return entity
             .setId(ticket.getId())
             .setParentId(ticket.getTicketGrantingTicket() != null ? ticket.getTicketGrantingTicket().getId() : null)
-            .setBody(jsonBody)
+            .setBody(compressTickets ? compressBody(jsonBody) : jsonBody)
             .setType(ticket.getClass().getName())
             .setPrincipalId(authentication != null ? authentication.getPrincipal().getId() : null)
             .setCreationTime(ObjectUtils.defaultIfNull(ticket.getCreationTime(), ZonedDateTime.now(Clock.systemUTC())));
@@ -81,11 +106,43 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<JpaTicketEn
      * @return the registered service
      */
     public Ticket toTicket(final JpaTicketEntity entity) {
-        val ticket = getTicketSerializationManager().deserializeTicket(entity.getBody(), entity.getType());
+        val ticket = getTicketSerializationManager().deserializeTicket(decompressBody(entity.getBody()), entity.getType());
         LOGGER.trace("Converted JPA entity [{}] to [{}]", this, ticket);
         return ticket;
     }
 
+    /**
+     * Compress ticket body.
+     *
+     * @param body the body
+     * @return the compressed body, marked with {@link #COMPRESSED_BODY_PREFIX}
+     */
+    @SneakyThrows
+    protected static String compressBody(final String body) {
+        val bytes = new ByteArrayOutputStream();
+        try (val zip = new GZIPOutputStream(bytes)) {
+            zip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return COMPRESSED_BODY_PREFIX + EncodingUtils.encodeBase64(bytes.toByteArray());
+    }
+
+    /**
+     * Decompress ticket body, if the body is marked as compressed.
+     *
+     * @param body the body
+     * @return the decompressed body
+     */
+    @SneakyThrows
+    protected static String decompressBody(final String body) {
+        if (!StringUtils.startsWith(body, COMPRESSED_BODY_PREFIX)) {
+            return body;
+        }
+        val bytes = EncodingUtils.decodeBase64(body.substring(COMPRESSED_BODY_PREFIX.length()));
+        try (val zip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return IOUtils.toString(zip, StandardCharsets.UTF_8);
+        }
+    }
+
     private Class<? extends JpaTicketEntity> getEntityClass() {
         if (isMySql()) {
             return MySQLJpaTicketEntity.class;
@@ -8,8 +8,8 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.generic.JpaTicketEntity;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -23,6 +23,7 @@ import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,6 +31,8 @@ import java.util.stream.Stream;
 /**
  * JPA implementation of a CAS {@link TicketRegistry}. This implementation of
  * ticket registry is suitable for HA environments.
+ * Queries are built once for the ticket entity in use, so that the persistence provider
+ * may reuse its query plans and prepared statements across calls.
  *
  * @author Scott Battaglia
  * @author Marvin S. Addison
@@ -38,7 +41,6 @@ import java.util.stream.Stream;
 @EnableTransactionManagement(proxyTargetClass = true)
 @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER)
 @Slf4j
-@RequiredArgsConstructor
 @Getter
 public class JpaTicketRegistry extends AbstractTicketRegistry {
     /**
@@ -56,24 +58,81 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
 
     private final CasConfigurationProperties casProperties;
 
+    private final JpaTicketEntityFactory ticketEntityFactory;
+
+    @Getter(AccessLevel.NONE)
+    private final String selectTicketQuery;
+
+    @Getter(AccessLevel.NONE)
+    private final String selectTicketsQuery;
+
+    @Getter(AccessLevel.NONE)
+    private final String countTicketsByTypeQuery;
+
+    @Getter(AccessLevel.NONE)
+    private final String deleteTicketQuery;
+
+    @Getter(AccessLevel.NONE)
+    private final String deleteTicketsQuery;
+
+    @Getter(AccessLevel.NONE)
+    private final String deleteTicketAndChildrenQuery;
+
     @PersistenceContext(unitName = "ticketEntityManagerFactory")
     private EntityManager entityManager;
 
+    public JpaTicketRegistry(final LockModeType lockType, final TicketCatalog ticketCatalog,
+                             final JpaBeanFactory jpaBeanFactory, final TransactionTemplate transactionTemplate,
+                             final CasConfigurationProperties casProperties) {
+        this.lockType = lockType;
+        this.ticketCatalog = ticketCatalog;
+        this.jpaBeanFactory = jpaBeanFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.casProperties = casProperties;
+
+        val jpa = casProperties.getTicket().getRegistry().getJpa();
+        this.ticketEntityFactory = new JpaTicketEntityFactory(jpa.getDialect(), jpa.isCompressTickets());
+        val entityName = ticketEntityFactory.getEntityName();
+        this.selectTicketQuery = String.format("SELECT t FROM %s t WHERE t.id = :id", entityName);
+        this.selectTicketsQuery = String.format("SELECT t FROM %s t", entityName);
+        this.countTicketsByTypeQuery = String.format("SELECT COUNT(t.id) FROM %s t WHERE t.type=:type", entityName);
+        this.deleteTicketQuery = String.format("DELETE FROM %s o WHERE o.id = :id", entityName);
+        this.deleteTicketsQuery = String.format("DELETE FROM %s", entityName);
+        this.deleteTicketAndChildrenQuery = String.format("DELETE FROM %s t WHERE t.parentId = :id OR t.id = :id", entityName);
+    }
+
     private static long countToLong(final Object result) {
         return ((Number) result).longValue();
     }
 
     @Override
     public void addTicketInternal(final Ticket ticket) {
+        this.transactionTemplate.executeWithoutResult(status -> persistTicket(ticket));
+    }
+
+    /**
+     * Add tickets in a single transaction. The persistence context is flushed and cleared
+     * once every configured batch size, allowing the persistence provider to group
+     * inserts into JDBC batches.
+     *
+     * @param toSave the tickets to save
+     */
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) {
+        val batchSize = casProperties.getTicket().getRegistry().getJpa().getBatchSize();
         this.transactionTemplate.executeWithoutResult(status -> {
-            val encodeTicket = encodeTicket(ticket);
-            val factory = getJpaTicketEntityFactory();
-            val ticketEntity = factory.fromTicket(encodeTicket);
-            if (ticket.getTicketGrantingTicket() != null) {
-                ticketEntity.setParentId(encodeTicketId(ticket.getTicketGrantingTicket().getId()));
-            }
-            this.entityManager.persist(ticketEntity);
-            LOGGER.debug("Added ticket [{}] to registry.", encodeTicket);
+            val count = new AtomicLong();
+            toSave
+                .filter(ticket -> ticket != null && !ticket.isExpired())
+                .forEach(ticket -> {
+                    recordIssuedTicketId(ticket);
+                    persistTicket(ticket);
+                    if (batchSize > 0 && count.incrementAndGet() % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                });
+            LOGGER.debug("Added [{}] ticket(s) to registry", count.get());
         });
     }
 
@@ -85,13 +144,11 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             if (StringUtils.isBlank(encTicketId)) {
                 return null;
             }
-            val factory = getJpaTicketEntityFactory();
-            val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", factory.getEntityName());
-            val query = entityManager.createQuery(sql, factory.getType());
+            val query = entityManager.createQuery(selectTicketQuery, ticketEntityFactory.getType());
             query.setParameter("id", encTicketId);
             query.setLockMode(this.lockType);
             val ticket = query.getSingleResult();
-            val entity = getJpaTicketEntityFactory().toTicket(ticket);
+            val entity = ticketEntityFactory.toTicket(ticket);
             val result = decodeTicket(entity);
             if (predicate.test(result)) {
                 return result;
@@ -110,22 +167,19 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public long deleteAll() {
-        val factory = getJpaTicketEntityFactory();
-        val query = entityManager.createQuery(String.format("DELETE FROM %s", factory.getEntityName()));
+        val query = entityManager.createQuery(deleteTicketsQuery);
         return query.executeUpdate();
     }
 
     @Override
     @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
     public Collection<? extends Ticket> getTickets() {
-        val factory = getJpaTicketEntityFactory();
-        val sql = String.format("SELECT t FROM %s t", factory.getEntityName());
-        val query = entityManager.createQuery(sql, factory.getType());
+        val query = entityManager.createQuery(selectTicketsQuery, ticketEntityFactory.getType());
         query.setLockMode(this.lockType);
 
         return query
             .getResultStream()
-            .map(factory::toTicket)
+            .map(ticketEntityFactory::toTicket)
             .map(this::decodeTicket)
             .collect(Collectors.toList());
     }
@@ -135,8 +189,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         LOGGER.trace("Updating ticket [{}]", ticket);
         val encodeTicket = this.encodeTicket(ticket);
 
-        val factory = getJpaTicketEntityFactory();
-        val ticketEntity = factory.fromTicket(encodeTicket);
+        val ticketEntity = ticketEntityFactory.fromTicket(encodeTicket);
 
         this.entityManager.merge(ticketEntity);
         LOGGER.debug("Updated ticket [{}]", encodeTicket);
@@ -151,40 +204,33 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
      */
     @Override
     public Stream<? extends Ticket> stream() {
-        val factory = getJpaTicketEntityFactory();
-        val sql = String.format("SELECT t FROM %s t", factory.getEntityName());
-        val query = entityManager.createQuery(sql, factory.getType());
+        val query = entityManager.createQuery(selectTicketsQuery, ticketEntityFactory.getType());
         query.setLockMode(LockModeType.NONE);
         return jpaBeanFactory
             .streamQuery(query)
             .map(JpaTicketEntity.class::cast)
-            .map(factory::toTicket)
+            .map(ticketEntityFactory::toTicket)
             .map(this::decodeTicket);
     }
 
     @Override
     @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
     public long sessionCount() {
-        val factory = getJpaTicketEntityFactory();
         val md = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
-        val sql = String.format("SELECT COUNT(t.id) FROM %s t WHERE t.type=:type", factory.getEntityName());
-        val query = this.entityManager.createQuery(sql).setParameter("type", md.getImplementationClass().getName());
+        val query = this.entityManager.createQuery(countTicketsByTypeQuery).setParameter("type", md.getImplementationClass().getName());
         return countToLong(query.getSingleResult());
     }
 
     @Override
     @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
     public long serviceTicketCount() {
-        val factory = getJpaTicketEntityFactory();
         val md = this.ticketCatalog.find(ServiceTicket.PREFIX);
-        val sql = String.format("SELECT COUNT(t.id) FROM %s t WHERE t.type=:type", factory.getEntityName());
-        val query = this.entityManager.createQuery(sql).setParameter("type", md.getImplementationClass().getName());
+        val query = this.entityManager.createQuery(countTicketsByTypeQuery).setParameter("type", md.getImplementationClass().getName());
         return countToLong(query.getSingleResult());
     }
 
     @Override
     public boolean deleteSingleTicket(final String ticketIdToDelete) {
-        val factory = getJpaTicketEntityFactory();
         val result = this.transactionTemplate.execute(transactionStatus -> {
             val encTicketId = encodeTicketId(ticketIdToDelete);
             var totalCount = 0;
@@ -193,8 +239,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             if (md.getProperties().isCascadeRemovals()) {
                 totalCount = deleteTicketGrantingTickets(encTicketId);
             } else {
-                val sql = String.format("DELETE FROM %s o WHERE o.id = :id", factory.getEntityName());
-                val query = entityManager.createQuery(sql);
+                val query = entityManager.createQuery(deleteTicketQuery);
                 query.setParameter("id", encTicketId);
                 totalCount = query.executeUpdate();
             }
@@ -203,9 +248,14 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
-    private JpaTicketEntityFactory getJpaTicketEntityFactory() {
-        val jpa = casProperties.getTicket().getRegistry().getJpa();
-        return new JpaTicketEntityFactory(jpa.getDialect());
+    private void persistTicket(final Ticket ticket) {
+        val encodeTicket = encodeTicket(ticket);
+        val ticketEntity = ticketEntityFactory.fromTicket(encodeTicket);
+        if (ticket.getTicketGrantingTicket() != null) {
+            ticketEntity.setParentId(encodeTicketId(ticket.getTicketGrantingTicket().getId()));
+        }
+        this.entityManager.persist(ticketEntity);
+        LOGGER.debug("Added ticket [{}] to registry.", encodeTicket);
     }
 
     /**
@@ -215,10 +265,8 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
      * @return the total count
      */
     private int deleteTicketGrantingTickets(final String ticketId) {
-        val factory = getJpaTicketEntityFactory();
-        var sql = String.format("DELETE FROM %s t WHERE t.parentId = :id OR t.id = :id", factory.getEntityName());
-        LOGGER.trace("Creating delete query [{}] for ticket id [{}]", sql, ticketId);
-        var query = entityManager.createQuery(sql);
+        LOGGER.trace("Creating delete query [{}] for ticket id [{}]", deleteTicketAndChildrenQuery, ticketId);
+        val query = entityManager.createQuery(deleteTicketAndChildrenQuery);
         query.setParameter("id", ticketId);
         return query.executeUpdate();
     }
@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.monitor.SessionHealthIndicatorJpaTests;
+import org.apereo.cas.ticket.registry.CompressedJpaTicketRegistryTests;
 import org.apereo.cas.ticket.registry.JpaTicketRegistryCleanerTests;
 import org.apereo.cas.ticket.registry.JpaTicketRegistryTests;
 import org.apereo.cas.ticket.registry.MySQLJpaTicketRegistryTests;
@@ -25,6 +26,7 @@ import org.junit.platform.suite.api.Suite;
     PostgresJpaTicketRegistryTests.class,
     PostgresJpaLockingStrategyTests.class,
     JpaTicketRegistryTests.class,
+    CompressedJpaTicketRegistryTests.class,
     JpaLockingStrategyTests.class,
     MySQLJpaTicketRegistryTests.class,
     JpaTicketRegistryCleanerTests.class,
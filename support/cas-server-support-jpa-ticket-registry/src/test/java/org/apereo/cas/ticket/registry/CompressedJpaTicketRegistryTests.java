@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for {@link JpaTicketRegistry} class with compressed ticket bodies.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@TestPropertySource(properties = {
+    "cas.ticket.registry.jpa.compress-tickets=true",
+    "cas.ticket.registry.jpa.batch-size=50"
+})
+@Tag("JDBC")
+public class CompressedJpaTicketRegistryTests extends JpaTicketRegistryTests {
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Test
+    public void verifyCompressedBodies() {
+        val tgt = new TicketGrantingTicketImpl("TGT-compressed-1",
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val dialect = casProperties.getTicket().getRegistry().getJpa().getDialect();
+
+        val compressed = new JpaTicketEntityFactory(dialect, true);
+        val entity = compressed.fromTicket(tgt);
+        assertTrue(entity.getBody().startsWith(JpaTicketEntityFactory.COMPRESSED_BODY_PREFIX));
+        assertEquals(tgt, compressed.toTicket(entity));
+
+        val plain = new JpaTicketEntityFactory(dialect);
+        assertEquals(tgt, plain.toTicket(entity));
+        val plainEntity = plain.fromTicket(tgt);
+        assertFalse(plainEntity.getBody().startsWith(JpaTicketEntityFactory.COMPRESSED_BODY_PREFIX));
+        assertEquals(tgt, compressed.toTicket(plainEntity));
+
+        newTicketRegistry.addTicket(tgt);
+        assertEquals(tgt, newTicketRegistry.getTicket(tgt.getId()));
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas.kafka;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -34,6 +35,8 @@ public class KafkaObjectFactory<K, V> {
 
     private String consumerGroupId;
 
+    private String compressionType;
+
     /**
      * Gets kafka admin.
      *
@@ -67,6 +70,9 @@ public class KafkaObjectFactory<K, V> {
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, 1);
         configProps.put(ProducerConfig.RETRIES_CONFIG, 1);
+        if (StringUtils.isNotBlank(this.compressionType)) {
+            configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, this.compressionType);
+        }
         return configProps;
     }
 
@@ -1,12 +1,26 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.metrics.CasMetricsInstrumentationAspect;
+import org.apereo.cas.metrics.HttpEndpointStatisticsMeterBinder;
+import org.apereo.cas.metrics.HttpResponseCacheMeterBinder;
+import org.apereo.cas.metrics.MessageBatcherMeterBinder;
+import org.apereo.cas.metrics.WebflowStateTranscoderMeterBinder;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.util.http.HttpResponseCache;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * This is {@link CasMetricsConfiguration} that attempts to create Spring-managed beans
@@ -17,9 +31,53 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration(value = "casMetricsConfiguration", proxyBeanMethods = false)
 @EnableConfigurationProperties(CasConfigurationProperties.class)
+@EnableScheduling
 public class CasMetricsConfiguration {
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier("ticketCatalog")
+    private ObjectProvider<TicketCatalog> ticketCatalog;
+
     @Bean
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casMetricsInstrumentationAspect")
+    @ConditionalOnProperty(prefix = "cas.monitor.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CasMetricsInstrumentationAspect casMetricsInstrumentationAspect(final MeterRegistry registry) {
+        return new CasMetricsInstrumentationAspect(registry,
+            casProperties.getMonitor().getMetrics(), ticketCatalog);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "messageBatcherMeterBinder")
+    @ConditionalOnProperty(prefix = "cas.monitor.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder messageBatcherMeterBinder() {
+        return new MessageBatcherMeterBinder();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "httpEndpointStatisticsMeterBinder")
+    @ConditionalOnProperty(prefix = "cas.monitor.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder httpEndpointStatisticsMeterBinder() {
+        return new HttpEndpointStatisticsMeterBinder();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "httpResponseCacheMeterBinder")
+    @ConditionalOnProperty(prefix = "cas.monitor.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder httpResponseCacheMeterBinder() {
+        return new HttpResponseCacheMeterBinder("default", HttpResponseCache.getInstance());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "webflowStateTranscoderMeterBinder")
+    @ConditionalOnProperty(prefix = "cas.monitor.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder webflowStateTranscoderMeterBinder() {
+        return new WebflowStateTranscoderMeterBinder();
+    }
 }
@@ -0,0 +1,82 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link BaseRefreshableMeterBinder} that binds meters to statistics whose sources
+ * come and go at runtime. Sources are looked up periodically, meters are registered for sources
+ * that have appeared and are removed for sources that are gone, so that the number of meters
+ * follows the number of sources that are in use.
+ *
+ * @author Misagh Moayyed
+ * @param <T> the type of statistics sources
+ * @since 6.4.0
+ */
+public abstract class BaseRefreshableMeterBinder<T> implements MeterBinder, Runnable {
+    private final Set<MeterRegistry> registries = new HashSet<>();
+
+    private final Map<String, Pair<T, List<Meter.Id>>> boundSources = new HashMap<>();
+
+    @Override
+    public synchronized void bindTo(final MeterRegistry registry) {
+        registries.add(registry);
+        boundSources.forEach((key, bound) -> bind(key, bound.getKey(), registry));
+        run();
+    }
+
+    /**
+     * Register meters for sources that have appeared, and remove meters of sources that are gone.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${cas.monitor.metrics.schedule.start-delay:PT15S}",
+        fixedDelayString = "${cas.monitor.metrics.schedule.repeat-interval:PT1M}")
+    public synchronized void run() {
+        val sources = getSources();
+        boundSources.entrySet().removeIf(entry -> {
+            if (sources.get(entry.getKey()) != entry.getValue().getKey()) {
+                entry.getValue().getValue().forEach(id -> registries.forEach(registry -> registry.remove(id)));
+                return true;
+            }
+            return false;
+        });
+        sources.forEach((key, source) -> {
+            if (!boundSources.containsKey(key)) {
+                val ids = registries.stream()
+                    .flatMap(registry -> bind(key, source, registry).stream())
+                    .map(Meter::getId)
+                    .distinct()
+                    .collect(Collectors.toList());
+                boundSources.put(key, Pair.of(source, ids));
+            }
+        });
+    }
+
+    /**
+     * Gets the statistics sources that are in use, keyed by the value that identifies them in meter tags.
+     *
+     * @return the sources
+     */
+    protected abstract Map<String, T> getSources();
+
+    /**
+     * Register meters for the statistics source.
+     *
+     * @param key      the key of the source
+     * @param source   the source
+     * @param registry the registry
+     * @return the registered meters
+     */
+    protected abstract List<Meter> bind(String key, T source, MeterRegistry registry);
+}
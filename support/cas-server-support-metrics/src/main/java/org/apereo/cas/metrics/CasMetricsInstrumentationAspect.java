@@ -0,0 +1,256 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.validation.Assertion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CasMetricsInstrumentationAspect} that records timers and counters
+ * for the authentication, principal resolution, service ticket validation and ticket registry
+ * operations carried out by Spring-managed components.
+ * <p>
+ * All tags are kept to bounded sets of values (handler and resolver names, registered service
+ * numeric identifiers, ticket prefixes and registry implementations) and meters are cached
+ * once created, so the instrumentation may remain active under production load.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Aspect
+@RequiredArgsConstructor
+public class CasMetricsInstrumentationAspect {
+    /**
+     * Timer recording authentication manager executions.
+     */
+    public static final String METRIC_AUTHENTICATION = "cas.authentication";
+
+    /**
+     * Timer recording authentication handler executions.
+     */
+    public static final String METRIC_AUTHENTICATION_HANDLER = "cas.authentication.handler";
+
+    /**
+     * Timer recording principal resolver executions.
+     */
+    public static final String METRIC_PRINCIPAL_RESOLUTION = "cas.authentication.principal.resolution";
+
+    /**
+     * Timer recording service ticket validation attempts.
+     */
+    public static final String METRIC_VALIDATION = "cas.validation.service.ticket";
+
+    /**
+     * Timer recording ticket registry operations.
+     */
+    public static final String METRIC_TICKET_REGISTRY = "cas.ticket.registry";
+
+    /**
+     * Counter recording ticket registry lookups that found no ticket.
+     */
+    public static final String METRIC_TICKET_REGISTRY_MISSES = "cas.ticket.registry.misses";
+
+    private static final String TAG_OUTCOME = "outcome";
+
+    private static final String TAG_HANDLER = "handler";
+
+    private static final String TAG_RESOLVER = "resolver";
+
+    private static final String TAG_SERVICE = "registeredService";
+
+    private static final String TAG_TICKET_TYPE = "ticketType";
+
+    private static final String TAG_REGISTRY = "registry";
+
+    private static final String TAG_OPERATION = "operation";
+
+    private static final String OUTCOME_SUCCESS = "success";
+
+    private static final String OUTCOME_FAILURE = "failure";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final Map<Pair<String, Tags>, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<Tags, Counter> missCounters = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final MetricsMonitorProperties properties;
+
+    private final ObjectProvider<TicketCatalog> ticketCatalog;
+
+    /**
+     * Instrument the authentication manager.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.authentication.AuthenticationManager+.authenticate(..))")
+    public Object aroundAuthenticationManager(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isAuthentication()) {
+            return joinPoint.proceed();
+        }
+        return record(joinPoint, METRIC_AUTHENTICATION, Tags.empty());
+    }
+
+    /**
+     * Instrument authentication handlers, tagged by handler name.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.authentication.AuthenticationHandler+.authenticate(..))")
+    public Object aroundAuthenticationHandler(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isAuthentication()) {
+            return joinPoint.proceed();
+        }
+        val handler = (AuthenticationHandler) joinPoint.getTarget();
+        return record(joinPoint, METRIC_AUTHENTICATION_HANDLER, Tags.of(TAG_HANDLER, StringUtils.defaultIfBlank(handler.getName(), UNKNOWN)));
+    }
+
+    /**
+     * Instrument principal resolvers, tagged by resolver name.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.authentication.principal.PrincipalResolver+.resolve(..))")
+    public Object aroundPrincipalResolver(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isPrincipalResolution()) {
+            return joinPoint.proceed();
+        }
+        val resolver = (PrincipalResolver) joinPoint.getTarget();
+        return record(joinPoint, METRIC_PRINCIPAL_RESOLUTION, Tags.of(TAG_RESOLVER, StringUtils.defaultIfBlank(resolver.getName(), UNKNOWN)));
+    }
+
+    /**
+     * Instrument service ticket validation, tagged by the identifier of the registered service
+     * that is recorded on the validated assertion, so that no additional service lookups take place.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.CentralAuthenticationService+.validateServiceTicket(..))")
+    public Object aroundServiceTicketValidation(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isValidation()) {
+            return joinPoint.proceed();
+        }
+        val start = meterRegistry.config().clock().monotonicTime();
+        var outcome = OUTCOME_FAILURE;
+        var registeredService = UNKNOWN;
+        try {
+            val result = joinPoint.proceed();
+            outcome = OUTCOME_SUCCESS;
+            registeredService = locateRegisteredServiceId(result);
+            return result;
+        } finally {
+            val tags = Tags.of(TAG_SERVICE, registeredService, TAG_OUTCOME, outcome);
+            stopTimer(METRIC_VALIDATION, tags, start);
+        }
+    }
+
+    /**
+     * Instrument ticket registry operations, tagged by operation, ticket type and registry implementation.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.ticket.registry.TicketRegistry+.getTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.addTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.updateTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.deleteTicket(..))")
+    public Object aroundTicketRegistry(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isTicketRegistry()) {
+            return joinPoint.proceed();
+        }
+        val operation = joinPoint.getSignature().getName();
+        val tags = Tags.of(TAG_OPERATION, operation,
+            TAG_TICKET_TYPE, determineTicketType(joinPoint.getArgs()),
+            TAG_REGISTRY, AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName());
+        val result = record(joinPoint, METRIC_TICKET_REGISTRY, tags);
+        if (result == null && "getTicket".equals(operation)) {
+            missCounters.computeIfAbsent(tags, key -> Counter.builder(METRIC_TICKET_REGISTRY_MISSES)
+                .tags(key)
+                .register(meterRegistry)).increment();
+        }
+        return result;
+    }
+
+    private Object record(final ProceedingJoinPoint joinPoint, final String name, final Tags tags) throws Throwable {
+        val start = meterRegistry.config().clock().monotonicTime();
+        var outcome = OUTCOME_FAILURE;
+        try {
+            val result = joinPoint.proceed();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            stopTimer(name, tags.and(TAG_OUTCOME, outcome), start);
+        }
+    }
+
+    private void stopTimer(final String name, final Tags tags, final long start) {
+        val duration = meterRegistry.config().clock().monotonicTime() - start;
+        timers.computeIfAbsent(Pair.of(name, tags), key -> Timer.builder(key.getKey())
+            .tags(key.getValue())
+            .publishPercentiles(properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray())
+            .publishPercentileHistogram(properties.isPercentileHistogram())
+            .register(meterRegistry))
+            .record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    private String determineTicketType(final Object[] args) {
+        if (args.length == 0) {
+            return UNKNOWN;
+        }
+        if (args[0] instanceof Ticket) {
+            return ((Ticket) args[0]).getPrefix();
+        }
+        if (args[0] instanceof String) {
+            val ticketId = (String) args[0];
+            val index = ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR);
+            val prefix = index != -1 ? ticketId.substring(0, index) : ticketId;
+            return Optional.ofNullable(ticketCatalog.getIfAvailable())
+                .filter(catalog -> catalog.contains(prefix))
+                .map(catalog -> prefix)
+                .orElse(UNKNOWN);
+        }
+        return UNKNOWN;
+    }
+
+    private String locateRegisteredServiceId(final Object result) {
+        if (result instanceof Assertion) {
+            return Optional.ofNullable(((Assertion) result).getRegisteredService())
+                .map(registeredService -> String.valueOf(registeredService.getId()))
+                .orElse(UNKNOWN);
+        }
+        return UNKNOWN;
+    }
+}
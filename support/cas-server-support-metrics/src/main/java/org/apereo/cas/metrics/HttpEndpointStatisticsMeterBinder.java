@@ -0,0 +1,58 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.util.HttpUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HttpEndpointStatisticsMeterBinder} that reports the execution statistics
+ * that are recorded for requests sent via {@link HttpUtils}, tagged by endpoint.
+ * Meters follow the bounded set of endpoints for which statistics are kept.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+public class HttpEndpointStatisticsMeterBinder extends BaseRefreshableMeterBinder<HttpUtils.HttpEndpointStatistics> {
+    /**
+     * Timer recording requests sent to an endpoint.
+     */
+    public static final String METRIC_REQUESTS = "cas.http.client.requests";
+
+    /**
+     * Counter recording requests that failed or produced a server error.
+     */
+    public static final String METRIC_ERRORS = "cas.http.client.errors";
+
+    /**
+     * Gauge recording the longest time spent executing a request.
+     */
+    public static final String METRIC_REQUESTS_MAX = "cas.http.client.requests.max";
+
+    private static final String TAG_ENDPOINT = "endpoint";
+
+    @Override
+    protected Map<String, HttpUtils.HttpEndpointStatistics> getSources() {
+        return HttpUtils.getEndpointStatistics();
+    }
+
+    @Override
+    protected List<Meter> bind(final String key, final HttpUtils.HttpEndpointStatistics source, final MeterRegistry registry) {
+        return List.of(
+            FunctionTimer.builder(METRIC_REQUESTS, source,
+                HttpUtils.HttpEndpointStatistics::getExecutionCount,
+                statistics -> statistics.getTotalExecutionTime().toNanos(), TimeUnit.NANOSECONDS)
+                .tag(TAG_ENDPOINT, key).register(registry),
+            FunctionCounter.builder(METRIC_ERRORS, source, HttpUtils.HttpEndpointStatistics::getErrorCount)
+                .tag(TAG_ENDPOINT, key).register(registry),
+            TimeGauge.builder(METRIC_REQUESTS_MAX, source, TimeUnit.NANOSECONDS, statistics -> statistics.getMaxExecutionTime().toNanos())
+                .tag(TAG_ENDPOINT, key).register(registry));
+    }
+}
@@ -0,0 +1,56 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.util.http.HttpResponseCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * This is {@link HttpResponseCacheMeterBinder} that reports the hits, misses and revalidations
+ * of a {@link HttpResponseCache}, tagged by cache name.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiredArgsConstructor
+public class HttpResponseCacheMeterBinder implements MeterBinder {
+    /**
+     * Counter recording requests answered by the cache, tagged by result.
+     */
+    public static final String METRIC_REQUESTS = "cas.http.response.cache.requests";
+
+    /**
+     * Counter recording cached responses confirmed as unmodified by the endpoint.
+     */
+    public static final String METRIC_REVALIDATIONS = "cas.http.response.cache.revalidations";
+
+    /**
+     * Gauge recording the approximate number of cached responses.
+     */
+    public static final String METRIC_SIZE = "cas.http.response.cache.size";
+
+    private static final String TAG_CACHE = "cache";
+
+    private static final String TAG_RESULT = "result";
+
+    private final String name;
+
+    private final HttpResponseCache cache;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_REQUESTS, cache, HttpResponseCache::getHitCount)
+            .tags(TAG_CACHE, name, TAG_RESULT, "hit").register(registry);
+        FunctionCounter.builder(METRIC_REQUESTS, cache, HttpResponseCache::getStaleHitCount)
+            .tags(TAG_CACHE, name, TAG_RESULT, "stale").register(registry);
+        FunctionCounter.builder(METRIC_REQUESTS, cache, HttpResponseCache::getMissCount)
+            .tags(TAG_CACHE, name, TAG_RESULT, "miss").register(registry);
+        FunctionCounter.builder(METRIC_REVALIDATIONS, cache, HttpResponseCache::getRevalidationCount)
+            .tag(TAG_CACHE, name).register(registry);
+        Gauge.builder(METRIC_SIZE, cache, HttpResponseCache::getSize)
+            .tag(TAG_CACHE, name).register(registry);
+    }
+}
@@ -0,0 +1,94 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.util.cache.MessageBatcher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link MessageBatcherMeterBinder} that reports the statistics of {@link MessageBatcher}s
+ * that are in use, tagged by batcher name.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+public class MessageBatcherMeterBinder extends BaseRefreshableMeterBinder<MessageBatcher<?, ?>> {
+    /**
+     * Counter recording messages submitted to batchers.
+     */
+    public static final String METRIC_MESSAGES = "cas.message.batcher.messages";
+
+    /**
+     * Counter recording batches handed over by batchers.
+     */
+    public static final String METRIC_BATCHES = "cas.message.batcher.batches";
+
+    /**
+     * Counter recording messages that were replaced or discarded before they were handed over.
+     */
+    public static final String METRIC_COALESCED = "cas.message.batcher.coalesced";
+
+    /**
+     * Counter recording batches the consumer failed to accept.
+     */
+    public static final String METRIC_FAILURES = "cas.message.batcher.failures";
+
+    /**
+     * Counter recording messages dropped after the consumer failed to accept them.
+     */
+    public static final String METRIC_DROPPED = "cas.message.batcher.dropped";
+
+    /**
+     * Gauge recording the size of the largest batch.
+     */
+    public static final String METRIC_BATCH_SIZE_MAX = "cas.message.batcher.batch.size.max";
+
+    /**
+     * Gauge recording the average batch latency.
+     */
+    public static final String METRIC_LATENCY_AVERAGE = "cas.message.batcher.latency.average";
+
+    /**
+     * Gauge recording the longest batch latency.
+     */
+    public static final String METRIC_LATENCY_MAX = "cas.message.batcher.latency.max";
+
+    private static final String TAG_NAME = "name";
+
+    @Override
+    protected Map<String, MessageBatcher<?, ?>> getSources() {
+        return MessageBatcher.getInstances()
+            .stream()
+            .collect(Collectors.toMap(MessageBatcher::getName, Function.identity(), (first, second) -> first));
+    }
+
+    @Override
+    protected List<Meter> bind(final String key, final MessageBatcher<?, ?> source, final MeterRegistry registry) {
+        return List.of(
+            FunctionCounter.builder(METRIC_MESSAGES, source, MessageBatcher::getMessageCount)
+                .tag(TAG_NAME, key).register(registry),
+            FunctionCounter.builder(METRIC_BATCHES, source, MessageBatcher::getBatchCount)
+                .tag(TAG_NAME, key).register(registry),
+            FunctionCounter.builder(METRIC_COALESCED, source, MessageBatcher::getCoalescedCount)
+                .tag(TAG_NAME, key).register(registry),
+            FunctionCounter.builder(METRIC_FAILURES, source, MessageBatcher::getFailedBatchCount)
+                .tag(TAG_NAME, key).register(registry),
+            FunctionCounter.builder(METRIC_DROPPED, source, MessageBatcher::getDroppedCount)
+                .tag(TAG_NAME, key).register(registry),
+            Gauge.builder(METRIC_BATCH_SIZE_MAX, source, MessageBatcher::getMaxBatchSize)
+                .tag(TAG_NAME, key).register(registry),
+            TimeGauge.builder(METRIC_LATENCY_AVERAGE, source, TimeUnit.NANOSECONDS, batcher -> batcher.getAverageBatchLatency().toNanos())
+                .tag(TAG_NAME, key).register(registry),
+            TimeGauge.builder(METRIC_LATENCY_MAX, source, TimeUnit.NANOSECONDS, batcher -> batcher.getMaxBatchLatency().toNanos())
+                .tag(TAG_NAME, key).register(registry));
+    }
+}
@@ -0,0 +1,54 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.web.flow.executor.DeflaterEncryptedTranscoder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link WebflowStateTranscoderMeterBinder} that reports the compression statistics
+ * of {@link DeflaterEncryptedTranscoder}s that encode client-side webflow state, tagged by
+ * the flows that use them.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+public class WebflowStateTranscoderMeterBinder extends BaseRefreshableMeterBinder<DeflaterEncryptedTranscoder> {
+    /**
+     * Counter recording webflow states encoded.
+     */
+    public static final String METRIC_ENCODED = "cas.webflow.state.encoded";
+
+    /**
+     * Counter recording serialized bytes of webflow states, before compression.
+     */
+    public static final String METRIC_SERIALIZED_BYTES = "cas.webflow.state.serialized.bytes";
+
+    /**
+     * Counter recording compressed bytes of webflow states, before encryption.
+     */
+    public static final String METRIC_COMPRESSED_BYTES = "cas.webflow.state.compressed.bytes";
+
+    private static final String TAG_FLOW = "flow";
+
+    @Override
+    protected Map<String, DeflaterEncryptedTranscoder> getSources() {
+        return DeflaterEncryptedTranscoder.getInstances();
+    }
+
+    @Override
+    protected List<Meter> bind(final String key, final DeflaterEncryptedTranscoder source, final MeterRegistry registry) {
+        return List.of(
+            FunctionCounter.builder(METRIC_ENCODED, source, DeflaterEncryptedTranscoder::getEncodedCount)
+                .tag(TAG_FLOW, key).register(registry),
+            FunctionCounter.builder(METRIC_SERIALIZED_BYTES, source, DeflaterEncryptedTranscoder::getSerializedBytes)
+                .baseUnit(BaseUnits.BYTES).tag(TAG_FLOW, key).register(registry),
+            FunctionCounter.builder(METRIC_COMPRESSED_BYTES, source, DeflaterEncryptedTranscoder::getCompressedBytes)
+                .baseUnit(BaseUnits.BYTES).tag(TAG_FLOW, key).register(registry));
+    }
+}
@@ -4,6 +4,7 @@ import org.apereo.cas.config.CasMetricsConfiguration;
 import org.apereo.cas.config.CasMetricsRepositoryConfiguration;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,8 +38,13 @@ public class CasMetricsConfigurationTests {
     @Qualifier("timedAspect")
     private TimedAspect timedAspect;
 
+    @Autowired
+    @Qualifier("messageBatcherMeterBinder")
+    private MeterBinder messageBatcherMeterBinder;
+
     @Test
     public void verifyOperation() {
         assertNotNull(timedAspect);
+        assertNotNull(messageBatcherMeterBinder);
     }
 }
@@ -1,5 +1,11 @@
 package org.apereo.cas;
 
+import org.apereo.cas.metrics.CasMetricsInstrumentationAspectTests;
+import org.apereo.cas.metrics.HttpEndpointStatisticsMeterBinderTests;
+import org.apereo.cas.metrics.HttpResponseCacheMeterBinderTests;
+import org.apereo.cas.metrics.MessageBatcherMeterBinderTests;
+import org.apereo.cas.metrics.WebflowStateTranscoderMeterBinderTests;
+
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
@@ -11,7 +17,12 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     CasMetricsConfigurationTests.class,
-    SystemMonitorHealthIndicatorTests.class
+    CasMetricsInstrumentationAspectTests.class,
+    SystemMonitorHealthIndicatorTests.class,
+    MessageBatcherMeterBinderTests.class,
+    HttpEndpointStatisticsMeterBinderTests.class,
+    HttpResponseCacheMeterBinderTests.class,
+    WebflowStateTranscoderMeterBinderTests.class
 })
 @Suite
 public class CasMetricsTestsSuite {
@@ -0,0 +1,137 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.handler.support.SimpleTestUsernamePasswordAuthenticationHandler;
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.DefaultTicketDefinition;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.validation.Assertion;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.security.GeneralSecurityException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CasMetricsInstrumentationAspectTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Metrics")
+public class CasMetricsInstrumentationAspectTests {
+    private SimpleMeterRegistry meterRegistry;
+
+    private MetricsMonitorProperties properties;
+
+    private CasMetricsInstrumentationAspect aspect;
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> providerOf(final T object) {
+        val provider = (ObjectProvider<T>) mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(object);
+        return provider;
+    }
+
+    private <T> T proxy(final T target) {
+        val factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MetricsMonitorProperties();
+        val catalog = new DefaultTicketCatalog();
+        catalog.register(new DefaultTicketDefinition(TicketGrantingTicketImpl.class, TicketGrantingTicket.PREFIX, 0));
+        aspect = new CasMetricsInstrumentationAspect(meterRegistry, properties,
+            providerOf((TicketCatalog) catalog));
+    }
+
+    @Test
+    public void verifyTicketRegistryOperations() {
+        val registry = proxy((TicketRegistry) new DefaultTicketRegistry());
+        val tgt = new TicketGrantingTicketImpl("TGT-123456", CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        assertNotNull(registry.getTicket(tgt.getId()));
+        assertNull(registry.getTicket("TGT-unknown"));
+        assertNull(registry.getTicket("forged-ticket"));
+
+        val addTimer = meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_TICKET_REGISTRY)
+            .tags("operation", "addTicket", "ticketType", TicketGrantingTicket.PREFIX, "registry", "DefaultTicketRegistry")
+            .timer();
+        assertNotNull(addTimer);
+        assertEquals(1, addTimer.count());
+        val getTimer = meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_TICKET_REGISTRY)
+            .tags("operation", "getTicket", "ticketType", TicketGrantingTicket.PREFIX)
+            .timer();
+        assertNotNull(getTimer);
+        assertEquals(2, getTimer.count());
+        val misses = meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_TICKET_REGISTRY_MISSES).counters();
+        assertEquals(2, misses.stream().mapToDouble(c -> c.count()).sum());
+        assertNotNull(meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_TICKET_REGISTRY_MISSES)
+            .tags("ticketType", "unknown").counter());
+    }
+
+    @Test
+    public void verifyAuthenticationHandler() {
+        val handler = proxy((AuthenticationHandler) new SimpleTestUsernamePasswordAuthenticationHandler("MetricsHandler"));
+        assertThrows(GeneralSecurityException.class,
+            () -> handler.authenticate(CoreAuthenticationTestUtils.getCredentialsWithDifferentUsernameAndPassword()));
+        assertDoesNotThrow(() -> handler.authenticate(CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()));
+        val success = meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_AUTHENTICATION_HANDLER)
+            .tags("handler", "MetricsHandler", "outcome", "success").timer();
+        assertNotNull(success);
+        assertEquals(1, success.count());
+        val failure = meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_AUTHENTICATION_HANDLER)
+            .tags("handler", "MetricsHandler", "outcome", "failure").timer();
+        assertNotNull(failure);
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    public void verifyServiceTicketValidation() {
+        val registeredService = mock(RegisteredService.class);
+        when(registeredService.getId()).thenReturn(100L);
+        val assertion = mock(Assertion.class);
+        when(assertion.getRegisteredService()).thenReturn(registeredService);
+        val cas = mock(CentralAuthenticationService.class);
+        when(cas.validateServiceTicket(anyString(), any())).thenReturn(assertion);
+
+        val service = proxy(cas);
+        assertSame(assertion, service.validateServiceTicket("ST-123456", CoreAuthenticationTestUtils.getWebApplicationService()));
+        val timer = meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_VALIDATION)
+            .tags("registeredService", "100", "outcome", "success").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        verify(assertion, atLeastOnce()).getRegisteredService();
+    }
+
+    @Test
+    public void verifyDisabledSubsystem() {
+        properties.setTicketRegistry(false);
+        val registry = proxy((TicketRegistry) new DefaultTicketRegistry());
+        assertNull(registry.getTicket("TGT-unknown"));
+        assertTrue(meterRegistry.find(CasMetricsInstrumentationAspect.METRIC_TICKET_REGISTRY).timers().isEmpty());
+    }
+}
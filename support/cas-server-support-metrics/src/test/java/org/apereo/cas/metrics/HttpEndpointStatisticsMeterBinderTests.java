@@ -0,0 +1,44 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.util.HttpUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HttpEndpointStatisticsMeterBinderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Metrics")
+public class HttpEndpointStatisticsMeterBinderTests {
+
+    @Test
+    public void verifyEndpointStatisticsAreBound() {
+        val exec = HttpUtils.HttpExecutionRequest.builder()
+            .method(HttpMethod.GET)
+            .url("http://localhost:9347")
+            .build();
+        assertNull(HttpUtils.execute(exec));
+
+        val registry = new SimpleMeterRegistry();
+        new HttpEndpointStatisticsMeterBinder().bindTo(registry);
+
+        val requests = registry.find(HttpEndpointStatisticsMeterBinder.METRIC_REQUESTS)
+            .tags("endpoint", "http://localhost:9347").functionTimer();
+        assertNotNull(requests);
+        assertTrue(requests.count() >= 1);
+        val errors = registry.find(HttpEndpointStatisticsMeterBinder.METRIC_ERRORS)
+            .tags("endpoint", "http://localhost:9347").functionCounter();
+        assertNotNull(errors);
+        assertTrue(errors.count() >= 1);
+        assertNotNull(registry.find(HttpEndpointStatisticsMeterBinder.METRIC_REQUESTS_MAX)
+            .tags("endpoint", "http://localhost:9347").timeGauge());
+    }
+}
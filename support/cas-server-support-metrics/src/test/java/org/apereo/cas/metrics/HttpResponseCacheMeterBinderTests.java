@@ -0,0 +1,49 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HttpResponseCacheMeterBinderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Metrics")
+public class HttpResponseCacheMeterBinderTests {
+
+    @Test
+    public void verifyCacheStatisticsAreBound() {
+        val cache = new HttpResponseCache(10, Clock.systemUTC());
+        val registry = new SimpleMeterRegistry();
+        new HttpResponseCacheMeterBinder("test", cache).bindTo(registry);
+
+        val exec = HttpUtils.HttpExecutionRequest.builder()
+            .method(HttpMethod.GET)
+            .url("http://localhost:9348")
+            .build();
+        cache.execute(exec, Duration.ofMinutes(1));
+
+        val misses = registry.find(HttpResponseCacheMeterBinder.METRIC_REQUESTS)
+            .tags("cache", "test", "result", "miss").functionCounter();
+        assertNotNull(misses);
+        assertEquals(1, misses.count());
+        val hits = registry.find(HttpResponseCacheMeterBinder.METRIC_REQUESTS)
+            .tags("cache", "test", "result", "hit").functionCounter();
+        assertNotNull(hits);
+        assertEquals(0, hits.count());
+        assertNotNull(registry.find(HttpResponseCacheMeterBinder.METRIC_REVALIDATIONS).tags("cache", "test").functionCounter());
+        assertNotNull(registry.find(HttpResponseCacheMeterBinder.METRIC_SIZE).tags("cache", "test").gauge());
+    }
+}
@@ -0,0 +1,61 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.util.cache.MessageBatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MessageBatcherMeterBinderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Metrics")
+public class MessageBatcherMeterBinderTests {
+
+    @Test
+    public void verifyBatcherStatisticsAreBound() {
+        val registry = new SimpleMeterRegistry();
+        val binder = new MessageBatcherMeterBinder();
+        binder.bindTo(registry);
+
+        val batcher = new MessageBatcher<String, String>("MeterBinderBatcher", Duration.ofHours(1), 100, batch -> {
+        });
+        try {
+            batcher.submit("A", "A1");
+            batcher.submit("A", "A2");
+            batcher.submit("B", "B1");
+            batcher.flush();
+            binder.run();
+
+            val messages = registry.find(MessageBatcherMeterBinder.METRIC_MESSAGES).tags("name", "MeterBinderBatcher").functionCounter();
+            assertNotNull(messages);
+            assertEquals(3, messages.count());
+            val batches = registry.find(MessageBatcherMeterBinder.METRIC_BATCHES).tags("name", "MeterBinderBatcher").functionCounter();
+            assertNotNull(batches);
+            assertEquals(1, batches.count());
+            val coalesced = registry.find(MessageBatcherMeterBinder.METRIC_COALESCED).tags("name", "MeterBinderBatcher").functionCounter();
+            assertNotNull(coalesced);
+            assertEquals(1, coalesced.count());
+            val failures = registry.find(MessageBatcherMeterBinder.METRIC_FAILURES).tags("name", "MeterBinderBatcher").functionCounter();
+            assertNotNull(failures);
+            assertEquals(0, failures.count());
+            assertNotNull(registry.find(MessageBatcherMeterBinder.METRIC_DROPPED).tags("name", "MeterBinderBatcher").functionCounter());
+            val size = registry.find(MessageBatcherMeterBinder.METRIC_BATCH_SIZE_MAX).tags("name", "MeterBinderBatcher").gauge();
+            assertNotNull(size);
+            assertEquals(2, size.value());
+            assertNotNull(registry.find(MessageBatcherMeterBinder.METRIC_LATENCY_MAX).tags("name", "MeterBinderBatcher").timeGauge());
+        } finally {
+            batcher.destroy();
+        }
+        binder.run();
+        assertNull(registry.find(MessageBatcherMeterBinder.METRIC_MESSAGES).tags("name", "MeterBinderBatcher").functionCounter());
+    }
+}
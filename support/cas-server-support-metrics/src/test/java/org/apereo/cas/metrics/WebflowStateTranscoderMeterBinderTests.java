@@ -0,0 +1,54 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.web.flow.executor.DeflaterEncryptedTranscoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.cryptacular.bean.CipherBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link WebflowStateTranscoderMeterBinderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Metrics")
+public class WebflowStateTranscoderMeterBinderTests {
+
+    @Test
+    public void verifyTranscoderStatisticsAreBound() throws Exception {
+        val registry = new SimpleMeterRegistry();
+        val binder = new WebflowStateTranscoderMeterBinder();
+        binder.bindTo(registry);
+
+        val cipherBean = mock(CipherBean.class);
+        when(cipherBean.encrypt(any(byte[].class))).thenAnswer(args -> args.getArgument(0));
+        val transcoder = new DeflaterEncryptedTranscoder(cipherBean, Deflater.BEST_SPEED, 1, "meterBinderFlow");
+        transcoder.encode("webflow-state");
+        binder.run();
+
+        val encoded = registry.find(WebflowStateTranscoderMeterBinder.METRIC_ENCODED).tags("flow", "meterBinderFlow").functionCounter();
+        assertNotNull(encoded);
+        assertEquals(1, encoded.count());
+        val serialized = registry.find(WebflowStateTranscoderMeterBinder.METRIC_SERIALIZED_BYTES).tags("flow", "meterBinderFlow").functionCounter();
+        assertNotNull(serialized);
+        assertEquals(transcoder.getSerializedBytes(), serialized.count());
+        val compressed = registry.find(WebflowStateTranscoderMeterBinder.METRIC_COMPRESSED_BYTES).tags("flow", "meterBinderFlow").functionCounter();
+        assertNotNull(compressed);
+        assertEquals(transcoder.getCompressedBytes(), compressed.count());
+
+        val replacement = new DeflaterEncryptedTranscoder(cipherBean, Deflater.BEST_SPEED, 1, "meterBinderFlow");
+        binder.run();
+        val rebound = registry.find(WebflowStateTranscoderMeterBinder.METRIC_ENCODED).tags("flow", "meterBinderFlow").functionCounter();
+        assertNotNull(rebound);
+        assertEquals(replacement.getEncodedCount(), rebound.count());
+    }
+}
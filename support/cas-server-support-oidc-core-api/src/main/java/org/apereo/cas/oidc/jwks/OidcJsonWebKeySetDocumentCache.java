@@ -0,0 +1,122 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.services.OidcRegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.DigestUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.springframework.context.ApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link OidcJsonWebKeySetDocumentCache} that keeps the public JWKS document
+ * served to relying parties, built from the global keystore and the keystores of all
+ * registered applications. The document is built once and only rebuilt once invalidated,
+ * typically when registered applications change, or once it expires so that keys
+ * rotated in the keystore are eventually published.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OidcJsonWebKeySetDocumentCache {
+    private final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService;
+
+    private final ServicesManager servicesManager;
+
+    private final ApplicationContext applicationContext;
+
+    private final Duration expiration;
+
+    private final Clock clock;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile JsonWebKeySetDocument document;
+
+    public OidcJsonWebKeySetDocumentCache(final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService,
+                                          final ServicesManager servicesManager,
+                                          final ApplicationContext applicationContext,
+                                          final Duration expiration) {
+        this(oidcJsonWebKeystoreGeneratorService, servicesManager, applicationContext, expiration, Clock.systemUTC());
+    }
+
+    /**
+     * Gets the current document, building it first if it was never built, invalidated or expired.
+     *
+     * @return the document
+     * @throws Exception the exception
+     */
+    public JsonWebKeySetDocument getDocument() throws Exception {
+        val current = this.document;
+        if (isCurrent(current)) {
+            return current;
+        }
+        return buildDocument();
+    }
+
+    /**
+     * Discard the current document, so it is rebuilt on next access.
+     */
+    public void invalidate() {
+        LOGGER.debug("Invalidating cached JWKS document");
+        version.incrementAndGet();
+    }
+
+    private synchronized JsonWebKeySetDocument buildDocument() throws Exception {
+        val current = this.document;
+        if (isCurrent(current)) {
+            return current;
+        }
+        val requestedVersion = version.get();
+        val resource = oidcJsonWebKeystoreGeneratorService.generate();
+        val jsonWebKeySet = new JsonWebKeySet(IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8));
+        servicesManager.getAllServicesOfType(OidcRegisteredService.class)
+            .stream()
+            .filter(s -> StringUtils.isNotBlank(s.getJwks()))
+            .forEach(service -> {
+                val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service, applicationContext);
+                set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
+            });
+        val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
+        val built = new JsonWebKeySetDocument(body, '"' + DigestUtils.sha256(body) + '"', requestedVersion, clock.instant());
+        LOGGER.debug("Built JWKS document with [{}] key(s) and entity tag [{}]", jsonWebKeySet.getJsonWebKeys().size(), built.getETag());
+        this.document = built;
+        return built;
+    }
+
+    private boolean isCurrent(final JsonWebKeySetDocument current) {
+        if (current == null || current.version != version.get()) {
+            return false;
+        }
+        return expiration.isZero() || expiration.isNegative() || clock.instant().isBefore(current.builtAt.plus(expiration));
+    }
+
+    /**
+     * The public JWKS document along with its strong entity tag.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class JsonWebKeySetDocument {
+        private final String body;
+
+        private final String eTag;
+
+        private final long version;
+
+        private final Instant builtAt;
+    }
+}
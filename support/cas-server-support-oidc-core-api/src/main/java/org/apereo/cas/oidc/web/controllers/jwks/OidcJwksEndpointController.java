@@ -1,44 +1,43 @@
 package org.apereo.cas.oidc.web.controllers.jwks;
 
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.oidc.OidcConfigurationContext;
 import org.apereo.cas.oidc.OidcConstants;
-import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
-import org.apereo.cas.oidc.jwks.OidcJsonWebKeystoreGeneratorService;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocumentCache;
 import org.apereo.cas.oidc.web.controllers.BaseOidcController;
-import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.util.LoggingUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.jose4j.jwk.JsonWebKey;
-import org.jose4j.jwk.JsonWebKeySet;
 import org.pac4j.core.context.JEEContext;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.nio.charset.StandardCharsets;
 
 /**
  * This is {@link OidcJwksEndpointController}.
+ * The JWKS document is served from {@link OidcJsonWebKeySetDocumentCache} along with
+ * a strong entity tag, so that clients presenting a matching {@code If-None-Match}
+ * header receive an empty {@code 304} response.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
 public class OidcJwksEndpointController extends BaseOidcController {
-    private final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService;
+    private final OidcJsonWebKeySetDocumentCache oidcJsonWebKeySetDocumentCache;
 
     public OidcJwksEndpointController(final OidcConfigurationContext configurationContext,
-                                      final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService) {
+                                      final OidcJsonWebKeySetDocumentCache oidcJsonWebKeySetDocumentCache) {
         super(configurationContext);
-        this.oidcJsonWebKeystoreGeneratorService = oidcJsonWebKeystoreGeneratorService;
+        this.oidcJsonWebKeySetDocumentCache = oidcJsonWebKeySetDocumentCache;
     }
 
     /**
@@ -62,21 +61,20 @@ public class OidcJwksEndpointController extends BaseOidcController {
         }
 
         try {
-            val resource = oidcJsonWebKeystoreGeneratorService.generate();
-            val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
-            val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
-            
-            val servicesManager = getConfigurationContext().getServicesManager();
-            servicesManager.getAllServicesOfType(OidcRegisteredService.class)
-                .stream()
-                .filter(s -> StringUtils.isNotBlank(s.getJwks()))
-                .forEach(service -> {
-                    val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service, getConfigurationContext().getApplicationContext());
-                    set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
-                });
-            val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
+            val document = oidcJsonWebKeySetDocumentCache.getDocument();
+            val maxAge = getConfigurationContext().getCasProperties().getAuthn().getOidc().getJwks().getJwksCacheControlMaxAge();
+            val cacheControl = CacheControl.maxAge(Beans.newDuration(maxAge)).cachePublic();
+            if (new ServletWebRequest(request, response).checkNotModified(document.getETag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.getETag())
+                    .cacheControl(cacheControl)
+                    .build();
+            }
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            return new ResponseEntity<>(body, HttpStatus.OK);
+            return ResponseEntity.ok()
+                .eTag(document.getETag())
+                .cacheControl(cacheControl)
+                .body(document.getBody());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -36,6 +36,7 @@ import org.apereo.cas.oidc.dynareg.OidcClientRegistrationRequestSerializer;
 import org.apereo.cas.oidc.issuer.OidcDefaultIssuerService;
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
 import org.apereo.cas.oidc.jwks.OidcDefaultJsonWebKeystoreCacheLoader;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocumentCache;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeystoreGeneratorService;
 import org.apereo.cas.oidc.jwks.OidcRegisteredServiceJsonWebKeystoreCacheLoader;
 import org.apereo.cas.oidc.jwks.OidcServiceJsonWebKeystoreCacheExpirationPolicy;
@@ -78,10 +79,15 @@ import org.apereo.cas.oidc.web.controllers.token.OidcRevocationEndpointControlle
 import org.apereo.cas.oidc.web.flow.OidcMultifactorAuthenticationTrigger;
 import org.apereo.cas.oidc.web.flow.OidcRegisteredServiceUIAction;
 import org.apereo.cas.oidc.web.flow.OidcWebflowConfigurer;
+import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerRegisteredServiceLocator;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.authenticator.Authenticators;
 import org.apereo.cas.support.oauth.authenticator.OAuth20CasAuthenticationBuilder;
@@ -154,10 +160,12 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.View;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -540,7 +548,52 @@ public class OidcConfiguration implements WebMvcConfigurer {
     @Bean
     public OidcJwksEndpointController oidcJwksController() {
         val context = oidcConfigurationContext();
-        return new OidcJwksEndpointController(context, oidcJsonWebKeystoreGeneratorService());
+        return new OidcJwksEndpointController(context, oidcJsonWebKeySetDocumentCache());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "oidcJsonWebKeySetDocumentCache")
+    public OidcJsonWebKeySetDocumentCache oidcJsonWebKeySetDocumentCache() {
+        val oidc = casProperties.getAuthn().getOidc();
+        return new OidcJsonWebKeySetDocumentCache(oidcJsonWebKeystoreGeneratorService(),
+            servicesManager.getObject(), applicationContext,
+            Duration.ofMinutes(oidc.getJwks().getJwksCacheInMinutes()));
+    }
+
+    /**
+     * Rebuild the JWKS document once an application
+     * that may carry its own keystore is saved.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleOidcRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        if (event.getRegisteredService() instanceof OidcRegisteredService) {
+            oidcJsonWebKeySetDocumentCache().invalidate();
+        }
+    }
+
+    /**
+     * Rebuild the JWKS document once an application
+     * that may carry its own keystore is removed.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleOidcRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        if (event.getRegisteredService() instanceof OidcRegisteredService) {
+            oidcJsonWebKeySetDocumentCache().invalidate();
+        }
+    }
+
+    /**
+     * Rebuild the JWKS document once applications are loaded or removed in bulk.
+     *
+     * @param event the event
+     */
+    @EventListener({CasRegisteredServicesLoadedEvent.class, CasRegisteredServicesDeletedEvent.class})
+    public void handleOidcRegisteredServicesChangedEvent(final ApplicationEvent event) {
+        oidcJsonWebKeySetDocumentCache().invalidate();
     }
 
     @RefreshScope
@@ -20,6 +20,7 @@ import org.apereo.cas.oidc.discovery.webfinger.OidcWebFingerUserInfoRepositoryTe
 import org.apereo.cas.oidc.dynareg.OidcClientRegistrationResponseTests;
 import org.apereo.cas.oidc.issuer.OidcDefaultIssuerServiceTests;
 import org.apereo.cas.oidc.jwks.OidcDefaultJsonWebKeystoreCacheLoaderTests;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocumentCacheTests;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreJacksonDeserializerTests;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtilsTests;
 import org.apereo.cas.oidc.jwks.OidcRegisteredServiceJsonWebKeystoreCacheLoaderTests;
@@ -128,6 +129,7 @@ import org.junit.platform.suite.api.Suite;
     OidcAuthorizeEndpointControllerTests.class,
     OidcUserProfileEndpointControllerTests.class,
     OidcJsonWebKeyStoreJacksonDeserializerTests.class,
+    OidcJsonWebKeySetDocumentCacheTests.class,
     OidcMultifactorAuthenticationTriggerTests.class,
     OidcWebFingerDiscoveryServiceTests.class,
     OidcCasClientRedirectActionBuilderTests.class,
@@ -0,0 +1,93 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.services.OidcRegisteredService;
+import org.apereo.cas.services.ServicesManager;
+
+import lombok.val;
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OidcJsonWebKeySetDocumentCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("OIDC")
+public class OidcJsonWebKeySetDocumentCacheTests {
+    private OidcJsonWebKeystoreGeneratorService generatorService;
+
+    private ServicesManager servicesManager;
+
+    private Clock clock;
+
+    private static ByteArrayResource generateKeystore() throws Exception {
+        val jwk = OidcJsonWebKeyStoreUtils.generateJsonWebKey("RSA", 2048);
+        val data = new JsonWebKeySet(jwk).toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE);
+        return new ByteArrayResource(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        generatorService = mock(OidcJsonWebKeystoreGeneratorService.class);
+        val keystore = generateKeystore();
+        when(generatorService.generate()).thenAnswer(answer -> keystore);
+        servicesManager = mock(ServicesManager.class);
+        when(servicesManager.getAllServicesOfType(OidcRegisteredService.class)).thenReturn(List.of());
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.now());
+    }
+
+    @Test
+    public void verifyDocumentIsBuiltOnce() throws Exception {
+        val cache = new OidcJsonWebKeySetDocumentCache(generatorService, servicesManager,
+            new StaticApplicationContext(), Duration.ofMinutes(60), clock);
+        val document = cache.getDocument();
+        assertFalse(document.getBody().contains("\"d\""));
+        assertTrue(document.getETag().startsWith("\""));
+        assertTrue(document.getETag().endsWith("\""));
+        assertSame(document, cache.getDocument());
+        verify(generatorService, times(1)).generate();
+    }
+
+    @Test
+    public void verifyDocumentIsRebuiltOnceInvalidated() throws Exception {
+        val cache = new OidcJsonWebKeySetDocumentCache(generatorService, servicesManager,
+            new StaticApplicationContext(), Duration.ofMinutes(60), clock);
+        val document = cache.getDocument();
+        cache.invalidate();
+        val rebuilt = cache.getDocument();
+        assertNotSame(document, rebuilt);
+        assertEquals(document.getETag(), rebuilt.getETag());
+        verify(generatorService, times(2)).generate();
+    }
+
+    @Test
+    public void verifyDocumentIsRebuiltOnceKeysRotate() throws Exception {
+        val cache = new OidcJsonWebKeySetDocumentCache(generatorService, servicesManager,
+            new StaticApplicationContext(), Duration.ofMinutes(60), clock);
+        val document = cache.getDocument();
+        val rotated = generateKeystore();
+        when(generatorService.generate()).thenAnswer(answer -> rotated);
+        assertSame(document, cache.getDocument());
+
+        when(clock.instant()).thenReturn(Instant.now().plus(Duration.ofMinutes(61)));
+        val rebuilt = cache.getDocument();
+        assertNotEquals(document.getETag(), rebuilt.getETag());
+        assertNotEquals(document.getBody(), rebuilt.getBody());
+    }
+}
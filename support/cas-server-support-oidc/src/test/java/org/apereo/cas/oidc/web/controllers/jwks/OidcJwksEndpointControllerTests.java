@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.ui.ExtendedModelMap;
@@ -39,6 +41,24 @@ public class OidcJwksEndpointControllerTests extends AbstractOidcTests {
         assertTrue(result.getStatusCode().is2xxSuccessful());
     }
 
+    @Test
+    public void verifyNotModified() {
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        val result = oidcJwksEndpointController.handleRequestInternal(request, new MockHttpServletResponse(), new ExtendedModelMap());
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        val eTag = result.getHeaders().getETag();
+        assertNotNull(eTag);
+        assertNotNull(result.getHeaders().getCacheControl());
+
+        val conditional = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        conditional.setMethod(HttpMethod.GET.name());
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        val notModified = oidcJwksEndpointController.handleRequestInternal(conditional, new MockHttpServletResponse(), new ExtendedModelMap());
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(eTag, notModified.getHeaders().getETag());
+    }
+
     @Test
     public void verifyBadEndpointRequest() {
         val model = new ExtendedModelMap();
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.pac4j.client.DelegatedClientAuthenticationRequestCustomizer;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.LoggingUtils;
@@ -13,7 +14,8 @@ import org.apereo.cas.web.DelegatedClientIdentityProviderConfigurationFactory;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
 import org.apereo.cas.web.support.WebUtils;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -25,20 +27,26 @@ import org.springframework.http.HttpStatus;
 import org.springframework.webflow.execution.RequestContext;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultDelegatedClientIdentityProviderConfigurationProducer}.
+ * When lazy redirects are enabled, the identity providers authorized for a registered service
+ * are cached and identity providers are not initialized when the login page is rendered; each provider
+ * is only initialized and its redirect constructed by the redirect endpoint once selected.
  *
  * @author Misagh Moayyed
  * @since 6.2.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class DefaultDelegatedClientIdentityProviderConfigurationProducer implements DelegatedClientIdentityProviderConfigurationProducer {
+    private static final long MAX_CACHED_SERVICES = 10_000;
+
     /**
      * The Services manager.
      */
@@ -56,6 +64,30 @@ public class DefaultDelegatedClientIdentityProviderConfigurationProducer impleme
 
     private final List<DelegatedClientAuthenticationRequestCustomizer> delegatedClientAuthenticationRequestCustomizers;
 
+    private final Cache<Long, List<String>> authorizedClientNames;
+
+    public DefaultDelegatedClientIdentityProviderConfigurationProducer(
+        final ServicesManager servicesManager,
+        final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies,
+        final Clients clients,
+        final DelegatedAuthenticationAccessStrategyHelper delegatedAuthenticationAccessStrategyHelper,
+        final CasConfigurationProperties casProperties,
+        final CasCookieBuilder delegatedAuthenticationCookieBuilder,
+        final List<DelegatedClientAuthenticationRequestCustomizer> delegatedClientAuthenticationRequestCustomizers) {
+        this.servicesManager = servicesManager;
+        this.authenticationRequestServiceSelectionStrategies = authenticationRequestServiceSelectionStrategies;
+        this.clients = clients;
+        this.delegatedAuthenticationAccessStrategyHelper = delegatedAuthenticationAccessStrategyHelper;
+        this.casProperties = casProperties;
+        this.delegatedAuthenticationCookieBuilder = delegatedAuthenticationCookieBuilder;
+        this.delegatedClientAuthenticationRequestCustomizers = delegatedClientAuthenticationRequestCustomizers;
+        val expiration = Beans.newDuration(casProperties.getAuthn().getPac4j().getCore().getAuthorizedProvidersCacheExpiration());
+        this.authorizedClientNames = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SERVICES)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
     @Override
     public Set<DelegatedClientIdentityProviderConfiguration> produce(final RequestContext context) {
         val currentService = WebUtils.getService(context);
@@ -65,12 +97,9 @@ public class DefaultDelegatedClientIdentityProviderConfigurationProducer impleme
         val webContext = new JEEContext(request, response);
 
         LOGGER.debug("Initialized context with request parameters [{}]", webContext.getRequestParameters());
-        val allClients = this.clients.findAllClients();
-        val providers = new LinkedHashSet<DelegatedClientIdentityProviderConfiguration>(allClients.size());
-        allClients
-            .stream()
-            .filter(client -> client instanceof IndirectClient && isDelegatedClientAuthorizedForService(client, service, request))
-            .map(IndirectClient.class::cast)
+        val authorizedClients = getAuthorizedClients(service, request);
+        val providers = new LinkedHashSet<DelegatedClientIdentityProviderConfiguration>(authorizedClients.size());
+        authorizedClients
             .forEach(client -> {
                 try {
                     val provider = produce(context, client);
@@ -103,7 +132,9 @@ public class DefaultDelegatedClientIdentityProviderConfigurationProducer impleme
         val currentService = WebUtils.getService(requestContext);
         LOGGER.debug("Initializing client [{}] with request parameters [{}] and service [{}]",
             client, requestContext.getRequestParameters(), currentService);
-        client.init();
+        if (!casProperties.getAuthn().getPac4j().getCore().isLazyRedirects()) {
+            client.init();
+        }
 
         if (delegatedClientAuthenticationRequestCustomizers.isEmpty()
             || delegatedClientAuthenticationRequestCustomizers.stream().anyMatch(c -> c.isAuthorized(webContext, client, currentService))) {
@@ -156,6 +187,49 @@ public class DefaultDelegatedClientIdentityProviderConfigurationProducer impleme
         }
     }
 
+    /**
+     * Gets the identity providers that are authorized for the service.
+     * When lazy redirects are enabled, the names of authorized identity providers
+     * are cached per registered service, since the delegated authentication policy
+     * of the registered service decides whether a provider is authorized.
+     *
+     * @param service the service
+     * @param request the request
+     * @return the authorized clients
+     */
+    protected Collection<IndirectClient> getAuthorizedClients(final WebApplicationService service,
+                                                              final HttpServletRequest request) {
+        if (casProperties.getAuthn().getPac4j().getCore().isLazyRedirects() && service != null) {
+            val registeredService = servicesManager.findServiceBy(service);
+            if (registeredService != null) {
+                val clientNames = authorizedClientNames.get(registeredService.getId(), id -> {
+                    LOGGER.debug("Determining identity providers authorized for registered service [{}]", registeredService.getName());
+                    return findAuthorizedClients(service, request)
+                        .stream()
+                        .map(Client::getName)
+                        .collect(Collectors.toList());
+                });
+                return clientNames
+                    .stream()
+                    .map(clients::findClient)
+                    .flatMap(Optional::stream)
+                    .filter(IndirectClient.class::isInstance)
+                    .map(IndirectClient.class::cast)
+                    .collect(Collectors.toList());
+            }
+        }
+        return findAuthorizedClients(service, request);
+    }
+
+    private List<IndirectClient> findAuthorizedClients(final WebApplicationService service,
+                                                       final HttpServletRequest request) {
+        return clients.findAllClients()
+            .stream()
+            .filter(client -> client instanceof IndirectClient && isDelegatedClientAuthorizedForService(client, service, request))
+            .map(IndirectClient.class::cast)
+            .collect(Collectors.toList());
+    }
+
     private boolean isDelegatedClientAuthorizedForService(final Client client, final Service service,
                                                           final HttpServletRequest request) {
         return delegatedAuthenticationAccessStrategyHelper.isDelegatedClientAuthorizedForService(client, service, request);
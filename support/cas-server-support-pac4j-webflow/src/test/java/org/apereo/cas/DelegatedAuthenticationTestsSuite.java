@@ -3,6 +3,7 @@ package org.apereo.cas;
 import org.apereo.cas.support.pac4j.RefreshableDelegatedClientsTests;
 import org.apereo.cas.web.DefaultDelegatedAuthenticationNavigationControllerTests;
 import org.apereo.cas.web.flow.DefaultDelegatedClientAuthenticationWebflowManagerTests;
+import org.apereo.cas.web.flow.DefaultDelegatedClientIdentityProviderConfigurationProducerLazyRedirectsTests;
 import org.apereo.cas.web.flow.DefaultDelegatedClientIdentityProviderConfigurationProducerTests;
 import org.apereo.cas.web.flow.DelegatedAuthenticationClientFinishLogoutActionTests;
 import org.apereo.cas.web.flow.DelegatedAuthenticationClientLogoutActionTests;
@@ -32,6 +33,7 @@ import org.junit.platform.suite.api.Suite;
     DelegatedAuthenticationClientFinishLogoutActionTests.class,
     DefaultDelegatedClientAuthenticationWebflowManagerTests.class,
     DefaultDelegatedClientIdentityProviderConfigurationProducerTests.class,
+    DefaultDelegatedClientIdentityProviderConfigurationProducerLazyRedirectsTests.class,
     DelegatedAuthenticationClientRetryActionTests.class,
     DelegatedAuthenticationWebflowConfigurerTests.class,
     DelegatedSaml2ClientMetadataControllerTests.class
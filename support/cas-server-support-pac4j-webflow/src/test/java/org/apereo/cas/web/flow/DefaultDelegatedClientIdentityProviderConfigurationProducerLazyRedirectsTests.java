@@ -0,0 +1,74 @@
+package org.apereo.cas.web.flow;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.web.BaseDelegatedAuthenticationTests;
+import org.apereo.cas.web.DelegatedClientIdentityProviderConfiguration;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.pac4j.core.client.Clients;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.webflow.context.ExternalContextHolder;
+import org.springframework.webflow.context.servlet.ServletExternalContext;
+import org.springframework.webflow.execution.RequestContextHolder;
+import org.springframework.webflow.test.MockRequestContext;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultDelegatedClientIdentityProviderConfigurationProducerLazyRedirectsTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@SpringBootTest(classes = BaseDelegatedAuthenticationTests.SharedTestConfiguration.class,
+    properties = "cas.authn.pac4j.core.lazy-redirects=true")
+@Tag("Webflow")
+public class DefaultDelegatedClientIdentityProviderConfigurationProducerLazyRedirectsTests {
+    @Autowired
+    @Qualifier("delegatedClientIdentityProviderConfigurationProducer")
+    private DelegatedClientIdentityProviderConfigurationProducer delegatedClientIdentityProviderConfigurationProducer;
+
+    @Autowired
+    @Qualifier("builtClients")
+    private Clients builtClients;
+
+    private MockRequestContext requestContext;
+
+    @BeforeEach
+    public void setup() {
+        val request = new MockHttpServletRequest();
+        request.addParameter(CasProtocolConstants.PARAMETER_SERVICE, RegisteredServiceTestUtils.getService().getId());
+        requestContext = new MockRequestContext();
+        requestContext.setExternalContext(new ServletExternalContext(new MockServletContext(), request, new MockHttpServletResponse()));
+        RequestContextHolder.setRequestContext(requestContext);
+        ExternalContextHolder.setExternalContext(requestContext.getExternalContext());
+    }
+
+    @Test
+    public void verifyProvidersAreNotInitialized() {
+        val failingClient = builtClients.findClient("FailingIndirectClient").orElseThrow();
+        clearInvocations(failingClient);
+
+        val results = delegatedClientIdentityProviderConfigurationProducer.produce(requestContext);
+        assertFalse(results.isEmpty());
+        assertTrue(results.stream().allMatch(provider -> provider.getRedirectUrl().startsWith("clientredirect?")));
+        verify(failingClient, never()).init();
+
+        setup();
+        val cachedResults = delegatedClientIdentityProviderConfigurationProducer.produce(requestContext);
+        assertEquals(results.stream().map(DelegatedClientIdentityProviderConfiguration::getName).collect(Collectors.toList()),
+            cachedResults.stream().map(DelegatedClientIdentityProviderConfiguration::getName).collect(Collectors.toList()));
+    }
+}
@@ -78,6 +78,8 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    private final SamlIdPSecurityConfigurationCache securityConfigurationCache;
+
     private static boolean doesCredentialFingerprintMatch(final AbstractCredential credential,
                                                           final SamlRegisteredService samlRegisteredService) {
         val fingerprint = samlRegisteredService.getSigningCredentialFingerprint();
@@ -235,6 +237,33 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
 
     /**
      * Gets signature signing configuration.
+     * The configuration is computed once per service and signing key,
+     * and is computed again once either changes.
+     *
+     * @param service the service
+     * @return the signature signing configuration
+     * @throws Exception the exception
+     */
+    protected SignatureSigningConfiguration getSignatureSigningConfiguration(final SamlRegisteredService service) throws Exception {
+        return securityConfigurationCache.get(service, "signing", getSigningKeyFingerprint(service),
+            () -> buildSignatureSigningConfiguration(service));
+    }
+
+    /**
+     * Gets the fingerprint of the signing key for the given service.
+     * The metadata document that carries the key is cached by the metadata locator,
+     * so a rotated key is picked up as soon as the document is fetched again.
+     *
+     * @param service the service
+     * @return the signing key fingerprint
+     */
+    protected Object getSigningKeyFingerprint(final SamlRegisteredService service) {
+        val document = samlIdPMetadataLocator.fetch(Optional.of(service));
+        return document != null ? document.getSigningKey() : null;
+    }
+
+    /**
+     * Build signature signing configuration.
      * The resolved used is {@link SamlIdPMetadataCredentialResolver} that
      * allows the entire criteria set to be passed to the role descriptor resolver.
      * This behavior allows the passing of {@link SamlIdPSamlRegisteredServiceCriterion}
@@ -245,7 +274,7 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
      * @return the signature signing configuration
      * @throws Exception the exception
      */
-    protected SignatureSigningConfiguration getSignatureSigningConfiguration(final SamlRegisteredService service) throws Exception {
+    protected SignatureSigningConfiguration buildSignatureSigningConfiguration(final SamlRegisteredService service) throws Exception {
         val config = configureSignatureSigningSecurityConfiguration(service);
 
         val samlIdp = casProperties.getAuthn().getSamlIdp();
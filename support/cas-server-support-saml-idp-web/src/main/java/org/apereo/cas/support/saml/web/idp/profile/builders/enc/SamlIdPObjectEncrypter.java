@@ -61,6 +61,8 @@ public class SamlIdPObjectEncrypter {
 
     private final SamlIdPProperties samlIdPProperties;
 
+    private final SamlIdPSecurityConfigurationCache securityConfigurationCache;
+
     /**
      * Encode a given saml object by invoking a number of outbound security handlers on the context.
      *
@@ -144,11 +146,7 @@ public class SamlIdPObjectEncrypter {
         final SamlRegisteredService service,
         final SamlRegisteredServiceServiceProviderMetadataFacade adaptor) {
         val entityId = adaptor.getEntityId();
-        LOGGER.trace("Calculating encryption security configuration for [{}] based on service [{}]", entityId, service.getName());
-        val encryptionConfiguration = configureEncryptionSecurityConfiguration(service);
-
-        LOGGER.trace("Fetching key encryption credential for [{}] based on service [{}]", entityId, service.getName());
-        configureKeyEncryptionCredential(entityId, adaptor, service, encryptionConfiguration);
+        val encryptionConfiguration = getEncryptionConfiguration(service, adaptor);
 
         LOGGER.trace("Fetching key encryption parameters for [{}] based on service [{}]", entityId, service.getName());
         val keyEncParams = getKeyEncryptionParameters(samlObject, service, adaptor, encryptionConfiguration);
@@ -165,6 +163,30 @@ public class SamlIdPObjectEncrypter {
         return getEncrypter(samlObject, service, adaptor, keyEncParams, dataEncParams);
     }
 
+    /**
+     * Gets the encryption configuration for the given service provider.
+     * The configuration, along with the key encryption credential resolved from the
+     * service provider metadata, is computed once per service and service provider metadata
+     * and is computed again once the service definition changes or metadata is refreshed.
+     *
+     * @param service the service
+     * @param adaptor the adaptor
+     * @return the encryption configuration
+     * @throws Exception the exception
+     */
+    protected BasicEncryptionConfiguration getEncryptionConfiguration(final SamlRegisteredService service,
+        final SamlRegisteredServiceServiceProviderMetadataFacade adaptor) throws Exception {
+        val entityId = adaptor.getEntityId();
+        return securityConfigurationCache.get(service, "encryption:" + entityId, adaptor.getEntityDescriptor(), () -> {
+            LOGGER.trace("Calculating encryption security configuration for [{}] based on service [{}]", entityId, service.getName());
+            val encryptionConfiguration = configureEncryptionSecurityConfiguration(service);
+
+            LOGGER.trace("Fetching key encryption credential for [{}] based on service [{}]", entityId, service.getName());
+            configureKeyEncryptionCredential(entityId, adaptor, service, encryptionConfiguration);
+            return encryptionConfiguration;
+        });
+    }
+
     /**
      * Gets encrypter.
      *
@@ -0,0 +1,110 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * This is {@link SamlIdPSecurityConfigurationCache} that keeps signing and encryption
+ * configuration computed for SAML service providers, so that keys, credentials and metadata
+ * are not resolved again for every SAML response. Each entry is bound to the service definition
+ * and to a fingerprint of the keys or metadata it was computed from; an entry is recomputed
+ * once the service definition changes or its fingerprint no longer matches, which covers
+ * signing key rotation and metadata refreshes.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class SamlIdPSecurityConfigurationCache {
+    private final Cache<String, CachedConfiguration> cache;
+
+    public SamlIdPSecurityConfigurationCache(final Duration expiration, final long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    private static String getKeyPrefix(final SamlRegisteredService service) {
+        return service.getId() + "@" + service.getServiceId() + '#';
+    }
+
+    /**
+     * Gets the configuration computed for the given service, or compute it.
+     *
+     * @param <T>         the type of configuration
+     * @param service     the service
+     * @param scope       what the configuration is computed for, such as signing or a service provider entity id
+     * @param fingerprint fingerprint of the keys or metadata the configuration is computed from
+     * @param loader      computes the configuration
+     * @return the configuration
+     * @throws Exception the exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final SamlRegisteredService service, final String scope,
+                     final Object fingerprint, final Callable<T> loader) throws Exception {
+        val key = getKeyPrefix(service) + scope;
+        val cached = cache.getIfPresent(key);
+        if (cached != null && cached.matches(service, fingerprint)) {
+            LOGGER.trace("Using cached security configuration [{}] for service [{}]", scope, service.getName());
+            return (T) cached.getConfiguration();
+        }
+        val configuration = loader.call();
+        if (configuration != null) {
+            cache.put(key, new CachedConfiguration(service, fingerprint, configuration));
+        }
+        return configuration;
+    }
+
+    /**
+     * Discard configuration computed for the given service.
+     *
+     * @param service the service
+     */
+    public void invalidate(final SamlRegisteredService service) {
+        val prefix = getKeyPrefix(service);
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Discard all configuration.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the size
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedConfiguration {
+        private final SamlRegisteredService service;
+
+        private final Object fingerprint;
+
+        private final Object configuration;
+
+        boolean matches(final SamlRegisteredService registeredService, final Object currentFingerprint) {
+            return (service == registeredService || service.equals(registeredService))
+                && Objects.equals(fingerprint, currentFingerprint);
+        }
+    }
+}
@@ -9,11 +9,16 @@ import org.apereo.cas.authentication.attribute.AttributeDefinitionStore;
 import org.apereo.cas.authentication.principal.PersistentIdGenerator;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
+import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.idp.metadata.locator.SamlIdPMetadataLocator;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver;
 import org.apereo.cas.support.saml.web.idp.audit.SamlRequestAuditResourceResolver;
 import org.apereo.cas.support.saml.web.idp.audit.SamlResponseAuditPrincipalIdProvider;
@@ -29,6 +34,7 @@ import org.apereo.cas.support.saml.web.idp.profile.builders.conditions.SamlProfi
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.DefaultSamlIdPObjectSigner;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectEncrypter;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectSigner;
+import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPSecurityConfigurationCache;
 import org.apereo.cas.support.saml.web.idp.profile.builders.nameid.SamlProfileSamlNameIdBuilder;
 import org.apereo.cas.support.saml.web.idp.profile.builders.response.SamlProfileSaml2ResponseBuilder;
 import org.apereo.cas.support.saml.web.idp.profile.builders.response.SamlProfileSamlResponseBuilderConfigurationContext;
@@ -73,6 +79,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 
 import java.time.Duration;
 
@@ -85,6 +92,7 @@ import java.time.Duration;
 @Configuration("samlIdPConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 public class SamlIdPConfiguration {
+    private static final int SECURITY_CONFIGURATION_CACHE_SIZE = 10_000;
 
     @Autowired
     @Qualifier("ticketGrantingTicketCookieGenerator")
@@ -313,7 +321,36 @@ public class SamlIdPConfiguration {
     @Bean
     @RefreshScope
     public SamlIdPObjectEncrypter samlObjectEncrypter() {
-        return new SamlIdPObjectEncrypter(casProperties.getAuthn().getSamlIdp());
+        return new SamlIdPObjectEncrypter(casProperties.getAuthn().getSamlIdp(), samlIdPSecurityConfigurationCache());
+    }
+
+    @ConditionalOnMissingBean(name = "samlIdPSecurityConfigurationCache")
+    @Bean
+    public SamlIdPSecurityConfigurationCache samlIdPSecurityConfigurationCache() {
+        val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
+        return new SamlIdPSecurityConfigurationCache(Beans.newDuration(core.getCacheExpiration()), SECURITY_CONFIGURATION_CACHE_SIZE);
+    }
+
+    /**
+     * Discard signing and encryption configuration computed
+     * for a service definition once it is saved.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleSamlRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidateSamlIdPSecurityConfiguration(event.getRegisteredService());
+    }
+
+    /**
+     * Discard signing and encryption configuration computed
+     * for a service definition once it is removed.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleSamlRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidateSamlIdPSecurityConfiguration(event.getRegisteredService());
     }
 
     @ConditionalOnMissingBean(name = SamlIdPObjectSigner.DEFAULT_BEAN_NAME)
@@ -323,7 +360,8 @@ public class SamlIdPConfiguration {
         return new DefaultSamlIdPObjectSigner(
             casSamlIdPMetadataResolver.getObject(),
             casProperties,
-            samlIdPMetadataLocator.getObject());
+            samlIdPMetadataLocator.getObject(),
+            samlIdPSecurityConfigurationCache());
     }
 
     @ConditionalOnMissingBean(name = "samlProfileSamlAttributeQueryFaultResponseBuilder")
@@ -408,4 +446,10 @@ public class SamlIdPConfiguration {
             .samlAttributeQueryTicketFactory(samlAttributeQueryTicketFactory())
             .casProperties(casProperties);
     }
+
+    private void invalidateSamlIdPSecurityConfiguration(final RegisteredService registeredService) {
+        if (registeredService instanceof SamlRegisteredService) {
+            samlIdPSecurityConfigurationCache().invalidate((SamlRegisteredService) registeredService);
+        }
+    }
 }
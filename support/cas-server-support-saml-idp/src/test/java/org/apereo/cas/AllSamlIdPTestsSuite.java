@@ -42,6 +42,7 @@ import org.apereo.cas.support.saml.web.idp.profile.builders.authn.SamlProfileSam
 import org.apereo.cas.support.saml.web.idp.profile.builders.conditions.SamlProfileSamlConditionsBuilderTests;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectEncrypterTests;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectSignerTests;
+import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPSecurityConfigurationCacheTests;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlObjectSignatureValidatorTests;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.encoder.sso.SamlResponseArtifactEncoderTests;
 import org.apereo.cas.support.saml.web.idp.profile.builders.nameid.SamlProfileSamlNameIdBuilderTests;
@@ -126,6 +127,7 @@ import org.junit.platform.suite.api.Suite;
     SamlIdPSingleLogoutRedirectionStrategyTests.class,
     SamlIdPMetadataUIActionTests.class,
     SamlIdPObjectSignerTests.class,
+    SamlIdPSecurityConfigurationCacheTests.class,
     AuthnRequestRequestedAttributesAttributeReleasePolicyTests.class,
     SamlIdPObjectEncrypterTests.class,
     SamlIdPSingleSignOnParticipationStrategyTests.class,
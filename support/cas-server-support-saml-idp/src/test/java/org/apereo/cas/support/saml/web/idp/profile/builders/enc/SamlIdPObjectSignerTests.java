@@ -1,5 +1,6 @@
 package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
 
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.saml.BaseSamlIdPConfigurationTests;
 import org.apereo.cas.support.saml.SamlIdPTestUtils;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceServiceProviderMetadataFacade;
@@ -8,6 +9,9 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.opensaml.saml.common.xml.SAMLConstants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
@@ -23,6 +27,12 @@ import static org.junit.jupiter.api.Assertions.*;
 @Tag("SAML")
 @TestPropertySource(properties = "cas.authn.saml-idp.metadata.file-system.location=classpath:metadata/")
 public class SamlIdPObjectSignerTests extends BaseSamlIdPConfigurationTests {
+    @Autowired
+    @Qualifier("samlIdPSecurityConfigurationCache")
+    private SamlIdPSecurityConfigurationCache samlIdPSecurityConfigurationCache;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
 
     @Test
     public void findsSigningCredential() throws Exception {
@@ -43,4 +53,26 @@ public class SamlIdPObjectSignerTests extends BaseSamlIdPConfigurationTests {
             SAMLConstants.SAML2_POST_BINDING_URI, authnRequest));
 
     }
+
+    @Test
+    public void verifySigningConfigurationIsCached() throws Exception {
+        val samlRegisteredService = getSamlRegisteredServiceFor(true, true, false, "https://cassp.example.org");
+        samlRegisteredService.setId(1001);
+        samlRegisteredService.setName("ObjectSignerCacheTest");
+        samlIdPSecurityConfigurationCache.invalidateAll();
+
+        val adaptor = SamlRegisteredServiceServiceProviderMetadataFacade
+            .get(samlRegisteredServiceCachingMetadataResolver, samlRegisteredService,
+                samlRegisteredService.getServiceId()).get();
+        for (var i = 0; i < 2; i++) {
+            val authnRequest = SamlIdPTestUtils.getAuthnRequest(openSamlConfigBean, samlRegisteredService);
+            assertNotNull(samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor,
+                new MockHttpServletResponse(), new MockHttpServletRequest(),
+                SAMLConstants.SAML2_POST_BINDING_URI, authnRequest));
+        }
+        assertEquals(1, samlIdPSecurityConfigurationCache.size());
+
+        applicationContext.publishEvent(new CasRegisteredServiceSavedEvent(this, samlRegisteredService));
+        assertEquals(0, samlIdPSecurityConfigurationCache.size());
+    }
 }
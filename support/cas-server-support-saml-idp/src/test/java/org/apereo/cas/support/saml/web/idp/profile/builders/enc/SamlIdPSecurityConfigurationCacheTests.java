@@ -0,0 +1,73 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SamlIdPSecurityConfigurationCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("SAML")
+public class SamlIdPSecurityConfigurationCacheTests {
+
+    private static SamlRegisteredService getService() {
+        val service = new SamlRegisteredService();
+        service.setId(100);
+        service.setName("Example");
+        service.setServiceId("https://sp.example.org");
+        service.setMetadataLocation("classpath:metadata/sp.xml");
+        return service;
+    }
+
+    @Test
+    public void verifyConfigurationIsReused() throws Exception {
+        val cache = new SamlIdPSecurityConfigurationCache(Duration.ofMinutes(5), 100);
+        val loads = new AtomicInteger();
+        val service = getService();
+        assertEquals("config-1", cache.get(service, "signing", "key-1", () -> "config-" + loads.incrementAndGet()));
+        assertEquals("config-1", cache.get(service, "signing", "key-1", () -> "config-" + loads.incrementAndGet()));
+        assertEquals("config-1", cache.get(getService(), "signing", "key-1", () -> "config-" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        assertEquals("config-2", cache.get(service, "encryption", "key-1", () -> "config-" + loads.incrementAndGet()));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void verifyConfigurationIsRecomputed() throws Exception {
+        val cache = new SamlIdPSecurityConfigurationCache(Duration.ofMinutes(5), 100);
+        val loads = new AtomicInteger();
+        val service = getService();
+        assertEquals("config-1", cache.get(service, "signing", "key-1", () -> "config-" + loads.incrementAndGet()));
+        assertEquals("config-2", cache.get(service, "signing", "key-2", () -> "config-" + loads.incrementAndGet()));
+
+        val changed = getService();
+        changed.setSigningSignatureCanonicalizationAlgorithm("http://www.w3.org/2001/10/xml-exc-c14n#");
+        assertEquals("config-3", cache.get(changed, "signing", "key-2", () -> "config-" + loads.incrementAndGet()));
+
+        cache.invalidate(changed);
+        assertEquals(0, cache.size());
+        assertEquals("config-4", cache.get(changed, "signing", "key-2", () -> "config-" + loads.incrementAndGet()));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void verifyFailuresAreNotCached() {
+        val cache = new SamlIdPSecurityConfigurationCache(Duration.ofMinutes(5), 100);
+        val service = getService();
+        assertThrows(IllegalArgumentException.class, () -> cache.get(service, "signing", "key-1", () -> {
+            throw new IllegalArgumentException("failed");
+        }));
+        assertEquals(0, cache.size());
+    }
+}
@@ -13,6 +13,7 @@ import org.apereo.cas.util.cache.DistributedCacheObject;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.errors.TopicExistsException;
@@ -89,6 +90,10 @@ public class CasServicesStreamingKafkaConfiguration {
         val kafka = casProperties.getServiceRegistry().getStream().getKafka();
         val mapper = new RegisteredServiceJsonSerializer().getObjectMapper();
         val factory = new KafkaObjectFactory<String, DistributedCacheObject<RegisteredService>>(kafka.getBootstrapAddress());
+        val compressionType = kafka.getTopic().getCompressionType();
+        if (!StringUtils.equalsAnyIgnoreCase(compressionType, "producer", "uncompressed")) {
+            factory.setCompressionType(compressionType);
+        }
         return factory.getKafkaTemplate(new StringSerializer(), new JsonSerializer<>(mapper));
     }
 
@@ -1,8 +1,10 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.CasServicesRegistryStreamingEventListener;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.publisher.BatchingCasRegisteredServiceStreamPublisher;
 import org.apereo.cas.services.publisher.CasRegisteredServiceStreamPublisher;
 import org.apereo.cas.services.publisher.DefaultCasRegisteredServiceStreamPublisher;
 import org.apereo.cas.services.replication.DefaultRegisteredServiceReplicationStrategy;
@@ -50,7 +52,13 @@ public class CasServicesStreamingConfiguration {
     @Bean
     @RefreshScope
     public CasRegisteredServiceStreamPublisher casRegisteredServiceStreamPublisher() {
-        return new DefaultCasRegisteredServiceStreamPublisher(registeredServiceDistributedCacheManager());
+        val publisher = new DefaultCasRegisteredServiceStreamPublisher(registeredServiceDistributedCacheManager());
+        val batching = casProperties.getServiceRegistry().getStream().getBatching();
+        val window = Beans.newDuration(batching.getWindow());
+        if (window.isZero() || window.isNegative()) {
+            return publisher;
+        }
+        return new BatchingCasRegisteredServiceStreamPublisher(publisher, window, batching.getMaximumBatchSize());
     }
 
     @Bean
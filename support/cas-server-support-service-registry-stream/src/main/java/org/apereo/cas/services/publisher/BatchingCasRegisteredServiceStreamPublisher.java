@@ -0,0 +1,71 @@
+package org.apereo.cas.services.publisher;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.cache.MessageBatcher;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * This is {@link BatchingCasRegisteredServiceStreamPublisher} that collects service definition
+ * changes published within a short window and streams them together. When the same service
+ * changes more than once within the window, only its latest change is streamed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+public class BatchingCasRegisteredServiceStreamPublisher implements CasRegisteredServiceStreamPublisher, DisposableBean {
+    private final CasRegisteredServiceStreamPublisher delegate;
+
+    @Getter
+    private final MessageBatcher<Long, ServiceChange> batcher;
+
+    public BatchingCasRegisteredServiceStreamPublisher(final CasRegisteredServiceStreamPublisher delegate,
+                                                       final Duration window, final int maximumBatchSize) {
+        this.delegate = delegate;
+        this.batcher = new MessageBatcher<>(getClass().getSimpleName(), window, maximumBatchSize, this::publishBatch);
+    }
+
+    @Override
+    public void publish(final RegisteredService service, final ApplicationEvent event, final PublisherIdentifier publisherIdentifier) {
+        batcher.submit(service.getId(), new ServiceChange(service, event, publisherIdentifier));
+    }
+
+    @Override
+    public void destroy() {
+        batcher.destroy();
+    }
+
+    private void publishBatch(final List<ServiceChange> changes) {
+        LOGGER.trace("Streaming [{}] service definition change(s)", changes.size());
+        for (val change : changes) {
+            try {
+                delegate.publish(change.getService(), change.getEvent(), change.getPublisherIdentifier());
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to stream service definition [{}]: [{}]", change.getService().getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A pending change to a service definition.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ServiceChange {
+        private final RegisteredService service;
+
+        private final ApplicationEvent event;
+
+        private final PublisherIdentifier publisherIdentifier;
+    }
+}
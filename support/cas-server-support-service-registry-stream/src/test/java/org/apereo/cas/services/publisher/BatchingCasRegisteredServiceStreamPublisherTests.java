@@ -0,0 +1,48 @@
+package org.apereo.cas.services.publisher;
+
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BatchingCasRegisteredServiceStreamPublisherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("RegisteredService")
+public class BatchingCasRegisteredServiceStreamPublisherTests {
+
+    @Test
+    public void verifyLatestChangeIsStreamed() {
+        val events = new CopyOnWriteArrayList<ApplicationEvent>();
+        val publisher = new BatchingCasRegisteredServiceStreamPublisher((service, event, id) -> events.add(event),
+            Duration.ofHours(1), 100);
+        val publisherId = new PublisherIdentifier();
+        val first = RegisteredServiceTestUtils.getRegisteredService("https://first.example.org");
+        first.setId(1);
+        val second = RegisteredServiceTestUtils.getRegisteredService("https://second.example.org");
+        second.setId(2);
+        publisher.publish(first, new CasRegisteredServiceSavedEvent(this, first), publisherId);
+        publisher.publish(second, new CasRegisteredServiceSavedEvent(this, second), publisherId);
+        val deleted = new CasRegisteredServiceDeletedEvent(this, first);
+        publisher.publish(first, deleted, publisherId);
+        assertTrue(events.isEmpty());
+
+        publisher.destroy();
+        assertEquals(2, events.size());
+        assertSame(deleted, events.get(0));
+        assertEquals(1, publisher.getBatcher().getCoalescedCount());
+    }
+}
@@ -10,6 +10,7 @@ import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 import org.apereo.cas.util.scripting.ScriptingUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import org.apereo.cas.web.support.WebUtils;
@@ -17,9 +18,7 @@ import org.apereo.cas.web.support.WebUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.io.FileSystemResource;
@@ -31,7 +30,6 @@ import org.springframework.webflow.execution.RequestContextHolder;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -115,7 +113,6 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
     protected String determineThemeNameToChoose(final HttpServletRequest request,
                                                 final Service service,
                                                 final RegisteredService rService) {
-        HttpResponse response = null;
         try {
             LOGGER.debug("Service [{}] is configured to use a custom theme [{}]", rService, rService.getTheme());
 
@@ -134,10 +131,9 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
                     .url(url)
                     .method(HttpMethod.GET)
                     .build();
-                response = HttpUtils.execute(exec);
-                if (response != null && response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
-                    return StringUtils.defaultIfBlank(result, getDefaultThemeName());
+                val response = HttpResponseCache.getInstance().execute(exec, HttpResponseCache.toDuration(rService));
+                if (response != null && response.getStatus() == HttpStatus.SC_OK) {
+                    return StringUtils.defaultIfBlank(response.getBody(), getDefaultThemeName());
                 }
             }
             val messageSource = new CasThemeResourceBundleMessageSource();
@@ -151,8 +147,6 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
                 rService.getTheme(), rService);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
-        } finally {
-            HttpUtils.close(response);
         }
         return getDefaultThemeName();
     }
@@ -1,37 +1,54 @@
 package org.apereo.cas.web.view;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpResponseCache;
 import org.apereo.cas.web.support.WebUtils;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpResponse;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.templateresource.ITemplateResource;
 import org.thymeleaf.templateresource.StringTemplateResource;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * This is {@link RestfulUrlTemplateResolver}.
+ * Templates fetched from the endpoint may be cached per template, theme and locale, and
+ * are revalidated once they go stale. Stale templates continue to be served while they are refreshed
+ * in the background, or while the endpoint is unavailable. The template engine cache is not used for these
+ * templates, as its cache keys do not account for the theme or the locale.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
 @Slf4j
 public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
+    private static final int MAXIMUM_CACHE_SIZE = 1_000;
+
+    @Getter
+    private final HttpResponseCache responseCache = new HttpResponseCache(MAXIMUM_CACHE_SIZE, Clock.systemUTC());
+
+    private final Duration cacheDuration;
+
+    private final Duration staleDuration;
 
     public RestfulUrlTemplateResolver(final CasConfigurationProperties casProperties) {
         super(casProperties);
+        val rest = casProperties.getView().getRest();
+        this.cacheDuration = Beans.newDuration(rest.getCacheDuration());
+        this.staleDuration = Beans.newDuration(rest.getStaleDuration());
     }
 
     @Override
@@ -54,13 +71,13 @@ public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
         }
 
         val request = WebUtils.getHttpServletRequestFromExternalWebflowContext();
+        val locale = request != null ? request.getLocale().getCountry() : StringUtils.EMPTY;
         if (request != null) {
-            headers.put("locale", request.getLocale().getCountry());
+            headers.put("locale", locale);
             headers.putAll(HttpRequestUtils.getRequestHeaders(request));
         }
         headers.putAll(rest.getHeaders());
 
-        HttpResponse response = null;
         try {
             val exec = HttpUtils.HttpExecutionRequest.builder()
                 .basicAuthPassword(rest.getBasicAuthPassword())
@@ -69,16 +86,14 @@ public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
                 .url(rest.getUrl())
                 .headers(headers)
                 .build();
-            response = HttpUtils.execute(exec);
-            val statusCode = response.getStatusLine().getStatusCode();
-            if (HttpStatus.valueOf(statusCode).is2xxSuccessful()) {
-                val result = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
-                return new StringTemplateResource(result);
+            val key = String.join("|", StringUtils.defaultString(ownerTemplate), template,
+                resourceName, StringUtils.defaultString(themeName), locale);
+            val response = responseCache.execute(key, exec, cacheDuration, staleDuration);
+            if (response != null && HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) {
+                return new StringTemplateResource(StringUtils.defaultString(response.getBody()));
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
-        } finally {
-            HttpUtils.close(response);
         }
 
         return super.computeTemplateResource(configuration, ownerTemplate, template, resourceName,
@@ -56,6 +56,26 @@ public class RestfulUrlTemplateResolverTests {
 
     }
 
+    @Test
+    public void verifyCachedTemplate() {
+        try (val webServer = new MockWebServer(9303,
+            new ByteArrayResource("template".getBytes(StandardCharsets.UTF_8), "REST Output"), MediaType.TEXT_HTML_VALUE)) {
+            webServer.start();
+
+            val props = new CasConfigurationProperties();
+            props.getView().getRest().setUrl("http://localhost:9303");
+            props.getView().getRest().setCacheDuration("PT1M");
+            val r = new RestfulUrlTemplateResolver(props);
+            assertNotNull(r.resolveTemplate(mock(IEngineConfiguration.class), "cas", "template", new LinkedHashMap<>()));
+            assertNotNull(r.resolveTemplate(mock(IEngineConfiguration.class), "cas", "template", new LinkedHashMap<>()));
+            assertEquals(1, r.getResponseCache().getMissCount());
+            assertEquals(1, r.getResponseCache().getHitCount());
+
+            assertNotNull(r.resolveTemplate(mock(IEngineConfiguration.class), "cas", "other", new LinkedHashMap<>()));
+            assertEquals(2, r.getResponseCache().getMissCount());
+        }
+    }
+
     @Test
     public void verifyUnknownErrorAction() {
         try (val webServer = new MockWebServer(9302,
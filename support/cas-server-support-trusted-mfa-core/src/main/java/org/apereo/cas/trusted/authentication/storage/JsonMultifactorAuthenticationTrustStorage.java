@@ -4,37 +4,62 @@ import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevic
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.io.AppendOnlyJsonJournal;
+import org.apereo.cas.util.io.FileWatcherService;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorage}.
+ * Records are kept in memory, indexed by principal, and are reloaded when the JSON resource is modified externally.
+ * Changes are recorded in an append-only journal next to the JSON resource, which is compacted
+ * into the JSON resource once it grows past a threshold.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
-public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage {
+public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage implements DisposableBean {
+    /**
+     * Default number of journal entries after which the journal is compacted.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1_000;
+
     private static final int MAP_SIZE = 8;
 
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
@@ -42,113 +67,279 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     private final Resource location;
 
-    private Map<String, MultifactorAuthenticationTrustRecord> storage;
+    private final int compactionThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, MultifactorAuthenticationTrustRecord> storage = new LinkedHashMap<>(MAP_SIZE);
+
+    private final Map<String, Set<String>> principals = new HashMap<>(MAP_SIZE);
+
+    private AppendOnlyJsonJournal<JournalEntry> journal;
+
+    private FileWatcherService watcherService;
+
+    private Date nextExpirationDate;
+
+    private long lastCompacted;
 
     public JsonMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
                                                      final CipherExecutor<Serializable, String> cipherExecutor,
                                                      final Resource location,
                                                      final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
+        this(properties, cipherExecutor, location, keyGenerationStrategy, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JsonMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
+                                                     final CipherExecutor<Serializable, String> cipherExecutor,
+                                                     final Resource location,
+                                                     final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy,
+                                                     final int compactionThreshold) {
         super(properties, cipherExecutor, keyGenerationStrategy);
         this.location = location;
+        this.compactionThreshold = compactionThreshold;
         readTrustedRecordsFromResource();
+        startWatchingResource();
+    }
+
+    private static String getPrincipalKey(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
     }
 
     @Override
     public void remove(final String key) {
-        storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
-        writeTrustedRecordsToResource();
+        val keys = read(() -> storage.keySet()
+            .stream()
+            .filter(k -> k.equalsIgnoreCase(key))
+            .collect(Collectors.toList()));
+        keys.forEach(k -> write(new JournalEntry(JournalOperation.REMOVE, k, null)));
     }
 
     @Override
     @SuppressWarnings("JavaUtilDate")
     public void remove(final ZonedDateTime expirationDate) {
-        val results = storage
-            .values()
-            .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+        val expDate = DateTimeUtils.dateOf(expirationDate);
+        val results = read(() -> {
+            if (nextExpirationDate == null || expDate.compareTo(nextExpirationDate) < 0) {
+                return new LinkedHashSet<MultifactorAuthenticationTrustRecord>(0);
+            }
+            return storage
+                .values()
+                .stream()
+                .filter(entry -> entry.getExpirationDate() != null)
+                .filter(entry -> expDate.compareTo(entry.getExpirationDate()) >= 0)
+                .sorted()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        });
 
-        LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.remove(entry.getRecordKey()));
+            LOGGER.info("Found [{}] expired trusted-device records", results.size());
+            results.forEach(entry -> write(new JournalEntry(JournalOperation.REMOVE, entry.getRecordKey(), null)));
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
-            writeTrustedRecordsToResource();
         }
     }
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> getAll() {
         remove();
-        return new TreeSet<>(storage.values());
+        return read(() -> new TreeSet<>(storage.values()));
     }
 
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
-        return storage
+        return read(() -> storage
             .values()
             .stream()
             .filter(entry -> entry.getId() == id)
             .sorted()
             .findFirst()
-            .orElse(null);
+            .orElse(null));
     }
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final ZonedDateTime onOrAfterDate) {
         remove();
-        return storage
+        return read(() -> storage
             .values()
             .stream()
             .filter(entry -> entry.getRecordDate().isEqual(onOrAfterDate) || entry.getRecordDate().isAfter(onOrAfterDate))
             .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
         remove();
-        return storage
-            .values()
+        return read(() -> principals.getOrDefault(getPrincipalKey(principal), Set.of())
             .stream()
-            .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
+            .map(storage::get)
+            .filter(Objects::nonNull)
             .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
-
     @Override
     public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
-        this.storage.put(record.getRecordKey(), record);
-        writeTrustedRecordsToResource();
+        write(new JournalEntry(JournalOperation.PUT, record.getRecordKey(), record));
         return record;
     }
 
+    @Override
+    public void destroy() {
+        IOUtils.closeQuietly(watcherService);
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (journal != null && journal.getEntryCount() > 0) {
+                compact();
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <T> T read(final Supplier<T> supplier) {
+        val readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @SneakyThrows
+    private void write(final JournalEntry entry) {
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            apply(entry);
+            if (journal == null) {
+                val file = location.getFile();
+                if (file.createNewFile()) {
+                    LOGGER.debug("Created JSON resource @ [{}]", location);
+                }
+                journal = new AppendOnlyJsonJournal<>(AppendOnlyJsonJournal.getJournalFileFor(file), MAPPER, JournalEntry.class);
+            }
+            journal.append(entry);
+            if (journal.getEntryCount() >= compactionThreshold) {
+                compact();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(final JournalEntry entry) {
+        val previous = storage.remove(entry.getKey());
+        if (previous != null) {
+            val keys = principals.get(getPrincipalKey(previous.getPrincipal()));
+            if (keys != null) {
+                keys.remove(entry.getKey());
+                if (keys.isEmpty()) {
+                    principals.remove(getPrincipalKey(previous.getPrincipal()));
+                }
+            }
+        }
+        if (entry.getOperation() == JournalOperation.PUT) {
+            val record = entry.getRecord();
+            storage.put(entry.getKey(), record);
+            principals.computeIfAbsent(getPrincipalKey(record.getPrincipal()), p -> new LinkedHashSet<>()).add(entry.getKey());
+            if (record.getExpirationDate() != null
+                && (nextExpirationDate == null || record.getExpirationDate().before(nextExpirationDate))) {
+                nextExpirationDate = record.getExpirationDate();
+            }
+        } else if (previous != null && Objects.equals(previous.getExpirationDate(), nextExpirationDate)) {
+            nextExpirationDate = storage.values()
+                .stream()
+                .map(MultifactorAuthenticationTrustRecord::getExpirationDate)
+                .filter(Objects::nonNull)
+                .min(Date::compareTo)
+                .orElse(null);
+        }
+    }
+
+    private void startWatchingResource() {
+        try {
+            if (ResourceUtils.isFile(location) && location.getFile().exists()) {
+                watcherService = new FileWatcherService(location.getFile(), this::reloadTrustedRecordsFromResource);
+                watcherService.start(getClass().getSimpleName());
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+    }
+
+    private void reloadTrustedRecordsFromResource(final File file) {
+        val writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (file.lastModified() != lastCompacted) {
+                LOGGER.debug("JSON resource [{}] is modified externally and will be reloaded", file);
+                readTrustedRecordsFromResource();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     @SneakyThrows
     private void readTrustedRecordsFromResource() {
-        this.storage = new LinkedHashMap<>(MAP_SIZE);
+        storage.clear();
+        principals.clear();
+        nextExpirationDate = null;
         if (ResourceUtils.doesResourceExist(location)) {
             try (val reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
                 val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
                 };
-                this.storage = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+                val records = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+                records.forEach((key, record) -> apply(new JournalEntry(JournalOperation.PUT, key, record)));
             }
         }
+        if (ResourceUtils.isFile(location)) {
+            journal = new AppendOnlyJsonJournal<>(AppendOnlyJsonJournal.getJournalFileFor(location.getFile()), MAPPER, JournalEntry.class);
+            journal.read().forEach(this::apply);
+        }
     }
 
-    @SneakyThrows
-    private void writeTrustedRecordsToResource() {
-        val file = this.location.getFile();
-        val res = file.createNewFile();
-        if (res) {
-            LOGGER.debug("Created JSON resource @ [{}]", this.location);
-        }
-        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, this.storage);
-        readTrustedRecordsFromResource();
+    private void compact() throws IOException {
+        val file = location.getFile();
+        LOGGER.debug("Compacting [{}] journal entries into JSON resource @ [{}]", journal.getEntryCount(), file);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, storage);
+        lastCompacted = file.lastModified();
+        journal.reset();
+    }
+
+    /**
+     * The journal operations.
+     */
+    public enum JournalOperation {
+        /**
+         * Add or replace the record.
+         */
+        PUT,
+        /**
+         * Remove the record.
+         */
+        REMOVE
+    }
+
+    /**
+     * The journal entry.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntry implements Serializable {
+        private static final long serialVersionUID = -3352394285138539587L;
+
+        private JournalOperation operation;
+
+        private String key;
+
+        private MultifactorAuthenticationTrustRecord record;
     }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.trusted.authentication.storage;
 
 import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.util.io.AppendOnlyJsonJournal;
 
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -46,5 +47,6 @@ public class JsonMultifactorAuthenticationTrustStorageTests extends AbstractMult
         if (file.exists()) {
             FileUtils.deleteQuietly(file);
         }
+        FileUtils.deleteQuietly(AppendOnlyJsonJournal.getJournalFileFor(file));
     }
 }
@@ -0,0 +1,257 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Principal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.View;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This is {@link CasProtocolValidationStreamingView} that writes CAS2 and CAS3 service validation
+ * responses directly to the servlet output stream, without evaluating a view template.
+ * Static fragments of the response are encoded once, and dynamic values are escaped the same way
+ * the template engine escapes text, so that the response matches, byte for byte, the output of the default
+ * {@code protocol/2.0} and {@code protocol/3.0} validation templates.
+ * <p>
+ * Customizations of the validation templates are not observed by this view.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class CasProtocolValidationStreamingView implements View {
+    private static final int BUFFER_SIZE = 2048;
+
+    private static final int ESCAPE_PADDING = 16;
+
+    private static final byte[] SUCCESS_START = encode("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n"
+        + "    <cas:authenticationSuccess>\n"
+        + "        <cas:user>");
+
+    private static final byte[] USER_END = encode("</cas:user>\n        ");
+
+    private static final byte[] PGT_START = encode("<cas:proxyGrantingTicket>");
+
+    private static final byte[] PGT_END = encode("</cas:proxyGrantingTicket>");
+
+    private static final byte[] ELEMENT_SEPARATOR = encode("\n        ");
+
+    private static final byte[] PROXIES_START = encode("<cas:proxies>\n            ");
+
+    private static final byte[] PROXY_SEPARATOR = encode("\n            ");
+
+    private static final byte[] PROXY_START = encode("<cas:proxy>");
+
+    private static final byte[] PROXY_END = encode("</cas:proxy>");
+
+    private static final byte[] PROXIES_END = encode("\n        </cas:proxies>");
+
+    private static final byte[] ATTRIBUTES_START = encode("<cas:attributes>\n            ");
+
+    private static final byte[] ATTRIBUTE_SEPARATOR = encode("\n            ");
+
+    private static final byte[] ATTRIBUTE_START = encode("\n                ");
+
+    private static final byte[] ATTRIBUTE_END = encode("\n            ");
+
+    private static final byte[] ATTRIBUTES_END = encode("\n        </cas:attributes>");
+
+    private static final byte[] SUCCESS_END = encode("\n    </cas:authenticationSuccess>\n</cas:serviceResponse>\n");
+
+    private static final byte[] FAILURE_START = encode("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n"
+        + "    <cas:authenticationFailure code=\"");
+
+    private static final byte[] FAILURE_CODE_END = encode("\">");
+
+    private static final byte[] FAILURE_END = encode("</cas:authenticationFailure>\n</cas:serviceResponse>\n");
+
+    private final ValidationResponseTypes responseType;
+
+    private final String contentType;
+
+    private static byte[] encode(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Escape markup-significant characters, in the same way
+     * the template engine escapes text and attribute values.
+     *
+     * @param value the value
+     * @return the escaped value
+     */
+    static String escape(final Object value) {
+        if (value == null) {
+            return StringUtils.EMPTY;
+        }
+        val text = value.toString();
+        var builder = (StringBuilder) null;
+        for (var i = 0; i < text.length(); i++) {
+            val ch = text.charAt(i);
+            val replacement = getEscapedCharacter(ch);
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(text.length() + ESCAPE_PADDING).append(text, 0, i);
+                }
+                builder.append(replacement);
+            } else if (builder != null) {
+                builder.append(ch);
+            }
+        }
+        return builder == null ? text : builder.toString();
+    }
+
+    private static String getEscapedCharacter(final char ch) {
+        switch (ch) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '"':
+                return "&quot;";
+            case '\'':
+                return "&#39;";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Evaluate the value as a condition, in the same way the template engine does.
+     *
+     * @param value the value
+     * @return true/false
+     */
+    private static boolean isTrue(final Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        }
+        if (value instanceof Character) {
+            return (Character) value != '0';
+        }
+        if (value instanceof String) {
+            val text = (String) value;
+            return !"false".equalsIgnoreCase(text) && !"off".equalsIgnoreCase(text) && !"no".equalsIgnoreCase(text);
+        }
+        return true;
+    }
+
+    private static void writeText(final OutputStream out, final Object value) throws IOException {
+        out.write(encode(escape(value)));
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request,
+                       final HttpServletResponse response) throws Exception {
+        response.setContentType(StringUtils.defaultIfBlank(contentType, MediaType.TEXT_HTML_VALUE));
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        val out = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        if (responseType == ValidationResponseTypes.FAILURE) {
+            writeFailure(model, out);
+        } else {
+            writeSuccess(model, out);
+        }
+        out.flush();
+    }
+
+    private void writeFailure(final Map<String, ?> model, final OutputStream out) throws IOException {
+        out.write(FAILURE_START);
+        writeText(out, model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE));
+        out.write(FAILURE_CODE_END);
+        writeText(out, model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION));
+        out.write(FAILURE_END);
+    }
+
+    private void writeSuccess(final Map<String, ?> model, final OutputStream out) throws IOException {
+        out.write(SUCCESS_START);
+        val principal = (Principal) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL);
+        writeText(out, principal.getId());
+        out.write(USER_END);
+
+        val pgtIou = model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        if (isTrue(pgtIou)) {
+            out.write(PGT_START);
+            writeText(out, pgtIou);
+            out.write(PGT_END);
+        }
+        out.write(ELEMENT_SEPARATOR);
+
+        val proxies = (Collection<Authentication>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS);
+        if (proxies != null && !proxies.isEmpty()) {
+            out.write(PROXIES_START);
+            var first = true;
+            for (val proxy : proxies) {
+                if (!first) {
+                    out.write(PROXY_SEPARATOR);
+                }
+                out.write(PROXY_START);
+                writeText(out, proxy.getPrincipal().getId());
+                out.write(PROXY_END);
+                first = false;
+            }
+            out.write(PROXIES_END);
+        }
+
+        if (responseType == ValidationResponseTypes.CAS30_SUCCESS) {
+            out.write(ELEMENT_SEPARATOR);
+            val attributes = (Collection<String>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+            if (attributes != null && !attributes.isEmpty()) {
+                out.write(ATTRIBUTES_START);
+                var first = true;
+                for (val attribute : attributes) {
+                    if (!first) {
+                        out.write(ATTRIBUTE_SEPARATOR);
+                    }
+                    out.write(ATTRIBUTE_START);
+                    out.write(encode(StringUtils.defaultString(attribute)));
+                    out.write(ATTRIBUTE_END);
+                    first = false;
+                }
+                out.write(ATTRIBUTES_END);
+            }
+        }
+        out.write(SUCCESS_END);
+    }
+
+    /**
+     * The validation response types.
+     */
+    public enum ValidationResponseTypes {
+        /**
+         * CAS2 validation success response.
+         */
+        CAS20_SUCCESS,
+        /**
+         * CAS3 validation success response, carrying attributes.
+         */
+        CAS30_SUCCESS,
+        /**
+         * CAS2 and CAS3 validation failure response.
+         */
+        FAILURE
+    }
+}
@@ -31,6 +31,7 @@ import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.CasProtocolValidationStreamingView;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
@@ -366,6 +367,10 @@ public class CasValidationConfiguration {
 
     @Bean
     public View cas2SuccessView() {
+        if (casProperties.getView().isStreamingValidationResponses()) {
+            return new CasProtocolValidationStreamingView(CasProtocolValidationStreamingView.ValidationResponseTypes.CAS20_SUCCESS,
+                MediaType.APPLICATION_XML_VALUE);
+        }
         return casProtocolViewFactory.getObject().create(applicationContext,
             casProperties.getView().getCas2().getSuccess(),
             MediaType.APPLICATION_XML_VALUE);
@@ -373,6 +378,9 @@ public class CasValidationConfiguration {
 
     @Bean
     public View cas2ServiceFailureView() {
+        if (casProperties.getView().isStreamingValidationResponses()) {
+            return new CasProtocolValidationStreamingView(CasProtocolValidationStreamingView.ValidationResponseTypes.FAILURE, null);
+        }
         return casProtocolViewFactory.getObject().create(applicationContext,
             casProperties.getView().getCas2().getFailure());
     }
@@ -395,12 +403,19 @@ public class CasValidationConfiguration {
 
     @Bean
     public View cas3SuccessView() {
+        if (casProperties.getView().isStreamingValidationResponses()) {
+            return new CasProtocolValidationStreamingView(CasProtocolValidationStreamingView.ValidationResponseTypes.CAS30_SUCCESS, null);
+        }
         return casProtocolViewFactory.getObject().create(applicationContext,
             casProperties.getView().getCas3().getSuccess());
     }
 
     @Bean
     public View cas3ServiceFailureView() {
+        if (casProperties.getView().isStreamingValidationResponses()) {
+            return new CasProtocolValidationStreamingView(CasProtocolValidationStreamingView.ValidationResponseTypes.FAILURE,
+                MediaType.APPLICATION_XML_VALUE);
+        }
         return casProtocolViewFactory.getObject().create(applicationContext,
             casProperties.getView().getCas3().getFailure(),
             MediaType.APPLICATION_XML_VALUE);
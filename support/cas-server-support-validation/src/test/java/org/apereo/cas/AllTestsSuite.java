@@ -6,6 +6,7 @@ import org.apereo.cas.web.view.Cas10ResponseViewTests;
 import org.apereo.cas.web.view.Cas20ResponseViewTests;
 import org.apereo.cas.web.view.Cas30JsonResponseViewTests;
 import org.apereo.cas.web.view.Cas30ResponseViewTests;
+import org.apereo.cas.web.view.CasProtocolValidationStreamingViewTests;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRendererTests;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRendererTests;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRendererTests;
@@ -29,7 +30,8 @@ import org.junit.platform.suite.api.Suite;
     Cas30JsonResponseViewTests.class,
     DefaultCas30ProtocolAttributesRendererTests.class,
     InlinedCas30ProtocolAttributesRendererTests.class,
-    AttributeValuesPerLineProtocolAttributesRendererTests.class
+    AttributeValuesPerLineProtocolAttributesRendererTests.class,
+    CasProtocolValidationStreamingViewTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,107 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasProtocolValidationStreamingViewTests} that verifies streamed responses
+ * match the output of the default validation templates.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("CAS")
+public class CasProtocolValidationStreamingViewTests {
+    private static final SpringTemplateEngine TEMPLATE_ENGINE = new SpringTemplateEngine();
+
+    static {
+        val resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        TEMPLATE_ENGINE.setTemplateResolver(resolver);
+    }
+
+    private static Map<String, Object> getSuccessModel(final String pgtIou, final String... proxies) {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("cas<user>&'\""));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, pgtIou);
+        val authentications = new ArrayList<>();
+        for (val proxy : proxies) {
+            authentications.add(CoreAuthenticationTestUtils.getAuthentication(proxy));
+        }
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS, authentications);
+        return model;
+    }
+
+    private static void verify(final String template, final CasProtocolValidationStreamingView.ValidationResponseTypes type,
+                               final Map<String, Object> model) throws Exception {
+        val expected = TEMPLATE_ENGINE.process(template, new Context(null, model));
+        val view = new CasProtocolValidationStreamingView(type, MediaType.APPLICATION_XML_VALUE);
+        val response = new MockHttpServletResponse();
+        view.render(model, new MockHttpServletRequest(), response);
+        assertEquals(expected, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(StandardCharsets.UTF_8.name(), response.getCharacterEncoding());
+        assertTrue(response.getContentType().startsWith(MediaType.APPLICATION_XML_VALUE));
+    }
+
+    @Test
+    public void verifyCas20Success() throws Exception {
+        verify("protocol/2.0/casServiceValidationSuccess",
+            CasProtocolValidationStreamingView.ValidationResponseTypes.CAS20_SUCCESS, getSuccessModel(null));
+        verify("protocol/2.0/casServiceValidationSuccess",
+            CasProtocolValidationStreamingView.ValidationResponseTypes.CAS20_SUCCESS,
+            getSuccessModel("PGTIOU-1-<&>", "https://proxy1.example.org?a=1&b=2", "proxy<2>"));
+    }
+
+    @Test
+    public void verifyCas30Success() throws Exception {
+        val model = getSuccessModel("PGTIOU-1", "proxy1");
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, List.of());
+        verify("protocol/3.0/casServiceValidationSuccess",
+            CasProtocolValidationStreamingView.ValidationResponseTypes.CAS30_SUCCESS, model);
+
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            List.of("<cas:uid>casuser</cas:uid>", "<cas:mail>cas&amp;user@example.org</cas:mail>", "<cas:name>C\u00e4s</cas:name>"));
+        verify("protocol/3.0/casServiceValidationSuccess",
+            CasProtocolValidationStreamingView.ValidationResponseTypes.CAS30_SUCCESS, model);
+    }
+
+    @Test
+    public void verifyFailure() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket 'ST-1' & <service> not recognized");
+        verify("protocol/2.0/casServiceValidationFailure", CasProtocolValidationStreamingView.ValidationResponseTypes.FAILURE, model);
+        verify("protocol/3.0/casServiceValidationFailure", CasProtocolValidationStreamingView.ValidationResponseTypes.FAILURE, model);
+    }
+
+    @Test
+    public void verifyEscaping() {
+        assertEquals("plain", CasProtocolValidationStreamingView.escape("plain"));
+        assertEquals("&lt;a href=&quot;x&quot;&gt;&amp;&#39;", CasProtocolValidationStreamingView.escape("<a href=\"x\">&'"));
+        assertEquals(StringUtils.EMPTY, CasProtocolValidationStreamingView.escape(null));
+    }
+}
@@ -18,7 +18,9 @@ import org.cryptacular.x509.ExtensionReader;
 import org.ehcache.StateTransitionException;
 import org.ehcache.Status;
 import org.ehcache.UserManagedCache;
+import org.ehcache.expiry.ExpiryPolicy;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.ByteArrayResource;
 
 import java.net.MalformedURLException;
@@ -28,9 +30,19 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -40,13 +52,17 @@ import java.util.stream.IntStream;
  * expects the name to define an absolute URL, which is the most common
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
- * check.
+ * check. Cached CRLs are parsed once and kept in memory for as long as the CRL
+ * cache retains them, concurrent fetches of the same distribution point are
+ * collapsed into one, and CRLs that are about to reach their next update
+ * or to expire from the CRL cache may be proactively refreshed in the background.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
  */
 @Slf4j
-public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker implements DisposableBean, AutoCloseable {
+public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker
+    implements InitializingBean, DisposableBean, AutoCloseable {
 
     private final UserManagedCache<URI, byte[]> crlCache;
 
@@ -54,6 +70,30 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     private final boolean throwOnFetchFailure;
 
+    /**
+     * Parsed CRLs, keyed by distribution point, for entries that are present in the CRL cache.
+     */
+    private final Map<URI, X509CRL> parsedCrls = new ConcurrentHashMap<>();
+
+    /**
+     * Fetches that are in progress, keyed by distribution point.
+     */
+    private final Map<URI, CompletableFuture<X509CRL>> pendingFetches = new ConcurrentHashMap<>();
+
+    /**
+     * When CRLs that were fetched and cached expire from the CRL cache, keyed by distribution point.
+     */
+    private final Map<URI, Instant> cacheExpirations = new ConcurrentHashMap<>();
+
+    /**
+     * How long before the next update of a cached CRL, or before its expiration from the CRL cache,
+     * should it be refreshed in the background.
+     * A negative value disables background refreshes.
+     */
+    private final Duration refreshLeadTime;
+
+    private ScheduledExecutorService scheduler;
+
     public CRLDistributionPointRevocationChecker(
         final UserManagedCache<URI, byte[]> crlCache, final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
         this(false, null, null, crlCache, fetcher, throwOnFetchFailure);
@@ -76,6 +116,14 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final UserManagedCache<URI, byte[]> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, crlCache, fetcher, throwOnFetchFailure, Duration.ofSeconds(-1));
+    }
+
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final UserManagedCache<URI, byte[]> crlCache,
+                                                 final CRLFetcher fetcher, final boolean throwOnFetchFailure,
+                                                 final Duration refreshLeadTime) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
         if (Status.UNINITIALIZED.equals(this.crlCache.getStatus())) {
@@ -83,10 +131,57 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         }
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.refreshLeadTime = refreshLeadTime;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        init();
+    }
+
+    /**
+     * Initializes the process that periodically refreshes cached CRLs
+     * that are about to reach their next update or to expire from the CRL cache. The refresh task runs at an interval
+     * of half the refresh lead time, and at least once a second.
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public void init() {
+        if (refreshLeadTime.isNegative() || scheduler != null) {
+            return;
+        }
+        val interval = Math.max(1, refreshLeadTime.toSeconds() / 2);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleWithFixedDelay(this::refreshCRLs, interval, interval, TimeUnit.SECONDS);
+        LOGGER.debug("Scheduled background refresh of CRLs every [{}] seconds", interval);
     }
-    
+
+    /**
+     * Refresh cached CRLs whose next update, or whose expiration from the CRL cache,
+     * falls within the refresh lead time, whichever comes first.
+     * Failures are logged and the previously cached CRL remains in use.
+     */
+    public void refreshCRLs() {
+        val threshold = Instant.now(Clock.systemUTC()).plus(refreshLeadTime);
+        parsedCrls.forEach((uri, crl) -> {
+            val refreshTime = getRefreshTime(uri, crl);
+            if (refreshTime != null && refreshTime.isBefore(threshold)) {
+                try {
+                    LOGGER.debug("Refreshing CRL at [{}] which is due for update or cache expiration at [{}]", uri, refreshTime);
+                    fetchCRL(uri);
+                } catch (final Exception e) {
+                    LOGGER.warn("Unable to refresh CRL at [{}]: [{}]", uri, e.getMessage());
+                }
+            }
+        });
+    }
+
     @Override
     public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        parsedCrls.clear();
+        cacheExpirations.clear();
         try {
             this.crlCache.close();
         } catch (final StateTransitionException e) {
@@ -154,10 +249,6 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         }
     }
 
-    private boolean addCRLbyURI(final URI uri, final X509CRL crl) {
-        return addCRL(uri, crl);
-    }
-
     @Override
     @SneakyThrows
     protected List<X509CRL> getCRLs(final X509Certificate cert) {
@@ -168,24 +259,16 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.get(url);
+            val cachedCrl = getCachedCRL(url);
 
-            if (item != null) {
+            if (cachedCrl != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
-                val crlFetched = this.fetcher.fetch(new ByteArrayResource(item));
-
-                if (crlFetched != null) {
-                    listOfLocations.add(crlFetched);
-                } else {
-                    LOGGER.warn("Could fetch X509 CRL for [{}]. Returned value is null", url);
-                }
+                listOfLocations.add(cachedCrl);
             } else {
                 LOGGER.debug("CRL for [{}] is not cached. Fetching and caching...", CertUtils.toString(cert));
                 try {
-                    val crl = this.fetcher.fetch(url);
+                    val crl = fetchCRL(url);
                     if (crl != null) {
-                        LOGGER.info("Success. Caching fetched CRL at [{}].", url);
-                        addCRLbyURI(url, crl);
                         listOfLocations.add(crl);
                     }
                 } catch (final Exception e) {
@@ -214,10 +297,127 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         if (crl == null) {
             LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
             this.crlCache.remove(uri);
+            this.parsedCrls.remove(uri);
+            this.cacheExpirations.remove(uri);
             return false;
         }
 
-        this.crlCache.put(uri, crl.getEncoded());
+        val encoded = crl.getEncoded();
+        this.crlCache.put(uri, encoded);
+        this.parsedCrls.put(uri, crl);
+        val expiration = getCacheExpiration(uri, encoded);
+        if (expiration != null) {
+            this.cacheExpirations.put(uri, expiration);
+        } else {
+            this.cacheExpirations.remove(uri);
+        }
         return this.crlCache.containsKey(uri);
     }
+
+    /**
+     * Gets the instant at which the CRL cache expires an entry created now,
+     * based on the expiry policy of the CRL cache.
+     *
+     * @param uri   the distribution point
+     * @param value the cached value
+     * @return the expiration instant, or null if entries do not expire
+     */
+    private Instant getCacheExpiration(final URI uri, final byte[] value) {
+        val timeToLive = this.crlCache.getRuntimeConfiguration().getExpiryPolicy().getExpiryForCreation(uri, value);
+        if (timeToLive == null || ExpiryPolicy.INFINITE.equals(timeToLive)) {
+            return null;
+        }
+        return Instant.now(Clock.systemUTC()).plus(timeToLive);
+    }
+
+    /**
+     * Gets the earlier of the next update of the CRL and its expiration from the CRL cache.
+     *
+     * @param uri the distribution point
+     * @param crl the crl
+     * @return the refresh time, or null if the CRL neither has a next update nor expires from the cache
+     */
+    private Instant getRefreshTime(final URI uri, final X509CRL crl) {
+        val nextUpdate = crl.getNextUpdate() != null ? crl.getNextUpdate().toInstant() : null;
+        val expiration = this.cacheExpirations.get(uri);
+        if (nextUpdate == null) {
+            return expiration;
+        }
+        return expiration != null && expiration.isBefore(nextUpdate) ? expiration : nextUpdate;
+    }
+
+    /**
+     * Gets the parsed CRL for the distribution point if the CRL cache has an entry for it.
+     * Cached entries are parsed at most once, and the parsed CRL is dropped
+     * once the CRL cache expires or evicts the entry.
+     *
+     * @param uri the distribution point
+     * @return the cached CRL, or null
+     * @throws Exception the exception
+     */
+    private X509CRL getCachedCRL(final URI uri) throws Exception {
+        if (!this.crlCache.containsKey(uri)) {
+            this.parsedCrls.remove(uri);
+            this.cacheExpirations.remove(uri);
+            return null;
+        }
+        val parsed = this.parsedCrls.get(uri);
+        if (parsed != null) {
+            return parsed;
+        }
+        val item = this.crlCache.get(uri);
+        if (item == null) {
+            return null;
+        }
+        val crl = this.fetcher.fetch(new ByteArrayResource(item));
+        if (crl != null) {
+            this.parsedCrls.put(uri, crl);
+        } else {
+            LOGGER.warn("Could fetch X509 CRL for [{}]. Returned value is null", uri);
+        }
+        return crl;
+    }
+
+    /**
+     * Fetch the CRL from the distribution point and cache it.
+     * Concurrent requests for the same distribution point wait for, and share, the result of a single fetch,
+     * including any exception or error it fails with.
+     *
+     * @param uri the distribution point
+     * @return the fetched CRL
+     * @throws Exception the exception
+     */
+    private X509CRL fetchCRL(final URI uri) throws Exception {
+        val fetch = new CompletableFuture<X509CRL>();
+        val pending = this.pendingFetches.putIfAbsent(uri, fetch);
+        if (pending != null) {
+            LOGGER.debug("Waiting for CRL fetch already in progress for [{}]", uri);
+            try {
+                return pending.join();
+            } catch (final CompletionException e) {
+                val cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            val crl = this.fetcher.fetch(uri);
+            if (crl != null) {
+                LOGGER.info("Success. Caching fetched CRL at [{}].", uri);
+                addCRL(uri, crl);
+            }
+            fetch.complete(crl);
+            return crl;
+        } catch (final Throwable e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.pendingFetches.remove(uri, fetch);
+        }
+    }
 }
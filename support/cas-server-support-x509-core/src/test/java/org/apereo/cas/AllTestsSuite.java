@@ -2,6 +2,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcherTests;
 import org.apereo.cas.adaptors.x509.authentication.RevokedCertificateExceptionTests;
+import org.apereo.cas.adaptors.x509.authentication.handler.support.CRLDistributionPointRevocationCheckerCacheTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.CRLDistributionPointRevocationCheckerTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.ResourceCRLRevocationCheckerTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.ThresholdExpiredCRLRevocationPolicyTests;
@@ -49,7 +50,8 @@ import org.junit.platform.suite.api.Suite;
     X509CertificateCredentialJsonSerializerTests.class,
     ThresholdExpiredCRLRevocationPolicyTests.class,
     X509CredentialsAuthenticationHandlerTests.class,
-    CRLDistributionPointRevocationCheckerTests.class
+    CRLDistributionPointRevocationCheckerTests.class,
+    CRLDistributionPointRevocationCheckerCacheTests.class
 })
 @Suite
 public class AllTestsSuite {
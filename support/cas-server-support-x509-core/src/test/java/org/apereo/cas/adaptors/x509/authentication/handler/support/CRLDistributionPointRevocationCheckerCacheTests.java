@@ -0,0 +1,187 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.val;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.builders.UserManagedCacheBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.net.URI;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CRLDistributionPointRevocationCheckerCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("X509")
+public class CRLDistributionPointRevocationCheckerCacheTests {
+
+    private static CRLDistributionPointRevocationChecker getChecker(final CountingCRLFetcher fetcher, final Duration refreshLeadTime) {
+        return getChecker(fetcher, refreshLeadTime, ExpiryPolicyBuilder.noExpiration());
+    }
+
+    private static CRLDistributionPointRevocationChecker getChecker(final CountingCRLFetcher fetcher, final Duration refreshLeadTime,
+                                                                    final ExpiryPolicy<Object, Object> expiryPolicy) {
+        val cache = UserManagedCacheBuilder.newUserManagedCacheBuilder(URI.class, byte[].class)
+            .withResourcePools(ResourcePoolsBuilder.heap(10))
+            .withExpiry(expiryPolicy)
+            .build();
+        return new CRLDistributionPointRevocationChecker(false, new AllowRevocationPolicy(),
+            crl -> {
+            }, cache, fetcher, true, refreshLeadTime);
+    }
+
+    @Test
+    public void verifyCachedCRLParsedOnce() throws Exception {
+        val fetcher = new CountingCRLFetcher();
+        try (val checker = getChecker(fetcher, Duration.ofSeconds(-1))) {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            for (var i = 0; i < 5; i++) {
+                checker.check(cert);
+            }
+            assertEquals(1, fetcher.getRemoteFetches().get());
+            assertEquals(0, fetcher.getResourceFetches().get());
+        }
+    }
+
+    @Test
+    public void verifyConcurrentFetchesCollapsed() throws Exception {
+        val fetcher = new CountingCRLFetcher();
+        fetcher.setLatch(new CountDownLatch(1));
+        try (val checker = getChecker(fetcher, Duration.ofSeconds(-1))) {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            val executor = Executors.newFixedThreadPool(4);
+            for (var i = 0; i < 4; i++) {
+                executor.submit(() -> {
+                    checker.check(cert);
+                    return null;
+                });
+            }
+            Thread.sleep(500);
+            fetcher.getLatch().countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(1, fetcher.getRemoteFetches().get());
+        }
+    }
+
+    @Test
+    public void verifyBackgroundRefresh() throws Exception {
+        val fetcher = new CountingCRLFetcher();
+        try (val checker = getChecker(fetcher, Duration.ofDays(365 * 100))) {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            checker.check(cert);
+            checker.refreshCRLs();
+            assertEquals(2, fetcher.getRemoteFetches().get());
+            checker.check(cert);
+            assertEquals(2, fetcher.getRemoteFetches().get());
+        }
+    }
+
+    @Test
+    public void verifyBackgroundRefreshBeforeCacheExpiration() throws Exception {
+        val fetcher = new CountingCRLFetcher();
+        try (val checker = getChecker(fetcher, Duration.ofHours(2),
+            ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofHours(1)))) {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            checker.check(cert);
+            checker.refreshCRLs();
+            assertEquals(2, fetcher.getRemoteFetches().get());
+        }
+    }
+
+    @Test
+    public void verifyNoRefreshBeforeLeadTime() throws Exception {
+        val fetcher = new CountingCRLFetcher();
+        try (val checker = getChecker(fetcher, Duration.ofMinutes(5),
+            ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofHours(1)))) {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            checker.check(cert);
+            checker.refreshCRLs();
+            assertEquals(1, fetcher.getRemoteFetches().get());
+        }
+    }
+
+    @Test
+    public void verifyFetchErrorSharedWithWaiters() throws Exception {
+        val fetcher = new CountingCRLFetcher();
+        fetcher.setLatch(new CountDownLatch(1));
+        fetcher.setError(new NoClassDefFoundError("CRL"));
+        try (val checker = getChecker(fetcher, Duration.ofSeconds(-1))) {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            val executor = Executors.newFixedThreadPool(2);
+            val results = new ArrayList<Future<Object>>();
+            for (var i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> {
+                    checker.check(cert);
+                    return null;
+                }));
+            }
+            Thread.sleep(500);
+            fetcher.getLatch().countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            for (val result : results) {
+                val e = assertThrows(ExecutionException.class, result::get);
+                assertTrue(e.getCause() instanceof NoClassDefFoundError);
+            }
+            assertEquals(1, fetcher.getRemoteFetches().get());
+        }
+    }
+
+    @Getter
+    @Setter
+    private static class CountingCRLFetcher extends ResourceCRLFetcher {
+        private final AtomicInteger remoteFetches = new AtomicInteger();
+
+        private final AtomicInteger resourceFetches = new AtomicInteger();
+
+        private CountDownLatch latch;
+
+        private Error error;
+
+        @Override
+        public X509CRL fetch(final URI crl) throws Exception {
+            remoteFetches.incrementAndGet();
+            if (latch != null) {
+                latch.await(10, TimeUnit.SECONDS);
+            }
+            if (error != null) {
+                throw error;
+            }
+            return super.fetch(new ClassPathResource("userCA-valid.crl"));
+        }
+
+        @Override
+        public X509CRL fetch(final Resource crl) throws Exception {
+            if (crl instanceof ByteArrayResource) {
+                resourceFetches.incrementAndGet();
+            }
+            return super.fetch(crl);
+        }
+    }
+}
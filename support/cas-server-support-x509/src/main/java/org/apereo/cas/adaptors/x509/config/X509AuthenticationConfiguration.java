@@ -136,7 +136,8 @@ public class X509AuthenticationConfiguration {
             getRevocationPolicy(x509.getCrlExpiredPolicy()),
             cache,
             crlFetcher(),
-            x509.isThrowOnFetchFailure());
+            x509.isThrowOnFetchFailure(),
+            Duration.ofSeconds(x509.getCacheRefreshLeadTimeSeconds()));
     }
 
     @Bean
@@ -3,6 +3,7 @@ package org.apereo.cas;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.spring.boot.AbstractCasBanner;
 import org.apereo.cas.util.spring.boot.DefaultCasBanner;
+import org.apereo.cas.web.CasLazyInitializationBeanFactoryPostProcessor;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,9 @@ import org.springframework.boot.context.metrics.buffering.BufferingApplicationSt
 import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.jfr.FlightRecorderApplicationStartup;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 /**
  * This is {@link CasEmbeddedContainerUtils}.
  *
@@ -27,8 +31,10 @@ import org.springframework.core.metrics.jfr.FlightRecorderApplicationStartup;
 @Slf4j
 @UtilityClass
 public class CasEmbeddedContainerUtils {
-    private static final int APPLICATION_EVENTS_CAPACITY = 5_000;
-    
+    private static final int APPLICATION_EVENTS_CAPACITY = 25_000;
+
+    private static final int APPLICATION_STARTUP_REPORT_SIZE = 25;
+
     /**
      * Gets cas banner instance.
      *
@@ -71,4 +77,41 @@ public class CasEmbeddedContainerUtils {
         }
         return ApplicationStartup.DEFAULT;
     }
+
+    /**
+     * Gets the post processor that lazily initializes non-critical subsystems, if enabled
+     * via {@code CAS_APP_STARTUP_LAZY}. Bean name patterns may be overridden
+     * as a comma-separated list via {@code CAS_APP_STARTUP_LAZY_BEANS}.
+     *
+     * @return the lazy initialization post processor
+     */
+    public static Optional<CasLazyInitializationBeanFactoryPostProcessor> getLazyInitializationPostProcessor() {
+        if (!Boolean.getBoolean("CAS_APP_STARTUP_LAZY")) {
+            return Optional.empty();
+        }
+        val patterns = System.getProperty("CAS_APP_STARTUP_LAZY_BEANS");
+        return Optional.of(StringUtils.isBlank(patterns)
+            ? CasLazyInitializationBeanFactoryPostProcessor.of(CasLazyInitializationBeanFactoryPostProcessor.DEFAULT_BEAN_NAME_PATTERNS)
+            : CasLazyInitializationBeanFactoryPostProcessor.of(Arrays.asList(StringUtils.split(patterns, ','))));
+    }
+
+    /**
+     * Gets the number of configurations and beans listed in the startup report,
+     * which may be overridden via {@code CAS_APP_STARTUP_REPORT_SIZE}.
+     *
+     * @return the report size
+     */
+    public static int getApplicationStartupReportSize() {
+        return Integer.getInteger("CAS_APP_STARTUP_REPORT_SIZE", APPLICATION_STARTUP_REPORT_SIZE);
+    }
+
+    /**
+     * Whether the application should shut down once it is ready, via {@code CAS_APP_STARTUP_EXIT}.
+     * This allows startup to be measured, or the classes loaded during startup to be recorded.
+     *
+     * @return true/false
+     */
+    public static boolean isExitOnApplicationReady() {
+        return Boolean.getBoolean("CAS_APP_STARTUP_EXIT");
+    }
 }
@@ -0,0 +1,134 @@
+package org.apereo.cas.web;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link CasApplicationStartupReport} that ranks the slowest configurations
+ * and beans from the steps recorded while the application context starts up.
+ * The time of a bean is the time spent creating it, excluding the time spent creating
+ * the beans it depends on. The time of a configuration is the time of the configuration
+ * itself and of all beans it declares.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class CasApplicationStartupReport {
+    private static final String BEAN_INSTANTIATION_STEP = "spring.beans.instantiate";
+
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    private final List<Entry> beans;
+
+    private final List<Entry> configurations;
+
+    /**
+     * Build the report from the recorded startup timeline.
+     *
+     * @param timeline              the timeline
+     * @param configurationResolver resolves the name of the configuration that declares a bean, or null
+     * @return the report
+     */
+    public static CasApplicationStartupReport of(final StartupTimeline timeline,
+                                                 final UnaryOperator<String> configurationResolver) {
+        val events = timeline.getEvents();
+        val selfTimes = new HashMap<Long, Duration>(events.size());
+        events.forEach(event -> selfTimes.put(event.getStartupStep().getId(), event.getDuration()));
+        events.forEach(event -> {
+            val parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                selfTimes.computeIfPresent(parentId, (id, duration) -> duration.minus(event.getDuration()));
+            }
+        });
+
+        val beans = new ArrayList<Entry>();
+        events.stream()
+            .filter(event -> BEAN_INSTANTIATION_STEP.equals(event.getStartupStep().getName()))
+            .forEach(event -> {
+                val beanName = getTag(event.getStartupStep(), BEAN_NAME_TAG);
+                if (beanName != null) {
+                    beans.add(new Entry(beanName, selfTimes.get(event.getStartupStep().getId())));
+                }
+            });
+
+        val configurations = new LinkedHashMap<String, Duration>();
+        beans.forEach(bean -> {
+            val configuration = configurationResolver.apply(bean.getName());
+            if (configuration != null) {
+                configurations.merge(configuration, bean.getDuration(), Duration::plus);
+            }
+        });
+        beans.stream()
+            .filter(bean -> configurations.containsKey(bean.getName()))
+            .forEach(bean -> configurations.merge(bean.getName(), bean.getDuration(), Duration::plus));
+
+        return new CasApplicationStartupReport(rank(beans),
+            rank(configurations.entrySet().stream().map(entry -> new Entry(entry.getKey(), entry.getValue())).collect(Collectors.toList())));
+    }
+
+    private static String getTag(final StartupStep step, final String key) {
+        for (val tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static List<Entry> rank(final List<Entry> entries) {
+        return entries.stream()
+            .sorted(Comparator.comparing(Entry::getDuration).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Format the report, listing up to the given number of configurations and beans.
+     *
+     * @param limit the limit
+     * @return the report
+     */
+    public String format(final int limit) {
+        val builder = new StringBuilder();
+        builder.append("Slowest configurations to start up:").append(System.lineSeparator());
+        format(builder, configurations, limit);
+        builder.append("Slowest beans to create:").append(System.lineSeparator());
+        format(builder, beans, limit);
+        return builder.toString();
+    }
+
+    private static void format(final StringBuilder builder, final List<Entry> entries, final int limit) {
+        val ranked = entries.stream().limit(limit).collect(Collectors.toList());
+        for (var i = 0; i < ranked.size(); i++) {
+            val entry = ranked.get(i);
+            builder.append(String.format("%4d. %8d ms  %s", i + 1, entry.getDuration().toMillis(), entry.getName()))
+                .append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * A ranked configuration or bean, with the time spent starting it up.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final String name;
+
+        private final Duration duration;
+    }
+}
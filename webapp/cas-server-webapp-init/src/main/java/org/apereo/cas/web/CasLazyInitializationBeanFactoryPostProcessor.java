@@ -0,0 +1,85 @@
+package org.apereo.cas.web;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link CasLazyInitializationBeanFactoryPostProcessor} that marks beans of subsystems
+ * that are not needed to process the first login for lazy initialization, so they are only
+ * created once they are first used. By default, this covers actuator and report endpoints,
+ * SAML metadata and delegated authentication clients. Beans are matched by name,
+ * and beans that are explicitly marked as eager or lazy are left alone.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class CasLazyInitializationBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+    /**
+     * Bean name patterns of subsystems that are lazily initialized by default.
+     */
+    public static final List<String> DEFAULT_BEAN_NAME_PATTERNS = List.of(
+        ".*Endpoint",
+        ".*saml.*metadata.*",
+        "builtClients",
+        "pac4jDelegatedClientFactory",
+        "delegatedClient.*");
+
+    private final List<Pattern> beanNamePatterns;
+
+    /**
+     * Build a post processor for the given bean name patterns, matched regardless of case.
+     *
+     * @param patterns the patterns
+     * @return the post processor
+     */
+    public static CasLazyInitializationBeanFactoryPostProcessor of(final Collection<String> patterns) {
+        return new CasLazyInitializationBeanFactoryPostProcessor(patterns
+            .stream()
+            .map(pattern -> Pattern.compile(pattern.trim(), Pattern.CASE_INSENSITIVE))
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+        var count = 0;
+        for (val beanName : beanFactory.getBeanDefinitionNames()) {
+            val definition = beanFactory.getBeanDefinition(beanName);
+            if (isEligibleForLazyInitialization(beanFactory, beanName, definition)) {
+                LOGGER.trace("Bean [{}] is marked for lazy initialization", beanName);
+                definition.setLazyInit(true);
+                count++;
+            }
+        }
+        LOGGER.info("Marked [{}] bean(s) for lazy initialization", count);
+    }
+
+    private boolean isEligibleForLazyInitialization(final ConfigurableListableBeanFactory beanFactory,
+                                                    final String beanName, final BeanDefinition definition) {
+        if (definition.isAbstract() || !definition.isSingleton() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+            return false;
+        }
+        if (definition instanceof AbstractBeanDefinition && ((AbstractBeanDefinition) definition).getLazyInit() != null) {
+            return false;
+        }
+        if (beanNamePatterns.stream().noneMatch(pattern -> pattern.matcher(beanName).matches())) {
+            return false;
+        }
+        val type = beanFactory.getType(beanName, false);
+        return type == null || !BeanFactoryPostProcessor.class.isAssignableFrom(type) && !BeanPostProcessor.class.isAssignableFrom(type);
+    }
+}
@@ -9,12 +9,14 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.groovy.template.GroovyTemplateAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -52,14 +54,16 @@ public class CasWebApplication {
      */
     public static void main(final String[] args) {
         val banner = CasEmbeddedContainerUtils.getCasBannerInstance();
-        new SpringApplicationBuilder(CasWebApplication.class)
+        val builder = new SpringApplicationBuilder(CasWebApplication.class)
             .banner(banner)
             .web(WebApplicationType.SERVLET)
             .logStartupInfo(true)
             .contextClass(CasWebApplicationContext.class)
             .contextFactory(webApplicationType -> new CasWebApplicationContext())
-            .applicationStartup(CasEmbeddedContainerUtils.getApplicationStartup())
-            .run(args);
+            .applicationStartup(CasEmbeddedContainerUtils.getApplicationStartup());
+        CasEmbeddedContainerUtils.getLazyInitializationPostProcessor()
+            .ifPresent(processor -> builder.initializers(context -> context.addBeanFactoryPostProcessor(processor)));
+        builder.run(args);
     }
 
     /**
@@ -71,5 +75,18 @@ public class CasWebApplication {
     public void handleApplicationReadyEvent(final ApplicationReadyEvent event) {
         AsciiArtUtils.printAsciiArtReady(LOGGER, StringUtils.EMPTY);
         LOGGER.info("Ready to process requests @ [{}]", DateTimeUtils.zonedDateTimeOf(Instant.ofEpochMilli(event.getTimestamp())));
+
+        val applicationContext = event.getApplicationContext();
+        if (applicationContext.getApplicationStartup() instanceof BufferingApplicationStartup) {
+            val startup = (BufferingApplicationStartup) applicationContext.getApplicationStartup();
+            val beanFactory = applicationContext.getBeanFactory();
+            val report = CasApplicationStartupReport.of(startup.getBufferedTimeline(),
+                beanName -> beanFactory.containsBeanDefinition(beanName) ? beanFactory.getBeanDefinition(beanName).getFactoryBeanName() : null);
+            LOGGER.info(report.format(CasEmbeddedContainerUtils.getApplicationStartupReportSize()));
+        }
+        if (CasEmbeddedContainerUtils.isExitOnApplicationReady()) {
+            LOGGER.info("Shutting down once ready, as requested");
+            SpringApplication.exit(applicationContext);
+        }
     }
 }
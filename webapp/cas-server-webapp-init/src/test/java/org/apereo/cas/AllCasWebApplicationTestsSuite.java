@@ -1,5 +1,8 @@
 package org.apereo.cas;
 
+import org.apereo.cas.web.CasApplicationStartupReportTests;
+import org.apereo.cas.web.CasLazyInitializationBeanFactoryPostProcessorTests;
+
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
@@ -9,7 +12,11 @@ import org.junit.platform.suite.api.Suite;
  * @author Misagh Moayyed
  * @since 6.1.0
  */
-@SelectClasses(CasEmbeddedContainerUtilsTests.class)
+@SelectClasses({
+    CasEmbeddedContainerUtilsTests.class,
+    CasLazyInitializationBeanFactoryPostProcessorTests.class,
+    CasApplicationStartupReportTests.class
+})
 @Suite
 public class AllCasWebApplicationTestsSuite {
 }
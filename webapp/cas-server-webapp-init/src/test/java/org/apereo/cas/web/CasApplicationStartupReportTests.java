@@ -0,0 +1,54 @@
+package org.apereo.cas.web;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasApplicationStartupReportTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Utility")
+public class CasApplicationStartupReportTests {
+
+    @Test
+    public void verifyReport() throws Exception {
+        val startup = new BufferingApplicationStartup(100);
+        val configuration = startup.start("spring.beans.instantiate").tag("beanName", "casConfiguration");
+        Thread.sleep(5);
+        val ticketRegistry = startup.start("spring.beans.instantiate").tag("beanName", "ticketRegistry");
+        Thread.sleep(50);
+        val cipherExecutor = startup.start("spring.beans.instantiate").tag("beanName", "cipherExecutor");
+        Thread.sleep(100);
+        cipherExecutor.end();
+        ticketRegistry.end();
+        configuration.end();
+        val untagged = startup.start("spring.context.refresh");
+        untagged.end();
+
+        val declaringConfigurations = Map.of("ticketRegistry", "casConfiguration", "cipherExecutor", "casConfiguration");
+        val report = CasApplicationStartupReport.of(startup.getBufferedTimeline(), declaringConfigurations::get);
+
+        assertEquals(3, report.getBeans().size());
+        assertEquals("cipherExecutor", report.getBeans().get(0).getName());
+        assertEquals("ticketRegistry", report.getBeans().get(1).getName());
+        assertTrue(report.getBeans().get(1).getDuration().toMillis() < report.getBeans().get(0).getDuration().toMillis());
+
+        assertEquals(1, report.getConfigurations().size());
+        val casConfiguration = report.getConfigurations().get(0);
+        assertEquals("casConfiguration", casConfiguration.getName());
+        assertTrue(casConfiguration.getDuration().toMillis() >= 155);
+
+        val formatted = report.format(1);
+        assertTrue(formatted.contains("casConfiguration"));
+        assertTrue(formatted.contains("cipherExecutor"));
+        assertFalse(formatted.contains("ticketRegistry"));
+    }
+}
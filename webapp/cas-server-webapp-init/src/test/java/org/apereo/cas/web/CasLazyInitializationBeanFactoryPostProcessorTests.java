@@ -0,0 +1,62 @@
+package org.apereo.cas.web;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasLazyInitializationBeanFactoryPostProcessorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.4.0
+ */
+@Tag("Utility")
+public class CasLazyInitializationBeanFactoryPostProcessorTests {
+
+    @Test
+    public void verifyMatchingBeansAreLazy() {
+        val beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("statisticsReportEndpoint", new RootBeanDefinition(Object.class));
+        beanFactory.registerBeanDefinition("samlIdPMetadataResolver", new RootBeanDefinition(Object.class));
+        beanFactory.registerBeanDefinition("builtClients", new RootBeanDefinition(Object.class));
+        beanFactory.registerBeanDefinition("centralAuthenticationService", new RootBeanDefinition(Object.class));
+
+        CasLazyInitializationBeanFactoryPostProcessor.of(CasLazyInitializationBeanFactoryPostProcessor.DEFAULT_BEAN_NAME_PATTERNS)
+            .postProcessBeanFactory(beanFactory);
+
+        assertTrue(beanFactory.getBeanDefinition("statisticsReportEndpoint").isLazyInit());
+        assertTrue(beanFactory.getBeanDefinition("samlIdPMetadataResolver").isLazyInit());
+        assertTrue(beanFactory.getBeanDefinition("builtClients").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("centralAuthenticationService").isLazyInit());
+    }
+
+    @Test
+    public void verifyIneligibleBeansAreEager() {
+        val beanFactory = new DefaultListableBeanFactory();
+        val eager = new RootBeanDefinition(Object.class);
+        eager.setLazyInit(false);
+        beanFactory.registerBeanDefinition("eagerEndpoint", eager);
+        val prototype = new RootBeanDefinition(Object.class);
+        prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        beanFactory.registerBeanDefinition("prototypeEndpoint", prototype);
+        val infrastructure = new RootBeanDefinition(Object.class);
+        infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+        beanFactory.registerBeanDefinition("infrastructureEndpoint", infrastructure);
+        beanFactory.registerBeanDefinition("placeholderEndpoint", new RootBeanDefinition(PropertySourcesPlaceholderConfigurer.class));
+
+        CasLazyInitializationBeanFactoryPostProcessor.of(List.of(".*endpoint")).postProcessBeanFactory(beanFactory);
+
+        assertFalse(beanFactory.getBeanDefinition("eagerEndpoint").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("prototypeEndpoint").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("infrastructureEndpoint").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("placeholderEndpoint").isLazyInit());
+    }
+}